@@ -0,0 +1,214 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.dashboard.DashboardSnapshot;
+import edu.csudh.lsu.persistence.dashboard.TodaySnapshot;
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.sql.SlowQueryLog;
+import edu.csudh.lsu.persistence.sql.SqlFingerprintCache;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * Measures the heap footprint of the entities and of the pages and caches built from them, and compares it with the
+ * checked in thresholds.
+ * </p>
+ *
+ * <p>
+ * Shallow sizes are the entity object alone, retained sizes everything reachable from it, measured with JOL. Pages
+ * are measured with every row loaded the way the driver materializes it, see {@link LoadedRows}. Run it with
+ * {@code ./gradlew :benchmarks:footprint}; arguments are the results file, the thresholds file and the allowed
+ * growth in percent. With the results file alone it only records, which is how
+ * {@code ./gradlew :benchmarks:footprintUpdateBaseline} produces the thresholds on the reference machine.
+ * </p>
+ */
+public final class FootprintSuite {
+
+    static final int LARGE_PAGE = 500;
+    static final int DASHBOARD_PAGE = 20;
+    static final int FINGERPRINTS = 500;
+    static final int UPSERT_BATCH_SIZES = 300;
+
+    private FootprintSuite() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path results = Path.of(args[0]);
+
+        System.out.println(VM.current().details());
+        Map<String, Long> footprints = measure();
+        write(footprints, results);
+        if (args.length < 2) {
+            return;
+        }
+
+        Path thresholds = Path.of(args[1]);
+        double tolerancePercent = args.length > 2 ? Double.parseDouble(args[2]) : 0.0;
+        List<String> regressions = compare(footprints, read(thresholds), tolerancePercent);
+        if (!regressions.isEmpty()) {
+            System.err.println("Footprint regressed past the thresholds in " + thresholds + ":");
+            regressions.forEach(regression -> System.err.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Method to measure every footprint.
+     *
+     * @return Bytes by measurement name, in report order
+     */
+    static Map<String, Long> measure() {
+        Map<String, Long> footprints = new LinkedHashMap<>();
+        entity(footprints, "shift-total", ShiftTotal.class, LoadedRows.shiftTotal(1));
+        entity(footprints, "shift-report", ShiftReport.class, LoadedRows.shiftReport(1));
+        entity(footprints, "activity", Activity.class, LoadedRows.activity(1));
+        entity(footprints, "profile", Profile.class, LoadedRows.profile(1));
+
+        Page<ShiftReport> shiftReports = page(LARGE_PAGE, LoadedRows::shiftReport);
+        footprints.put("page.shift-report." + LARGE_PAGE + ".retained", retained(shiftReports));
+        footprints.put("page.shift-total." + LARGE_PAGE + ".retained", retained(page(LARGE_PAGE, LoadedRows::shiftTotal)));
+        footprints.put("page.shift-total." + DASHBOARD_PAGE + ".retained", retained(page(DASHBOARD_PAGE, LoadedRows::shiftTotal)));
+
+        footprints.put("cache.dashboard-snapshot.retained", retained(dashboardSnapshot()));
+        footprints.put("cache.today-snapshot.retained", retained(todaySnapshot()));
+        footprints.put("cache.slow-query-log." + FINGERPRINTS + ".retained", retained(slowQueryLog()));
+        footprints.put("cache.sql-fingerprint.upsert-batches." + UPSERT_BATCH_SIZES + ".retained",
+                retained(upsertFingerprintCache()));
+
+        // Where the bytes of the large page go, by class
+        System.out.println(GraphLayout.parseInstance(shiftReports).toFootprint());
+        footprints.forEach((name, bytes) -> System.out.printf(Locale.ROOT, "%-45s %,12d bytes%n", name, bytes));
+        return footprints;
+    }
+
+    /**
+     * Method to list the measurements over their threshold.
+     *
+     * @param footprints       Measured bytes by name
+     * @param thresholds       Allowed bytes by name
+     * @param tolerancePercent Growth over a threshold that is still accepted
+     * @return One line per regression or measurement without a threshold, empty if there is none
+     */
+    static List<String> compare(Map<String, Long> footprints, Map<String, Long> thresholds, double tolerancePercent) {
+        List<String> regressions = new ArrayList<>();
+        footprints.forEach((name, bytes) -> {
+            Long threshold = thresholds.get(name);
+            if (threshold == null) {
+                // Thresholds come from a recorded run only, a new measurement must be recorded before it is enforced
+                regressions.add(String.format(Locale.ROOT, "%s is %,d bytes and has no threshold, record the "
+                        + "thresholds with footprintUpdateBaseline", name, bytes));
+            } else if (bytes > threshold * (1 + tolerancePercent / 100)) {
+                regressions.add(String.format(Locale.ROOT, "%s is %,d bytes, threshold %,d bytes (%+.1f%%)", name,
+                        bytes, threshold, 100.0 * (bytes - threshold) / threshold));
+            }
+        });
+        return regressions;
+    }
+
+    private static void entity(Map<String, Long> footprints, String name, Class<?> type, Object instance) {
+        footprints.put(name + ".shallow", ClassLayout.parseClass(type).instanceSize());
+        footprints.put(name + ".retained", retained(instance));
+    }
+
+    private static long retained(Object root) {
+        return GraphLayout.parseInstance(root).totalSize();
+    }
+
+    private static <T> Page<T> page(int size, IntFunction<T> row) {
+        List<T> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(row.apply(i));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, size), 10_000);
+    }
+
+    // Dashboard of four attendants, as held by the front-desk screen between polls
+    private static DashboardSnapshot dashboardSnapshot() {
+        Map<String, Object> totalCosts = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            totalCosts.put("Attendant " + i, new Object[]{"Attendant " + i, new BigDecimal("120.50"),
+                    new BigDecimal("80.25"), new BigDecimal("200.75")});
+        }
+        return new DashboardSnapshot(Date.valueOf("2024-08-06"),
+                List.of("Billiards", "Table Tennis", "Console", "Board Games"), totalCosts,
+                page(DASHBOARD_PAGE, LoadedRows::shiftReport), 12);
+    }
+
+    private static TodaySnapshot todaySnapshot() {
+        return new TodaySnapshot(Date.valueOf("2024-08-06"), 240, new BigDecimal("1200.00"),
+                new BigDecimal("700.00"), new BigDecimal("500.00"), 4, new BigDecimal("700.00"),
+                new BigDecimal("500.00"), Instant.parse("2024-08-07T01:30:00Z"));
+    }
+
+    // Slow-query log with its fingerprint table full, the threshold is never reached
+    private static SlowQueryLog slowQueryLog() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Long.MAX_VALUE, FINGERPRINTS);
+        for (int i = 0; i < FINGERPRINTS; i++) {
+            slowQueryLog.record("SELECT * FROM SHIFT_TOTAL_" + i + " WHERE ATTENDANT_NAME = ? AND DATE = ?", 1_000L * i);
+        }
+        return slowQueryLog;
+    }
+
+    // Fingerprint cache of the tracing data source after multi-row UPSERTs of as many batch sizes, spread up to 10,000
+    // rows; only the few short statements may stay cached
+    private static SqlFingerprintCache upsertFingerprintCache() {
+        SqlFingerprintCache cache = new SqlFingerprintCache(2_000);
+        StringBuilder sql = new StringBuilder("UPSERT INTO SHIFT_TOTAL (ID, ATTENDANT_NAME, DATE, TOTAL_COST) VALUES (?, ?, ?, ?)");
+        int rows = 1;
+        for (int batch = 0; batch < UPSERT_BATCH_SIZES; batch++) {
+            for (int target = 1 + batch * (10_000 / UPSERT_BATCH_SIZES); rows < target; rows++) {
+                sql.append(", (?, ?, ?, ?)");
+            }
+            cache.describe(sql + " RETURNING *");
+        }
+        return cache;
+    }
+
+    private static Map<String, Long> read(Path file) throws IOException {
+        Map<String, Long> values = new LinkedHashMap<>();
+        if (Files.exists(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            }
+            properties.stringPropertyNames().forEach(name -> values.put(name, Long.parseLong(properties.getProperty(name).trim())));
+        }
+        return values;
+    }
+
+    private static void write(Map<String, Long> footprints, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("# Bytes per measurement, see FootprintSuite" + System.lineSeparator());
+            writer.write("# Measured with JOL on " + System.getProperty("java.vm.name") + " "
+                    + System.getProperty("java.vm.version") + ", " + System.getProperty("os.arch")
+                    + System.lineSeparator());
+            for (Map.Entry<String, Long> entry : footprints.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + System.lineSeparator());
+            }
+        }
+    }
+}
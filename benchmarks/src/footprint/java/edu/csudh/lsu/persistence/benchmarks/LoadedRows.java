@@ -0,0 +1,116 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.model.common.Common;
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.test.ShiftTotals;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.UUID;
+
+/**
+ * <p>
+ * Entities shaped like the ones Hibernate materializes from a result set.
+ * </p>
+ *
+ * <p>
+ * The driver creates a new {@link String}, {@link Date}, {@link Time} and {@link Float} for every column of every
+ * row, so nothing here is shared between entities, not even equal values such as the payment mode. Signatures are
+ * inline PNG data URLs of a typical size.
+ * </p>
+ */
+final class LoadedRows {
+
+    // Base64 characters of a signature drawn on the kiosk pad, about 3 KB of PNG
+    static final int SIGNATURE_LENGTH = 4096;
+
+    private static final long DAY_MILLIS = Date.valueOf("2024-08-06").getTime();
+    private static final long TIME_MILLIS = Time.valueOf("18:30:00").getTime();
+
+    private LoadedRows() {
+    }
+
+    // The sample the tests use, with every value copied as the driver would decode it
+    static ShiftTotal shiftTotal(int index) {
+        ShiftTotal shiftTotal = ShiftTotals.sample(index);
+        shiftTotal.setId(new UUID(0, index));
+        shiftTotal.setIdempotencyKey(text(shiftTotal.getIdempotencyKey()));
+        shiftTotal.setStudentName(text(shiftTotal.getStudentName()));
+        shiftTotal.setAttendantName(text(shiftTotal.getAttendantName()));
+        shiftTotal.setActivity(text(shiftTotal.getActivity()));
+        shiftTotal.setCost(Float.valueOf(shiftTotal.getCost()));
+        shiftTotal.setPaymentMode(text(shiftTotal.getPaymentMode()));
+        shiftTotal.setStartTime(new Time(TIME_MILLIS));
+        shiftTotal.setDate(new Date(DAY_MILLIS));
+        shiftTotal.setDuration(text(shiftTotal.getDuration()));
+        audit(shiftTotal, "kiosk");
+        return shiftTotal;
+    }
+
+    static ShiftReport shiftReport(int index) {
+        ShiftReport shiftReport = new ShiftReport();
+        shiftReport.setShiftReportId(new UUID(1, index));
+        shiftReport.setClosingShiftDate(new Date(DAY_MILLIS));
+        shiftReport.setClosingShiftTime(new Time(TIME_MILLIS));
+        shiftReport.setAttendantName(text("Attendant " + index));
+        shiftReport.setReconcilorName(text("Reconcilor " + index % 4));
+        shiftReport.setReconcilorSign(signature(index));
+        shiftReport.setAttendantSign(signature(index + 1));
+        shiftReport.setRevenueInCard(Float.valueOf(120.5f + index));
+        shiftReport.setRevenueInCash(Float.valueOf(80.25f + index));
+        shiftReport.setShiftTotal(text(String.valueOf(200.75f + 2 * index)));
+        shiftReport.setOpeningBalance(Float.valueOf(50.0f));
+        audit(shiftReport, "manager");
+        return shiftReport;
+    }
+
+    static Activity activity(int index) {
+        Activity activity = new Activity();
+        activity.setId(new UUID(2, index));
+        activity.setActivity(text("Pool Table " + index));
+        activity.setCategory(text("Billiards"));
+        activity.setPrice(text("5.00"));
+        activity.setImageLocation(text("https://images.lsu.csudh.edu/games-room/activity-" + index + ".png"));
+        audit(activity, "manager");
+        return activity;
+    }
+
+    static Profile profile(int index) {
+        Profile profile = new Profile();
+        profile.setUserId(text("attendant-" + index));
+        // BCrypt hashes are 60 characters
+        profile.setUserPassword(text("$2a$10$" + "N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy".substring(0, 53)));
+        profile.setFirstName(text("Jordan"));
+        profile.setLastName(text("Attendant" + index));
+        profile.setRole(text("ATTENDANT"));
+        profile.setPermission(text("{\"shiftTotal\":\"rw\",\"shiftReport\":\"rw\",\"activity\":\"r\"}"));
+        audit(profile, "manager");
+        return profile;
+    }
+
+    static String signature(int index) {
+        StringBuilder signature = new StringBuilder("data:image/png;base64,iVBORw0KGgo");
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = signature.length(); i < SIGNATURE_LENGTH; i++) {
+            signature.append(alphabet.charAt((i * 31 + index * 17) % alphabet.length()));
+        }
+        return signature.toString();
+    }
+
+    private static void audit(Common entity, String user) {
+        entity.setCreatedTime(new Time(TIME_MILLIS));
+        entity.setCreatedDate(new Date(DAY_MILLIS));
+        entity.setLastUpdatedDate(new Date(DAY_MILLIS));
+        entity.setLastUpdatedTime(new Time(TIME_MILLIS));
+        entity.setLastUpdatedBy(text(user));
+        entity.setAccessedBy(text(user));
+    }
+
+    // Copy of the value, as a driver would decode it
+    private static String text(String value) {
+        return new String(value.toCharArray());
+    }
+}
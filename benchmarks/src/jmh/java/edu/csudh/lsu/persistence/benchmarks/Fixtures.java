@@ -0,0 +1,43 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Entities with every column set, as the kiosk submits them; shift totals come from {@code ShiftTotals}.
+ */
+final class Fixtures {
+
+    private static final Date DATE = Date.valueOf(LocalDate.of(2024, 8, 6));
+    private static final Time TIME = Time.valueOf(LocalTime.of(18, 30));
+
+    private Fixtures() {
+    }
+
+    static ShiftReport shiftReport(int index) {
+        ShiftReport shiftReport = new ShiftReport();
+        shiftReport.setShiftReportId(new UUID(1, index));
+        shiftReport.setClosingShiftDate(DATE);
+        shiftReport.setClosingShiftTime(TIME);
+        shiftReport.setAttendantName("Attendant " + index);
+        shiftReport.setReconcilorName("Reconcilor " + index % 4);
+        shiftReport.setReconcilorSign("R" + index);
+        shiftReport.setAttendantSign("A" + index);
+        shiftReport.setRevenueInCard(120.5f + index);
+        shiftReport.setRevenueInCash(80.25f + index);
+        shiftReport.setShiftTotal(String.valueOf(200.75f + 2 * index));
+        shiftReport.setOpeningBalance(50.0f);
+        shiftReport.setCreatedTime(TIME);
+        shiftReport.setCreatedDate(DATE);
+        shiftReport.setLastUpdatedDate(DATE);
+        shiftReport.setLastUpdatedTime(TIME);
+        shiftReport.setLastUpdatedBy("manager");
+        shiftReport.setAccessedBy("manager");
+        return shiftReport;
+    }
+}
@@ -0,0 +1,57 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.metrics.PersistenceMetricsAspect;
+import edu.csudh.lsu.persistence.service.ActivityService;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * <p>
+ * Overhead of the {@code PersistenceMetricsAspect} on a service call: {@code ActivityService.fetchAllCategories}
+ * behind a class proxy, as Spring creates it, over a repository stub, once without and once with the aspect. The
+ * difference between the two is the cost the aspect adds to every service method.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class PersistenceMetricsAspectBenchmark {
+
+    @Param({"false", "true"})
+    boolean metrics;
+
+    private ActivityService activityService;
+
+    @Setup
+    public void setUp() {
+        ActivityService target = new ActivityService();
+        inject(target, "activityRepository", Stubs.activityRepository(List.of("Table Activity", "Console")));
+        inject(target, "singleFlight", new SingleFlight());
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        if (metrics) {
+            proxyFactory.addAspect(new PersistenceMetricsAspect(new SimpleMeterRegistry()));
+        }
+        activityService = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public List<String> fetchAllCategories() {
+        return activityService.fetchAllCategories();
+    }
+
+    // The service gets its collaborators by field injection
+    private static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,74 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.service.ActivityService;
+import edu.csudh.lsu.persistence.service.ShiftTotalService;
+import edu.csudh.lsu.persistence.test.PersistenceTestDatabase;
+import edu.csudh.lsu.persistence.test.ShiftTotals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * <p>
+ * End-to-end service calls on the real repositories and an embedded H2 database, from argument handling through
+ * Hibernate to JDBC. Absolute numbers say nothing about CockroachDB latency; changes between runs show overhead
+ * added or removed in the library. Every call runs with the transaction boundaries it has in the application.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class ServiceH2Benchmark {
+
+    private static final int ROWS = 1_000;
+
+    private PersistenceTestDatabase database;
+    private ShiftTotalService shiftTotalService;
+    private ActivityService activityService;
+    private int nextIndex;
+
+    @Setup
+    public void setUp() {
+        database = new PersistenceTestDatabase("service-benchmark");
+        shiftTotalService = database.service(ShiftTotalService.class);
+        activityService = database.service(ActivityService.class);
+        database.inTransaction(() -> {
+            for (int i = 0; i < ROWS; i++) {
+                shiftTotalService.saveShiftTotal(ShiftTotals.sample(i));
+            }
+        });
+        nextIndex = ROWS;
+    }
+
+    // The statement log of the harness keeps every statement, so it is emptied between iterations
+    @Setup(Level.Iteration)
+    public void resetStatementLog() {
+        database.resetStatementCounts();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public ShiftTotal saveShiftTotal() {
+        return shiftTotalService.saveShiftTotal(ShiftTotals.sample(nextIndex++));
+    }
+
+    @Benchmark
+    public Page<ShiftTotal> findAllShiftTotals() {
+        return shiftTotalService.findAllShiftTotals(PageRequest.of(3, 20));
+    }
+
+    @Benchmark
+    public List<String> fetchAllCategories() {
+        return activityService.fetchAllCategories();
+    }
+}
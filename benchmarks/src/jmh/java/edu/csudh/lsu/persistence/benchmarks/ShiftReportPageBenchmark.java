@@ -0,0 +1,57 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.csudh.lsu.persistence.model.View;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Cost of a page of shift reports between the repository and the wire: building the entities, the Lombok
+ * {@code toString} the services log and the Jackson serialization of the page content with the JSON view.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class ShiftReportPageBenchmark {
+
+    @Param({"20", "200"})
+    int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Page<ShiftReport> page;
+
+    @Setup
+    public void setUp() {
+        page = constructPage();
+    }
+
+    @Benchmark
+    public Page<ShiftReport> constructPage() {
+        List<ShiftReport> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(Fixtures.shiftReport(i));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public String toStringPage() {
+        return page.getContent().toString();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writerWithView(View.Json.class).writeValueAsBytes(page.getContent());
+    }
+}
@@ -0,0 +1,102 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.repository.gamesroom.activity.ActivityRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * <p>
+ * Database free stand-ins for the JPA objects {@code CustomRepositoryImpl.upsertAll} talks to, so its SQL construction
+ * and parameter binding can be measured without the cost of executing the statement, and for the repositories of
+ * services whose own overhead is measured.
+ * </p>
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Entity manager whose native queries bind every parameter and neither update nor return any rows.
+     *
+     * @param lastQuery Receives the SQL and parameter count of every native query
+     * @return Entity manager stub
+     */
+    static EntityManager entityManager(QueryCapture lastQuery) {
+        return proxy(EntityManager.class, (method, args) -> switch (method) {
+            case "getDelegate" -> new Object();
+            case "createNativeQuery" -> {
+                lastQuery.start((String) args[0]);
+                yield query(lastQuery);
+            }
+            default -> null;
+        });
+    }
+
+    /**
+     * @param categories Categories returned by every {@code getAllCategories} call
+     * @return Activity repository stub, answering no other method
+     */
+    static ActivityRepository activityRepository(List<String> categories) {
+        return proxy(ActivityRepository.class, (method, args) -> "getAllCategories".equals(method) ? categories : null);
+    }
+
+    /**
+     * @param <T> Entity type
+     * @return Entity information stub, only used by {@code upsertAll} for embedded ids
+     */
+    @SuppressWarnings("unchecked")
+    static <T> JpaEntityInformation<T, ?> entityInformation() {
+        return proxy(JpaEntityInformation.class, (method, args) -> null);
+    }
+
+    private static Query query(QueryCapture capture) {
+        Query[] self = new Query[1];
+        self[0] = proxy(Query.class, (method, args) -> switch (method) {
+            case "setParameter" -> {
+                capture.bind(args[1]);
+                yield self[0];
+            }
+            case "executeUpdate" -> 0;
+            case "getResultList" -> List.of();
+            default -> null;
+        });
+        return self[0];
+    }
+
+    private static <T> T proxy(Class<T> type, BiFunction<String, Object[], Object> answer) {
+        return type.cast(Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + " stub";
+                    default -> answer.apply(method.getName(), args);
+                }));
+    }
+
+    /**
+     * SQL and bound values of the last native query, kept so the JIT cannot drop the work.
+     */
+    static final class QueryCapture {
+
+        String sql;
+        int parameters;
+        int valueHash;
+
+        void start(String sql) {
+            this.sql = sql;
+            this.parameters = 0;
+            this.valueHash = 0;
+        }
+
+        void bind(Object value) {
+            parameters++;
+            valueHash = 31 * valueHash + (value == null ? 0 : value.hashCode());
+        }
+    }
+}
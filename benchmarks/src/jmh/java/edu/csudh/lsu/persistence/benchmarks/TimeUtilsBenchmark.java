@@ -0,0 +1,20 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.utils.TimeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.Timestamp;
+
+/**
+ * Cost of {@code TimeUtils.getFormattedCurrentPSTTime}, called up to six times per service write.
+ */
+@State(Scope.Benchmark)
+public class TimeUtilsBenchmark {
+
+    @Benchmark
+    public Timestamp getFormattedCurrentPSTTime() {
+        return TimeUtils.getFormattedCurrentPSTTime();
+    }
+}
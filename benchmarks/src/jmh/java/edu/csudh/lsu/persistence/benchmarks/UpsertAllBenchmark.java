@@ -0,0 +1,51 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepositoryImpl;
+import edu.csudh.lsu.persistence.test.ShiftTotals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * <p>
+ * Cost of building and binding the multi-row UPSERT of {@code CustomRepositoryImpl.upsertAll}, without executing it:
+ * reflection over the entity, the SQL string and one {@code setParameter} per column and row.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class UpsertAllBenchmark {
+
+    @Param({"1", "100", "10000"})
+    int rows;
+
+    private final Stubs.QueryCapture capture = new Stubs.QueryCapture();
+    private CustomRepositoryImpl<ShiftTotal, UUID> repository;
+    private List<ShiftTotal> entities;
+
+    @Setup
+    public void setUp() {
+        repository = new CustomRepositoryImpl<>(Stubs.entityInformation(), Stubs.entityManager(capture));
+        entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ShiftTotal shiftTotal = ShiftTotals.sample(i);
+            shiftTotal.setId(new UUID(0, i));
+            entities.add(shiftTotal);
+        }
+    }
+
+    @Benchmark
+    public void upsertAll(Blackhole blackhole) {
+        blackhole.consume(repository.upsertAll(entities));
+        blackhole.consume(capture.sql);
+        blackhole.consume(capture.parameters);
+        blackhole.consume(capture.valueHash);
+    }
+}
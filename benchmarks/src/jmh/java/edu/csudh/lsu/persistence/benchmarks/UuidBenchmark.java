@@ -0,0 +1,28 @@
+package edu.csudh.lsu.persistence.benchmarks;
+
+import edu.csudh.lsu.persistence.utils.UuidUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+
+/**
+ * Cost of generating entity ids with many concurrent writers, {@code UuidUtils.randomUuid} against the shared
+ * {@code SecureRandom} behind {@code UUID.randomUUID}.
+ */
+@State(Scope.Benchmark)
+@Threads(16)
+public class UuidBenchmark {
+
+    @Benchmark
+    public UUID uuidUtilsRandomUuid() {
+        return UuidUtils.randomUuid();
+    }
+
+    @Benchmark
+    public UUID uuidRandomUuid() {
+        return UUID.randomUUID();
+    }
+}
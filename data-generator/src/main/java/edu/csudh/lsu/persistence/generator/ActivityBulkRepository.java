@@ -0,0 +1,14 @@
+package edu.csudh.lsu.persistence.generator;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Exposes {@link CustomRepository#upsertAll} for Activity rows.
+ */
+@Repository
+public interface ActivityBulkRepository extends CustomRepository<Activity, UUID> {
+}
@@ -0,0 +1,118 @@
+package edu.csudh.lsu.persistence.generator;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Loads the synthetic history through {@code CustomRepository.upsertAll}, the bulk upsert path of the library.
+ * </p>
+ *
+ * <p>
+ * Days are generated and loaded in parallel, each by one worker, and a day's rows are upserted in batches of
+ * {@code batchSize}, one transaction per batch. Only the days being loaded are held in memory, so the history can
+ * be millions of rows long. Since the rows of every day are deterministic, a failed run can simply be repeated.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DataGenerator {
+
+    // Progress is logged every this many days
+    static final int PROGRESS_INTERVAL_DAYS = 30;
+
+    @Autowired
+    private GeneratorProperties properties;
+
+    @Autowired
+    private ShiftTotalBulkRepository shiftTotalRepository;
+
+    @Autowired
+    private ShiftReportBulkRepository shiftReportRepository;
+
+    @Autowired
+    private ActivityBulkRepository activityRepository;
+
+    @Autowired
+    private ProfileBulkRepository profileRepository;
+
+    /**
+     * Generates and loads the whole history.
+     *
+     * @throws InterruptedException if loading is interrupted
+     * @throws ExecutionException   if a day fails to load, with the failure as its cause
+     */
+    public void generate() throws InterruptedException, ExecutionException {
+        log.info("Generating {}", properties);
+        SyntheticRows rows = new SyntheticRows(properties);
+        long start = System.nanoTime();
+        activityRepository.upsertAll(rows.activities());
+        profileRepository.upsertAll(rows.profiles());
+
+        LongAdder shiftTotals = new LongAdder();
+        LongAdder shiftReports = new LongAdder();
+        AtomicInteger daysLoaded = new AtomicInteger();
+        List<Future<?>> days = new ArrayList<>(properties.getDays());
+        ExecutorService workers = Executors.newFixedThreadPool(properties.getThreads());
+        try {
+            for (int offset = 0; offset < properties.getDays(); offset++) {
+                LocalDate day = properties.getStartDate().plusDays(offset);
+                days.add(workers.submit(() -> {
+                    List<ShiftTotal> sessions = rows.sessionsOf(day);
+                    List<ShiftReport> reports = rows.shiftReportsOf(day, sessions);
+                    upsertInBatches(shiftTotalRepository::upsertAll, sessions);
+                    upsertInBatches(shiftReportRepository::upsertAll, reports);
+                    shiftTotals.add(sessions.size());
+                    shiftReports.add(reports.size());
+                    int loaded = daysLoaded.incrementAndGet();
+                    if (loaded % PROGRESS_INTERVAL_DAYS == 0) {
+                        log.info("Loaded {} of {} days, {} shift totals so far.", loaded, properties.getDays(), shiftTotals.sum());
+                    }
+                }));
+            }
+            // The first failure stops the run; the remaining days are cancelled
+            for (Future<?> day : days) {
+                day.get();
+            }
+        } finally {
+            workers.shutdownNow();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long rowsLoaded = shiftTotals.sum() + shiftReports.sum();
+        log.info("Loaded {} shift totals and {} shift reports over {} days in {} ms, {} rows per second.",
+                shiftTotals.sum(), shiftReports.sum(), properties.getDays(), elapsedMillis,
+                elapsedMillis > 0 ? rowsLoaded * 1000 / elapsedMillis : rowsLoaded);
+    }
+
+    private <T> void upsertInBatches(BulkUpsert<T> upsert, List<T> rows) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            upsert.upsertAll(rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+
+    /**
+     * The {@code upsertAll} method of one of the bulk repositories.
+     */
+    @FunctionalInterface
+    private interface BulkUpsert<T> {
+
+        List<T> upsertAll(List<T> rows);
+    }
+}
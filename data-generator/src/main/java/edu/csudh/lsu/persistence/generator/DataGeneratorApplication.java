@@ -0,0 +1,42 @@
+package edu.csudh.lsu.persistence.generator;
+
+import edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepositoryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * <p>
+ * Boots the persistence library and loads one synthetic games-room history with the {@link DataGenerator}.
+ * </p>
+ *
+ * <p>
+ * The repositories are created with {@link CustomRepositoryImpl} as their base class, so that the bulk repositories
+ * of the generator get {@code upsertAll} and the library's metrics, JFR and tracing aspects see the load as they see
+ * any other bulk upsert. By default the {@code h2} profile is active and the rows go to an H2 database file under
+ * {@code build}; running with another profile and {@code spring.datasource.url} pointing at a CockroachDB cluster
+ * loads the cluster instead.
+ * </p>
+ */
+@SpringBootApplication(scanBasePackages = "edu.csudh.lsu.persistence")
+@EnableJpaRepositories(basePackages = "edu.csudh.lsu.persistence", repositoryBaseClass = CustomRepositoryImpl.class)
+@EntityScan(basePackages = "edu.csudh.lsu.persistence.model")
+@EnableConfigurationProperties(GeneratorProperties.class)
+public class DataGeneratorApplication implements CommandLineRunner {
+
+    @Autowired
+    private DataGenerator dataGenerator;
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(DataGeneratorApplication.class, args)));
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        dataGenerator.generate();
+    }
+}
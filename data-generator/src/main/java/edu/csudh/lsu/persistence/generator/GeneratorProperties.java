@@ -0,0 +1,81 @@
+package edu.csudh.lsu.persistence.generator;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Volume and distributions of the synthetic games-room history, bound from {@code lsu.generator.*}.
+ * </p>
+ *
+ * <p>
+ * Distributions are weight maps: a key is drawn with a probability proportional to its weight. The default weights
+ * live in {@code application.properties} rather than here, because Spring binds map entries into an existing map
+ * and would otherwise mix the defaults with the entries of a run.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = GeneratorProperties.PREFIX)
+public class GeneratorProperties {
+
+    public static final String PREFIX = "lsu.generator";
+
+    // Seed of every random choice; the same seed and settings always produce the same rows
+    private long seed = 42;
+
+    // First day of the history
+    private LocalDate startDate = LocalDate.of(2022, 1, 3);
+
+    // Number of days generated from the start date
+    private int days = 365;
+
+    // Mean number of sessions on a weekday
+    private int sessionsPerDay = 800;
+
+    // Volume of a Saturday or Sunday relative to a weekday
+    private double weekendFactor = 0.3;
+
+    // Attendants on the payroll, each with a profile
+    private int attendants = 12;
+
+    // Attendants on shift on any one day, each closing one shift report
+    private int attendantsPerDay = 3;
+
+    // Managers reconciling the shift reports, each with a profile
+    private int managers = 3;
+
+    // Distinct students playing
+    private int students = 5_000;
+
+    // Length of each inline signature of a shift report, in characters
+    private int signatureLength = 2_048;
+
+    // Weight of every activity
+    private Map<String, Integer> activityWeights = new LinkedHashMap<>();
+
+    // Price of 30 minutes of every activity, 2.50 for activities without one
+    private Map<String, Float> activityPrices = new LinkedHashMap<>();
+
+    // Weight of every payment mode
+    private Map<String, Integer> paymentModeWeights = new LinkedHashMap<>();
+
+    // Weight of every session length in minutes
+    private Map<Integer, Integer> durationWeights = new LinkedHashMap<>();
+
+    // Weight of every opening hour, sessions start at a uniform minute within the drawn hour
+    private Map<Integer, Integer> hourWeights = new LinkedHashMap<>();
+
+    // Rows per upsertAll call
+    private int batchSize = 500;
+
+    // Days loaded in parallel, each on its own connection
+    private int threads = 4;
+}
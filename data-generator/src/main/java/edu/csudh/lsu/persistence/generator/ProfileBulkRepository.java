@@ -0,0 +1,12 @@
+package edu.csudh.lsu.persistence.generator;
+
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Exposes {@link CustomRepository#upsertAll} for Profile rows.
+ */
+@Repository
+public interface ProfileBulkRepository extends CustomRepository<Profile, String> {
+}
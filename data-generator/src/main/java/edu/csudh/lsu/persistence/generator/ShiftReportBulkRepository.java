@@ -0,0 +1,14 @@
+package edu.csudh.lsu.persistence.generator;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Exposes {@link CustomRepository#upsertAll} for ShiftReport rows.
+ */
+@Repository
+public interface ShiftReportBulkRepository extends CustomRepository<ShiftReport, UUID> {
+}
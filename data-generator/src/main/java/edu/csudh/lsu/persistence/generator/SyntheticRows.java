@@ -0,0 +1,265 @@
+package edu.csudh.lsu.persistence.generator;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.model.common.Common;
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import org.springframework.util.Assert;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * <p>
+ * Deterministic synthetic rows of a games-room history.
+ * </p>
+ *
+ * <p>
+ * Every day draws from its own random source seeded from the run seed and the date, so a day always produces the
+ * same rows however the days are spread over threads, and a run can be resumed or extended day by day. Ids are
+ * derived from the same source, which makes a second load of the same settings upsert the existing rows instead of
+ * adding new ones.
+ * </p>
+ *
+ * <p>
+ * The shift reports of a day add up the sessions of that day per attendant, so reconciliation queries over the
+ * generated data see consistent totals.
+ * </p>
+ */
+public class SyntheticRows {
+
+    static final float DEFAULT_PRICE = 2.5f;
+    static final int PRICED_MINUTES = 30;
+    static final float OPENING_BALANCE = 50.0f;
+    static final LocalTime CLOSING_TIME = LocalTime.of(20, 0);
+    static final String GENERATOR = "data-generator";
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final String SIGNATURE_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+
+    private final GeneratorProperties properties;
+    private final WeightedChoice<String> activities;
+    private final WeightedChoice<String> paymentModes;
+    private final WeightedChoice<Integer> durations;
+    private final WeightedChoice<Integer> hours;
+
+    /**
+     * Constructor for SyntheticRows.
+     *
+     * @param properties Volume and distributions of the history
+     */
+    public SyntheticRows(GeneratorProperties properties) {
+        Assert.isTrue(properties.getAttendantsPerDay() > 0
+                && properties.getAttendantsPerDay() <= properties.getAttendants(),
+                "Attendants per day must be between one and the number of attendants.");
+        Assert.isTrue(properties.getManagers() > 0, "At least one manager is required.");
+        Assert.isTrue(properties.getStudents() > 0, "At least one student is required.");
+        this.properties = properties;
+        this.activities = new WeightedChoice<>(properties.getActivityWeights());
+        this.paymentModes = new WeightedChoice<>(properties.getPaymentModeWeights());
+        this.durations = new WeightedChoice<>(properties.getDurationWeights());
+        this.hours = new WeightedChoice<>(properties.getHourWeights());
+    }
+
+    /**
+     * @return One activity per configured activity, in configuration order.
+     */
+    public List<Activity> activities() {
+        SplittableRandom random = randomOf(-1);
+        List<Activity> rows = new ArrayList<>();
+        for (String name : activities.values()) {
+            Activity activity = new Activity();
+            activity.setId(uuid(random));
+            activity.setActivity(name);
+            activity.setCategory(name);
+            activity.setPrice(String.format(Locale.ROOT, "%.2f", priceOf(name)));
+            activity.setImageLocation("images/activities/" + name.toLowerCase(Locale.ROOT).replace(' ', '-') + ".png");
+            audit(activity, properties.getStartDate(), LocalTime.of(9, 0));
+            rows.add(activity);
+        }
+        return rows;
+    }
+
+    /**
+     * @return Profiles of every attendant followed by those of every manager.
+     */
+    public List<Profile> profiles() {
+        List<Profile> rows = new ArrayList<>();
+        for (int attendant = 0; attendant < properties.getAttendants(); attendant++) {
+            rows.add(profile("attendant-" + attendant, "Attendant", attendantName(attendant), "ATTENDANT"));
+        }
+        for (int manager = 0; manager < properties.getManagers(); manager++) {
+            rows.add(profile("manager-" + manager, "Manager", managerName(manager), "MANAGER"));
+        }
+        return rows;
+    }
+
+    /**
+     * Method to generate the sessions of one day.
+     *
+     * @param day Day of the history
+     * @return Sessions ordered by start time, empty on a day without sessions
+     */
+    public List<ShiftTotal> sessionsOf(LocalDate day) {
+        SplittableRandom random = randomOf(day.toEpochDay());
+        List<String> roster = rosterOf(random);
+        int count = sessionCountOf(day, random);
+        List<ShiftTotal> sessions = new ArrayList<>(count);
+        for (int session = 0; session < count; session++) {
+            String attendant = roster.get(random.nextInt(roster.size()));
+            String activity = activities.next(random);
+            int minutes = durations.next(random);
+            LocalTime startTime = LocalTime.of(hours.next(random), random.nextInt(60));
+
+            ShiftTotal shiftTotal = new ShiftTotal();
+            shiftTotal.setId(uuid(random));
+            shiftTotal.setIdempotencyKey("generated-" + day + "-" + session);
+            shiftTotal.setStudentName(String.format(Locale.ROOT, "Student %05d", random.nextInt(properties.getStudents())));
+            shiftTotal.setAttendantName(attendant);
+            shiftTotal.setActivity(activity);
+            shiftTotal.setCost(priceOf(activity) * minutes / PRICED_MINUTES);
+            shiftTotal.setPaymentMode(paymentModes.next(random));
+            shiftTotal.setStartTime(Time.valueOf(startTime));
+            shiftTotal.setDate(Date.valueOf(day));
+            shiftTotal.setDuration(String.valueOf(minutes));
+            audit(shiftTotal, day, startTime);
+            sessions.add(shiftTotal);
+        }
+        sessions.sort((first, second) -> first.getStartTime().compareTo(second.getStartTime()));
+        return sessions;
+    }
+
+    /**
+     * Method to generate the shift reports closing one day.
+     *
+     * @param day      Day of the history
+     * @param sessions Sessions of the day, as returned by {@link #sessionsOf(LocalDate)}
+     * @return One report per attendant on shift that day, in roster order
+     */
+    public List<ShiftReport> shiftReportsOf(LocalDate day, List<ShiftTotal> sessions) {
+        SplittableRandom random = randomOf(day.toEpochDay());
+        List<String> roster = rosterOf(random);
+        Map<String, float[]> revenue = new LinkedHashMap<>();
+        roster.forEach(attendant -> revenue.put(attendant, new float[2]));
+        for (ShiftTotal session : sessions) {
+            float[] attendantRevenue = revenue.get(session.getAttendantName());
+            if (attendantRevenue != null) {
+                attendantRevenue["cash".equalsIgnoreCase(session.getPaymentMode()) ? 1 : 0] += session.getCost();
+            }
+        }
+
+        // Reports draw from a source of their own so that the sessions of a day do not depend on them
+        SplittableRandom reportRandom = randomOf(day.toEpochDay() ^ GOLDEN_GAMMA);
+        List<ShiftReport> reports = new ArrayList<>(roster.size());
+        for (String attendant : roster) {
+            float[] attendantRevenue = revenue.get(attendant);
+            String manager = managerName(reportRandom.nextInt(properties.getManagers()));
+
+            ShiftReport report = new ShiftReport();
+            report.setShiftReportId(uuid(reportRandom));
+            report.setClosingShiftDate(Date.valueOf(day));
+            report.setClosingShiftTime(Time.valueOf(CLOSING_TIME));
+            report.setAttendantName(attendant);
+            report.setReconcilorName(manager);
+            report.setReconcilorSign(signature(reportRandom));
+            report.setAttendantSign(signature(reportRandom));
+            report.setRevenueInCard(attendantRevenue[0]);
+            report.setRevenueInCash(attendantRevenue[1]);
+            report.setShiftTotal(String.format(Locale.ROOT, "%.2f", attendantRevenue[0] + attendantRevenue[1]));
+            report.setOpeningBalance(OPENING_BALANCE);
+            audit(report, day, CLOSING_TIME);
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    static String attendantName(int attendant) {
+        return "Attendant " + (attendant + 1);
+    }
+
+    static String managerName(int manager) {
+        return "Manager " + (manager + 1);
+    }
+
+    private List<String> rosterOf(SplittableRandom random) {
+        // Partial Fisher-Yates shuffle of the attendants, the first attendantsPerDay are on shift
+        int[] attendants = new int[properties.getAttendants()];
+        for (int i = 0; i < attendants.length; i++) {
+            attendants[i] = i;
+        }
+        List<String> roster = new ArrayList<>(properties.getAttendantsPerDay());
+        for (int i = 0; i < properties.getAttendantsPerDay(); i++) {
+            int pick = i + random.nextInt(attendants.length - i);
+            int attendant = attendants[pick];
+            attendants[pick] = attendants[i];
+            attendants[i] = attendant;
+            roster.add(attendantName(attendant));
+        }
+        return roster;
+    }
+
+    private int sessionCountOf(LocalDate day, RandomGenerator random) {
+        boolean weekend = day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+        double mean = properties.getSessionsPerDay() * (weekend ? properties.getWeekendFactor() : 1.0);
+        // Busy and quiet days vary by about a fifth around the mean
+        return (int) Math.max(0, Math.round(mean + random.nextGaussian() * mean * 0.2));
+    }
+
+    private float priceOf(String activity) {
+        return properties.getActivityPrices().getOrDefault(activity, DEFAULT_PRICE);
+    }
+
+    private Profile profile(String userId, String firstName, String lastName, String role) {
+        Profile profile = new Profile();
+        profile.setUserId(userId);
+        // Shaped like a BCrypt hash, never a usable password
+        profile.setUserPassword("$2a$10$" + "x".repeat(53));
+        profile.setFirstName(firstName);
+        profile.setLastName(lastName);
+        profile.setRole(role);
+        profile.setPermission("{\"role\":\"" + role + "\"}");
+        audit(profile, properties.getStartDate(), LocalTime.of(9, 0));
+        return profile;
+    }
+
+    private String signature(RandomGenerator random) {
+        StringBuilder signature = new StringBuilder(properties.getSignatureLength());
+        signature.append("data:image/png;base64,");
+        while (signature.length() < properties.getSignatureLength()) {
+            signature.append(SIGNATURE_ALPHABET.charAt(random.nextInt(SIGNATURE_ALPHABET.length())));
+        }
+        return signature.toString();
+    }
+
+    private SplittableRandom randomOf(long stream) {
+        return new SplittableRandom(properties.getSeed() * GOLDEN_GAMMA + stream);
+    }
+
+    private static void audit(Common row, LocalDate day, LocalTime time) {
+        row.setCreatedDate(Date.valueOf(day));
+        row.setCreatedTime(Time.valueOf(time));
+        row.setLastUpdatedDate(Date.valueOf(day));
+        row.setLastUpdatedTime(Time.valueOf(time));
+        row.setLastUpdatedBy(GENERATOR);
+        row.setAccessedBy(GENERATOR);
+    }
+
+    // Random (version 4) UUID drawn from the given source
+    private static UUID uuid(RandomGenerator random) {
+        long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificantBits = (random.nextLong() & ~(0xC000000000000000L)) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,75 @@
+package edu.csudh.lsu.persistence.generator;
+
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * <p>
+ * Draws values with probabilities proportional to their weights.
+ * </p>
+ *
+ * <p>
+ * The cumulative weights are searched with a binary search, so a draw costs one random number and
+ * {@code O(log n)} comparisons. Values keep the iteration order of the map they were built from, which makes a
+ * draw with a given random state reproducible.
+ * </p>
+ *
+ * @param <T> Type of the values
+ */
+public final class WeightedChoice<T> {
+
+    private final List<T> values;
+    private final long[] cumulativeWeights;
+
+    /**
+     * Constructor for WeightedChoice.
+     *
+     * @param weights Weight of every value; values with weight zero are never drawn
+     */
+    public WeightedChoice(Map<T, Integer> weights) {
+        Assert.notEmpty(weights, "Weights must not be empty.");
+        this.values = new ArrayList<>(weights.size());
+        this.cumulativeWeights = new long[weights.size()];
+        long total = 0;
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            Assert.isTrue(entry.getValue() != null && entry.getValue() >= 0, "Weight of '" + entry.getKey() + "' must not be negative.");
+            total += entry.getValue();
+            cumulativeWeights[values.size()] = total;
+            values.add(entry.getKey());
+        }
+        Assert.isTrue(total > 0, "At least one weight must be positive.");
+    }
+
+    /**
+     * Method to draw a value.
+     *
+     * @param random Random source
+     * @return Value drawn
+     */
+    public T next(RandomGenerator random) {
+        long point = random.nextLong(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, point + 1);
+        // Without an exact match the insertion point is the first cumulative weight above the point
+        return values.get(index >= 0 ? firstOf(index) : -index - 1);
+    }
+
+    /**
+     * @return Values in the order they were given.
+     */
+    public List<T> values() {
+        return List.copyOf(values);
+    }
+
+    // Values with weight zero share the cumulative weight of the value before them and must be skipped
+    private int firstOf(int index) {
+        while (index > 0 && cumulativeWeights[index - 1] == cumulativeWeights[index]) {
+            index--;
+        }
+        return index;
+    }
+}
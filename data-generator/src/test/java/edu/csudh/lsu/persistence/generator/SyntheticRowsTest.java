@@ -0,0 +1,116 @@
+package edu.csudh.lsu.persistence.generator;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticRowsTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 8, 5);
+    private static final LocalDate SATURDAY = LocalDate.of(2024, 8, 10);
+
+    private GeneratorProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeneratorProperties();
+        properties.setSessionsPerDay(400);
+        properties.setSignatureLength(256);
+        properties.getActivityWeights().put("Pool Table", 3);
+        properties.getActivityWeights().put("Console", 1);
+        properties.getActivityPrices().put("Console", 3.0f);
+        properties.getPaymentModeWeights().put("card", 7);
+        properties.getPaymentModeWeights().put("cash", 3);
+        properties.getDurationWeights().put(30, 2);
+        properties.getDurationWeights().put(60, 1);
+        properties.getHourWeights().put(12, 1);
+        properties.getHourWeights().put(16, 1);
+    }
+
+    @Test
+    void sessionsOf_withSameSeed_generatesSameRows() {
+        // Act
+        List<ShiftTotal> first = new SyntheticRows(properties).sessionsOf(MONDAY);
+        List<ShiftTotal> second = new SyntheticRows(properties).sessionsOf(MONDAY);
+
+        // Assert
+        assertFalse(first.isEmpty());
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getId(), second.get(i).getId());
+            assertEquals(first.get(i).getStudentName(), second.get(i).getStudentName());
+            assertEquals(first.get(i).getCost(), second.get(i).getCost());
+            assertEquals(first.get(i).getStartTime(), second.get(i).getStartTime());
+        }
+    }
+
+    @Test
+    void sessionsOf_withDifferentSeed_generatesDifferentIds() {
+        // Arrange
+        List<ShiftTotal> first = new SyntheticRows(properties).sessionsOf(MONDAY);
+        properties.setSeed(7);
+
+        // Act
+        List<ShiftTotal> second = new SyntheticRows(properties).sessionsOf(MONDAY);
+
+        // Assert
+        assertNotEquals(first.get(0).getId(), second.get(0).getId());
+    }
+
+    @Test
+    void sessionsOf_followsConfiguredDistributionsAndPrices() {
+        // Act
+        List<ShiftTotal> sessions = new SyntheticRows(properties).sessionsOf(MONDAY);
+
+        // Assert
+        for (ShiftTotal session : sessions) {
+            assertTrue(Set.of("Pool Table", "Console").contains(session.getActivity()));
+            assertTrue(Set.of("card", "cash").contains(session.getPaymentMode()));
+            assertTrue(Set.of("30", "60").contains(session.getDuration()));
+            assertTrue(Set.of(12, 16).contains(session.getStartTime().toLocalTime().getHour()));
+            float price = "Console".equals(session.getActivity()) ? 3.0f : SyntheticRows.DEFAULT_PRICE;
+            assertEquals(price * Integer.parseInt(session.getDuration()) / SyntheticRows.PRICED_MINUTES, session.getCost(), 0.001);
+        }
+        assertEquals(sessions.size(), sessions.stream().map(ShiftTotal::getIdempotencyKey).distinct().count());
+    }
+
+    @Test
+    void sessionsOf_onWeekend_generatesFewerSessions() {
+        // Arrange
+        SyntheticRows rows = new SyntheticRows(properties);
+
+        // Act & Assert
+        assertTrue(rows.sessionsOf(SATURDAY).size() < rows.sessionsOf(MONDAY).size());
+    }
+
+    @Test
+    void shiftReportsOf_addsUpSessionsOfEveryAttendantOnShift() {
+        // Arrange
+        SyntheticRows rows = new SyntheticRows(properties);
+        List<ShiftTotal> sessions = rows.sessionsOf(MONDAY);
+
+        // Act
+        List<ShiftReport> reports = rows.shiftReportsOf(MONDAY, sessions);
+
+        // Assert
+        assertEquals(properties.getAttendantsPerDay(), reports.size());
+        Set<String> onShift = reports.stream().map(ShiftReport::getAttendantName).collect(Collectors.toSet());
+        assertTrue(sessions.stream().allMatch(session -> onShift.contains(session.getAttendantName())));
+        for (ShiftReport report : reports) {
+            double card = sessions.stream()
+                    .filter(session -> session.getAttendantName().equals(report.getAttendantName()))
+                    .filter(session -> "card".equals(session.getPaymentMode()))
+                    .mapToDouble(ShiftTotal::getCost).sum();
+            assertEquals(card, report.getRevenueInCard(), 0.01);
+            assertEquals(256, report.getAttendantSign().length());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package edu.csudh.lsu.persistence.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedChoiceTest {
+
+    @Test
+    void next_drawsValuesInProportionToTheirWeights() {
+        // Arrange
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        weights.put("card", 70);
+        weights.put("cash", 30);
+        WeightedChoice<String> choice = new WeightedChoice<>(weights);
+        SplittableRandom random = new SplittableRandom(1);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(choice.next(random), 1, Integer::sum);
+        }
+
+        // Assert
+        assertEquals(70_000, counts.get("card"), 1_000);
+        assertEquals(30_000, counts.get("cash"), 1_000);
+    }
+
+    @Test
+    void next_whenWeightIsZero_neverDrawsValue() {
+        // Arrange
+        Map<Integer, Integer> weights = new LinkedHashMap<>();
+        weights.put(30, 0);
+        weights.put(60, 1);
+        weights.put(90, 0);
+        weights.put(120, 1);
+        WeightedChoice<Integer> choice = new WeightedChoice<>(weights);
+        SplittableRandom random = new SplittableRandom(2);
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            int minutes = choice.next(random);
+            assertTrue(minutes == 60 || minutes == 120, "Drew " + minutes);
+        }
+    }
+
+    @Test
+    void constructor_whenAllWeightsAreZero_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedChoice<>(Map.of("Console", 0)));
+    }
+}
@@ -0,0 +1,85 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import org.springframework.util.Assert;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * <p>
+ * Bursty arrival process of the stations.
+ * </p>
+ *
+ * <p>
+ * Gaps between sessions are exponentially distributed, i.e. arrivals form a Poisson process. For
+ * {@code burstLengthMillis} out of every {@code burstIntervalMillis} the rate is multiplied by the burst factor, so
+ * that the stations fill up together the way they do between classes.
+ * </p>
+ */
+public class ArrivalSchedule {
+
+    private final long meanGapMillis;
+    private final long burstIntervalMillis;
+    private final long burstLengthMillis;
+    private final double burstFactor;
+
+    /**
+     * Constructor for ArrivalSchedule.
+     *
+     * @param meanGapMillis       Mean gap between sessions outside a burst
+     * @param burstIntervalMillis A burst starts this often
+     * @param burstLengthMillis   Length of a burst
+     * @param burstFactor         Arrival rate during a burst relative to the rate outside one
+     */
+    public ArrivalSchedule(long meanGapMillis, long burstIntervalMillis, long burstLengthMillis, double burstFactor) {
+        Assert.isTrue(meanGapMillis > 0, "Mean gap must be positive.");
+        Assert.isTrue(burstIntervalMillis > 0, "Burst interval must be positive.");
+        Assert.isTrue(burstLengthMillis >= 0 && burstLengthMillis <= burstIntervalMillis,
+                "Burst length must be between zero and the burst interval.");
+        Assert.isTrue(burstFactor >= 1.0, "Burst factor must be at least one.");
+        this.meanGapMillis = meanGapMillis;
+        this.burstIntervalMillis = burstIntervalMillis;
+        this.burstLengthMillis = burstLengthMillis;
+        this.burstFactor = burstFactor;
+    }
+
+    /**
+     * Constructor for ArrivalSchedule.
+     *
+     * @param properties Simulation settings
+     */
+    public ArrivalSchedule(SimulationProperties properties) {
+        this(properties.getMeanSessionGapMillis(), properties.getBurstIntervalMillis(),
+                properties.getBurstLengthMillis(), properties.getBurstFactor());
+    }
+
+    /**
+     * @param elapsedMillis Time since the start of the run
+     * @return True if arrivals are bursting at that time.
+     */
+    public boolean inBurst(long elapsedMillis) {
+        return elapsedMillis % burstIntervalMillis < burstLengthMillis;
+    }
+
+    /**
+     * Method to draw the gap before the next session of a station.
+     *
+     * @param elapsedMillis Time since the start of the run
+     * @param random        Random source of the station
+     * @return Gap in milliseconds
+     */
+    public long nextGapMillis(long elapsedMillis, RandomGenerator random) {
+        double mean = inBurst(elapsedMillis) ? meanGapMillis / burstFactor : meanGapMillis;
+        return exponential(mean, random);
+    }
+
+    /**
+     * Method to draw an exponentially distributed duration.
+     *
+     * @param meanMillis Mean duration
+     * @param random     Random source
+     * @return Duration in milliseconds, never negative
+     */
+    static long exponential(double meanMillis, RandomGenerator random) {
+        return Math.round(-meanMillis * Math.log(1.0 - random.nextDouble()));
+    }
+}
@@ -0,0 +1,207 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import edu.csudh.lsu.persistence.capture.CaptureReader;
+import edu.csudh.lsu.persistence.capture.CapturedCall;
+import edu.csudh.lsu.persistence.capture.CapturedValues;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Re-issues service calls recorded by the persistence capture against the services of this application, and
+ * compares their latencies with the recorded ones.
+ * </p>
+ *
+ * <p>
+ * Calls start at their recorded offsets divided by {@code replaySpeed}, each on its own virtual thread, so the
+ * recorded concurrency is reproduced; with a speed of zero or less they run one after another as fast as possible.
+ * Like the recorded durations, replayed latencies are measured around the service call only, transaction retries
+ * included: a call is recorded once however many attempts it took, and replaying it lets the retry aspect retry it
+ * again as the replayed cluster needs.
+ * </p>
+ *
+ * <p>
+ * Ids generated by the replay differ from the recorded ones. When a replayed call returns an entity, its id is
+ * mapped to the recorded id of the same call, and later calls passing the recorded id get the replayed one. A call
+ * replayed before the call creating its row therefore misses the row, which is more likely at higher speeds.
+ * Personal strings were pseudonymized consistently during the capture, so lookups by name still match.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CaptureReplayer {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private SimulationProperties properties;
+
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+
+    /**
+     * Replays a capture file.
+     *
+     * @param file Capture file
+     * @return Recorded and replayed latencies
+     * @throws IOException          if the file cannot be read
+     * @throws InterruptedException if the replay is interrupted
+     */
+    public LatencyComparison replay(Path file) throws IOException, InterruptedException {
+        List<CapturedCall> calls;
+        try (CaptureReader reader = new CaptureReader(Files.newInputStream(file))) {
+            calls = reader.readAll();
+        }
+        // Calls are written as they complete, replay starts them in the order they started
+        calls.sort(Comparator.comparingLong(CapturedCall::getEpochMicros));
+        log.info("Replaying {} calls from {} at speed {}, {} of them retried when recorded", calls.size(), file,
+                properties.getReplaySpeed(), calls.stream().filter(call -> call.getAttempts() > 1).count());
+        if (calls.isEmpty()) {
+            return new LatencyComparison(recorded(calls), new OperationLatencies().report(0));
+        }
+
+        OperationLatencies latencies = new OperationLatencies();
+        Map<Object, Object> ids = new ConcurrentHashMap<>();
+        AtomicLong failures = new AtomicLong();
+        long firstMicros = calls.get(0).getEpochMicros();
+        double speed = properties.getReplaySpeed();
+        long startNanos = System.nanoTime();
+        if (speed <= 0) {
+            for (CapturedCall call : calls) {
+                invoke(call, latencies, ids, failures);
+            }
+        } else {
+            // Closing the executor waits for every replayed call
+            try (ExecutorService replay = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (CapturedCall call : calls) {
+                    long offsetNanos = TimeUnit.MICROSECONDS.toNanos(call.getEpochMicros() - firstMicros);
+                    long sleepNanos = startNanos + (long) (offsetNanos / speed) - System.nanoTime();
+                    if (sleepNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                    }
+                    replay.submit(() -> invoke(call, latencies, ids, failures));
+                }
+            }
+        }
+        return new LatencyComparison(recorded(calls), latencies.report(System.nanoTime() - startNanos));
+    }
+
+    private void invoke(CapturedCall call, OperationLatencies latencies, Map<Object, Object> ids, AtomicLong failures) {
+        String operation = call.getOperation();
+        try {
+            Target target = targets.computeIfAbsent(call.getDeclaringType() + "#" + call.getMethodName()
+                    + call.getParameterTypes(), key -> resolve(call));
+            Object[] args = arguments(call, target.method.getParameterTypes(), ids);
+            long start = System.nanoTime();
+            Object result = target.method.invoke(target.bean, args);
+            latencies.record(operation, System.nanoTime() - start);
+            Object recordedId = call.getResultId();
+            Object replayedId = CapturedValues.idOf(result);
+            if (recordedId instanceof UUID && replayedId != null && !recordedId.equals(replayedId)) {
+                ids.put(recordedId, replayedId);
+            }
+        } catch (Exception exception) {
+            latencies.recordError(operation);
+            Throwable cause = exception instanceof InvocationTargetException invocation
+                    ? invocation.getCause()
+                    : exception;
+            // The first failures are logged in full, later ones only counted
+            if (failures.incrementAndGet() <= 10) {
+                log.warn("Replayed call '{}' failed.", operation, cause);
+            }
+        }
+    }
+
+    private Target resolve(CapturedCall call) {
+        try {
+            ClassLoader classLoader = applicationContext.getClassLoader();
+            Class<?> type = ClassUtils.forName(call.getDeclaringType(), classLoader);
+            Class<?>[] parameterTypes = new Class<?>[call.getParameterTypes().size()];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = ClassUtils.forName(call.getParameterTypes().get(i), classLoader);
+            }
+            return new Target(applicationContext.getBean(type), type.getMethod(call.getMethodName(), parameterTypes));
+        } catch (ClassNotFoundException | NoSuchMethodException exception) {
+            throw new IllegalStateException("Recorded call " + call.getOperation() + " does not exist here.", exception);
+        }
+    }
+
+    private static Object[] arguments(CapturedCall call, Class<?>[] parameterTypes, Map<Object, Object> ids) {
+        Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < args.length; i++) {
+            Object argument = CapturedValues.materialize(call.getArguments().get(i));
+            if (argument instanceof UUID) {
+                argument = ids.getOrDefault(argument, argument);
+            } else if (argument instanceof Collection<?> collection && Set.class.isAssignableFrom(parameterTypes[i])) {
+                argument = new LinkedHashSet<>(collection);
+            }
+            args[i] = argument;
+        }
+        return args;
+    }
+
+    /**
+     * Method to report the recorded durations the way the replayed ones are reported.
+     *
+     * @param calls Recorded calls, ordered by start time
+     * @return Report over the recorded interval
+     */
+    static LatencyReport recorded(List<CapturedCall> calls) {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        Map<String, Long> errors = new TreeMap<>();
+        long firstMicros = Long.MAX_VALUE;
+        long lastEndNanos = Long.MIN_VALUE;
+        for (CapturedCall call : calls) {
+            if (call.getFailure() != null) {
+                errors.merge(call.getOperation(), 1L, Long::sum);
+            } else {
+                long micros = TimeUnit.NANOSECONDS.toMicros(call.getDurationNanos());
+                histograms.computeIfAbsent(call.getOperation(), key -> new Histogram(
+                                OperationLatencies.HIGHEST_TRACKABLE_MICROS, OperationLatencies.SIGNIFICANT_DIGITS))
+                        .recordValue(Math.min(OperationLatencies.HIGHEST_TRACKABLE_MICROS, micros));
+            }
+            firstMicros = Math.min(firstMicros, call.getEpochMicros());
+            lastEndNanos = Math.max(lastEndNanos,
+                    TimeUnit.MICROSECONDS.toNanos(call.getEpochMicros()) + call.getDurationNanos());
+        }
+        long elapsedNanos = calls.isEmpty() ? 0 : lastEndNanos - TimeUnit.MICROSECONDS.toNanos(firstMicros);
+        return new LatencyReport(elapsedNanos, histograms, errors);
+    }
+
+    /**
+     * Service bean and method a recorded call is replayed on.
+     */
+    private static final class Target {
+
+        private final Object bean;
+        private final Method method;
+
+        private Target(Object bean, Method method) {
+            this.bean = bean;
+            this.method = method;
+        }
+    }
+}
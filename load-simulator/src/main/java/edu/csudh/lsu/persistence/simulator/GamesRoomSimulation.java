@@ -0,0 +1,335 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import edu.csudh.lsu.persistence.dashboard.DashboardSnapshotService;
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.service.ActivityService;
+import edu.csudh.lsu.persistence.service.ProfileService;
+import edu.csudh.lsu.persistence.service.ShiftReportService;
+import edu.csudh.lsu.persistence.service.ShiftTotalService;
+import edu.csudh.lsu.persistence.utils.TimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Simulates a games-room day against the real services and measures the latency of every operation.
+ * </p>
+ *
+ * <p>
+ * Every station, attendant and dashboard screen is an actor on its own virtual thread:
+ * </p>
+ * <ul>
+ *     <li>a station starts a session after a bursty idle gap ({@code session.start}), sometimes extends it
+ *     ({@code session.extend}) and ends it ({@code session.end}),</li>
+ *     <li>an attendant saves their profile once ({@code profile.save}) and periodically reconciles their shift by
+ *     reading their totals and upserting the shift report ({@code shift.close}),</li>
+ *     <li>a dashboard screen reads the dashboard snapshot ({@code dashboard.snapshot}) and the latest sessions
+ *     ({@code dashboard.sessions}) at a fixed rate.</li>
+ * </ul>
+ *
+ * <p>
+ * At most {@code concurrency} operations are in flight at once. Latency is measured from the moment an actor wants
+ * to issue an operation, so waiting for a permit counts. Dashboard polls are measured from their scheduled time,
+ * so that a stalled poll is not hidden by the polls it delayed (coordinated omission).
+ * </p>
+ */
+@Slf4j
+@Component
+public class GamesRoomSimulation {
+
+    static final String[] CATEGORIES = {"Billiards", "Table Tennis", "Console", "Board Games"};
+    static final String[] PAYMENT_MODES = {"card", "cash"};
+    static final double EXTENSION_PROBABILITY = 0.2;
+    static final int DASHBOARD_PAGE_SIZE = 20;
+
+    @Autowired
+    private SimulationProperties properties;
+
+    @Autowired
+    private ShiftTotalService shiftTotalService;
+
+    @Autowired
+    private ShiftReportService shiftReportService;
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    /**
+     * Runs the warmup and the measured interval, and returns once every actor has stopped.
+     *
+     * @return Report of the measured interval
+     * @throws InterruptedException if the simulation is interrupted
+     */
+    public LatencyReport run() throws InterruptedException {
+        log.info("Simulating a games-room day with {}", properties);
+        seedStations();
+
+        ArrivalSchedule schedule = new ArrivalSchedule(properties);
+        SplittableRandom seeds = new SplittableRandom(properties.getSeed());
+        long startNanos = System.nanoTime();
+        long warmupEndNanos = startNanos + TimeUnit.SECONDS.toNanos(properties.getWarmupSeconds());
+        Run run = new Run(startNanos, warmupEndNanos + TimeUnit.SECONDS.toNanos(properties.getDurationSeconds()),
+                new Semaphore(properties.getConcurrency(), true), new OperationLatencies());
+
+        // Closing the executor waits for every actor, and every actor stops at the end of the run
+        try (ExecutorService actors = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int station = 0; station < properties.getStations(); station++) {
+                int index = station;
+                SplittableRandom random = seeds.split();
+                actors.submit(() -> runStation(run, schedule, index, random));
+            }
+            for (int attendant = 0; attendant < properties.getAttendants(); attendant++) {
+                int index = attendant;
+                SplittableRandom random = seeds.split();
+                actors.submit(() -> runAttendant(run, index, random));
+            }
+            for (int poller = 0; poller < properties.getDashboardPollers(); poller++) {
+                int index = poller;
+                actors.submit(() -> runDashboard(run, index));
+            }
+
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(Math.max(0, warmupEndNanos - System.nanoTime())));
+            run.latencies.reset();
+            log.info("Warmup finished, measuring for {} seconds.", properties.getDurationSeconds());
+        }
+        return run.latencies.report(System.nanoTime() - warmupEndNanos);
+    }
+
+    private void seedStations() {
+        for (int station = 0; station < properties.getStations(); station++) {
+            Activity activity = new Activity();
+            activity.setActivity(stationName(station));
+            activity.setCategory(CATEGORIES[station % CATEGORIES.length]);
+            activity.setPrice(String.valueOf(priceOf(station)));
+            activity.setLastUpdatedBy("simulator");
+            activity.setAccessedBy("simulator");
+            activityService.saveActivity(activity);
+        }
+    }
+
+    private void runStation(Run run, ArrivalSchedule schedule, int station, SplittableRandom random) {
+        long sessions = 0;
+        while (run.sleep(schedule.nextGapMillis(run.elapsedMillis(), random))) {
+            String attendant = attendantName(random.nextInt(properties.getAttendants()));
+            ShiftTotal session = new ShiftTotal();
+            session.setIdempotencyKey("station-" + station + "-session-" + sessions++);
+            session.setStudentName("Student " + random.nextInt(10_000));
+            session.setAttendantName(attendant);
+            session.setActivity(stationName(station));
+            session.setCost(priceOf(station));
+            session.setPaymentMode(PAYMENT_MODES[random.nextInt(PAYMENT_MODES.length)]);
+            session.setDuration("0");
+            session.setLastUpdatedBy(attendant);
+            session.setAccessedBy(attendant);
+
+            ShiftTotal saved = run.timed("session.start", () -> shiftTotalService.saveShiftTotal(session));
+            if (saved == null || !run.sleep(ArrivalSchedule.exponential(properties.getMeanSessionMillis(), random))) {
+                continue;
+            }
+            UUID id = saved.getId();
+            String duration = "30";
+            if (random.nextDouble() < EXTENSION_PROBABILITY) {
+                duration = "60";
+                run.timed("session.extend", () -> {
+                    shiftTotalService.updateCost(id, 2 * priceOf(station), attendant, attendant);
+                    return id;
+                });
+            }
+            String finalDuration = duration;
+            run.timed("session.end", () -> {
+                shiftTotalService.updateDuration(id, finalDuration, attendant, attendant);
+                return id;
+            });
+        }
+    }
+
+    private void runAttendant(Run run, int attendant, SplittableRandom random) {
+        String name = attendantName(attendant);
+        Profile profile = new Profile();
+        profile.setUserId("attendant-" + attendant);
+        profile.setUserPassword("not-a-password");
+        profile.setFirstName("Attendant");
+        profile.setLastName(String.valueOf(attendant));
+        profile.setRole("ATTENDANT");
+        profile.setPermission("{}");
+        profile.setLastUpdatedBy(name);
+        profile.setAccessedBy(name);
+        run.timed("profile.save", () -> {
+            profileService.saveOrUpdateProfile(profile);
+            return profile;
+        });
+
+        // Attendants close at different times instead of all at once
+        long delay = random.nextLong(Math.max(1, properties.getShiftCloseMillis()));
+        while (run.sleep(delay)) {
+            run.timed("shift.close", () -> closeShift(name));
+            delay = properties.getShiftCloseMillis();
+        }
+    }
+
+    private ShiftReport closeShift(String attendant) {
+        Date today = today();
+        Object totals = shiftTotalService.calculateTotalCostsByAttendantNameAndDate(attendant, today);
+        ShiftReport report = new ShiftReport();
+        report.setClosingShiftDate(today);
+        report.setAttendantName(attendant);
+        report.setReconcilorName("Front Desk");
+        report.setReconcilorSign("FD");
+        report.setAttendantSign(attendant);
+        report.setRevenueInCard(column(totals, 1));
+        report.setRevenueInCash(column(totals, 2));
+        report.setShiftTotal(String.valueOf(column(totals, 3)));
+        report.setOpeningBalance(50.0f);
+        report.setLastUpdatedBy(attendant);
+        report.setAccessedBy(attendant);
+        return shiftReportService.saveOrUpdateShiftReport(report);
+    }
+
+    private void runDashboard(Run run, int poller) {
+        List<String> attendants = new ArrayList<>();
+        for (int attendant = 0; attendant < properties.getAttendants(); attendant++) {
+            attendants.add(attendantName(attendant));
+        }
+        Pageable page = PageRequest.of(0, DASHBOARD_PAGE_SIZE);
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getDashboardPollMillis());
+        // Screens are spread evenly over the poll interval
+        long scheduledNanos = run.startNanos + intervalNanos * poller / Math.max(1, properties.getDashboardPollers());
+        while (run.sleepUntil(scheduledNanos)) {
+            run.timedFrom("dashboard.snapshot", scheduledNanos,
+                    () -> dashboardSnapshotService.fetchSnapshot(attendants, today(), page));
+            run.timed("dashboard.sessions", () -> shiftTotalService.findAllShiftTotals(page));
+            scheduledNanos += intervalNanos;
+        }
+    }
+
+    /**
+     * Method to read one column of the totals row of an attendant.
+     *
+     * @param totals Result of {@link ShiftTotalService#calculateTotalCostsByAttendantNameAndDate}, null without sessions
+     * @param index  Column index
+     * @return Value of the column, zero if the attendant has no sessions yet
+     */
+    static float column(Object totals, int index) {
+        if (totals instanceof Object[] row && index < row.length && row[index] instanceof Number number) {
+            return number.floatValue();
+        }
+        return 0.0f;
+    }
+
+    static String stationName(int station) {
+        return CATEGORIES[station % CATEGORIES.length] + " " + (station / CATEGORIES.length + 1);
+    }
+
+    static String attendantName(int attendant) {
+        return "Attendant " + (attendant + 1);
+    }
+
+    static float priceOf(int station) {
+        return 2.5f * (station % CATEGORIES.length + 1);
+    }
+
+    private static Date today() {
+        return new Date(TimeUtils.getFormattedCurrentPSTTime().getTime());
+    }
+
+    /**
+     * State shared by the actors of one run.
+     */
+    private static final class Run {
+
+        private final long startNanos;
+        private final long endNanos;
+        private final Semaphore permits;
+        private final OperationLatencies latencies;
+        private final AtomicLong failures = new AtomicLong();
+
+        private Run(long startNanos, long endNanos, Semaphore permits, OperationLatencies latencies) {
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+            this.permits = permits;
+            this.latencies = latencies;
+        }
+
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+
+        /**
+         * Sleeps for the given time unless the run ends first.
+         *
+         * @return True if the run is still going after the sleep
+         */
+        boolean sleep(long millis) {
+            return sleepUntil(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        boolean sleepUntil(long wakeNanos) {
+            long sleepNanos = Math.min(wakeNanos, endNanos) - System.nanoTime();
+            try {
+                if (sleepNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            return System.nanoTime() < endNanos;
+        }
+
+        <T> T timed(String operation, Supplier<T> work) {
+            return timedFrom(operation, System.nanoTime(), work);
+        }
+
+        /**
+         * Runs an operation under a concurrency permit and records its latency from the given start.
+         *
+         * @return Result of the operation, null if it failed
+         */
+        <T> T timedFrom(String operation, long startedNanos, Supplier<T> work) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            try {
+                T result = work.get();
+                latencies.record(operation, System.nanoTime() - startedNanos);
+                return result;
+            } catch (RuntimeException exception) {
+                latencies.recordError(operation);
+                // The first failures are logged in full, later ones only counted
+                if (failures.incrementAndGet() <= 10) {
+                    log.warn("Operation '{}' failed.", operation, exception);
+                }
+                return null;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+}
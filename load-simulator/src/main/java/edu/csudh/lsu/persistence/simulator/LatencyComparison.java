@@ -0,0 +1,90 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>
+ * Recorded and replayed latencies of the operations of a replayed capture.
+ * </p>
+ *
+ * <p>
+ * The {@link #format() table} has one row per operation with the recorded and replayed p50 and p99 and how much the
+ * replay changed them, so that a slower schema, index or driver shows up as a positive delta.
+ * </p>
+ */
+@Getter
+public class LatencyComparison {
+
+    private final LatencyReport recorded;
+    private final LatencyReport replayed;
+
+    /**
+     * Constructor for LatencyComparison.
+     *
+     * @param recorded Latencies as recorded by the capture
+     * @param replayed Latencies of the replay
+     */
+    public LatencyComparison(LatencyReport recorded, LatencyReport replayed) {
+        this.recorded = recorded;
+        this.replayed = replayed;
+    }
+
+    /**
+     * Method to format the comparison as a fixed-width table with latencies in milliseconds.
+     *
+     * @return Table with a header line and one line per operation, the total last
+     */
+    public String format() {
+        Map<String, LatencyReport.OperationSummary> recordedSummaries = byOperation(recorded);
+        Map<String, LatencyReport.OperationSummary> replayedSummaries = byOperation(replayed);
+        int width = "operation".length();
+        for (String operation : recordedSummaries.keySet()) {
+            width = Math.max(width, operation.length());
+        }
+        String header = "%-" + width + "s %9s %7s %7s %10s %10s %8s %10s %10s %8s%n";
+        String row = "%-" + width + "s %9d %7d %7d %10.2f %10.2f %8s %10.2f %10.2f %8s%n";
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, header, "operation", "count",
+                "rec err", "rep err", "rec p50", "rep p50", "p50 diff", "rec p99", "rep p99", "p99 diff"));
+        for (LatencyReport.OperationSummary before : recordedSummaries.values()) {
+            LatencyReport.OperationSummary after = replayedSummaries.getOrDefault(before.getOperation(),
+                    new LatencyReport.OperationSummary(before.getOperation(), 0, 0, 0, 0, 0, 0, 0, 0));
+            table.append(String.format(Locale.ROOT, row, before.getOperation(), before.getCount(),
+                    before.getErrors(), after.getErrors(),
+                    millis(before.getP50Micros()), millis(after.getP50Micros()),
+                    delta(before.getP50Micros(), after.getP50Micros()),
+                    millis(before.getP99Micros()), millis(after.getP99Micros()),
+                    delta(before.getP99Micros(), after.getP99Micros())));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Method to format the relative change of a latency.
+     *
+     * @param recordedMicros Recorded latency
+     * @param replayedMicros Replayed latency
+     * @return Change in percent with its sign, {@code n/a} if either side has no latency
+     */
+    static String delta(long recordedMicros, long replayedMicros) {
+        if (recordedMicros <= 0 || replayedMicros <= 0) {
+            return "n/a";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", 100.0 * (replayedMicros - recordedMicros) / recordedMicros);
+    }
+
+    private static Map<String, LatencyReport.OperationSummary> byOperation(LatencyReport report) {
+        Map<String, LatencyReport.OperationSummary> summaries = new LinkedHashMap<>();
+        for (LatencyReport.OperationSummary summary : report.getSummaries()) {
+            summaries.put(summary.getOperation(), summary);
+        }
+        return summaries;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
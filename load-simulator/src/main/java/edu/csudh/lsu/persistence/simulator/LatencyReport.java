@@ -0,0 +1,138 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import lombok.Getter;
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Throughput and latency percentiles of every simulated operation over the measured interval.
+ * </p>
+ *
+ * <p>
+ * The {@link #format() table} has one row per operation and a final row over all of them. The full percentile
+ * distributions can be {@link #writeHistograms(Path) written} as {@code .hgrm} files for the HdrHistogram plotter.
+ * </p>
+ */
+public class LatencyReport {
+
+    static final String TOTAL = "total";
+
+    @Getter
+    private final long elapsedNanos;
+    private final Map<String, Histogram> histograms;
+    private final Map<String, Long> errors;
+
+    /**
+     * Constructor for LatencyReport.
+     *
+     * @param elapsedNanos Length of the measured interval
+     * @param histograms   Latencies in microseconds by operation
+     * @param errors       Failed operations by operation
+     */
+    public LatencyReport(long elapsedNanos, Map<String, Histogram> histograms, Map<String, Long> errors) {
+        this.elapsedNanos = elapsedNanos;
+        this.histograms = histograms;
+        this.errors = errors;
+    }
+
+    /**
+     * Method to summarize every operation, followed by the total over all of them.
+     *
+     * @return Summaries ordered by operation name, the total last
+     */
+    public List<OperationSummary> getSummaries() {
+        TreeSet<String> operations = new TreeSet<>(histograms.keySet());
+        operations.addAll(errors.keySet());
+        List<OperationSummary> summaries = new ArrayList<>();
+        Histogram total = new Histogram(OperationLatencies.HIGHEST_TRACKABLE_MICROS, OperationLatencies.SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+        for (String operation : operations) {
+            Histogram histogram = histograms.get(operation);
+            long operationErrors = errors.getOrDefault(operation, 0L);
+            if (histogram != null) {
+                total.add(histogram);
+            }
+            totalErrors += operationErrors;
+            summaries.add(summarize(operation, histogram, operationErrors));
+        }
+        summaries.add(summarize(TOTAL, total, totalErrors));
+        return summaries;
+    }
+
+    /**
+     * Method to format the summaries as a fixed-width table with latencies in milliseconds.
+     *
+     * @return Table with a header line and one line per summary
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%-20s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (OperationSummary summary : getSummaries()) {
+            table.append(String.format(Locale.ROOT, "%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    summary.getOperation(), summary.getCount(), summary.getErrors(), summary.getThroughputPerSecond(),
+                    millis(summary.getP50Micros()), millis(summary.getP90Micros()), millis(summary.getP99Micros()),
+                    millis(summary.getP999Micros()), millis(summary.getMaxMicros())));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Writes the percentile distribution of every operation to {@code <operation>.hgrm}, in milliseconds.
+     *
+     * @param directory Directory the files are written to, created if missing
+     * @throws IOException if a file cannot be written
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey() + ".hgrm")))) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private OperationSummary summarize(String operation, Histogram histogram, long operationErrors) {
+        if (histogram == null || histogram.getTotalCount() == 0) {
+            return new OperationSummary(operation, 0, operationErrors, 0, 0, 0, 0, 0, 0);
+        }
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return new OperationSummary(operation, histogram.getTotalCount(), operationErrors,
+                seconds > 0 ? histogram.getTotalCount() / seconds : 0,
+                histogram.getValueAtPercentile(50.0), histogram.getValueAtPercentile(90.0),
+                histogram.getValueAtPercentile(99.0), histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Throughput and latency of one operation.
+     */
+    @Value
+    public static class OperationSummary {
+
+        String operation;           // Name of the operation, or "total"
+        long count;                 // Successful operations
+        long errors;                // Failed operations
+        double throughputPerSecond; // Successful operations per second of the measured interval
+        long p50Micros;
+        long p90Micros;
+        long p99Micros;
+        long p999Micros;
+        long maxMicros;
+    }
+}
@@ -0,0 +1,70 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+/**
+ * <p>
+ * Boots the persistence library the way a consuming application does and runs one {@link GamesRoomSimulation}.
+ * </p>
+ *
+ * <p>
+ * The services run with their real transactions, retry and routing aspects and connection pool. By default the
+ * database is an in-memory H2, with the CockroachDB upserts rewritten by the test-support statement inspector;
+ * pointing {@code spring.datasource.url} at a CockroachDB cluster and clearing
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} loads a real cluster instead.
+ * </p>
+ *
+ * <p>
+ * With {@code lsu.simulator.replay-file} set, the calls of a persistence capture are replayed by the
+ * {@link CaptureReplayer} instead, and their replayed latencies compared with the recorded ones.
+ * </p>
+ */
+@Slf4j
+@SpringBootApplication(scanBasePackages = "edu.csudh.lsu.persistence")
+@EnableJpaRepositories(basePackages = "edu.csudh.lsu.persistence.repository")
+@EntityScan(basePackages = "edu.csudh.lsu.persistence.model")
+@EnableConfigurationProperties(SimulationProperties.class)
+public class LoadSimulatorApplication implements CommandLineRunner {
+
+    @Autowired
+    private GamesRoomSimulation simulation;
+
+    @Autowired
+    private CaptureReplayer replayer;
+
+    @Autowired
+    private SimulationProperties properties;
+
+    public static void main(String[] args) {
+        System.exit(SpringApplication.exit(SpringApplication.run(LoadSimulatorApplication.class, args)));
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        LatencyReport report;
+        // Printed rather than logged so that the tables survive a WARN log level
+        if (StringUtils.hasText(properties.getReplayFile())) {
+            LatencyComparison comparison = replayer.replay(Path.of(properties.getReplayFile()));
+            report = comparison.getReplayed();
+            System.out.println(comparison.format());
+        } else {
+            report = simulation.run();
+            System.out.println(report.format());
+        }
+        if (StringUtils.hasText(properties.getHistogramDirectory())) {
+            Path directory = Path.of(properties.getHistogramDirectory());
+            report.writeHistograms(directory);
+            log.info("Percentile distributions written to {}", directory.toAbsolutePath());
+        }
+    }
+}
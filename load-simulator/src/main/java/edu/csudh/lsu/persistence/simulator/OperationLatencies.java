@@ -0,0 +1,73 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Latencies of the simulated operations, one HdrHistogram {@link Recorder} per operation.
+ * </p>
+ *
+ * <p>
+ * Recording is wait free, so the actors never contend on the histograms. Latencies are kept in microseconds with
+ * three significant digits up to one hour. Failed operations are only counted, so that fast failures cannot make
+ * the percentiles look better than they are.
+ * </p>
+ */
+public class OperationLatencies {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Records one successful operation.
+     *
+     * @param operation    Name of the operation
+     * @param latencyNanos Latency in nanoseconds
+     */
+    public void record(String operation, long latencyNanos) {
+        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        recorders.computeIfAbsent(operation, key -> new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS))
+                .recordValue(micros);
+    }
+
+    /**
+     * Counts one failed operation.
+     *
+     * @param operation Name of the operation
+     */
+    public void recordError(String operation) {
+        errors.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. at the end of the warmup.
+     */
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Method to take the report of everything recorded since the last reset or report.
+     *
+     * @param elapsedNanos Length of the measured interval, used for the throughput
+     * @return Report of every operation
+     */
+    public LatencyReport report(long elapsedNanos) {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((operation, count) -> errorCounts.put(operation, count.sumThenReset()));
+        return new LatencyReport(elapsedNanos, histograms, errorCounts);
+    }
+}
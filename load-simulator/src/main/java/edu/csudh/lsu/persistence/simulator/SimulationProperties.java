@@ -0,0 +1,78 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p>
+ * Shape of the simulated games-room day, bound from {@code lsu.simulator.*}.
+ * </p>
+ *
+ * <p>
+ * A day is compressed into {@code durationSeconds}: sessions last seconds instead of half hours, and a shift is
+ * closed every {@code shiftCloseMillis}. Arrivals at the stations come in bursts, as they do when classes let out,
+ * while the front-desk dashboards poll at a fixed rate.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = SimulationProperties.PREFIX)
+public class SimulationProperties {
+
+    public static final String PREFIX = "lsu.simulator";
+
+    // Attendants on shift, each recording sessions and closing their own shift
+    private int attendants = 4;
+
+    // Pool tables, consoles and other stations students play at
+    private int stations = 12;
+
+    // Operations allowed in flight at once across every actor
+    private int concurrency = 16;
+
+    // Measured length of the run
+    private int durationSeconds = 60;
+
+    // Run before measuring, so that class loading and JIT do not skew the percentiles
+    private int warmupSeconds = 5;
+
+    // Seed of every random choice, so that two runs issue the same workload
+    private long seed = 42;
+
+    // Mean idle time of a station between two sessions outside a burst
+    private long meanSessionGapMillis = 800;
+
+    // Mean length of a session
+    private long meanSessionMillis = 1500;
+
+    // A burst of arrivals starts this often
+    private long burstIntervalMillis = 10_000;
+
+    // Length of a burst
+    private long burstLengthMillis = 2_000;
+
+    // Arrival rate during a burst relative to the rate outside one
+    private double burstFactor = 6.0;
+
+    // Front-desk screens polling the dashboard
+    private int dashboardPollers = 2;
+
+    // Poll interval of every dashboard screen
+    private long dashboardPollMillis = 1_000;
+
+    // Every attendant reconciles their shift this often
+    private long shiftCloseMillis = 15_000;
+
+    // Directory the percentile distribution of every operation is written to as .hgrm, none if empty
+    private String histogramDirectory = "";
+
+    // Capture file of recorded service calls to replay instead of simulating a day, none if empty
+    private String replayFile = "";
+
+    // Replay pace relative to the recorded one, 2.0 replays twice as fast; zero or less replays the calls one
+    // after another as fast as possible
+    private double replaySpeed = 1.0;
+}
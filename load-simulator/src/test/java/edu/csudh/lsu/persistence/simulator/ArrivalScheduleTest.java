@@ -0,0 +1,61 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrivalScheduleTest {
+
+    @Test
+    void inBurst_whenWithinBurstLength_returnsTrueOncePerInterval() {
+        // Arrange
+        ArrivalSchedule schedule = new ArrivalSchedule(1000, 10_000, 2_000, 5.0);
+
+        // Act & Assert
+        assertTrue(schedule.inBurst(0));
+        assertTrue(schedule.inBurst(1_999));
+        assertFalse(schedule.inBurst(2_000));
+        assertFalse(schedule.inBurst(9_999));
+        assertTrue(schedule.inBurst(10_500));
+    }
+
+    @Test
+    void nextGapMillis_whenInBurst_shortensMeanGapByBurstFactor() {
+        // Arrange
+        ArrivalSchedule schedule = new ArrivalSchedule(1000, 10_000, 2_000, 5.0);
+        SplittableRandom random = new SplittableRandom(7);
+        int samples = 20_000;
+        long quietTotal = 0;
+        long burstTotal = 0;
+
+        // Act
+        for (int i = 0; i < samples; i++) {
+            quietTotal += schedule.nextGapMillis(5_000, random);
+            burstTotal += schedule.nextGapMillis(500, random);
+        }
+
+        // Assert
+        assertEquals(1000, quietTotal / (double) samples, 50);
+        assertEquals(200, burstTotal / (double) samples, 10);
+    }
+
+    @Test
+    void nextGapMillis_withSameSeed_drawsSameGaps() {
+        // Arrange
+        ArrivalSchedule schedule = new ArrivalSchedule(800, 10_000, 2_000, 6.0);
+        SplittableRandom first = new SplittableRandom(42);
+        SplittableRandom second = new SplittableRandom(42);
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            assertEquals(schedule.nextGapMillis(i * 100L, first), schedule.nextGapMillis(i * 100L, second));
+        }
+    }
+
+    @Test
+    void constructor_whenBurstLongerThanInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ArrivalSchedule(800, 1_000, 2_000, 6.0));
+    }
+}
@@ -0,0 +1,67 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import edu.csudh.lsu.persistence.capture.CapturedCall;
+import edu.csudh.lsu.persistence.simulator.LatencyReport.OperationSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyComparisonTest {
+
+    private static final String SERVICE = "edu.csudh.lsu.persistence.service.ShiftTotalService";
+
+    @Test
+    void recorded_whenCallsWereCaptured_reportsDurationsFailuresAndSpan() {
+        // Arrange
+        List<CapturedCall> calls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            calls.add(call(TimeUnit.SECONDS.toMicros(i), TimeUnit.MILLISECONDS.toNanos(i + 1), null));
+        }
+        calls.add(call(TimeUnit.SECONDS.toMicros(9), TimeUnit.SECONDS.toNanos(1), "java.lang.IllegalStateException"));
+
+        // Act
+        LatencyReport report = CaptureReplayer.recorded(calls);
+
+        // Assert
+        assertEquals(TimeUnit.SECONDS.toNanos(10), report.getElapsedNanos());
+        OperationSummary summary = report.getSummaries().get(0);
+        assertEquals("ShiftTotalService.saveShiftTotal", summary.getOperation());
+        assertEquals(10, summary.getCount());
+        assertEquals(1, summary.getErrors());
+        assertEquals(10_000, summary.getMaxMicros(), 10);
+    }
+
+    @Test
+    void format_whenReplayIsSlower_showsPositiveDeltas() {
+        // Arrange
+        LatencyReport recorded = CaptureReplayer.recorded(List.of(
+                call(0, TimeUnit.MILLISECONDS.toNanos(10), null)));
+        OperationLatencies replayed = new OperationLatencies();
+        replayed.record("ShiftTotalService.saveShiftTotal", TimeUnit.MILLISECONDS.toNanos(15));
+
+        // Act
+        String table = new LatencyComparison(recorded, replayed.report(TimeUnit.SECONDS.toNanos(1))).format();
+
+        // Assert
+        String row = table.lines().filter(line -> line.startsWith("ShiftTotalService.saveShiftTotal")).findFirst()
+                .orElseThrow();
+        assertTrue(row.contains("+50.0%"), row);
+        assertTrue(table.lines().anyMatch(line -> line.startsWith(LatencyReport.TOTAL)), table);
+    }
+
+    @Test
+    void delta_whenEitherSideIsMissing_isNotAvailable() {
+        assertEquals("-25.0%", LatencyComparison.delta(400, 300));
+        assertEquals("n/a", LatencyComparison.delta(0, 300));
+        assertEquals("n/a", LatencyComparison.delta(400, 0));
+    }
+
+    private static CapturedCall call(long epochMicros, long durationNanos, String failure) {
+        return new CapturedCall(epochMicros, "main", SERVICE, "saveShiftTotal",
+                List.of("edu.csudh.lsu.persistence.model.shift.ShiftTotal"), List.of(), durationNanos, failure, null, 1);
+    }
+}
@@ -0,0 +1,76 @@
+package edu.csudh.lsu.persistence.simulator;
+
+import edu.csudh.lsu.persistence.simulator.LatencyReport.OperationSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperationLatenciesTest {
+
+    @Test
+    void report_whenOperationsRecorded_summarizesPercentilesThroughputAndTotal() {
+        // Arrange
+        OperationLatencies latencies = new OperationLatencies();
+        for (int millis = 1; millis <= 100; millis++) {
+            latencies.record("session.start", TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        latencies.record("shift.close", TimeUnit.MILLISECONDS.toNanos(500));
+        latencies.recordError("shift.close");
+
+        // Act
+        List<OperationSummary> summaries = latencies.report(TimeUnit.SECONDS.toNanos(10)).getSummaries();
+
+        // Assert
+        assertEquals(List.of("session.start", "shift.close", LatencyReport.TOTAL),
+                summaries.stream().map(OperationSummary::getOperation).toList());
+        OperationSummary sessionStart = summaries.get(0);
+        assertEquals(100, sessionStart.getCount());
+        assertEquals(10.0, sessionStart.getThroughputPerSecond(), 0.001);
+        assertEquals(50_000, sessionStart.getP50Micros(), 50);
+        assertEquals(99_000, sessionStart.getP99Micros(), 100);
+        assertEquals(100_000, sessionStart.getMaxMicros(), 100);
+        OperationSummary total = summaries.get(2);
+        assertEquals(101, total.getCount());
+        assertEquals(1, total.getErrors());
+        assertEquals(500_000, total.getMaxMicros(), 500);
+    }
+
+    @Test
+    void reset_discardsWarmupRecordings() {
+        // Arrange
+        OperationLatencies latencies = new OperationLatencies();
+        latencies.record("dashboard.snapshot", TimeUnit.SECONDS.toNanos(3));
+        latencies.recordError("dashboard.snapshot");
+
+        // Act
+        latencies.reset();
+        latencies.record("dashboard.snapshot", TimeUnit.MILLISECONDS.toNanos(4));
+
+        // Assert
+        OperationSummary summary = latencies.report(TimeUnit.SECONDS.toNanos(1)).getSummaries().get(0);
+        assertEquals(1, summary.getCount());
+        assertEquals(0, summary.getErrors());
+        assertEquals(4_000, summary.getMaxMicros(), 10);
+    }
+
+    @Test
+    void format_printsOneLinePerOperationInMilliseconds() {
+        // Arrange
+        OperationLatencies latencies = new OperationLatencies();
+        latencies.record("session.end", TimeUnit.MILLISECONDS.toNanos(2));
+
+        // Act
+        String table = latencies.report(TimeUnit.SECONDS.toNanos(1)).format();
+
+        // Assert
+        String[] lines = table.split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("operation"));
+        assertTrue(lines[1].startsWith("session.end"));
+        assertTrue(lines[1].contains("2.00"));
+        assertTrue(lines[2].startsWith(LatencyReport.TOTAL));
+    }
+}
@@ -2,6 +2,7 @@ package edu.csudh.lsu.persistence.model.activity;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import edu.csudh.lsu.persistence.model.common.ClientUuidGenerator;
 import edu.csudh.lsu.persistence.model.common.Common;
 import lombok.ToString;
 import jakarta.persistence.*;
@@ -23,7 +24,7 @@ public class Activity extends Common {
     @GeneratedValue(generator = "UUID")
     @GenericGenerator(
             name = "UUID",
-            strategy = "org.hibernate.id.UUIDGenerator"
+            strategy = ClientUuidGenerator.STRATEGY
     )
     @Column(name = "ID", updatable = true, nullable = false)
     @Getter @Setter
@@ -0,0 +1,25 @@
+package edu.csudh.lsu.persistence.model.common;
+
+import edu.csudh.lsu.persistence.utils.UuidUtils;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Hibernate id generator backed by {@link UuidUtils#randomUuid()}, which draws from lock-striped
+ * {@code L64X128MixRandom} generators, instead of the shared {@code SecureRandom} used by
+ * {@code org.hibernate.id.UUIDGenerator}. Ids assigned by the services before saving are kept as they are.
+ */
+public class ClientUuidGenerator implements IdentifierGenerator {
+
+    public static final String STRATEGY = "edu.csudh.lsu.persistence.model.common.ClientUuidGenerator";
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return UuidUtils.randomUuid();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import edu.csudh.lsu.persistence.model.View;
+import edu.csudh.lsu.persistence.model.common.ClientUuidGenerator;
 import edu.csudh.lsu.persistence.model.common.Common;
 
 import jakarta.persistence.*;
@@ -21,7 +22,9 @@ import java.util.UUID;
 
 @ToString
 @Entity
-@Table(name = "SHIFT_REPORT")
+@Table(name = "SHIFT_REPORT", uniqueConstraints = @UniqueConstraint(
+        name = "UK_SHIFT_REPORT_CLOSING_SHIFT_DATE_ATTENDANT_NAME",
+        columnNames = {"CLOSING_SHIFT_DATE", "ATTENDANT_NAME"}))
 @JsonDeserialize
 @JsonSerialize
 @NoArgsConstructor
@@ -31,11 +34,11 @@ public class ShiftReport extends Common {
     @Getter
     @Setter
     @JsonView(View.Json.class)
-    @Column(name = "SHIFT_REPORT_TD", nullable = false)
+    @Column(name = "SHIFT_REPORT_ID", nullable = false)
     @GeneratedValue(generator = "UUID")
     @GenericGenerator(
             name = "UUID",
-            strategy = "org.hibernate.id.UUIDGenerator"
+            strategy = ClientUuidGenerator.STRATEGY
     )
     @Id
     private UUID shiftReportId;
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import edu.csudh.lsu.persistence.model.View;
+import edu.csudh.lsu.persistence.model.common.ClientUuidGenerator;
 import edu.csudh.lsu.persistence.model.common.Common;
 import lombok.ToString;
 import jakarta.persistence.*;
@@ -20,7 +21,8 @@ import java.util.UUID;
 
 @ToString
 @Entity
-@Table(name = "SHIFT_TOTAL")
+@Table(name = "SHIFT_TOTAL", uniqueConstraints = @UniqueConstraint(
+        name = "UK_SHIFT_TOTAL_IDEMPOTENCY_KEY", columnNames = "IDEMPOTENCY_KEY"))
 @JsonDeserialize
 @JsonSerialize
 @NoArgsConstructor
@@ -34,11 +36,17 @@ public class ShiftTotal extends Common {
     @GeneratedValue(generator = "UUID")
     @GenericGenerator(
             name = "UUID",
-            strategy = "org.hibernate.id.UUIDGenerator"
+            strategy = ClientUuidGenerator.STRATEGY
     )
     @Id
     private UUID id;
 
+    @Getter
+    @Setter
+    @JsonView(View.Json.class)
+    @Column(name = "IDEMPOTENCY_KEY", nullable = false, updatable = false)
+    private String idempotencyKey;  // Client supplied key, resubmitting the same key never creates a second row
+
     @Getter
     @Setter
     @JsonView(View.Json.class)
@@ -70,11 +78,13 @@ public class ShiftTotal extends Common {
     private String paymentMode;
 
     @Getter
+    @Setter
     @JsonView(View.Json.class)
     @Column(name = "START_TIME", nullable = false)
     private Time startTime;
 
     @Getter
+    @Setter
     @JsonView(View.Json.class)
     @Column(name = "DATE", nullable = false)
     private Date date;
@@ -0,0 +1,59 @@
+package edu.csudh.lsu.persistence.utils;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * <p>
+ * Databases the native SQL in this library is written for.
+ * </p>
+ *
+ * <p>
+ * Production runs on CockroachDB. H2 is only used by tests and does not understand {@code UPSERT} or
+ * {@code RETURNING}, so statements that rely on them pick the H2 equivalent when this resolves to {@link #H2}.
+ * Every other dialect is treated as CockroachDB.
+ * </p>
+ *
+ * <p>
+ * {@link #resolve(EntityManager)} and {@link #from(Dialect)} need Hibernate, which only the JPA library brings;
+ * {@link #fromProductName(String)} maps the product name reported by JDBC metadata.
+ * </p>
+ */
+public enum DatabaseDialect {
+
+    COCKROACHDB,
+    H2;
+
+    /**
+     * Method to resolve the dialect of the database behind an entity manager.
+     *
+     * @param entityManager Entity manager to inspect
+     * @return DatabaseDialect
+     */
+    public static DatabaseDialect resolve(EntityManager entityManager) {
+        var sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        return from(sessionFactory.getJdbcServices().getDialect());
+    }
+
+    /**
+     * Method to map a Hibernate dialect to the database it targets.
+     *
+     * @param dialect Hibernate dialect
+     * @return DatabaseDialect
+     */
+    public static DatabaseDialect from(Dialect dialect) {
+        return dialect instanceof H2Dialect ? H2 : COCKROACHDB;
+    }
+
+    /**
+     * Method to map a database product name, as reported by JDBC or R2DBC metadata, to the database it names.
+     *
+     * @param productName Database product name, e.g. {@code H2} or {@code PostgreSQL}
+     * @return DatabaseDialect
+     */
+    public static DatabaseDialect fromProductName(String productName) {
+        return productName != null && productName.trim().equalsIgnoreCase("H2") ? H2 : COCKROACHDB;
+    }
+}
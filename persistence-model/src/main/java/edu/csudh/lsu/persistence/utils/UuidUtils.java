@@ -0,0 +1,118 @@
+package edu.csudh.lsu.persistence.utils;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * <p>
+ * Class to generate entity ids on the client side.
+ * </p>
+ *
+ * <p>
+ * {@link UUID#randomUUID()} draws from one shared {@code SecureRandom}, which serialises concurrent writers and can
+ * block on entropy in containers. Ids only need to be unique and evenly spread across CockroachDB ranges, not
+ * unpredictable, so version-4 UUIDs are built here from a fixed set of {@code L64X128MixRandom} generators instead.
+ * The generators are split from one root, seeded once from {@link SecureRandom} when the class loads, so no id ever
+ * touches the entropy pool.
+ * </p>
+ *
+ * <p>
+ * The generators are striped rather than kept per thread: services run their work on a new virtual thread per task,
+ * and a per-thread generator would be built and seeded again for almost every id. A thread hashes its id to a
+ * stripe and moves on to the next free one if that stripe is busy, so writers rarely wait for each other.
+ * </p>
+ *
+ * <p>
+ * A 64-bit generator such as {@code ThreadLocalRandom} can only produce 2^64 different pairs of longs, far fewer than
+ * the 2^122 random bits of a UUID. {@code L64X128MixRandom} has 192 bits of state and is 2-dimensionally
+ * equidistributed, so the two longs of an id take every 128-bit value over its period; split generators are
+ * statistically independent of each other.
+ * </p>
+ *
+ * <p>
+ * Ids from this class must not be used as secrets or tokens.
+ * </p>
+ */
+public class UuidUtils {
+
+    private static final long VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    private static final long VERSION_4 = 0x0000000000004000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+
+    private static final String ALGORITHM = "L64X128MixRandom";
+    private static final int SEED_BYTES = 32;  // Four longs, the whole state of the generator
+    private static final Stripe[] STRIPES = newStripes(Runtime.getRuntime().availableProcessors() * 4);
+
+    private UuidUtils() {
+    }
+
+    /**
+     * Method to generate a random version-4 UUID without contention between threads.
+     *
+     * @return UUID
+     */
+    public static UUID randomUuid() {
+        Stripe stripe = lockStripe(Thread.currentThread().threadId());
+        long mostSignificantBits;
+        long leastSignificantBits;
+        try {
+            mostSignificantBits = stripe.generator.nextLong();
+            leastSignificantBits = stripe.generator.nextLong();
+        } finally {
+            stripe.unlock();
+        }
+        return new UUID((mostSignificantBits & VERSION_MASK) | VERSION_4,
+                (leastSignificantBits & VARIANT_MASK) | VARIANT_IETF);
+    }
+
+    /**
+     * @return Number of generators ids are drawn from, a power of two.
+     */
+    static int stripeCount() {
+        return STRIPES.length;
+    }
+
+    private static Stripe lockStripe(long threadId) {
+        int mask = STRIPES.length - 1;
+        // Fibonacci hashing spreads consecutive thread ids over the stripes
+        int home = (int) ((threadId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        for (int i = 0; i < STRIPES.length; i++) {
+            Stripe stripe = STRIPES[(home + i) & mask];
+            if (stripe.tryLock()) {
+                return stripe;
+            }
+        }
+        Stripe stripe = STRIPES[home];
+        stripe.lock();
+        return stripe;
+    }
+
+    private static Stripe[] newStripes(int minimumCount) {
+        int count = Integer.highestOneBit(Math.max(1, minimumCount - 1)) << 1;
+        byte[] seed = new byte[SEED_BYTES];
+        new SecureRandom().nextBytes(seed);
+        SplittableGenerator root = RandomGeneratorFactory.<SplittableGenerator>of(ALGORITHM).create(seed);
+        Stripe[] stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(root.split());
+        }
+        return stripes;
+    }
+
+    /**
+     * One generator and the lock guarding it; the generators are not thread safe.
+     */
+    private static final class Stripe extends ReentrantLock {
+
+        private final RandomGenerator generator;
+
+        private Stripe(RandomGenerator generator) {
+            this.generator = generator;
+        }
+    }
+}
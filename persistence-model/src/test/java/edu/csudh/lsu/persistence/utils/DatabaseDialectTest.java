@@ -0,0 +1,56 @@
+package edu.csudh.lsu.persistence.utils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DatabaseDialectTest {
+
+    @Test
+    void from_whenH2Dialect_returnsH2() {
+        assertEquals(DatabaseDialect.H2, DatabaseDialect.from(new H2Dialect()));
+    }
+
+    @Test
+    void from_whenOtherDialect_returnsCockroachDb() {
+        assertEquals(DatabaseDialect.COCKROACHDB, DatabaseDialect.from(new CockroachDialect()));
+        assertEquals(DatabaseDialect.COCKROACHDB, DatabaseDialect.from(new PostgreSQLDialect()));
+    }
+
+    @Test
+    void fromProductName_mapsH2AndTreatsEverythingElseAsCockroachDb() {
+        assertEquals(DatabaseDialect.H2, DatabaseDialect.fromProductName("H2"));
+        assertEquals(DatabaseDialect.COCKROACHDB, DatabaseDialect.fromProductName("PostgreSQL"));
+        assertEquals(DatabaseDialect.COCKROACHDB, DatabaseDialect.fromProductName(null));
+    }
+
+    @Test
+    void resolve_readsDialectFromSessionFactory() {
+        // Arrange
+        EntityManager entityManager = entityManagerWith(new H2Dialect());
+
+        // Act & Assert
+        assertEquals(DatabaseDialect.H2, DatabaseDialect.resolve(entityManager));
+    }
+
+    private static EntityManager entityManagerWith(Dialect dialect) {
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class, withSettings().withoutAnnotations());
+        JdbcServices jdbcServices = mock(JdbcServices.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getJdbcServices()).thenReturn(jdbcServices);
+        when(jdbcServices.getDialect()).thenReturn(dialect);
+        return entityManager;
+    }
+}
@@ -0,0 +1,112 @@
+package edu.csudh.lsu.persistence.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidUtilsTest {
+
+    @Test
+    void randomUuid_returnsVersion4IetfVariant() {
+        for (int i = 0; i < 10_000; i++) {
+            UUID uuid = UuidUtils.randomUuid();
+            assertEquals(4, uuid.version(), "Should be a random (version 4) UUID");
+            assertEquals(2, uuid.variant(), "Should use the IETF variant");
+        }
+    }
+
+    @Test
+    void randomUuid_roundTripsThroughString() {
+        // Arrange
+        UUID uuid = UuidUtils.randomUuid();
+
+        // Act & Assert
+        assertEquals(uuid, UUID.fromString(uuid.toString()));
+    }
+
+    @Test
+    void randomUuid_spreadsLeadingByteUniformly() {
+        // Arrange
+        int samples = 256 * 400;
+        int[] buckets = new int[256];
+
+        // Act
+        for (int i = 0; i < samples; i++) {
+            buckets[(int) (UuidUtils.randomUuid().getMostSignificantBits() >>> 56)]++;
+        }
+
+        // Assert - chi-square with 255 degrees of freedom stays well below 400 for a uniform source
+        double expected = samples / 256.0;
+        double chiSquare = 0;
+        for (int count : buckets) {
+            chiSquare += (count - expected) * (count - expected) / expected;
+        }
+        assertTrue(chiSquare < 400, "Leading byte should be uniformly distributed, chi-square was " + chiSquare);
+    }
+
+    @Test
+    void randomUuid_fromManyThreads_producesUniqueIds() throws InterruptedException {
+        // Arrange
+        int threads = 8;
+        int idsPerThread = 10_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // Act
+        for (int thread = 0; thread < threads; thread++) {
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(UuidUtils.randomUuid());
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        boolean finished = done.await(1, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        // Assert
+        assertTrue(finished, "Generating threads did not finish in time");
+        assertEquals(threads * idsPerThread, ids.size(), "Every generated id should be unique");
+    }
+
+    @Test
+    void randomUuid_fromVirtualThreadPerTask_producesUniqueIds() throws InterruptedException {
+        // Arrange
+        int tasks = 20_000;
+        int idsPerTask = 5;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        // Act, one virtual thread per task as in AsyncPersistenceExecutor
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int task = 0; task < tasks; task++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < idsPerTask; i++) {
+                        ids.add(UuidUtils.randomUuid());
+                    }
+                });
+            }
+        }
+
+        // Assert
+        assertEquals(tasks * idsPerTask, ids.size(), "Every generated id should be unique");
+    }
+
+    @Test
+    void stripeCount_isPowerOfTwoOfAtLeastFourPerProcessor() {
+        int stripes = UuidUtils.stripeCount();
+        assertEquals(0, stripes & (stripes - 1));
+        assertTrue(stripes >= Runtime.getRuntime().availableProcessors() * 4);
+    }
+}
@@ -0,0 +1,72 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.r2dbc.support.R2dbcBindings;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.sql.Time;
+
+/**
+ * <p>
+ * Base class of the reactive repositories, holding the client the statements are executed with.
+ * </p>
+ */
+abstract class AbstractReactiveRepository {
+
+    protected final DatabaseClient databaseClient;
+
+    /**
+     * Constructor for AbstractReactiveRepository.
+     *
+     * @param databaseClient Client the statements are executed with
+     */
+    protected AbstractReactiveRepository(DatabaseClient databaseClient) {
+        Assert.notNull(databaseClient, "Database client must not be null.");
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Method to run one of the single column UPDATE statements, which all take the new value, the audit columns and
+     * the key of the row.
+     *
+     * @param sql             UPDATE statement
+     * @param valueName       Name of the parameter holding the new value
+     * @param value           New value
+     * @param valueType       Type of the new value
+     * @param keyName         Name of the parameter holding the key of the row
+     * @param key             Key of the row to update
+     * @param lastUpdatedDate Date of the update
+     * @param lastUpdatedTime Time of the update
+     * @param lastUpdatedBy   User making the update
+     * @param accessedBy      User accessing the row
+     * @return Number of rows updated
+     */
+    protected Mono<Long> updateColumn(String sql, String valueName, Object value, Class<?> valueType, String keyName,
+                                      Object key, Date lastUpdatedDate, Time lastUpdatedTime, String lastUpdatedBy,
+                                      String accessedBy) {
+        Assert.notNull(key, "Key must not be null.");
+        GenericExecuteSpec spec = databaseClient.sql(sql).bind(keyName, key);
+        spec = R2dbcBindings.bind(spec, valueName, value, valueType);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedDate", lastUpdatedDate, Date.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedTime", lastUpdatedTime, Time.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedBy", lastUpdatedBy, String.class);
+        spec = R2dbcBindings.bind(spec, "accessedBy", accessedBy, String.class);
+        return spec.fetch().rowsUpdated();
+    }
+
+    /**
+     * Method to ask the driver to fetch rows in batches of the given size, so a large result set is pulled from the
+     * database as the subscriber requests it instead of all at once.
+     *
+     * @param spec      Statement to configure
+     * @param fetchSize Rows per batch
+     * @return GenericExecuteSpec
+     */
+    protected static GenericExecuteSpec withFetchSize(GenericExecuteSpec spec, int fetchSize) {
+        Assert.isTrue(fetchSize > 0, "Fetch size must be positive.");
+        return spec.filter(statement -> statement.fetchSize(fetchSize));
+    }
+}
@@ -0,0 +1,90 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.r2dbc.support.R2dbcBindings;
+import edu.csudh.lsu.persistence.r2dbc.support.RowMappers;
+import edu.csudh.lsu.persistence.utils.UuidUtils;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.UUID;
+
+/**
+ * <p>
+ * Reactive counterpart of the JPA ActivityRepository, running the same native statements through R2DBC.
+ * </p>
+ */
+@Repository
+public class ReactiveActivityRepository extends AbstractReactiveRepository {
+
+    private static final String COLUMNS = "ID, ACTIVITY, CATEGORY, PRICE, IMAGE_LOCATION, CREATED_TIME, CREATED_DATE, LAST_UPDATED_DATE, LAST_UPDATED_TIME, LAST_UPDATED_BY, ACCESSED_BY";
+    private static final String VALUES = ":id, :activity, :category, :price, :imageLocation, :createdTime, :createdDate, :lastUpdatedDate, :lastUpdatedTime, :lastUpdatedBy, :accessedBy";
+
+    // Upsert an activity in a single statement
+    private static final String UPSERT_ACTIVITY = "UPSERT INTO ACTIVITY (" + COLUMNS + ") VALUES (" + VALUES + ")";
+    private static final String GET_ALL_CATEGORIES = "SELECT DISTINCT CATEGORY FROM ACTIVITY";
+    private static final String DELETE_ACTIVITY_BY_ID = "DELETE FROM ACTIVITY WHERE ID = :id";
+    private static final String FIND_ALL = "SELECT * FROM ACTIVITY ORDER BY CATEGORY, ACTIVITY, ID";
+
+    /**
+     * Constructor for ReactiveActivityRepository.
+     *
+     * @param databaseClient Client the statements are executed with
+     */
+    public ReactiveActivityRepository(DatabaseClient databaseClient) {
+        super(databaseClient);
+    }
+
+    /**
+     * Inserts or replaces the activity in a single statement. A missing id is generated and set on the given
+     * Activity once the row is written.
+     *
+     * @param activity Activity to upsert
+     * @return Number of rows written
+     */
+    public Mono<Long> upsertActivity(Activity activity) {
+        Assert.notNull(activity, "Activity must not be null.");
+        // Set on the activity only after the write, the returned Mono may fail or never be subscribed
+        UUID id = activity.getId() != null ? activity.getId() : UuidUtils.randomUuid();
+        GenericExecuteSpec spec = databaseClient.sql(UPSERT_ACTIVITY);
+        spec = R2dbcBindings.bind(spec, "id", id, UUID.class);
+        spec = R2dbcBindings.bind(spec, "activity", activity.getActivity(), String.class);
+        spec = R2dbcBindings.bind(spec, "category", activity.getCategory(), String.class);
+        spec = R2dbcBindings.bind(spec, "price", activity.getPrice(), String.class);
+        spec = R2dbcBindings.bind(spec, "imageLocation", activity.getImageLocation(), String.class);
+        spec = R2dbcBindings.bind(spec, "createdTime", activity.getCreatedTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "createdDate", activity.getCreatedDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedDate", activity.getLastUpdatedDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedTime", activity.getLastUpdatedTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedBy", activity.getLastUpdatedBy(), String.class);
+        spec = R2dbcBindings.bind(spec, "accessedBy", activity.getAccessedBy(), String.class);
+        return spec.fetch().rowsUpdated().doOnNext(rows -> activity.setId(id));
+    }
+
+    // List of categories
+    public Flux<String> getAllCategories() {
+        return databaseClient.sql(GET_ALL_CATEGORIES).map(row -> row.get("CATEGORY", String.class)).all();
+    }
+
+    // Delete an activity by ID
+    public Mono<Long> deleteActivityById(UUID id) {
+        return databaseClient.sql(DELETE_ACTIVITY_BY_ID).bind("id", id).fetch().rowsUpdated();
+    }
+
+    /**
+     * Streams every activity. Rows are fetched from the database in batches of {@code fetchSize} as the subscriber
+     * requests them.
+     *
+     * @param fetchSize Rows fetched from the database per batch
+     * @return Activities ordered by category and name
+     */
+    public Flux<Activity> streamAllActivities(int fetchSize) {
+        return withFetchSize(databaseClient.sql(FIND_ALL), fetchSize).map(RowMappers::activity).all();
+    }
+}
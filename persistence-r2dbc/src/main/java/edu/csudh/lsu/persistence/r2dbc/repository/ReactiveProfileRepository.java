@@ -0,0 +1,120 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.r2dbc.support.R2dbcBindings;
+import edu.csudh.lsu.persistence.r2dbc.support.RowMappers;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.sql.Time;
+
+/**
+ * <p>
+ * Reactive counterpart of the JPA ProfileRepository, running the same native statements through R2DBC.
+ * </p>
+ */
+@Repository
+public class ReactiveProfileRepository extends AbstractReactiveRepository {
+
+    private static final String COLUMNS = "USER_ID, USER_PASSWORD, FIRST_NAME, LAST_NAME, ROLE, PERMISSION, CREATED_TIME, CREATED_DATE, LAST_UPDATED_BY, ACCESSED_BY";
+    private static final String VALUES = ":userId, :userPassword, :firstName, :lastName, :role, :permission, :createdTime, :createdDate, :lastUpdatedBy, :accessedBy";
+
+    // Upsert a profile
+    private static final String UPSERT_PROFILE = "UPSERT INTO PROFILE (" + COLUMNS + ") VALUES (" + VALUES + ")";
+    private static final String DELETE_PROFILE = "DELETE FROM PROFILE WHERE USER_ID = :userId";
+    private static final String FIND_ALL_PROFILES = "SELECT * FROM PROFILE ORDER BY USER_ID";
+
+    private static final String UPDATE_PASSWORD = "UPDATE PROFILE SET USER_PASSWORD = :userPassword, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId";
+    private static final String UPDATE_FIRST_NAME = "UPDATE PROFILE SET FIRST_NAME = :firstName, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId";
+    private static final String UPDATE_LAST_NAME = "UPDATE PROFILE SET LAST_NAME = :lastName, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId";
+    private static final String UPDATE_ROLE = "UPDATE PROFILE SET ROLE = :role, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId";
+    private static final String UPDATE_PERMISSION = "UPDATE PROFILE SET PERMISSION = :permission, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId";
+
+    /**
+     * Constructor for ReactiveProfileRepository.
+     *
+     * @param databaseClient Client the statements are executed with
+     */
+    public ReactiveProfileRepository(DatabaseClient databaseClient) {
+        super(databaseClient);
+    }
+
+    /**
+     * Inserts or replaces the profile in a single statement.
+     *
+     * @param profile Profile to upsert
+     * @return Number of rows written
+     */
+    public Mono<Long> upsertProfile(Profile profile) {
+        Assert.notNull(profile, "Profile must not be null.");
+        Assert.hasText(profile.getUserId(), "User ID must not be empty.");
+        GenericExecuteSpec spec = databaseClient.sql(UPSERT_PROFILE);
+        spec = R2dbcBindings.bind(spec, "userId", profile.getUserId(), String.class);
+        spec = R2dbcBindings.bind(spec, "userPassword", profile.getUserPassword(), String.class);
+        spec = R2dbcBindings.bind(spec, "firstName", profile.getFirstName(), String.class);
+        spec = R2dbcBindings.bind(spec, "lastName", profile.getLastName(), String.class);
+        spec = R2dbcBindings.bind(spec, "role", profile.getRole(), String.class);
+        spec = R2dbcBindings.bind(spec, "permission", profile.getPermission(), String.class);
+        spec = R2dbcBindings.bind(spec, "createdTime", profile.getCreatedTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "createdDate", profile.getCreatedDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedBy", profile.getLastUpdatedBy(), String.class);
+        spec = R2dbcBindings.bind(spec, "accessedBy", profile.getAccessedBy(), String.class);
+        return spec.fetch().rowsUpdated();
+    }
+
+    // Delete a profile
+    public Mono<Long> deleteProfile(String userId) {
+        return databaseClient.sql(DELETE_PROFILE).bind("userId", userId).fetch().rowsUpdated();
+    }
+
+    /**
+     * Streams every profile. Rows are fetched from the database in batches of {@code fetchSize} as the subscriber
+     * requests them.
+     *
+     * @param fetchSize Rows fetched from the database per batch
+     * @return Profiles ordered by user ID
+     */
+    public Flux<Profile> findAllProfiles(int fetchSize) {
+        return withFetchSize(databaseClient.sql(FIND_ALL_PROFILES), fetchSize).map(RowMappers::profile).all();
+    }
+
+    // Update password
+    public Mono<Long> updatePassword(String userId, String userPassword, String lastUpdatedBy, Date lastUpdatedDate,
+                                     Time lastUpdatedTime, String accessedBy) {
+        return updateColumn(UPDATE_PASSWORD, "userPassword", userPassword, String.class, "userId", userId,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update first name
+    public Mono<Long> updateFirstName(String userId, String firstName, String lastUpdatedBy, Date lastUpdatedDate,
+                                      Time lastUpdatedTime, String accessedBy) {
+        return updateColumn(UPDATE_FIRST_NAME, "firstName", firstName, String.class, "userId", userId,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update last name
+    public Mono<Long> updateLastName(String userId, String lastName, String lastUpdatedBy, Date lastUpdatedDate,
+                                     Time lastUpdatedTime, String accessedBy) {
+        return updateColumn(UPDATE_LAST_NAME, "lastName", lastName, String.class, "userId", userId,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update role
+    public Mono<Long> updateRole(String userId, String role, String lastUpdatedBy, Date lastUpdatedDate,
+                                 Time lastUpdatedTime, String accessedBy) {
+        return updateColumn(UPDATE_ROLE, "role", role, String.class, "userId", userId,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update permission
+    public Mono<Long> updatePermission(String userId, String permission, String lastUpdatedBy, Date lastUpdatedDate,
+                                       Time lastUpdatedTime, String accessedBy) {
+        return updateColumn(UPDATE_PERMISSION, "permission", permission, String.class, "userId", userId,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+}
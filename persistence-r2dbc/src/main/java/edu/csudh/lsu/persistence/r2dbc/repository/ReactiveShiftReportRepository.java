@@ -0,0 +1,203 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.r2dbc.support.R2dbcBindings;
+import edu.csudh.lsu.persistence.r2dbc.support.RowMappers;
+import edu.csudh.lsu.persistence.utils.UuidUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.UUID;
+
+/**
+ * <p>
+ * Reactive counterpart of the JPA ShiftReportRepository, running the same native statements through R2DBC.
+ * </p>
+ */
+@Repository
+public class ReactiveShiftReportRepository extends AbstractReactiveRepository {
+
+    private static final String COLUMNS = "SHIFT_REPORT_ID, CLOSING_SHIFT_DATE, CLOSING_SHIFT_TIME, ATTENDANT_NAME, RECONCILOR_NAME, RECONCILOR_SIGN, ATTENDANT_SIGN, REVENUE_IN_CARD, REVENUE_IN_CASH, SHIFT_TOTAL, OPENING_BALANCE, CREATED_TIME, CREATED_DATE, LAST_UPDATED_DATE, LAST_UPDATED_TIME, LAST_UPDATED_BY, ACCESSED_BY";
+    private static final String VALUES = ":shiftReportId, :closingShiftDate, :closingShiftTime, :attendantName, :reconcilorName, :reconcilorSign, :attendantSign, :revenueInCard, :revenueInCash, :shiftTotal, :openingBalance, :createdTime, :createdDate, :lastUpdatedDate, :lastUpdatedTime, :lastUpdatedBy, :accessedBy";
+
+    // Upsert a shift report keyed by its natural key (closing shift date, attendant name) and return the stored row;
+    // a resubmission with the same figures and signatures writes nothing
+    private static final String UPSERT_SHIFT_REPORT = "WITH up AS (INSERT INTO SHIFT_REPORT (" + COLUMNS + ") VALUES (" + VALUES + ") " +
+            "ON CONFLICT (CLOSING_SHIFT_DATE, ATTENDANT_NAME) DO UPDATE SET CLOSING_SHIFT_TIME = excluded.CLOSING_SHIFT_TIME, RECONCILOR_NAME = excluded.RECONCILOR_NAME, " +
+            "RECONCILOR_SIGN = excluded.RECONCILOR_SIGN, ATTENDANT_SIGN = excluded.ATTENDANT_SIGN, REVENUE_IN_CARD = excluded.REVENUE_IN_CARD, REVENUE_IN_CASH = excluded.REVENUE_IN_CASH, " +
+            "SHIFT_TOTAL = excluded.SHIFT_TOTAL, OPENING_BALANCE = excluded.OPENING_BALANCE, LAST_UPDATED_DATE = excluded.LAST_UPDATED_DATE, " +
+            "LAST_UPDATED_TIME = excluded.LAST_UPDATED_TIME, LAST_UPDATED_BY = excluded.LAST_UPDATED_BY, ACCESSED_BY = excluded.ACCESSED_BY " +
+            "WHERE (SHIFT_REPORT.RECONCILOR_NAME, SHIFT_REPORT.RECONCILOR_SIGN, SHIFT_REPORT.ATTENDANT_SIGN, SHIFT_REPORT.REVENUE_IN_CARD, SHIFT_REPORT.REVENUE_IN_CASH, SHIFT_REPORT.SHIFT_TOTAL, SHIFT_REPORT.OPENING_BALANCE) " +
+            "IS DISTINCT FROM (excluded.RECONCILOR_NAME, excluded.RECONCILOR_SIGN, excluded.ATTENDANT_SIGN, excluded.REVENUE_IN_CARD, excluded.REVENUE_IN_CASH, excluded.SHIFT_TOTAL, excluded.OPENING_BALANCE) RETURNING *) " +
+            "SELECT * FROM up UNION ALL SELECT * FROM SHIFT_REPORT WHERE CLOSING_SHIFT_DATE = :closingShiftDate AND ATTENDANT_NAME = :attendantName AND NOT EXISTS (SELECT 1 FROM up)";
+    private static final String FIND_BY_NATURAL_KEY = "SELECT * FROM SHIFT_REPORT WHERE CLOSING_SHIFT_DATE = :closingShiftDate AND ATTENDANT_NAME = :attendantName";
+
+    private static final String UPDATE_CLOSING_SHIFT_DATE = "UPDATE SHIFT_REPORT SET CLOSING_SHIFT_DATE = :closingShiftDate, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_CLOSING_SHIFT_TIME = "UPDATE SHIFT_REPORT SET CLOSING_SHIFT_TIME = :closingShiftTime, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_ATTENDANT_NAME = "UPDATE SHIFT_REPORT SET ATTENDANT_NAME = :attendantName, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_RECONCILOR_NAME = "UPDATE SHIFT_REPORT SET RECONCILOR_NAME = :reconcilorName, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_RECONCILOR_SIGN = "UPDATE SHIFT_REPORT SET RECONCILOR_SIGN = :reconcilorSign, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_ATTENDANT_SIGN = "UPDATE SHIFT_REPORT SET ATTENDANT_SIGN = :attendantSign, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_REVENUE_IN_CARD = "UPDATE SHIFT_REPORT SET REVENUE_IN_CARD = :revenueInCard, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_REVENUE_IN_CASH = "UPDATE SHIFT_REPORT SET REVENUE_IN_CASH = :revenueInCash, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_SHIFT_TOTAL = "UPDATE SHIFT_REPORT SET SHIFT_TOTAL = :shiftTotal, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String UPDATE_OPENING_BALANCE = "UPDATE SHIFT_REPORT SET OPENING_BALANCE = :openingBalance, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId";
+    private static final String DELETE_SHIFT_REPORT = "DELETE FROM SHIFT_REPORT WHERE SHIFT_REPORT_ID = :shiftReportId";
+
+    private static final String FIND_ALL = "SELECT * FROM SHIFT_REPORT ORDER BY CLOSING_SHIFT_DATE, CLOSING_SHIFT_TIME, SHIFT_REPORT_ID";
+
+    /**
+     * Constructor for ReactiveShiftReportRepository.
+     *
+     * @param databaseClient Client the statements are executed with
+     */
+    public ReactiveShiftReportRepository(DatabaseClient databaseClient) {
+        super(databaseClient);
+    }
+
+    /**
+     * Inserts the shift report, or updates the report of the same attendant and closing date when its figures or
+     * signatures differ, and emits the stored row. A missing id is generated. Once the row is stored the given
+     * ShiftReport takes its values, its id included.
+     *
+     * @param shiftReport ShiftReport to upsert
+     * @return Stored ShiftReport
+     */
+    public Mono<ShiftReport> upsertShiftReport(ShiftReport shiftReport) {
+        Assert.notNull(shiftReport, "Shift report must not be null.");
+        // Only used when the natural key is new, an existing report keeps its id
+        UUID shiftReportId = shiftReport.getShiftReportId() != null
+                ? shiftReport.getShiftReportId()
+                : UuidUtils.randomUuid();
+        return bindShiftReport(databaseClient.sql(UPSERT_SHIFT_REPORT), shiftReport, shiftReportId)
+                .map(RowMappers::shiftReport)
+                .one()
+                .doOnNext(stored -> BeanUtils.copyProperties(stored, shiftReport));
+    }
+
+    /**
+     * Finds the report of an attendant for a closing date.
+     *
+     * @param closingShiftDate Closing date of the shift
+     * @param attendantName    Attendant who closed the shift
+     * @return ShiftReport, or empty if the attendant has no report for the date
+     */
+    public Mono<ShiftReport> findByNaturalKey(Date closingShiftDate, String attendantName) {
+        GenericExecuteSpec spec = databaseClient.sql(FIND_BY_NATURAL_KEY).bind("attendantName", attendantName);
+        return R2dbcBindings.bind(spec, "closingShiftDate", closingShiftDate, Date.class).map(RowMappers::shiftReport).one();
+    }
+
+    // Update the closing shift date
+    public Mono<Long> updateClosingShiftDate(UUID shiftReportId, Date closingShiftDate, Date lastUpdatedDate,
+                                             Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_CLOSING_SHIFT_DATE, "closingShiftDate", closingShiftDate, Date.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the closing shift time
+    public Mono<Long> updateClosingShiftTime(UUID shiftReportId, Time closingShiftTime, Date lastUpdatedDate,
+                                             Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_CLOSING_SHIFT_TIME, "closingShiftTime", closingShiftTime, Time.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the attendant name
+    public Mono<Long> updateAttendantName(UUID shiftReportId, String attendantName, Date lastUpdatedDate,
+                                          Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_ATTENDANT_NAME, "attendantName", attendantName, String.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the reconcilor name
+    public Mono<Long> updateReconcilorName(UUID shiftReportId, String reconcilorName, Date lastUpdatedDate,
+                                           Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_RECONCILOR_NAME, "reconcilorName", reconcilorName, String.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the reconcilor sign
+    public Mono<Long> updateReconcilorSign(UUID shiftReportId, String reconcilorSign, Date lastUpdatedDate,
+                                           Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_RECONCILOR_SIGN, "reconcilorSign", reconcilorSign, String.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the attendant sign
+    public Mono<Long> updateAttendantSign(UUID shiftReportId, String attendantSign, Date lastUpdatedDate,
+                                          Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_ATTENDANT_SIGN, "attendantSign", attendantSign, String.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the revenue in card
+    public Mono<Long> updateRevenueInCard(UUID shiftReportId, Float revenueInCard, Date lastUpdatedDate,
+                                          Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_REVENUE_IN_CARD, "revenueInCard", revenueInCard, Float.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the revenue in cash
+    public Mono<Long> updateRevenueInCash(UUID shiftReportId, Float revenueInCash, Date lastUpdatedDate,
+                                          Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_REVENUE_IN_CASH, "revenueInCash", revenueInCash, Float.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the shift total
+    public Mono<Long> updateShiftTotal(UUID shiftReportId, String shiftTotal, Date lastUpdatedDate,
+                                       Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_SHIFT_TOTAL, "shiftTotal", shiftTotal, String.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the opening balance
+    public Mono<Long> updateOpeningBalance(UUID shiftReportId, Float openingBalance, Date lastUpdatedDate,
+                                           Time lastUpdatedTime, String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_OPENING_BALANCE, "openingBalance", openingBalance, Float.class, "shiftReportId",
+                shiftReportId, lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Delete a shift report
+    public Mono<Long> deleteShiftReport(UUID shiftReportId) {
+        return databaseClient.sql(DELETE_SHIFT_REPORT).bind("shiftReportId", shiftReportId).fetch().rowsUpdated();
+    }
+
+    /**
+     * Streams every shift report. Rows are fetched from the database in batches of {@code fetchSize} as the
+     * subscriber requests them.
+     *
+     * @param fetchSize Rows fetched from the database per batch
+     * @return Shift reports ordered by closing date and time
+     */
+    public Flux<ShiftReport> streamAllShiftReports(int fetchSize) {
+        return withFetchSize(databaseClient.sql(FIND_ALL), fetchSize).map(RowMappers::shiftReport).all();
+    }
+
+    private static GenericExecuteSpec bindShiftReport(GenericExecuteSpec spec, ShiftReport shiftReport,
+                                                      UUID shiftReportId) {
+        spec = R2dbcBindings.bind(spec, "shiftReportId", shiftReportId, UUID.class);
+        spec = R2dbcBindings.bind(spec, "closingShiftDate", shiftReport.getClosingShiftDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "closingShiftTime", shiftReport.getClosingShiftTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "attendantName", shiftReport.getAttendantName(), String.class);
+        spec = R2dbcBindings.bind(spec, "reconcilorName", shiftReport.getReconcilorName(), String.class);
+        spec = R2dbcBindings.bind(spec, "reconcilorSign", shiftReport.getReconcilorSign(), String.class);
+        spec = R2dbcBindings.bind(spec, "attendantSign", shiftReport.getAttendantSign(), String.class);
+        spec = R2dbcBindings.bind(spec, "revenueInCard", shiftReport.getRevenueInCard(), Float.class);
+        spec = R2dbcBindings.bind(spec, "revenueInCash", shiftReport.getRevenueInCash(), Float.class);
+        spec = R2dbcBindings.bind(spec, "shiftTotal", shiftReport.getShiftTotal(), String.class);
+        spec = R2dbcBindings.bind(spec, "openingBalance", shiftReport.getOpeningBalance(), Float.class);
+        spec = R2dbcBindings.bind(spec, "createdTime", shiftReport.getCreatedTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "createdDate", shiftReport.getCreatedDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedDate", shiftReport.getLastUpdatedDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedTime", shiftReport.getLastUpdatedTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedBy", shiftReport.getLastUpdatedBy(), String.class);
+        return R2dbcBindings.bind(spec, "accessedBy", shiftReport.getAccessedBy(), String.class);
+    }
+}
@@ -0,0 +1,184 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.r2dbc.support.R2dbcBindings;
+import edu.csudh.lsu.persistence.r2dbc.support.RowMappers;
+import edu.csudh.lsu.persistence.utils.UuidUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>
+ * Reactive counterpart of the JPA ShiftTotalRepository, running the same native statements through R2DBC.
+ * </p>
+ */
+@Repository
+public class ReactiveShiftTotalRepository extends AbstractReactiveRepository {
+
+    private static final String COLUMNS = "ID, IDEMPOTENCY_KEY, STUDENT_NAME, ATTENDANT_NAME, ACTIVITY, COST, PAYMENT_MODE, START_TIME, DATE, DURATION, CREATED_TIME, CREATED_DATE, LAST_UPDATED_DATE, LAST_UPDATED_TIME, LAST_UPDATED_BY, ACCESSED_BY";
+    private static final String VALUES = ":id, :idempotencyKey, :studentName, :attendantName, :activity, :cost, :paymentMode, :startTime, :date, :duration, :createdTime, :createdDate, :lastUpdatedDate, :lastUpdatedTime, :lastUpdatedBy, :accessedBy";
+
+    // Insert a shift total once per idempotency key and return the stored row
+    private static final String UPSERT_SHIFT_TOTAL = "WITH ins AS (INSERT INTO SHIFT_TOTAL (" + COLUMNS + ") VALUES (" + VALUES + ") " +
+            "ON CONFLICT (IDEMPOTENCY_KEY) DO NOTHING RETURNING *) " +
+            "SELECT * FROM ins UNION ALL SELECT * FROM SHIFT_TOTAL WHERE IDEMPOTENCY_KEY = :idempotencyKey AND NOT EXISTS (SELECT 1 FROM ins)";
+    private static final String FIND_BY_IDEMPOTENCY_KEY = "SELECT * FROM SHIFT_TOTAL WHERE IDEMPOTENCY_KEY = :idempotencyKey";
+
+    private static final String UPDATE_STUDENT_NAME = "UPDATE SHIFT_TOTAL SET STUDENT_NAME = :studentName, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id";
+    private static final String UPDATE_ATTENDANT_NAME = "UPDATE SHIFT_TOTAL SET ATTENDANT_NAME = :attendantName, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id";
+    private static final String UPDATE_ACTIVITY = "UPDATE SHIFT_TOTAL SET ACTIVITY = :activity, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id";
+    private static final String UPDATE_COST = "UPDATE SHIFT_TOTAL SET COST = :cost, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id";
+    private static final String UPDATE_PAYMENT_MODE = "UPDATE SHIFT_TOTAL SET PAYMENT_MODE = :paymentMode, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id";
+    private static final String UPDATE_DURATION = "UPDATE SHIFT_TOTAL SET DURATION = :duration, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id";
+    private static final String DELETE_SHIFT_TOTAL = "DELETE FROM SHIFT_TOTAL WHERE ID = :id";
+
+    private static final String FIND_BY_DATE = "SELECT * FROM SHIFT_TOTAL WHERE DATE = :date ORDER BY START_TIME, ID";
+    private static final String TOTAL_COSTS_BY_ATTENDANT_NAME_AND_DATE = "SELECT " +
+            "attendant_name, " +
+            "SUM(CASE WHEN payment_mode = 'card' THEN CAST(cost AS DECIMAL(10,2)) ELSE 0 END) AS total_cost_card, " +
+            "SUM(CASE WHEN payment_mode = 'cash' THEN CAST(cost AS DECIMAL(10,2)) ELSE 0 END) AS total_cost_cash, " +
+            "SUM(CAST(cost AS DECIMAL(10,2))) AS total_cost " +
+            "FROM SHIFT_TOTAL " +
+            "WHERE DATE = :date " +
+            "AND attendant_name = :attendantName " +
+            "GROUP BY attendant_name";
+
+    /**
+     * Constructor for ReactiveShiftTotalRepository.
+     *
+     * @param databaseClient Client the statements are executed with
+     */
+    public ReactiveShiftTotalRepository(DatabaseClient databaseClient) {
+        super(databaseClient);
+    }
+
+    /**
+     * Inserts the shift total once per idempotency key and emits the stored row. Resubmitting a key that was already
+     * saved emits the existing row unchanged. A missing id is generated, and a missing idempotency key defaults to
+     * the id, as in ShiftTotalService. Once the row is stored the given ShiftTotal takes its values, its id included.
+     *
+     * @param shiftTotal ShiftTotal to insert
+     * @return Stored ShiftTotal
+     */
+    public Mono<ShiftTotal> upsertShiftTotal(ShiftTotal shiftTotal) {
+        Assert.notNull(shiftTotal, "Shift total must not be null.");
+        // Only used when the idempotency key is new, a resubmission keeps the id of the stored row
+        UUID id = shiftTotal.getId() != null ? shiftTotal.getId() : UuidUtils.randomUuid();
+        String idempotencyKey = shiftTotal.getIdempotencyKey() == null || shiftTotal.getIdempotencyKey().isEmpty()
+                ? id.toString()
+                : shiftTotal.getIdempotencyKey();
+        return bindShiftTotal(databaseClient.sql(UPSERT_SHIFT_TOTAL), shiftTotal, id, idempotencyKey)
+                .map(RowMappers::shiftTotal)
+                .one()
+                .doOnNext(stored -> BeanUtils.copyProperties(stored, shiftTotal));
+    }
+
+    /**
+     * Finds the shift total saved under an idempotency key.
+     *
+     * @param idempotencyKey Client supplied key
+     * @return ShiftTotal, or empty if none was saved under the key
+     */
+    public Mono<ShiftTotal> findByIdempotencyKey(String idempotencyKey) {
+        return databaseClient.sql(FIND_BY_IDEMPOTENCY_KEY)
+                .bind("idempotencyKey", idempotencyKey)
+                .map(RowMappers::shiftTotal)
+                .one();
+    }
+
+    // Update the student name
+    public Mono<Long> updateStudentName(UUID id, String studentName, Date lastUpdatedDate, Time lastUpdatedTime,
+                                        String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_STUDENT_NAME, "studentName", studentName, String.class, "id", id,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the attendant name
+    public Mono<Long> updateAttendantName(UUID id, String attendantName, Date lastUpdatedDate, Time lastUpdatedTime,
+                                          String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_ATTENDANT_NAME, "attendantName", attendantName, String.class, "id", id,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the activity
+    public Mono<Long> updateActivity(UUID id, String activity, Date lastUpdatedDate, Time lastUpdatedTime,
+                                     String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_ACTIVITY, "activity", activity, String.class, "id", id,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the cost
+    public Mono<Long> updateCost(UUID id, Float cost, Date lastUpdatedDate, Time lastUpdatedTime,
+                                 String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_COST, "cost", cost, Float.class, "id", id,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the payment mode
+    public Mono<Long> updatePaymentMode(UUID id, String paymentMode, Date lastUpdatedDate, Time lastUpdatedTime,
+                                        String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_PAYMENT_MODE, "paymentMode", paymentMode, String.class, "id", id,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Update the duration
+    public Mono<Long> updateDuration(UUID id, String duration, Date lastUpdatedDate, Time lastUpdatedTime,
+                                     String lastUpdatedBy, String accessedBy) {
+        return updateColumn(UPDATE_DURATION, "duration", duration, String.class, "id", id,
+                lastUpdatedDate, lastUpdatedTime, lastUpdatedBy, accessedBy);
+    }
+
+    // Delete a shift total
+    public Mono<Long> deleteShiftTotal(UUID id) {
+        return databaseClient.sql(DELETE_SHIFT_TOTAL).bind("id", id).fetch().rowsUpdated();
+    }
+
+    /**
+     * Streams every shift total of a date. Rows are fetched from the database in batches of {@code fetchSize} as the
+     * subscriber requests them, so a slow consumer holds back the query instead of buffering the whole day.
+     *
+     * @param date      Date to stream the shift totals of
+     * @param fetchSize Rows fetched from the database per batch
+     * @return Shift totals of the date ordered by start time
+     */
+    public Flux<ShiftTotal> streamShiftTotalsByDate(Date date, int fetchSize) {
+        GenericExecuteSpec spec = R2dbcBindings.bind(databaseClient.sql(FIND_BY_DATE), "date", date, Date.class);
+        return withFetchSize(spec, fetchSize).map(RowMappers::shiftTotal).all();
+    }
+
+    // Calculate total costs for a given attendant for a specific date
+    public Mono<Map<String, Object>> findTotalCostsByAttendantNameAndDate(String attendantName, Date date) {
+        GenericExecuteSpec spec = databaseClient.sql(TOTAL_COSTS_BY_ATTENDANT_NAME_AND_DATE).bind("attendantName", attendantName);
+        return R2dbcBindings.bind(spec, "date", date, Date.class).fetch().one();
+    }
+
+    private static GenericExecuteSpec bindShiftTotal(GenericExecuteSpec spec, ShiftTotal shiftTotal, UUID id,
+                                                     String idempotencyKey) {
+        spec = R2dbcBindings.bind(spec, "id", id, UUID.class);
+        spec = R2dbcBindings.bind(spec, "idempotencyKey", idempotencyKey, String.class);
+        spec = R2dbcBindings.bind(spec, "studentName", shiftTotal.getStudentName(), String.class);
+        spec = R2dbcBindings.bind(spec, "attendantName", shiftTotal.getAttendantName(), String.class);
+        spec = R2dbcBindings.bind(spec, "activity", shiftTotal.getActivity(), String.class);
+        spec = R2dbcBindings.bind(spec, "cost", shiftTotal.getCost(), Float.class);
+        spec = R2dbcBindings.bind(spec, "paymentMode", shiftTotal.getPaymentMode(), String.class);
+        spec = R2dbcBindings.bind(spec, "startTime", shiftTotal.getStartTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "date", shiftTotal.getDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "duration", shiftTotal.getDuration(), String.class);
+        spec = R2dbcBindings.bind(spec, "createdTime", shiftTotal.getCreatedTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "createdDate", shiftTotal.getCreatedDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedDate", shiftTotal.getLastUpdatedDate(), Date.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedTime", shiftTotal.getLastUpdatedTime(), Time.class);
+        spec = R2dbcBindings.bind(spec, "lastUpdatedBy", shiftTotal.getLastUpdatedBy(), String.class);
+        return R2dbcBindings.bind(spec, "accessedBy", shiftTotal.getAccessedBy(), String.class);
+    }
+}
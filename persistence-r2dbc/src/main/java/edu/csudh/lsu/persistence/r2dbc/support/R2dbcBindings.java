@@ -0,0 +1,57 @@
+package edu.csudh.lsu.persistence.r2dbc.support;
+
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * <p>
+ * Class to bind the values of the JPA entities to R2DBC statements.
+ * </p>
+ *
+ * <p>
+ * The entities use {@link Date} and {@link Time}, which R2DBC drivers do not accept, so they are bound as
+ * {@link LocalDate} and {@link LocalTime}. Null values must be bound with their type, which
+ * {@link GenericExecuteSpec#bind(String, Object)} does not allow.
+ * </p>
+ */
+public class R2dbcBindings {
+
+    private R2dbcBindings() {
+    }
+
+    /**
+     * Method to bind a value, or a typed null, to a named parameter.
+     *
+     * @param spec  Statement to bind to
+     * @param name  Name of the parameter without the leading colon
+     * @param value Value to bind, may be null
+     * @param type  Type of the value as declared on the entity
+     * @return GenericExecuteSpec
+     */
+    public static GenericExecuteSpec bind(GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+        if (value == null) {
+            return spec.bindNull(name, driverType(type));
+        }
+        if (value instanceof Date date) {
+            return spec.bind(name, date.toLocalDate());
+        }
+        if (value instanceof Time time) {
+            return spec.bind(name, time.toLocalTime());
+        }
+        return spec.bind(name, value);
+    }
+
+    private static Class<?> driverType(Class<?> type) {
+        if (Date.class.equals(type)) {
+            return LocalDate.class;
+        }
+        if (Time.class.equals(type)) {
+            return LocalTime.class;
+        }
+        return type;
+    }
+}
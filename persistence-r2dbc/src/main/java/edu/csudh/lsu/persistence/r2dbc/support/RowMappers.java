@@ -0,0 +1,152 @@
+package edu.csudh.lsu.persistence.r2dbc.support;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.model.common.Common;
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import io.r2dbc.spi.Readable;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * <p>
+ * Class to map R2DBC rows to the JPA entities of the library.
+ * </p>
+ *
+ * <p>
+ * Values are read without a target type and converted here, since drivers differ in the Java types they return
+ * for the same column, e.g. {@code REAL} as {@link Float} or {@link Double}.
+ * </p>
+ */
+public class RowMappers {
+
+    private RowMappers() {
+    }
+
+    /**
+     * Method to map a SHIFT_TOTAL row.
+     *
+     * @param row Row to map
+     * @return ShiftTotal
+     */
+    public static ShiftTotal shiftTotal(Readable row) {
+        ShiftTotal shiftTotal = new ShiftTotal();
+        shiftTotal.setId(toUuid(row.get("ID")));
+        shiftTotal.setIdempotencyKey(toText(row.get("IDEMPOTENCY_KEY")));
+        shiftTotal.setStudentName(toText(row.get("STUDENT_NAME")));
+        shiftTotal.setAttendantName(toText(row.get("ATTENDANT_NAME")));
+        shiftTotal.setActivity(toText(row.get("ACTIVITY")));
+        shiftTotal.setCost(toFloat(row.get("COST")));
+        shiftTotal.setPaymentMode(toText(row.get("PAYMENT_MODE")));
+        shiftTotal.setStartTime(toTime(row.get("START_TIME")));
+        shiftTotal.setDate(toDate(row.get("DATE")));
+        shiftTotal.setDuration(toText(row.get("DURATION")));
+        return withCommon(shiftTotal, row);
+    }
+
+    /**
+     * Method to map a SHIFT_REPORT row.
+     *
+     * @param row Row to map
+     * @return ShiftReport
+     */
+    public static ShiftReport shiftReport(Readable row) {
+        ShiftReport shiftReport = new ShiftReport();
+        shiftReport.setShiftReportId(toUuid(row.get("SHIFT_REPORT_ID")));
+        shiftReport.setClosingShiftDate(toDate(row.get("CLOSING_SHIFT_DATE")));
+        shiftReport.setClosingShiftTime(toTime(row.get("CLOSING_SHIFT_TIME")));
+        shiftReport.setAttendantName(toText(row.get("ATTENDANT_NAME")));
+        shiftReport.setReconcilorName(toText(row.get("RECONCILOR_NAME")));
+        shiftReport.setReconcilorSign(toText(row.get("RECONCILOR_SIGN")));
+        shiftReport.setAttendantSign(toText(row.get("ATTENDANT_SIGN")));
+        shiftReport.setRevenueInCard(toFloat(row.get("REVENUE_IN_CARD")));
+        shiftReport.setRevenueInCash(toFloat(row.get("REVENUE_IN_CASH")));
+        shiftReport.setShiftTotal(toText(row.get("SHIFT_TOTAL")));
+        shiftReport.setOpeningBalance(toFloat(row.get("OPENING_BALANCE")));
+        return withCommon(shiftReport, row);
+    }
+
+    /**
+     * Method to map an ACTIVITY row.
+     *
+     * @param row Row to map
+     * @return Activity
+     */
+    public static Activity activity(Readable row) {
+        Activity activity = new Activity();
+        activity.setId(toUuid(row.get("ID")));
+        activity.setActivity(toText(row.get("ACTIVITY")));
+        activity.setCategory(toText(row.get("CATEGORY")));
+        activity.setPrice(toText(row.get("PRICE")));
+        activity.setImageLocation(toText(row.get("IMAGE_LOCATION")));
+        return withCommon(activity, row);
+    }
+
+    /**
+     * Method to map a PROFILE row.
+     *
+     * @param row Row to map
+     * @return Profile
+     */
+    public static Profile profile(Readable row) {
+        Profile profile = new Profile();
+        profile.setUserId(toText(row.get("USER_ID")));
+        profile.setUserPassword(toText(row.get("USER_PASSWORD")));
+        profile.setFirstName(toText(row.get("FIRST_NAME")));
+        profile.setLastName(toText(row.get("LAST_NAME")));
+        profile.setRole(toText(row.get("ROLE")));
+        profile.setPermission(toText(row.get("PERMISSION")));
+        return withCommon(profile, row);
+    }
+
+    private static <T extends Common> T withCommon(T entity, Readable row) {
+        entity.setCreatedTime(toTime(row.get("CREATED_TIME")));
+        entity.setCreatedDate(toDate(row.get("CREATED_DATE")));
+        entity.setLastUpdatedDate(toDate(row.get("LAST_UPDATED_DATE")));
+        entity.setLastUpdatedTime(toTime(row.get("LAST_UPDATED_TIME")));
+        entity.setLastUpdatedBy(toText(row.get("LAST_UPDATED_BY")));
+        entity.setAccessedBy(toText(row.get("ACCESSED_BY")));
+        return entity;
+    }
+
+    static UUID toUuid(Object value) {
+        if (value == null || value instanceof UUID) {
+            return (UUID) value;
+        }
+        return UUID.fromString(value.toString());
+    }
+
+    static String toText(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    static Float toFloat(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Number number ? number.floatValue() : Float.valueOf(value.toString());
+    }
+
+    static Date toDate(Object value) {
+        if (value == null || value instanceof Date) {
+            return (Date) value;
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return Date.valueOf(localDateTime.toLocalDate());
+        }
+        return Date.valueOf((LocalDate) value);
+    }
+
+    static Time toTime(Object value) {
+        if (value == null || value instanceof Time) {
+            return (Time) value;
+        }
+        return Time.valueOf((LocalTime) value);
+    }
+}
@@ -0,0 +1,34 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.UUID;
+
+/**
+ * Creates a fresh in-memory r2dbc-h2 database with the schema of the library for each test.
+ */
+final class R2dbcTestDatabase {
+
+    private R2dbcTestDatabase() {
+    }
+
+    /**
+     * Creates a database the repositories run their production CockroachDB statements against, rewritten for H2 by
+     * {@link H2CompatibilityConnectionFactory}.
+     */
+    static DatabaseClient createWithCockroachDbStatements() {
+        return DatabaseClient.create(new H2CompatibilityConnectionFactory(createConnectionFactory()));
+    }
+
+    private static ConnectionFactory createConnectionFactory() {
+        // DB_CLOSE_DELAY keeps the database alive between the connections opened for each statement
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(connectionFactory).block();
+        return connectionFactory;
+    }
+}
@@ -0,0 +1,78 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveActivityRepositoryTest {
+
+    private ReactiveActivityRepository reactiveActivityRepository;
+
+    @BeforeEach
+    void setUp() {
+        reactiveActivityRepository = new ReactiveActivityRepository(R2dbcTestDatabase.createWithCockroachDbStatements());
+    }
+
+    @Test
+    void upsertActivity_whenIdReused_replacesRow() {
+        // Arrange
+        Activity activity = createActivity("8 Ball", "Pool");
+        reactiveActivityRepository.upsertActivity(activity).block();
+        activity.setPrice("3.00");
+
+        // Act & Assert
+        StepVerifier.create(reactiveActivityRepository.upsertActivity(activity))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(reactiveActivityRepository.streamAllActivities(10))
+                .assertNext(stored -> {
+                    assertEquals(activity.getId(), stored.getId());
+                    assertEquals("3.00", stored.getPrice());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getAllCategories_emitsEachCategoryOnce() {
+        // Arrange
+        reactiveActivityRepository.upsertActivity(createActivity("8 Ball", "Pool"))
+                .then(reactiveActivityRepository.upsertActivity(createActivity("9 Ball", "Pool")))
+                .then(reactiveActivityRepository.upsertActivity(createActivity("PS5", "Console")))
+                .block();
+
+        // Act
+        List<String> categories = reactiveActivityRepository.getAllCategories().collectList().block();
+
+        // Assert
+        assertNotNull(categories);
+        assertEquals(2, categories.size());
+        assertTrue(categories.containsAll(List.of("Pool", "Console")));
+    }
+
+    @Test
+    void deleteActivityById_removesRow() {
+        // Arrange
+        Activity activity = createActivity("8 Ball", "Pool");
+        reactiveActivityRepository.upsertActivity(activity).block();
+
+        // Act & Assert
+        StepVerifier.create(reactiveActivityRepository.deleteActivityById(activity.getId()))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(reactiveActivityRepository.streamAllActivities(10))
+                .verifyComplete();
+    }
+
+    private static Activity createActivity(String name, String category) {
+        Activity activity = new Activity();
+        activity.setActivity(name);
+        activity.setCategory(category);
+        activity.setPrice("2.50");
+        return activity;
+    }
+}
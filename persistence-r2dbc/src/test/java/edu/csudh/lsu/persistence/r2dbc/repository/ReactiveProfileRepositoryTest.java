@@ -0,0 +1,90 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveProfileRepositoryTest {
+
+    private static final Date DATE = Date.valueOf(LocalDate.of(2024, 8, 6));
+    private static final Time TIME = Time.valueOf(LocalTime.of(9, 15));
+
+    private ReactiveProfileRepository reactiveProfileRepository;
+
+    @BeforeEach
+    void setUp() {
+        reactiveProfileRepository = new ReactiveProfileRepository(R2dbcTestDatabase.createWithCockroachDbStatements());
+    }
+
+    @Test
+    void upsertProfile_thenFindAllProfiles_emitsStoredProfile() {
+        // Act & Assert
+        StepVerifier.create(reactiveProfileRepository.upsertProfile(createProfile("jdoe")))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(reactiveProfileRepository.findAllProfiles(10))
+                .assertNext(stored -> {
+                    assertEquals("jdoe", stored.getUserId());
+                    assertEquals("ATTENDANT", stored.getRole());
+                    assertEquals(DATE, stored.getCreatedDate());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateRole_updatesRowAndAuditColumns() {
+        // Arrange
+        reactiveProfileRepository.upsertProfile(createProfile("jdoe")).block();
+
+        // Act & Assert
+        StepVerifier.create(reactiveProfileRepository.updateRole("jdoe", "MANAGER", "admin", DATE, TIME, "admin"))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(reactiveProfileRepository.findAllProfiles(10))
+                .assertNext(stored -> {
+                    assertEquals("MANAGER", stored.getRole());
+                    assertEquals("admin", stored.getLastUpdatedBy());
+                    assertEquals(TIME, stored.getLastUpdatedTime());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteProfile_removesRow() {
+        // Arrange
+        reactiveProfileRepository.upsertProfile(createProfile("jdoe")).block();
+
+        // Act & Assert
+        StepVerifier.create(reactiveProfileRepository.deleteProfile("jdoe"))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(reactiveProfileRepository.findAllProfiles(10))
+                .verifyComplete();
+    }
+
+    @Test
+    void upsertProfile_whenUserIdMissing_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> reactiveProfileRepository.upsertProfile(new Profile()));
+    }
+
+    private static Profile createProfile(String userId) {
+        Profile profile = new Profile();
+        profile.setUserId(userId);
+        profile.setUserPassword("secret");
+        profile.setFirstName("John");
+        profile.setLastName("Doe");
+        profile.setRole("ATTENDANT");
+        profile.setPermission("{}");
+        profile.setCreatedDate(DATE);
+        profile.setCreatedTime(TIME);
+        return profile;
+    }
+}
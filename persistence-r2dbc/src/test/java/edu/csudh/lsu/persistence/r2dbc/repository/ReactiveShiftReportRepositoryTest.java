@@ -0,0 +1,139 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveShiftReportRepositoryTest {
+
+    private static final Date DATE = Date.valueOf(LocalDate.of(2024, 8, 6));
+    private static final Time TIME = Time.valueOf(LocalTime.of(22, 0));
+
+    private ReactiveShiftReportRepository reactiveShiftReportRepository;
+
+    @BeforeEach
+    void setUp() {
+        reactiveShiftReportRepository = new ReactiveShiftReportRepository(R2dbcTestDatabase.createWithCockroachDbStatements());
+    }
+
+    @Test
+    void upsertShiftReport_whenNew_emitsStoredRow() {
+        // Act & Assert
+        StepVerifier.create(reactiveShiftReportRepository.upsertShiftReport(createShiftReport("Jane", 100.0f)))
+                .assertNext(stored -> {
+                    assertNotNull(stored.getShiftReportId());
+                    assertEquals(DATE, stored.getClosingShiftDate());
+                    assertEquals(TIME, stored.getClosingShiftTime());
+                    assertEquals(100.0f, stored.getRevenueInCard());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void upsertShiftReport_whenNaturalKeyExists_updatesSameRow() {
+        // Arrange
+        ShiftReport first = reactiveShiftReportRepository.upsertShiftReport(createShiftReport("Jane", 100.0f)).block();
+        ShiftReport second = createShiftReport("Jane", 150.0f);
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftReportRepository.upsertShiftReport(second))
+                .assertNext(stored -> {
+                    assertEquals(first.getShiftReportId(), stored.getShiftReportId());
+                    assertEquals(150.0f, stored.getRevenueInCard());
+                })
+                .verifyComplete();
+        StepVerifier.create(reactiveShiftReportRepository.streamAllShiftReports(10).count())
+                .expectNext(1L)
+                .verifyComplete();
+        assertEquals(first.getShiftReportId(), second.getShiftReportId());
+    }
+
+    @Test
+    void upsertShiftReport_whenResubmittedUnchanged_emitsStoredRowWithoutUpdatingIt() {
+        // Arrange
+        ShiftReport first = reactiveShiftReportRepository.upsertShiftReport(createShiftReport("Jane", 100.0f)).block();
+        ShiftReport resubmitted = createShiftReport("Jane", 100.0f);
+        resubmitted.setLastUpdatedBy("kiosk retry");
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftReportRepository.upsertShiftReport(resubmitted))
+                .assertNext(stored -> {
+                    assertEquals(first.getShiftReportId(), stored.getShiftReportId());
+                    assertEquals(first.getLastUpdatedBy(), stored.getLastUpdatedBy());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void updateRevenueInCash_updatesRowAndAuditColumns() {
+        // Arrange
+        ShiftReport stored = reactiveShiftReportRepository.upsertShiftReport(createShiftReport("Jane", 100.0f)).block();
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftReportRepository.updateRevenueInCash(stored.getShiftReportId(), 42.0f, DATE, TIME, "john", "john"))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(reactiveShiftReportRepository.findByNaturalKey(DATE, "Jane"))
+                .assertNext(updated -> {
+                    assertEquals(42.0f, updated.getRevenueInCash());
+                    assertEquals("john", updated.getLastUpdatedBy());
+                    assertEquals(DATE, updated.getLastUpdatedDate());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteShiftReport_removesRow() {
+        // Arrange
+        ShiftReport stored = reactiveShiftReportRepository.upsertShiftReport(createShiftReport("Jane", 100.0f)).block();
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftReportRepository.deleteShiftReport(stored.getShiftReportId()))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(reactiveShiftReportRepository.findByNaturalKey(DATE, "Jane"))
+                .verifyComplete();
+    }
+
+    @Test
+    void streamAllShiftReports_emitsOnlyWhatSubscriberRequests() {
+        // Arrange
+        reactiveShiftReportRepository.upsertShiftReport(createShiftReport("Jane", 1.0f))
+                .then(reactiveShiftReportRepository.upsertShiftReport(createShiftReport("John", 2.0f)))
+                .then(reactiveShiftReportRepository.upsertShiftReport(createShiftReport("Jim", 3.0f)))
+                .block();
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftReportRepository.streamAllShiftReports(1), 1)
+                .expectNextCount(1)
+                .thenRequest(1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+    }
+
+    private static ShiftReport createShiftReport(String attendantName, Float revenueInCard) {
+        ShiftReport shiftReport = new ShiftReport();
+        shiftReport.setClosingShiftDate(DATE);
+        shiftReport.setClosingShiftTime(TIME);
+        shiftReport.setAttendantName(attendantName);
+        shiftReport.setReconcilorName("Manager");
+        shiftReport.setReconcilorSign("signed");
+        shiftReport.setAttendantSign("signed");
+        shiftReport.setRevenueInCard(revenueInCard);
+        shiftReport.setRevenueInCash(10.0f);
+        shiftReport.setShiftTotal("110.0");
+        shiftReport.setOpeningBalance(50.0f);
+        shiftReport.setCreatedDate(DATE);
+        shiftReport.setCreatedTime(TIME);
+        return shiftReport;
+    }
+}
@@ -0,0 +1,148 @@
+package edu.csudh.lsu.persistence.r2dbc.repository;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactiveShiftTotalRepositoryTest {
+
+    private static final Date DATE = Date.valueOf(LocalDate.of(2024, 8, 6));
+    private static final Time TIME = Time.valueOf(LocalTime.of(14, 30));
+
+    private ReactiveShiftTotalRepository reactiveShiftTotalRepository;
+
+    @BeforeEach
+    void setUp() {
+        reactiveShiftTotalRepository = new ReactiveShiftTotalRepository(R2dbcTestDatabase.createWithCockroachDbStatements());
+    }
+
+    @Test
+    void upsertShiftTotal_whenNew_emitsStoredRowWithGeneratedId() {
+        // Arrange
+        ShiftTotal shiftTotal = createShiftTotal("kiosk-1-request-1", 5.0f, "card");
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftTotalRepository.upsertShiftTotal(shiftTotal))
+                .assertNext(stored -> {
+                    assertNotNull(stored.getId());
+                    assertEquals(shiftTotal.getId(), stored.getId());
+                    assertEquals("kiosk-1-request-1", stored.getIdempotencyKey());
+                    assertEquals(5.0f, stored.getCost());
+                    assertEquals(DATE, stored.getDate());
+                    assertEquals(TIME, stored.getStartTime());
+                    assertNull(stored.getLastUpdatedBy());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void upsertShiftTotal_whenKeyResubmitted_emitsExistingRowUnchanged() {
+        // Arrange
+        ShiftTotal first = reactiveShiftTotalRepository.upsertShiftTotal(createShiftTotal("kiosk-1-request-1", 5.0f, "card")).block();
+        ShiftTotal retry = createShiftTotal("kiosk-1-request-1", 9.0f, "cash");
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftTotalRepository.upsertShiftTotal(retry))
+                .assertNext(stored -> {
+                    assertEquals(first.getId(), stored.getId());
+                    assertEquals(5.0f, stored.getCost());
+                })
+                .verifyComplete();
+        StepVerifier.create(reactiveShiftTotalRepository.streamShiftTotalsByDate(DATE, 10).count())
+                .expectNext(1L)
+                .verifyComplete();
+        assertEquals(first.getId(), retry.getId());
+        StepVerifier.create(reactiveShiftTotalRepository.updateStudentName(retry.getId(), "Student 2", DATE, TIME, "jane", "jane"))
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    void updateCost_updatesRowAndAuditColumns() {
+        // Arrange
+        ShiftTotal stored = reactiveShiftTotalRepository.upsertShiftTotal(createShiftTotal(null, 5.0f, "card")).block();
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftTotalRepository.updateCost(stored.getId(), 7.5f, DATE, TIME, "jane", "jane"))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(reactiveShiftTotalRepository.findByIdempotencyKey(stored.getId().toString()))
+                .assertNext(updated -> {
+                    assertEquals(7.5f, updated.getCost());
+                    assertEquals("jane", updated.getLastUpdatedBy());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteShiftTotal_whenUnknownId_updatesNothing() {
+        StepVerifier.create(reactiveShiftTotalRepository.deleteShiftTotal(UUID.randomUUID()))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamShiftTotalsByDate_emitsOnlyWhatSubscriberRequests() {
+        // Arrange
+        Flux.range(0, 50)
+                .concatMap(i -> reactiveShiftTotalRepository.upsertShiftTotal(createShiftTotal("request-" + i, 1.0f, "cash")))
+                .blockLast();
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftTotalRepository.streamShiftTotalsByDate(DATE, 10), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .thenRequest(5)
+                .expectNextCount(5)
+                .thenCancel()
+                .verify();
+        StepVerifier.create(reactiveShiftTotalRepository.streamShiftTotalsByDate(DATE, 10).count())
+                .expectNext(50L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findTotalCostsByAttendantNameAndDate_sumsCostsByPaymentMode() {
+        // Arrange
+        reactiveShiftTotalRepository.upsertShiftTotal(createShiftTotal("request-1", 4.0f, "card"))
+                .then(reactiveShiftTotalRepository.upsertShiftTotal(createShiftTotal("request-2", 2.5f, "cash")))
+                .block();
+
+        // Act & Assert
+        StepVerifier.create(reactiveShiftTotalRepository.findTotalCostsByAttendantNameAndDate("Jane", DATE))
+                .assertNext(totals -> {
+                    assertEquals(0, new BigDecimal("4.00").compareTo(new BigDecimal(totals.get("TOTAL_COST_CARD").toString())));
+                    assertEquals(0, new BigDecimal("2.50").compareTo(new BigDecimal(totals.get("TOTAL_COST_CASH").toString())));
+                    assertEquals(0, new BigDecimal("6.50").compareTo(new BigDecimal(totals.get("TOTAL_COST").toString())));
+                })
+                .verifyComplete();
+    }
+
+    private static ShiftTotal createShiftTotal(String idempotencyKey, Float cost, String paymentMode) {
+        ShiftTotal shiftTotal = new ShiftTotal();
+        shiftTotal.setIdempotencyKey(idempotencyKey);
+        shiftTotal.setStudentName("John Doe");
+        shiftTotal.setAttendantName("Jane");
+        shiftTotal.setActivity("Pool");
+        shiftTotal.setCost(cost);
+        shiftTotal.setPaymentMode(paymentMode);
+        shiftTotal.setStartTime(TIME);
+        shiftTotal.setDate(DATE);
+        shiftTotal.setDuration("30");
+        shiftTotal.setCreatedDate(DATE);
+        shiftTotal.setCreatedTime(TIME);
+        return shiftTotal;
+    }
+}
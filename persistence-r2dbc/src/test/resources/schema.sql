@@ -0,0 +1,71 @@
+-- H2 schema matching the JPA entities, used by the R2DBC repository tests
+
+CREATE TABLE IF NOT EXISTS SHIFT_TOTAL (
+    ID UUID NOT NULL PRIMARY KEY,
+    IDEMPOTENCY_KEY VARCHAR(255) NOT NULL,
+    STUDENT_NAME VARCHAR(255) NOT NULL,
+    ATTENDANT_NAME VARCHAR(255) NOT NULL,
+    ACTIVITY VARCHAR(255) NOT NULL,
+    COST REAL NOT NULL,
+    PAYMENT_MODE VARCHAR(255) NOT NULL,
+    START_TIME TIME NOT NULL,
+    DATE DATE NOT NULL,
+    DURATION VARCHAR(255) NOT NULL,
+    CREATED_TIME TIME,
+    CREATED_DATE DATE,
+    LAST_UPDATED_DATE DATE,
+    LAST_UPDATED_TIME TIME,
+    LAST_UPDATED_BY VARCHAR(255),
+    ACCESSED_BY VARCHAR(255),
+    CONSTRAINT UK_SHIFT_TOTAL_IDEMPOTENCY_KEY UNIQUE (IDEMPOTENCY_KEY)
+);
+
+CREATE TABLE IF NOT EXISTS SHIFT_REPORT (
+    SHIFT_REPORT_ID UUID NOT NULL PRIMARY KEY,
+    CLOSING_SHIFT_DATE DATE NOT NULL,
+    CLOSING_SHIFT_TIME TIME NOT NULL,
+    ATTENDANT_NAME VARCHAR(255) NOT NULL,
+    RECONCILOR_NAME VARCHAR(255) NOT NULL,
+    RECONCILOR_SIGN VARCHAR(255) NOT NULL,
+    ATTENDANT_SIGN VARCHAR(255) NOT NULL,
+    REVENUE_IN_CARD REAL NOT NULL,
+    REVENUE_IN_CASH REAL NOT NULL,
+    SHIFT_TOTAL VARCHAR(255) NOT NULL,
+    OPENING_BALANCE REAL NOT NULL,
+    CREATED_TIME TIME,
+    CREATED_DATE DATE,
+    LAST_UPDATED_DATE DATE,
+    LAST_UPDATED_TIME TIME,
+    LAST_UPDATED_BY VARCHAR(255),
+    ACCESSED_BY VARCHAR(255),
+    CONSTRAINT UK_SHIFT_REPORT_CLOSING_SHIFT_DATE_ATTENDANT_NAME UNIQUE (CLOSING_SHIFT_DATE, ATTENDANT_NAME)
+);
+
+CREATE TABLE IF NOT EXISTS ACTIVITY (
+    ID UUID NOT NULL PRIMARY KEY,
+    ACTIVITY VARCHAR(255) NOT NULL,
+    CATEGORY VARCHAR(255) NOT NULL,
+    PRICE TEXT,
+    IMAGE_LOCATION VARCHAR(255),
+    CREATED_TIME TIME,
+    CREATED_DATE DATE,
+    LAST_UPDATED_DATE DATE,
+    LAST_UPDATED_TIME TIME,
+    LAST_UPDATED_BY VARCHAR(255),
+    ACCESSED_BY VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS PROFILE (
+    USER_ID VARCHAR(255) NOT NULL PRIMARY KEY,
+    USER_PASSWORD VARCHAR(255) NOT NULL,
+    FIRST_NAME VARCHAR(255) NOT NULL,
+    LAST_NAME VARCHAR(255) NOT NULL,
+    ROLE VARCHAR(255) NOT NULL,
+    PERMISSION VARCHAR(255) NOT NULL,
+    CREATED_TIME TIME,
+    CREATED_DATE DATE,
+    LAST_UPDATED_DATE DATE,
+    LAST_UPDATED_TIME TIME,
+    LAST_UPDATED_BY VARCHAR(255),
+    ACCESSED_BY VARCHAR(255)
+);
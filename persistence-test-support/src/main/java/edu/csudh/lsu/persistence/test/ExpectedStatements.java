@@ -0,0 +1,52 @@
+package edu.csudh.lsu.persistence.test;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Statement budget of a test: the test fails when the code it runs issues more statements than budgeted, which is how
+ * an N+1 query or an extra pre-select shows up.
+ * </p>
+ *
+ * <pre>{@code
+ * @Test
+ * @ExpectedStatements(writes = 1, reads = 0)
+ * void saveShiftTotal_writesWithOneStatement(PersistenceTestDatabase database) { ... }
+ * }</pre>
+ *
+ * <p>
+ * Statements are counted from the start of the test method, or from the last
+ * {@link PersistenceTestDatabase#resetStatementCounts()} call, until its end; statements run through
+ * {@link PersistenceTestDatabase#withoutCounting} are not counted. Budgets are upper bounds; a negative value leaves
+ * that count unchecked. On a test class the annotation is the default of every test method.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@ExtendWith(PersistenceTestExtension.class)
+public @interface ExpectedStatements {
+
+    int UNCHECKED = -1;
+
+    /**
+     * @return Maximum number of SELECT statements.
+     */
+    int reads() default UNCHECKED;
+
+    /**
+     * @return Maximum number of INSERT, UPSERT, UPDATE, DELETE and other non SELECT statements.
+     */
+    int writes() default UNCHECKED;
+
+    /**
+     * @return Maximum number of statements of any kind.
+     */
+    int total() default UNCHECKED;
+}
@@ -0,0 +1,133 @@
+package edu.csudh.lsu.persistence.test;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Rewrites the CockroachDB-only statements of the repositories into their H2 equivalent, so the real repositories
+ * run on H2 with the same number of statements.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@code UPSERT INTO t (...) VALUES (...)} becomes {@code MERGE INTO t (...) VALUES (...)}, keyed on the
+ *     primary key like UPSERT, and {@code UPSERT ... RETURNING *} becomes {@code SELECT * FROM FINAL TABLE (MERGE
+ *     ...)}</li>
+ *     <li>{@code INSERT INTO t (...) VALUES (...) ON CONFLICT (k) DO NOTHING} becomes
+ *     {@code MERGE INTO t existing USING (VALUES (...)) excluded (...) ON existing.k = excluded.k WHEN NOT MATCHED
+ *     THEN INSERT ...}, which leaves a conflicting row untouched</li>
+ *     <li>{@code ON CONFLICT (k) DO UPDATE SET ...} becomes the same MERGE with {@code WHEN MATCHED THEN UPDATE SET
+ *     ...}, so only the listed columns change and {@code excluded.c} names the proposed value as in CockroachDB</li>
+ *     <li>{@code DO UPDATE SET ... WHERE c} becomes {@code WHEN MATCHED AND c THEN UPDATE SET ...}, with the columns
+ *     of the existing row, qualified by the table name in CockroachDB, qualified by {@code existing}</li>
+ *     <li>{@code RETURNING *} wraps the MERGE in {@code SELECT * FROM FINAL TABLE (...)}</li>
+ *     <li>{@code WITH ins AS (INSERT ... ON CONFLICT (k) DO NOTHING RETURNING *) SELECT * FROM ins UNION ALL
+ *     SELECT * FROM t WHERE c AND NOT EXISTS (SELECT 1 FROM ins)}, the insert-or-read of an idempotent write, becomes
+ *     {@code SELECT * FROM FINAL TABLE (MERGE ...) WHERE c}; H2 has no data-modifying common table expressions, so a
+ *     conflicting row is matched with a no-op update of its key, which returns it unchanged, and the condition keeps
+ *     its parameters. The insert may also be a conditional {@code DO UPDATE}, whose update then comes first and the
+ *     no-op update catches the rows it leaves out</li>
+ * </ul>
+ *
+ * <p>
+ * The column, conflict and {@code VALUES} lists of an {@code INSERT} are matched with regular expressions, which
+ * cannot count parentheses, so their items may hold one level of parentheses of their own, such as {@code now()} or
+ * {@code CAST(? AS UUID)}, but no more. {@code VALUES} may list several rows. A statement of any other shape is
+ * passed on unchanged, so it fails on H2 instead of running as something it is not.
+ * </p>
+ */
+public class H2CompatibilityStatementInspector implements StatementInspector {
+
+    // A parenthesized list whose items may hold one level of parentheses, as in now() or CAST(? AS UUID)
+    private static final String LIST = "\\((?:[^()]|\\([^()]*\\))*\\)";
+    private static final Pattern UPSERT = Pattern.compile("(?i)^\\s*UPSERT\\s+INTO\\b");
+    private static final Pattern RETURNING_ALL = Pattern.compile("(?i)\\s+RETURNING\\s+\\*\\s*$");
+    private static final Pattern INSERT_ON_CONFLICT = Pattern.compile("(?is)^\\s*INSERT\\s+INTO\\s+([\\w.\"]+)\\s*"
+            + "(" + LIST + ")\\s*(VALUES\\s*" + LIST + "(?:\\s*,\\s*" + LIST + ")*)\\s*ON\\s+CONFLICT\\s*(" + LIST + ")\\s*"
+            + "DO\\s+(?:NOTHING|UPDATE\\s+SET\\s+(.*?)(?:\\s+WHERE\\s+(.*?))?)(\\s+RETURNING\\s+\\*)?\\s*$");
+    private static final Pattern INSERT_OR_SELECT = Pattern.compile("(?is)^\\s*WITH\\s+(\\w+)\\s+AS\\s*\\((.*)\\)\\s*"
+            + "SELECT\\s+\\*\\s+FROM\\s+\\1\\s+UNION\\s+ALL\\s+SELECT\\s+\\*\\s+FROM\\s+[\\w.\"]+\\s+WHERE\\s+(.*?)\\s+"
+            + "AND\\s+NOT\\s+EXISTS\\s*\\(\\s*SELECT\\s+1\\s+FROM\\s+\\1\\s*\\)\\s*$");
+
+    @Override
+    public String inspect(String sql) {
+        return rewrite(sql);
+    }
+
+    /**
+     * Method to rewrite a statement for H2.
+     *
+     * @param sql SQL as generated for CockroachDB
+     * @return SQL H2 runs with the same effect on the statement count, the given SQL if it needs no rewrite
+     */
+    public static String rewrite(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        Matcher insertOrSelect = INSERT_OR_SELECT.matcher(sql);
+        if (insertOrSelect.matches()) {
+            Matcher insert = INSERT_ON_CONFLICT.matcher(insertOrSelect.group(2));
+            if (insert.matches() && (insert.group(5) == null || insert.group(6) != null)) {
+                String key = columns(insert.group(4))[0];
+                String unchanged = "WHEN MATCHED THEN UPDATE SET " + key + " = existing." + key;
+                String whenMatched = insert.group(5) == null ? unchanged : whenMatched(insert) + " " + unchanged;
+                return "SELECT * FROM FINAL TABLE (" + merge(insert, whenMatched) + ") WHERE " + insertOrSelect.group(3);
+            }
+        }
+        Matcher insertOnConflict = INSERT_ON_CONFLICT.matcher(sql);
+        if (insertOnConflict.matches()) {
+            String merge = merge(insertOnConflict, insertOnConflict.group(5) == null ? null : whenMatched(insertOnConflict));
+            return insertOnConflict.group(7) == null ? merge : "SELECT * FROM FINAL TABLE (" + merge + ")";
+        }
+        Matcher upsert = UPSERT.matcher(sql);
+        if (upsert.lookingAt()) {
+            String merge = "MERGE INTO" + sql.substring(upsert.end());
+            Matcher returning = RETURNING_ALL.matcher(merge);
+            return returning.find() ? "SELECT * FROM FINAL TABLE (" + returning.replaceFirst("") + ")" : merge;
+        }
+        return sql;
+    }
+
+    /**
+     * Method to build the {@code WHEN MATCHED} clause of a matched {@code ON CONFLICT DO UPDATE}.
+     *
+     * @param insert matched insert with an update
+     * @return clause updating the listed columns, only when the condition of the update holds if it has one
+     */
+    private static String whenMatched(Matcher insert) {
+        String condition = insert.group(6) == null ? ""
+                : " AND " + insert.group(6).replaceAll("(?i)(?<![\\w.\"])" + Pattern.quote(insert.group(1)) + "\\.", "existing.");
+        return "WHEN MATCHED" + condition + " THEN UPDATE SET " + insert.group(5);
+    }
+
+    /**
+     * Method to build the MERGE of a matched {@code INSERT ... ON CONFLICT}, inserting the proposed row when no row
+     * has its conflict columns.
+     *
+     * @param insert matched insert
+     * @param whenMatched clauses acting on a conflicting row, {@code null} to leave it untouched
+     * @return MERGE statement
+     */
+    private static String merge(Matcher insert, String whenMatched) {
+        String[] conflictColumns = columns(insert.group(4));
+        StringJoiner on = new StringJoiner(" AND ");
+        for (String column : conflictColumns) {
+            on.add("existing." + column + " = excluded." + column);
+        }
+        StringJoiner values = new StringJoiner(", ", "(", ")");
+        for (String column : columns(insert.group(2))) {
+            values.add("excluded." + column);
+        }
+        return "MERGE INTO " + insert.group(1) + " existing USING (" + insert.group(3) + ") excluded "
+                + insert.group(2) + " ON " + on
+                + (whenMatched == null ? "" : " " + whenMatched)
+                + " WHEN NOT MATCHED THEN INSERT " + insert.group(2) + " VALUES " + values;
+    }
+
+    private static String[] columns(String columnList) {
+        return columnList.substring(1, columnList.length() - 1).trim().split("\\s*,\\s*");
+    }
+}
@@ -0,0 +1,264 @@
+package edu.csudh.lsu.persistence.test;
+
+import edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
+import org.springframework.data.querydsl.EntityPathResolver;
+import org.springframework.data.repository.Repository;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * In-memory H2 database with the real repositories and services of the library on top, for tests that need to see
+ * the statements a service issues rather than mock its repositories.
+ * </p>
+ *
+ * <p>
+ * The schema is generated from the entities. Hibernate statistics are enabled, every prepared statement is recorded
+ * in the {@link #statementLog() statement log} and CockroachDB-only SQL is rewritten by the
+ * {@link H2CompatibilityStatementInspector}. Services are created with their {@code @Autowired} repositories and
+ * helpers wired in; collaborators that should not be real can be {@link #register(String, Object) registered} first.
+ * </p>
+ *
+ * <p>
+ * Transactions are managed by a {@link JpaTransactionManager}, and repositories and services are proxied with their
+ * {@code @Transactional} attributes as in the application: a service call runs one transaction per repository call,
+ * or one for the whole call if the service method is transactional itself. Budgets therefore include the statements
+ * that only happen across transaction boundaries, and tests call services without opening a transaction.
+ * </p>
+ */
+public class PersistenceTestDatabase implements AutoCloseable {
+
+    public static final String ENTITY_PACKAGE = "edu.csudh.lsu.persistence.model";
+    static final String TRANSACTION_MANAGER = "transactionManager";
+
+    private final StatementLog statementLog = new StatementLog();
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final JpaTransactionManager transactionManager;
+    private final TransactionTemplate transactionTemplate;
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    /**
+     * Constructor for PersistenceTestDatabase, creating a database of its own.
+     */
+    public PersistenceTestDatabase() {
+        this("persistence-test-" + UUID.randomUUID());
+    }
+
+    /**
+     * Constructor for PersistenceTestDatabase.
+     *
+     * @param databaseName Name of the in-memory H2 database
+     */
+    public PersistenceTestDatabase(String databaseName) {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+
+        var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(ENTITY_PACKAGE);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                AvailableSettings.HBM2DDL_AUTO, "create-drop",
+                AvailableSettings.GENERATE_STATISTICS, "true",
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                    statementLog.record(sql);
+                    return H2CompatibilityStatementInspector.rewrite(sql);
+                }));
+        factoryBean.afterPropertiesSet();
+
+        entityManagerFactory = factoryBean.getObject();
+        transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        beanFactory.registerSingleton(TRANSACTION_MANAGER, transactionManager);
+
+        // Bound to the persistence context of the current transaction, like the entity manager injected in the app
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        var autowiredProcessor = new AutowiredAnnotationBeanPostProcessor();
+        autowiredProcessor.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiredProcessor);
+
+        // Schema creation is not part of any test
+        statementLog.reset();
+    }
+
+    /**
+     * Returns the repository of the given interface, backed by this database.
+     *
+     * @param repositoryInterface Spring Data repository interface
+     * @param <R>                 Repository type
+     * @return Repository shared by every service of this database
+     */
+    public <R> R repository(Class<R> repositoryInterface) {
+        String name = repositoryInterface.getName();
+        if (!beanFactory.containsSingleton(name)) {
+            // The factory bean adds the transaction interceptor the app's repositories get, with the same attributes
+            var factoryBean = new JpaRepositoryFactoryBean<>(repositoryInterface.asSubclass(Repository.class));
+            factoryBean.setEntityManager(entityManager);
+            factoryBean.setRepositoryBaseClass(CustomRepositoryImpl.class);
+            factoryBean.setTransactionManager(TRANSACTION_MANAGER);
+            factoryBean.setBeanFactory(beanFactory);
+            factoryBean.setEntityPathResolver(beanFactory.getBeanProvider(EntityPathResolver.class));
+            factoryBean.afterPropertiesSet();
+            beanFactory.registerSingleton(name, factoryBean.getObject());
+        }
+        return beanFactory.getBean(name, repositoryInterface);
+    }
+
+    /**
+     * Creates a service with its {@code @Autowired} fields wired: repositories are backed by this database, other
+     * required collaborators are registered ones or new instances, optional ones not registered stay null. The
+     * service is proxied so that its {@code @Transactional} methods run in a transaction of their own.
+     *
+     * @param serviceClass Service class
+     * @param <S>          Service type
+     * @return New service instance
+     */
+    public <S> S service(Class<S> serviceClass) {
+        registerDependencies(serviceClass);
+        var proxyFactory = new ProxyFactory(beanFactory.createBean(serviceClass));
+        proxyFactory.setProxyTargetClass(true);
+        var transactionInterceptor = new TransactionInterceptor();
+        transactionInterceptor.setTransactionManager(transactionManager);
+        transactionInterceptor.setTransactionAttributeSource(new AnnotationTransactionAttributeSource());
+        proxyFactory.addAdvice(transactionInterceptor);
+        return serviceClass.cast(proxyFactory.getProxy(serviceClass.getClassLoader()));
+    }
+
+    /**
+     * Registers a collaborator services are wired with, e.g. a stub for an optional dependency.
+     *
+     * @param name Bean name
+     * @param bean Collaborator
+     */
+    public void register(String name, Object bean) {
+        beanFactory.registerSingleton(name, bean);
+    }
+
+    /**
+     * Runs work in one transaction and commits it, or rolls it back if the work fails. Service calls do not need it;
+     * it is meant for setup and for measuring several calls that the application runs in one transaction.
+     *
+     * @param work Work to run
+     * @param <T>  Result type
+     * @return Result of the work
+     */
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+    /**
+     * Runs work in a transaction and commits it, or rolls it back if the work fails.
+     *
+     * @param work Work to run
+     */
+    public void inTransaction(Runnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs work without recording its statements, typically a query in the Assert step that should not be charged to
+     * the budget.
+     *
+     * @param work Work to run
+     * @param <T>  Result type
+     * @return Result of the work
+     */
+    public <T> T withoutCounting(Supplier<T> work) {
+        statementLog.setPaused(true);
+        try {
+            return work.get();
+        } finally {
+            statementLog.setPaused(false);
+        }
+    }
+
+    /**
+     * @return Shared entity manager the repositories use, bound to the current transaction.
+     */
+    public EntityManager entityManager() {
+        return entityManager;
+    }
+
+    /**
+     * @return Transaction manager of the database, for components that open transactions themselves.
+     */
+    public JpaTransactionManager transactionManager() {
+        return transactionManager;
+    }
+
+    /**
+     * @return Hibernate statistics of the database, for entity and collection level counts.
+     */
+    public Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * @return Statements prepared since the start of the test or the last reset.
+     */
+    public StatementLog statementLog() {
+        return statementLog;
+    }
+
+    /**
+     * Clears the statement log and the Hibernate statistics, typically at the end of the Arrange step so that setup
+     * statements are not charged to the budget. Persistence contexts end with their transaction, so no entity loaded
+     * during setup is reused.
+     */
+    public void resetStatementCounts() {
+        statistics().clear();
+        statementLog.reset();
+    }
+
+    @Override
+    public void close() {
+        beanFactory.destroySingletons();
+        entityManagerFactory.close();
+    }
+
+    private void registerDependencies(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                Autowired autowired = field.getAnnotation(Autowired.class);
+                Class<?> dependency = field.getType();
+                if (autowired == null || beanFactory.getBeanNamesForType(dependency).length > 0) {
+                    continue;
+                }
+                if (dependency.isInterface() && Repository.class.isAssignableFrom(dependency)) {
+                    repository(dependency);
+                } else if (autowired.required() && !dependency.isInterface()) {
+                    registerDependencies(dependency);
+                    beanFactory.registerSingleton(dependency.getName(), beanFactory.createBean(dependency));
+                }
+            }
+        }
+    }
+}
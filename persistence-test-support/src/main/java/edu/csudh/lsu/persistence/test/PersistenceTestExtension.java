@@ -0,0 +1,109 @@
+package edu.csudh.lsu.persistence.test;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.Optional;
+
+/**
+ * <p>
+ * JUnit 5 extension giving each test method its own {@link PersistenceTestDatabase}, resolved as a parameter of the
+ * test and of its {@code @BeforeEach} and {@code @AfterEach} methods, and enforcing the {@link ExpectedStatements}
+ * budget of the test.
+ * </p>
+ *
+ * <p>
+ * The statement log is reset right before the test method runs, so data set up in {@code @BeforeEach} is not
+ * charged to the budget, and checked right after it, before {@code @AfterEach}. The database is closed when the test
+ * finishes.
+ * </p>
+ */
+public class PersistenceTestExtension implements ParameterResolver, BeforeTestExecutionCallback,
+        AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PersistenceTestExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == PersistenceTestDatabase.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return database(extensionContext);
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context).isPresent()) {
+            database(context).resetStatementCounts();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Optional<ExpectedStatements> budget = budget(context);
+        if (budget.isEmpty() || context.getExecutionException().isPresent()) {
+            return;
+        }
+        check(budget.get(), database(context).statementLog());
+    }
+
+    /**
+     * Method to check a statement log against a budget.
+     *
+     * @param budget       Budget of the test
+     * @param statementLog Statements issued by the test
+     * @throws AssertionFailedError if a count exceeds its budget
+     */
+    static void check(ExpectedStatements budget, StatementLog statementLog) {
+        var violations = new StringBuilder();
+        exceeds(violations, "reads", budget.reads(), statementLog.reads());
+        exceeds(violations, "writes", budget.writes(), statementLog.writes());
+        exceeds(violations, "statements", budget.total(), statementLog.total());
+        if (!violations.isEmpty()) {
+            throw new AssertionFailedError("Statement budget exceeded:" + violations
+                    + System.lineSeparator() + "Statements issued:" + statementLog.describe());
+        }
+    }
+
+    private static void exceeds(StringBuilder violations, String kind, int budget, long actual) {
+        if (budget >= 0 && actual > budget) {
+            violations.append(' ').append(actual).append(' ').append(kind).append(" (budget ").append(budget)
+                    .append(')');
+        }
+    }
+
+    private static Optional<ExpectedStatements> budget(ExtensionContext context) {
+        return context.getTestMethod()
+                .flatMap(method -> AnnotationSupport.findAnnotation(method, ExpectedStatements.class))
+                .or(() -> context.getTestClass()
+                        .flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, ExpectedStatements.class)));
+    }
+
+    private static PersistenceTestDatabase database(ExtensionContext context) {
+        return context.getStore(NAMESPACE)
+                .getOrComputeIfAbsent(PersistenceTestDatabase.class, key -> new ClosableDatabase(),
+                        ClosableDatabase.class)
+                .database;
+    }
+
+    /**
+     * Closes the database together with the extension context it was created in.
+     */
+    private static final class ClosableDatabase implements ExtensionContext.Store.CloseableResource {
+
+        private final PersistenceTestDatabase database = new PersistenceTestDatabase();
+
+        @Override
+        public void close() {
+            database.close();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package edu.csudh.lsu.persistence.test;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+
+import java.sql.Date;
+import java.sql.Time;
+
+/**
+ * <p>
+ * Shift totals as the kiosk submits them, shared by the tests and the benchmarks.
+ * </p>
+ *
+ * <p>
+ * Every column is set except the id, which is left to the service or to the persistence context; callers that need a
+ * fixed id set it themselves.
+ * </p>
+ */
+public final class ShiftTotals {
+
+    public static final Date DATE = Date.valueOf("2024-08-06");
+    public static final Time START_TIME = Time.valueOf("18:30:00");
+
+    private ShiftTotals() {
+    }
+
+    /**
+     * Method to create the shift total of a kiosk request. Requests alternate between card and cash payments and
+     * rotate over eight attendants.
+     *
+     * @param index Number of the request, which the idempotency key and the student name are derived from
+     * @return ShiftTotal without an id
+     */
+    public static ShiftTotal sample(int index) {
+        ShiftTotal shiftTotal = new ShiftTotal();
+        shiftTotal.setIdempotencyKey("request-" + index);
+        shiftTotal.setStudentName("Student " + index);
+        shiftTotal.setAttendantName("Attendant " + index % 8);
+        shiftTotal.setActivity("Pool Table");
+        shiftTotal.setCost(5.0f);
+        shiftTotal.setPaymentMode(index % 2 == 0 ? "card" : "cash");
+        shiftTotal.setStartTime(START_TIME);
+        shiftTotal.setDate(DATE);
+        shiftTotal.setDuration("30");
+        shiftTotal.setCreatedTime(START_TIME);
+        shiftTotal.setCreatedDate(DATE);
+        shiftTotal.setLastUpdatedDate(DATE);
+        shiftTotal.setLastUpdatedTime(START_TIME);
+        shiftTotal.setLastUpdatedBy("kiosk");
+        shiftTotal.setAccessedBy("kiosk");
+        return shiftTotal;
+    }
+}
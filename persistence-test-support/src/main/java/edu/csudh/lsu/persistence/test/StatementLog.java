@@ -0,0 +1,99 @@
+package edu.csudh.lsu.persistence.test;
+
+import edu.csudh.lsu.persistence.sql.SqlFingerprint;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Statements prepared by Hibernate since the log was last {@link #reset() reset}, split into reads and writes by
+ * their first keyword; a query that also changes data, such as an insert in a common table expression, is a write.
+ * </p>
+ *
+ * <p>
+ * Statements are counted when prepared, like {@code Statistics.getPrepareStatementCount()}, so a JDBC batch counts
+ * once however many rows it carries. The SQL is recorded as the repositories generate it, before the H2 rewrite.
+ * </p>
+ */
+public class StatementLog {
+
+    private static final Set<String> READ_OPERATIONS = Set.of("SELECT", "WITH", "TABLE", "SHOW");
+    // A query can still write: a common table expression can insert, and an H2 delta table wraps a MERGE
+    private static final Pattern DATA_CHANGE = Pattern.compile(
+            "(?i)\\b(INSERT\\s+INTO|UPSERT\\s+INTO|MERGE\\s+INTO|DELETE\\s+FROM|UPDATE\\s+[\\w.\"]+\\s+SET)\\b");
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private volatile boolean paused;
+
+    /**
+     * Records one prepared statement, unless recording is paused.
+     *
+     * @param sql SQL as generated by Hibernate
+     */
+    public void record(String sql) {
+        if (!paused) {
+            statements.add(sql);
+        }
+    }
+
+    void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * @return Number of statements reading rows.
+     */
+    public long reads() {
+        return statements.stream().filter(StatementLog::isRead).count();
+    }
+
+    /**
+     * @return Number of statements writing rows.
+     */
+    public long writes() {
+        return statements.size() - reads();
+    }
+
+    /**
+     * @return Number of statements.
+     */
+    public long total() {
+        return statements.size();
+    }
+
+    /**
+     * @return Copy of the recorded statements, in execution order.
+     */
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * Forgets every recorded statement.
+     */
+    public void reset() {
+        statements.clear();
+    }
+
+    /**
+     * Method to describe the recorded statements, one fingerprint per line, for assertion messages.
+     *
+     * @return Numbered fingerprints of the recorded statements
+     */
+    public String describe() {
+        var description = new StringBuilder();
+        for (int i = 0; i < statements.size(); i++) {
+            String sql = statements.get(i);
+            description.append(System.lineSeparator()).append("  ").append(i + 1).append(". ")
+                    .append(isRead(sql) ? "read  " : "write ").append(SqlFingerprint.of(sql));
+        }
+        return description.toString();
+    }
+
+    static boolean isRead(String sql) {
+        return READ_OPERATIONS.contains(SqlFingerprint.operationOf(sql)) && !DATA_CHANGE.matcher(sql).find();
+    }
+}
@@ -0,0 +1,85 @@
+package edu.csudh.lsu.persistence.test;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.repository.gamesroom.activity.ActivityRepository;
+import edu.csudh.lsu.persistence.service.ActivityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements behind an Activity write on H2. CockroachDB's UPSERT runs as the MERGE of the
+ * {@link H2CompatibilityStatementInspector}, which has the same single-statement semantics when keyed on the primary
+ * key.
+ */
+@ExtendWith(PersistenceTestExtension.class)
+class ActivityRepositoryStatementCountTest {
+
+    private ActivityRepository activityRepository;
+    private ActivityService activityService;
+
+    @BeforeEach
+    void setUp(PersistenceTestDatabase database) {
+        activityRepository = database.repository(ActivityRepository.class);
+        activityService = database.service(ActivityService.class);
+    }
+
+    @Test
+    void save_whenIdAssigned_selectsBeforeInsert(PersistenceTestDatabase database) {
+        // Arrange
+        Activity activity = createSampleActivity();
+        activity.setId(UUID.randomUUID());
+
+        // Act
+        activityRepository.save(activity);
+
+        // Assert - merge reads the row first, which is the round trip the service avoids
+        assertEquals(2, database.statementLog().total());
+    }
+
+    @Test
+    @ExpectedStatements(total = 1)
+    void saveActivity_whenIdAssigned_writesWithOneStatement(PersistenceTestDatabase database) {
+        // Arrange
+        Activity activity = createSampleActivity();
+        activity.setId(UUID.randomUUID());
+
+        // Act
+        activityService.saveActivity(activity);
+
+        // Assert
+        assertTrue(database.withoutCounting(() -> activityRepository.findById(activity.getId()).isPresent()));
+    }
+
+    @Test
+    @ExpectedStatements(total = 1)
+    void updateActivity_whenRowExists_writesWithOneStatement(PersistenceTestDatabase database) {
+        // Arrange
+        Activity activity = createSampleActivity();
+        activityService.saveActivity(activity);
+        database.resetStatementCounts();
+        activity.setPrice("5");
+
+        // Act
+        activityService.updateActivity(activity);
+
+        // Assert
+        assertEquals("5", database.withoutCounting(() -> activityRepository.findById(activity.getId()).orElseThrow().getPrice()));
+        assertEquals(1L, database.withoutCounting(() -> activityRepository.count()));
+    }
+
+    private static Activity createSampleActivity() {
+        Activity activity = new Activity();
+        activity.setActivity("Pool Table");
+        activity.setCategory("Table Activity");
+        activity.setPrice("4");
+        activity.setImageLocation("/images/sample.jpg");
+        activity.setLastUpdatedBy("user");
+        activity.setAccessedBy("user");
+        return activity;
+    }
+}
@@ -0,0 +1,84 @@
+package edu.csudh.lsu.persistence.test;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@code CustomRepositoryImpl.upsertAll} and {@code upsertAllReturning} on H2, whose UPSERT statements are rewritten
+ * by the {@link H2CompatibilityStatementInspector}.
+ */
+@ExtendWith(PersistenceTestExtension.class)
+class CustomRepositoryUpsertAllTest {
+
+    interface ShiftTotalUpsertRepository extends CustomRepository<ShiftTotal, UUID> {
+    }
+
+    private ShiftTotalUpsertRepository repository;
+
+    @BeforeEach
+    void setUp(PersistenceTestDatabase database) {
+        repository = database.repository(ShiftTotalUpsertRepository.class);
+    }
+
+    @Test
+    @ExpectedStatements(writes = 1, reads = 0)
+    void upsertAll_whenNewRows_insertsThemWithOneStatementAndReturnsThemWithIds(PersistenceTestDatabase database) {
+        // Arrange
+        List<ShiftTotal> shiftTotals = List.of(ShiftTotals.sample(1), ShiftTotals.sample(2));
+
+        // Act
+        List<ShiftTotal> upserted = repository.upsertAll(shiftTotals);
+
+        // Assert
+        assertSame(shiftTotals, upserted);
+        assertTrue(upserted.stream().allMatch(shiftTotal -> shiftTotal.getId() != null), "Ids should be assigned");
+        String statement = database.statementLog().statements().get(0);
+        assertTrue(statement.startsWith("UPSERT INTO SHIFT_TOTAL"));
+        assertFalse(statement.contains("RETURNING"));
+        assertEquals(2L, database.withoutCounting(() -> repository.count()));
+    }
+
+    @Test
+    @ExpectedStatements(writes = 1, reads = 0)
+    void upsertAllReturning_whenNewRows_returnsStoredRowsFromTheSameStatement(PersistenceTestDatabase database) {
+        // Arrange
+        ShiftTotal shiftTotal = ShiftTotals.sample(1);
+
+        // Act
+        List<ShiftTotal> upserted = repository.upsertAllReturning(List.of(shiftTotal));
+
+        // Assert
+        assertEquals(1, upserted.size());
+        assertEquals(shiftTotal.getId(), upserted.get(0).getId());
+        assertEquals(shiftTotal.getStudentName(), upserted.get(0).getStudentName());
+        assertTrue(database.statementLog().statements().get(0).endsWith("RETURNING *"));
+    }
+
+    @Test
+    @ExpectedStatements(writes = 1, reads = 0)
+    void upsertAll_whenRowsExist_updatesThemInPlace(PersistenceTestDatabase database) {
+        // Arrange
+        List<ShiftTotal> stored = repository.upsertAll(List.of(ShiftTotals.sample(1), ShiftTotals.sample(2)));
+        database.resetStatementCounts();
+        ShiftTotal changed = ShiftTotals.sample(1);
+        changed.setId(stored.get(0).getId());
+        changed.setCost(12.5f);
+
+        // Act
+        List<ShiftTotal> upserted = repository.upsertAll(List.of(changed, ShiftTotals.sample(3)));
+
+        // Assert
+        assertEquals(2, upserted.size());
+        assertEquals(3L, database.withoutCounting(() -> repository.count()));
+        ShiftTotal reloaded = database.withoutCounting(() -> repository.findById(changed.getId()).orElseThrow());
+        assertEquals(12.5f, reloaded.getCost());
+    }
+}
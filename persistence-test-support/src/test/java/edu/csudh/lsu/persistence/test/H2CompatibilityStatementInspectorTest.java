@@ -0,0 +1,101 @@
+package edu.csudh.lsu.persistence.test;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class H2CompatibilityStatementInspectorTest {
+
+    @Test
+    void rewrite_whenInsertOnConflictDoUpdateReturning_selectsFromMergeUpdatingOnlyTheListedColumns() {
+        // Act
+        String sql = H2CompatibilityStatementInspector.rewrite("INSERT INTO SHIFT_REPORT (ID, DAY, NAME, TIME) "
+                + "VALUES (?, ?, ?, ?) ON CONFLICT (DAY, NAME) DO UPDATE SET TIME = excluded.TIME RETURNING *");
+
+        // Assert
+        assertEquals("SELECT * FROM FINAL TABLE (MERGE INTO SHIFT_REPORT existing USING (VALUES (?, ?, ?, ?)) "
+                + "excluded (ID, DAY, NAME, TIME) ON existing.DAY = excluded.DAY AND existing.NAME = excluded.NAME "
+                + "WHEN MATCHED THEN UPDATE SET TIME = excluded.TIME WHEN NOT MATCHED THEN INSERT (ID, DAY, NAME, TIME) "
+                + "VALUES (excluded.ID, excluded.DAY, excluded.NAME, excluded.TIME))", sql);
+    }
+
+    @Test
+    void rewrite_whenInsertOnConflictDoNothing_mergesOnlyWhenNotMatched() {
+        assertEquals("MERGE INTO T existing USING (VALUES (?, ?)) excluded (A, B) ON existing.A = excluded.A "
+                + "WHEN NOT MATCHED THEN INSERT (A, B) VALUES (excluded.A, excluded.B)",
+                H2CompatibilityStatementInspector.rewrite("insert into T (A, B) VALUES (?, ?) on conflict (A) do nothing"));
+    }
+
+    @Test
+    void rewrite_whenInsertOrSelectOfExistingRow_selectsFromMergeWithTheSameCondition() {
+        // Act
+        String sql = H2CompatibilityStatementInspector.rewrite("WITH ins AS (INSERT INTO SHIFT_TOTAL (ID, KEY) "
+                + "VALUES (?, ?) ON CONFLICT (KEY) DO NOTHING RETURNING *) SELECT * FROM ins UNION ALL "
+                + "SELECT * FROM SHIFT_TOTAL WHERE KEY = ? AND NOT EXISTS (SELECT 1 FROM ins)");
+
+        // Assert
+        assertEquals("SELECT * FROM FINAL TABLE (MERGE INTO SHIFT_TOTAL existing USING (VALUES (?, ?)) "
+                + "excluded (ID, KEY) ON existing.KEY = excluded.KEY WHEN MATCHED THEN UPDATE SET KEY = existing.KEY "
+                + "WHEN NOT MATCHED THEN INSERT (ID, KEY) VALUES (excluded.ID, excluded.KEY)) WHERE KEY = ?", sql);
+    }
+
+    @Test
+    void rewrite_whenInsertOrSelectWithConditionalUpdate_updatesOnlyWhenTheConditionHolds() {
+        // Act
+        String sql = H2CompatibilityStatementInspector.rewrite("WITH up AS (INSERT INTO SHIFT_REPORT (ID, DAY, TOTAL) "
+                + "VALUES (?, ?, ?) ON CONFLICT (DAY) DO UPDATE SET TOTAL = excluded.TOTAL WHERE (SHIFT_REPORT.TOTAL) "
+                + "IS DISTINCT FROM (excluded.TOTAL) RETURNING *) SELECT * FROM up UNION ALL "
+                + "SELECT * FROM SHIFT_REPORT WHERE DAY = ? AND NOT EXISTS (SELECT 1 FROM up)");
+
+        // Assert
+        assertEquals("SELECT * FROM FINAL TABLE (MERGE INTO SHIFT_REPORT existing USING (VALUES (?, ?, ?)) "
+                + "excluded (ID, DAY, TOTAL) ON existing.DAY = excluded.DAY "
+                + "WHEN MATCHED AND (existing.TOTAL) IS DISTINCT FROM (excluded.TOTAL) THEN UPDATE SET TOTAL = excluded.TOTAL "
+                + "WHEN MATCHED THEN UPDATE SET DAY = existing.DAY "
+                + "WHEN NOT MATCHED THEN INSERT (ID, DAY, TOTAL) VALUES (excluded.ID, excluded.DAY, excluded.TOTAL)) "
+                + "WHERE DAY = ?", sql);
+    }
+
+    @Test
+    void rewrite_whenQueryWithCommonTableExpression_returnsItUnchanged() {
+        String sql = "WITH recent AS (SELECT * FROM SHIFT_TOTAL) SELECT * FROM recent";
+        assertSame(sql, H2CompatibilityStatementInspector.rewrite(sql));
+    }
+
+    @Test
+    void rewrite_whenUpsert_mergesOnPrimaryKey() {
+        assertEquals("MERGE INTO PROFILE (USER_ID) VALUES (?)",
+                new H2CompatibilityStatementInspector().inspect("UPSERT INTO PROFILE (USER_ID) VALUES (?)"));
+    }
+
+    @Test
+    void rewrite_whenUpsertReturning_selectsFromMerge() {
+        assertEquals("SELECT * FROM FINAL TABLE (MERGE INTO PROFILE (USER_ID, NAME) VALUES (?, ?), (?, ?))",
+                H2CompatibilityStatementInspector.rewrite("UPSERT INTO PROFILE (USER_ID, NAME) VALUES (?, ?), (?, ?) RETURNING *"));
+    }
+
+    @Test
+    void rewrite_whenValuesHoldFunctionCallsAndSeveralRows_mergesEveryRow() {
+        // Act
+        String sql = H2CompatibilityStatementInspector.rewrite("INSERT INTO T (A, B) VALUES (CAST(? AS UUID), now()), "
+                + "(CAST(? AS UUID), now()) ON CONFLICT (A) DO NOTHING");
+
+        // Assert
+        assertEquals("MERGE INTO T existing USING (VALUES (CAST(? AS UUID), now()), (CAST(? AS UUID), now())) "
+                + "excluded (A, B) ON existing.A = excluded.A "
+                + "WHEN NOT MATCHED THEN INSERT (A, B) VALUES (excluded.A, excluded.B)", sql);
+    }
+
+    @Test
+    void rewrite_whenValuesNestDeeperThanOneLevel_returnsItUnchanged() {
+        String sql = "INSERT INTO T (A, B) VALUES (?, lower(trim(?))) ON CONFLICT (A) DO NOTHING";
+        assertSame(sql, H2CompatibilityStatementInspector.rewrite(sql));
+    }
+
+    @Test
+    void rewrite_whenPlainStatement_returnsItUnchanged() {
+        String sql = "select s1_0.id from shift_total s1_0 where s1_0.cost>?";
+        assertSame(sql, H2CompatibilityStatementInspector.rewrite(sql));
+        assertNull(H2CompatibilityStatementInspector.rewrite(null));
+    }
+}
@@ -0,0 +1,67 @@
+package edu.csudh.lsu.persistence.test;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenceTestExtensionTest {
+
+    @Test
+    void check_whenWithinBudget_passes() throws NoSuchMethodException {
+        // Arrange
+        StatementLog statementLog = new StatementLog();
+        statementLog.record("insert into shift_total (id) values (?)");
+
+        // Act & Assert
+        assertDoesNotThrow(() -> PersistenceTestExtension.check(budgetOf("oneWrite"), statementLog));
+    }
+
+    @Test
+    void check_whenReadsExceedBudget_failsListingTheStatements() throws NoSuchMethodException {
+        // Arrange
+        StatementLog statementLog = new StatementLog();
+        statementLog.record("select * from profile where user_id = 'a'");
+        statementLog.record("select * from profile where user_id = 'b'");
+        statementLog.record("insert into shift_total (id) values (?)");
+
+        // Act
+        AssertionFailedError failure = assertThrows(AssertionFailedError.class,
+                () -> PersistenceTestExtension.check(budgetOf("oneWrite"), statementLog));
+
+        // Assert
+        assertTrue(failure.getMessage().startsWith("Statement budget exceeded: 2 reads (budget 0)"));
+        assertTrue(failure.getMessage().contains("2. read  select * from profile where user_id = ?"));
+        assertEquals(2, statementLog.reads());
+        assertEquals(1, statementLog.writes());
+    }
+
+    @Test
+    void check_whenTotalExceedsBudget_fails() throws NoSuchMethodException {
+        // Arrange
+        StatementLog statementLog = new StatementLog();
+        statementLog.record("update profile set role = ?");
+        statementLog.record("delete from profile");
+
+        // Act & Assert
+        assertThrows(AssertionFailedError.class,
+                () -> PersistenceTestExtension.check(budgetOf("oneStatement"), statementLog));
+        statementLog.reset();
+        assertEquals(0, statementLog.total());
+    }
+
+    private static ExpectedStatements budgetOf(String methodName) throws NoSuchMethodException {
+        return Budgets.class.getDeclaredMethod(methodName).getAnnotation(ExpectedStatements.class);
+    }
+
+    static class Budgets {
+
+        @ExpectedStatements(writes = 1, reads = 0)
+        void oneWrite() {
+        }
+
+        @ExpectedStatements(total = 1)
+        void oneStatement() {
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package edu.csudh.lsu.persistence.test;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftTotalRepository;
+import edu.csudh.lsu.persistence.service.ShiftTotalService;
+import edu.csudh.lsu.persistence.transaction.PersistenceUnitOfWork;
+import edu.csudh.lsu.persistence.transaction.TransactionRetryExecutor;
+import edu.csudh.lsu.persistence.transaction.TransactionRetryMetrics;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statements and transactions of a {@link PersistenceUnitOfWork} on H2, with the services' real transaction
+ * boundaries.
+ */
+@ExtendWith(PersistenceTestExtension.class)
+class PersistenceUnitOfWorkStatementTest {
+
+    private ShiftTotalService shiftTotalService;
+    private PersistenceUnitOfWork unitOfWork;
+    private UUID first;
+    private UUID second;
+
+    @BeforeEach
+    void setUp(PersistenceTestDatabase database) {
+        shiftTotalService = database.service(ShiftTotalService.class);
+        unitOfWork = new PersistenceUnitOfWork(database.transactionManager(), database.entityManager(),
+                new TransactionRetryExecutor(new TransactionRetryMetrics()));
+        first = shiftTotalService.saveShiftTotal(ShiftTotals.sample(1)).getId();
+        second = shiftTotalService.saveShiftTotal(ShiftTotals.sample(2)).getId();
+    }
+
+    @Test
+    @ExpectedStatements(writes = 3, reads = 0)
+    void commit_whenServiceUpdatesEnlisted_runsTheirStatementsInOneTransaction(PersistenceTestDatabase database) {
+        // Act
+        int statements = unitOfWork.begin("closeSessions")
+                .enlist(() -> shiftTotalService.updateCost(first, 7.5f, "Jane", "Jane"))
+                .enlist(() -> shiftTotalService.updateDuration(first, "60", "Jane", "Jane"))
+                .enlist(() -> shiftTotalService.updateDuration(second, "30", "Jane", "Jane"))
+                .commit();
+
+        // Assert
+        assertEquals(3, statements);
+        assertEquals(1, database.statistics().getSuccessfulTransactionCount());
+        ShiftTotal updated = database.withoutCounting(
+                () -> database.repository(ShiftTotalRepository.class).findById(first).orElseThrow());
+        assertEquals(7.5f, updated.getCost());
+        assertEquals("60", updated.getDuration());
+    }
+
+    @Test
+    @ExpectedStatements(writes = 3, reads = 0)
+    void serviceUpdates_withoutUnitOfWork_commitOncePerCall(PersistenceTestDatabase database) {
+        // Act
+        shiftTotalService.updateCost(first, 7.5f, "Jane", "Jane");
+        shiftTotalService.updateDuration(first, "60", "Jane", "Jane");
+        shiftTotalService.updateDuration(second, "30", "Jane", "Jane");
+
+        // Assert
+        assertEquals(3, database.statistics().getSuccessfulTransactionCount());
+    }
+
+    @Test
+    void commit_whenJoiningCallerTransaction_restoresCallerFlushMode(PersistenceTestDatabase database) {
+        // Act
+        FlushMode flushMode = database.inTransaction(() -> {
+            unitOfWork.begin("closeSessions")
+                    .enlist(() -> shiftTotalService.updateCost(first, 7.5f, "Jane", "Jane"))
+                    .commit();
+            return database.entityManager().unwrap(Session.class).getHibernateFlushMode();
+        });
+
+        // Assert
+        assertEquals(FlushMode.AUTO, flushMode);
+    }
+}
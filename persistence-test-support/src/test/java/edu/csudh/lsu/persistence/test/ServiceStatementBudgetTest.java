@@ -0,0 +1,195 @@
+package edu.csudh.lsu.persistence.test;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftReportRepository;
+import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftTotalRepository;
+import edu.csudh.lsu.persistence.service.ActivityService;
+import edu.csudh.lsu.persistence.service.ShiftReportService;
+import edu.csudh.lsu.persistence.service.ShiftTotalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budgets of the real services on H2, guarding against extra pre-selects and N+1 reads.
+ */
+@ExtendWith(PersistenceTestExtension.class)
+class ServiceStatementBudgetTest {
+
+    private ShiftTotalService shiftTotalService;
+    private ActivityService activityService;
+    private ShiftReportService shiftReportService;
+
+    @BeforeEach
+    void setUp(PersistenceTestDatabase database) {
+        shiftTotalService = database.service(ShiftTotalService.class);
+        activityService = database.service(ActivityService.class);
+        shiftReportService = database.service(ShiftReportService.class);
+    }
+
+    @Test
+    @ExpectedStatements(writes = 1, reads = 0)
+    void saveShiftTotal_writesWithOneStatement(PersistenceTestDatabase database) {
+        // Act
+        ShiftTotal saved = shiftTotalService.saveShiftTotal(ShiftTotals.sample(1));
+
+        // Assert
+        assertNotNull(saved.getId());
+        assertEquals(1, database.statementLog().writes());
+    }
+
+    @Test
+    @ExpectedStatements(writes = 1, reads = 0)
+    void saveShiftTotal_whenResubmitted_writesWithOneStatement(PersistenceTestDatabase database) {
+        // Arrange
+        ShiftTotal original = shiftTotalService.saveShiftTotal(ShiftTotals.sample(1));
+        database.resetStatementCounts();
+        ShiftTotal resubmitted = ShiftTotals.sample(1);
+        resubmitted.setStudentName("Student 2");
+        resubmitted.setCost(7.0f);
+
+        // Act
+        ShiftTotal saved = shiftTotalService.saveShiftTotal(resubmitted);
+
+        // Assert
+        assertEquals(original.getId(), saved.getId());
+        assertEquals("Student 1", saved.getStudentName());
+        assertEquals(5.0f, saved.getCost());
+        ShiftTotal stored = database.withoutCounting(() -> database.repository(ShiftTotalRepository.class)
+                .findById(original.getId()).orElseThrow());
+        assertEquals("Student 1", stored.getStudentName());
+        assertEquals(5.0f, stored.getCost());
+        assertEquals(1, database.withoutCounting(() -> database.repository(ShiftTotalRepository.class).count()));
+    }
+
+    @Test
+    @ExpectedStatements(writes = 2, reads = 0)
+    void updateStudentName_whenResubmittedShiftTotalIsUpdated_updatesTheStoredRow(PersistenceTestDatabase database) {
+        // Arrange
+        ShiftTotal original = shiftTotalService.saveShiftTotal(ShiftTotals.sample(1));
+        database.resetStatementCounts();
+        ShiftTotal resubmitted = ShiftTotals.sample(1);
+        shiftTotalService.saveShiftTotal(resubmitted);
+
+        // Act
+        shiftTotalService.updateStudentName(resubmitted.getId(), "Student 2");
+
+        // Assert
+        assertEquals(original.getId(), resubmitted.getId());
+        ShiftTotal stored = database.withoutCounting(() -> database.repository(ShiftTotalRepository.class)
+                .findById(original.getId()).orElseThrow());
+        assertEquals("Student 2", stored.getStudentName());
+    }
+
+    @Test
+    @ExpectedStatements(writes = 1, reads = 0)
+    void saveOrUpdateShiftReport_whenNaturalKeyExists_updatesTheRowKeepingItsId(PersistenceTestDatabase database) {
+        // Arrange
+        ShiftReport original = shiftReportService.saveOrUpdateShiftReport(createShiftReport("100"));
+        database.resetStatementCounts();
+        ShiftReport resubmitted = createShiftReport("120");
+        resubmitted.setClosingShiftDate(original.getClosingShiftDate());
+
+        // Act
+        ShiftReport saved = shiftReportService.saveOrUpdateShiftReport(resubmitted);
+
+        // Assert
+        assertEquals(original.getShiftReportId(), saved.getShiftReportId());
+        assertEquals(original.getShiftReportId(), resubmitted.getShiftReportId());
+        assertEquals("120", saved.getShiftTotal());
+        assertEquals(1, database.withoutCounting(() -> database.repository(ShiftReportRepository.class).count()));
+    }
+
+    @Test
+    @ExpectedStatements(writes = 1, reads = 0)
+    void saveOrUpdateShiftReport_whenResubmittedUnchanged_leavesTheRowAsStored(PersistenceTestDatabase database) {
+        // Arrange
+        ShiftReport original = shiftReportService.saveOrUpdateShiftReport(createShiftReport("100"));
+        database.resetStatementCounts();
+        ShiftReport resubmitted = createShiftReport("100");
+        resubmitted.setClosingShiftDate(original.getClosingShiftDate());
+        resubmitted.setLastUpdatedBy("kiosk retry");
+
+        // Act
+        ShiftReport saved = shiftReportService.saveOrUpdateShiftReport(resubmitted);
+
+        // Assert
+        assertEquals(original.getShiftReportId(), saved.getShiftReportId());
+        assertEquals("user", saved.getLastUpdatedBy());
+        ShiftReport stored = database.withoutCounting(() -> database.repository(ShiftReportRepository.class)
+                .findById(original.getShiftReportId()).orElseThrow());
+        assertEquals("user", stored.getLastUpdatedBy());
+    }
+
+    @Test
+    @ExpectedStatements(reads = 2, writes = 0)
+    void findAllShiftTotals_readsPageAndCountOnly(PersistenceTestDatabase database) {
+        // Arrange
+        database.inTransaction(() -> {
+            for (int i = 0; i < 25; i++) {
+                shiftTotalService.saveShiftTotal(ShiftTotals.sample(i));
+            }
+        });
+        database.resetStatementCounts();
+
+        // Act
+        Page<ShiftTotal> page = shiftTotalService.findAllShiftTotals(PageRequest.of(1, 10));
+
+        // Assert
+        assertEquals(10, page.getNumberOfElements());
+        assertEquals(25, page.getTotalElements());
+    }
+
+    @Test
+    @ExpectedStatements(writes = 1, reads = 0)
+    void deleteShiftTotal_writesWithOneStatement(PersistenceTestDatabase database) {
+        // Arrange
+        ShiftTotal saved = shiftTotalService.saveShiftTotal(ShiftTotals.sample(1));
+        database.resetStatementCounts();
+
+        // Act
+        shiftTotalService.deleteShiftTotal(saved.getId());
+
+        // Assert
+        assertEquals(0, database.withoutCounting(() -> database.repository(ShiftTotalRepository.class).count()));
+    }
+
+    @Test
+    @ExpectedStatements(total = 1)
+    void saveActivity_writesWithOneStatement(PersistenceTestDatabase database) {
+        // Arrange
+        Activity activity = new Activity();
+        activity.setActivity("Pool Table");
+        activity.setCategory("Table Activity");
+        activity.setPrice("4");
+        activity.setLastUpdatedBy("user");
+        activity.setAccessedBy("user");
+
+        // Act
+        activityService.saveActivity(activity);
+
+        // Assert
+        assertEquals(1, database.statistics().getPrepareStatementCount());
+    }
+
+    private static ShiftReport createShiftReport(String shiftTotal) {
+        ShiftReport shiftReport = new ShiftReport();
+        shiftReport.setAttendantName("Jane");
+        shiftReport.setReconcilorName("John");
+        shiftReport.setReconcilorSign("JD");
+        shiftReport.setAttendantSign("JS");
+        shiftReport.setRevenueInCard(60.0f);
+        shiftReport.setRevenueInCash(40.0f);
+        shiftReport.setShiftTotal(shiftTotal);
+        shiftReport.setOpeningBalance(20.0f);
+        shiftReport.setLastUpdatedBy("user");
+        shiftReport.setAccessedBy("user");
+        return shiftReport;
+    }
+}
@@ -0,0 +1,76 @@
+package edu.csudh.lsu.persistence.async;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.service.ActivityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Non-blocking facade over {@link ActivityService}. Each method runs the matching service method on a
+ * virtual thread from {@link AsyncPersistenceExecutor}, in its own transaction, and completes the returned future
+ * with its result or failure.
+ * </p>
+ */
+@Service
+public class AsyncActivityService {
+
+    @Autowired
+    private ActivityService activityService;
+
+    @Autowired
+    private AsyncPersistenceExecutor asyncPersistenceExecutor;
+
+    /**
+     * Async variant of {@link ActivityService#saveActivity(Activity)}.
+     *
+     * @param activity The activity.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> saveActivity(Activity activity) {
+        return asyncPersistenceExecutor.run("ActivityService.saveActivity", () -> activityService.saveActivity(activity));
+    }
+
+    /**
+     * Async variant of {@link ActivityService#fetchAllCategories()}.
+     *
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<List<String>> fetchAllCategories() {
+        return asyncPersistenceExecutor.supply("ActivityService.fetchAllCategories", () -> activityService.fetchAllCategories());
+    }
+
+    /**
+     * Async variant of {@link ActivityService#fetchAllCategories()} whose statements time out in the database.
+     *
+     * @param queryTimeoutMillis Statement timeout, rounded up to the next second.
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<List<String>> fetchAllCategories(long queryTimeoutMillis) {
+        return asyncPersistenceExecutor.supplyWithQueryTimeout("ActivityService.fetchAllCategories", queryTimeoutMillis, () -> activityService.fetchAllCategories());
+    }
+
+    /**
+     * Async variant of {@link ActivityService#deleteActivity(UUID)}.
+     *
+     * @param id The UUID of the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> deleteActivity(UUID id) {
+        return asyncPersistenceExecutor.run("ActivityService.deleteActivity", () -> activityService.deleteActivity(id));
+    }
+
+    /**
+     * Async variant of {@link ActivityService#updateActivity(Activity)}.
+     *
+     * @param activity The activity.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateActivity(Activity activity) {
+        return asyncPersistenceExecutor.run("ActivityService.updateActivity", () -> activityService.updateActivity(activity));
+    }
+}
@@ -0,0 +1,162 @@
+package edu.csudh.lsu.persistence.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Runs service calls on virtual threads for the async service facades.
+ * </p>
+ *
+ * <p>
+ * Every task gets its own virtual thread, so thousands of waiting kiosk requests cost no platform threads. Before
+ * touching the database a task takes a permit from a semaphore sized to the connection pool; tasks beyond that wait
+ * on the semaphore (parking only their virtual thread) instead of queueing inside Hikari until the connection
+ * timeout fires.
+ * </p>
+ *
+ * <p>
+ * Transactions are bound to threads, so a task can never join its caller's transaction. Each task runs the service
+ * method through its proxy and therefore in a transaction of its own, and calling an async method while a
+ * transaction is active fails fast instead of silently escaping it.
+ * </p>
+ *
+ * <p>
+ * Reads that must not outlive a deadline run through {@link #supplyWithQueryTimeout}: the work runs in a read-only
+ * transaction with a timeout, which Spring applies to every query of the work as the
+ * {@code jakarta.persistence.query.timeout} hint, so the database cancels the statement rather than the caller only
+ * giving up on the future.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AsyncPersistenceExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    @Autowired(required = false)
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Constructor for AsyncPersistenceExecutor.
+     *
+     * @param maxConcurrency Maximum number of tasks using the database at once, defaults to the Hikari pool size
+     */
+    public AsyncPersistenceExecutor(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConcurrency) {
+        Assert.isTrue(maxConcurrency > 0, "Maximum concurrency must be positive.");
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("persistence-async-", 0).factory());
+        log.info("Async persistence executor started with {} concurrent database permits.", maxConcurrency);
+    }
+
+    /**
+     * Runs the given work on a virtual thread once a database permit is available.
+     *
+     * @param operation Name of the operation, used in logs and errors
+     * @param work      Work to run, typically a call to a transactional service method
+     * @param <T>       Result type
+     * @return Future completed with the result of the work, or exceptionally with its failure
+     * @throws IllegalStateException if a transaction is active on the calling thread
+     */
+    public <T> CompletableFuture<T> supply(String operation, Supplier<T> work) {
+        Assert.notNull(work, "Work must not be null.");
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Async operation '" + operation + "' cannot join the caller's transaction. "
+                    + "Call the blocking service method inside a transaction instead.");
+        }
+        return CompletableFuture.supplyAsync(() -> withPermit(operation, work), executor);
+    }
+
+    /**
+     * Runs the given read-only work on a virtual thread once a database permit is available, in a transaction whose
+     * timeout bounds every statement of the work. The transaction timeout has a granularity of seconds, so the
+     * statement timeout is the given one rounded up to the next second.
+     *
+     * @param operation          Name of the operation, used in logs and errors
+     * @param queryTimeoutMillis Time the statements of the work may take together, counted once a permit is taken
+     * @param work               Read-only work to run, typically a call to a transactional service method
+     * @param <T>                Result type
+     * @return Future completed with the result of the work, or exceptionally with its failure
+     * @throws IllegalStateException if a transaction is active on the calling thread, or no transaction manager is
+     *                               available
+     */
+    public <T> CompletableFuture<T> supplyWithQueryTimeout(String operation, long queryTimeoutMillis, Supplier<T> work) {
+        Assert.isTrue(queryTimeoutMillis > 0, "Query timeout must be positive.");
+        Assert.state(transactionManager != null, "A transaction manager is required to time out queries.");
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) TimeUnit.MILLISECONDS.toSeconds(queryTimeoutMillis + 999));
+        return supply(operation, () -> transactionTemplate.execute(status -> work.get()));
+    }
+
+    /**
+     * Runs the given work on a virtual thread once a database permit is available.
+     *
+     * @param operation Name of the operation, used in logs and errors
+     * @param work      Work to run, typically a call to a transactional service method
+     * @return Future completed when the work finishes, or exceptionally with its failure
+     * @throws IllegalStateException if a transaction is active on the calling thread
+     */
+    public CompletableFuture<Void> run(String operation, Runnable work) {
+        Assert.notNull(work, "Work must not be null.");
+        return supply(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return Maximum number of tasks using the database at once.
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return Number of database permits currently free.
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Stops accepting work and waits for running tasks to finish.
+     */
+    @Override
+    public void destroy() {
+        log.info("Shutting down async persistence executor.");
+        executor.close();
+    }
+
+    private <T> T withPermit(String operation, Supplier<T> work) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database permit for '" + operation + "'.", exception);
+        }
+        try {
+            log.debug("Running async operation '{}'.", operation);
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package edu.csudh.lsu.persistence.async;
+
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.service.ProfileService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Non-blocking facade over {@link ProfileService}. Each method runs the matching service method on a
+ * virtual thread from {@link AsyncPersistenceExecutor}, in its own transaction, and completes the returned future
+ * with its result or failure.
+ * </p>
+ */
+@Service
+public class AsyncProfileService {
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private AsyncPersistenceExecutor asyncPersistenceExecutor;
+
+    /**
+     * Async variant of {@link ProfileService#saveOrUpdateProfile(Profile)}.
+     *
+     * @param profile The profile.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> saveOrUpdateProfile(Profile profile) {
+        return asyncPersistenceExecutor.run("ProfileService.saveOrUpdateProfile", () -> profileService.saveOrUpdateProfile(profile));
+    }
+
+    /**
+     * Async variant of {@link ProfileService#deleteProfile(String)}.
+     *
+     * @param userId The user ID.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> deleteProfile(String userId) {
+        return asyncPersistenceExecutor.run("ProfileService.deleteProfile", () -> profileService.deleteProfile(userId));
+    }
+
+    /**
+     * Async variant of {@link ProfileService#findAllProfiles()}.
+     *
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<List<Profile>> findAllProfiles() {
+        return asyncPersistenceExecutor.supply("ProfileService.findAllProfiles", () -> profileService.findAllProfiles());
+    }
+
+    /**
+     * Async variant of {@link ProfileService#updatePassword(String, String)}.
+     *
+     * @param userId The user ID.
+     * @param userPassword The user password.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updatePassword(String userId, String userPassword) {
+        return asyncPersistenceExecutor.run("ProfileService.updatePassword", () -> profileService.updatePassword(userId, userPassword));
+    }
+
+    /**
+     * Async variant of {@link ProfileService#updateFirstName(String, String)}.
+     *
+     * @param userId The user ID.
+     * @param firstName The first name.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateFirstName(String userId, String firstName) {
+        return asyncPersistenceExecutor.run("ProfileService.updateFirstName", () -> profileService.updateFirstName(userId, firstName));
+    }
+
+    /**
+     * Async variant of {@link ProfileService#updateLastName(String, String)}.
+     *
+     * @param userId The user ID.
+     * @param lastName The last name.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateLastName(String userId, String lastName) {
+        return asyncPersistenceExecutor.run("ProfileService.updateLastName", () -> profileService.updateLastName(userId, lastName));
+    }
+
+    /**
+     * Async variant of {@link ProfileService#updateRole(String, String)}.
+     *
+     * @param userId The user ID.
+     * @param role The role.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateRole(String userId, String role) {
+        return asyncPersistenceExecutor.run("ProfileService.updateRole", () -> profileService.updateRole(userId, role));
+    }
+
+    /**
+     * Async variant of {@link ProfileService#updatePermission(String, String)}.
+     *
+     * @param userId The user ID.
+     * @param permission The permission.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updatePermission(String userId, String permission) {
+        return asyncPersistenceExecutor.run("ProfileService.updatePermission", () -> profileService.updatePermission(userId, permission));
+    }
+}
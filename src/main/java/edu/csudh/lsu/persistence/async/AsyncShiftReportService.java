@@ -0,0 +1,202 @@
+package edu.csudh.lsu.persistence.async;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.service.ShiftReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Non-blocking facade over {@link ShiftReportService}. Each method runs the matching service method on a
+ * virtual thread from {@link AsyncPersistenceExecutor}, in its own transaction, and completes the returned future
+ * with its result or failure.
+ * </p>
+ */
+@Service
+public class AsyncShiftReportService {
+
+    @Autowired
+    private ShiftReportService shiftReportService;
+
+    @Autowired
+    private AsyncPersistenceExecutor asyncPersistenceExecutor;
+
+    /**
+     * Async variant of {@link ShiftReportService#saveOrUpdateShiftReport(ShiftReport)}.
+     *
+     * @param shiftReport The shift report.
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<ShiftReport> saveOrUpdateShiftReport(ShiftReport shiftReport) {
+        return asyncPersistenceExecutor.supply("ShiftReportService.saveOrUpdateShiftReport", () -> shiftReportService.saveOrUpdateShiftReport(shiftReport));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateClosingShiftDate(UUID, Date, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param closingShiftDate The closing shift date.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateClosingShiftDate(UUID shiftReportId, Date closingShiftDate, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateClosingShiftDate", () -> shiftReportService.updateClosingShiftDate(shiftReportId, closingShiftDate, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateClosingShiftTime(UUID, Time, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param closingShiftTime The closing shift time.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateClosingShiftTime(UUID shiftReportId, Time closingShiftTime, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateClosingShiftTime", () -> shiftReportService.updateClosingShiftTime(shiftReportId, closingShiftTime, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#deleteShiftReport(UUID)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> deleteShiftReport(UUID shiftReportId) {
+        return asyncPersistenceExecutor.run("ShiftReportService.deleteShiftReport", () -> shiftReportService.deleteShiftReport(shiftReportId));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateAttendantName(UUID, String, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param attendantName The attendant name.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateAttendantName(UUID shiftReportId, String attendantName, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateAttendantName", () -> shiftReportService.updateAttendantName(shiftReportId, attendantName, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateReconcilorName(UUID, String, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param reconcilorName The reconcilor name.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateReconcilorName(UUID shiftReportId, String reconcilorName, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateReconcilorName", () -> shiftReportService.updateReconcilorName(shiftReportId, reconcilorName, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateReconcilorSign(UUID, String, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param reconcilorSign The reconcilor sign.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateReconcilorSign(UUID shiftReportId, String reconcilorSign, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateReconcilorSign", () -> shiftReportService.updateReconcilorSign(shiftReportId, reconcilorSign, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateAttendantSign(UUID, String, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param attendantSign The attendant sign.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateAttendantSign(UUID shiftReportId, String attendantSign, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateAttendantSign", () -> shiftReportService.updateAttendantSign(shiftReportId, attendantSign, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateRevenueInCard(UUID, Float, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param revenueInCard The revenue in card.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateRevenueInCard(UUID shiftReportId, Float revenueInCard, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateRevenueInCard", () -> shiftReportService.updateRevenueInCard(shiftReportId, revenueInCard, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateRevenueInCash(UUID, Float, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param revenueInCash The revenue in cash.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateRevenueInCash(UUID shiftReportId, Float revenueInCash, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateRevenueInCash", () -> shiftReportService.updateRevenueInCash(shiftReportId, revenueInCash, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateShiftTotal(UUID, String, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param shiftTotal The shift total.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateShiftTotal(UUID shiftReportId, String shiftTotal, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateShiftTotal", () -> shiftReportService.updateShiftTotal(shiftReportId, shiftTotal, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#updateOpeningBalance(UUID, Float, String, String)}.
+     *
+     * @param shiftReportId The UUID of the shift report.
+     * @param openingBalance The opening balance.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateOpeningBalance(UUID shiftReportId, Float openingBalance, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftReportService.updateOpeningBalance", () -> shiftReportService.updateOpeningBalance(shiftReportId, openingBalance, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#fetchAllShiftReports(Pageable)}.
+     *
+     * @param pageable Pagination information.
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<Page<ShiftReport>> fetchAllShiftReports(Pageable pageable) {
+        return asyncPersistenceExecutor.supply("ShiftReportService.fetchAllShiftReports", () -> shiftReportService.fetchAllShiftReports(pageable));
+    }
+
+    /**
+     * Async variant of {@link ShiftReportService#fetchAllShiftReports(Pageable)} whose statements time out in the
+     * database.
+     *
+     * @param pageable Pagination information.
+     * @param queryTimeoutMillis Statement timeout, rounded up to the next second.
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<Page<ShiftReport>> fetchAllShiftReports(Pageable pageable, long queryTimeoutMillis) {
+        return asyncPersistenceExecutor.supplyWithQueryTimeout("ShiftReportService.fetchAllShiftReports", queryTimeoutMillis, () -> shiftReportService.fetchAllShiftReports(pageable));
+    }
+}
@@ -0,0 +1,172 @@
+package edu.csudh.lsu.persistence.async;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.service.ShiftTotalService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * Non-blocking facade over {@link ShiftTotalService}. Each method runs the matching service method on a
+ * virtual thread from {@link AsyncPersistenceExecutor}, in its own transaction, and completes the returned future
+ * with its result or failure.
+ * </p>
+ */
+@Service
+public class AsyncShiftTotalService {
+
+    @Autowired
+    private ShiftTotalService shiftTotalService;
+
+    @Autowired
+    private AsyncPersistenceExecutor asyncPersistenceExecutor;
+
+    /**
+     * Async variant of {@link ShiftTotalService#saveShiftTotal(ShiftTotal)}.
+     *
+     * @param shiftTotal The shift total.
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<ShiftTotal> saveShiftTotal(ShiftTotal shiftTotal) {
+        return asyncPersistenceExecutor.supply("ShiftTotalService.saveShiftTotal", () -> shiftTotalService.saveShiftTotal(shiftTotal));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#updateStudentName(UUID, String)}.
+     *
+     * @param id The UUID of the record.
+     * @param studentName The student name.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateStudentName(UUID id, String studentName) {
+        return asyncPersistenceExecutor.run("ShiftTotalService.updateStudentName", () -> shiftTotalService.updateStudentName(id, studentName));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#deleteShiftTotal(UUID)}.
+     *
+     * @param id The UUID of the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> deleteShiftTotal(UUID id) {
+        return asyncPersistenceExecutor.run("ShiftTotalService.deleteShiftTotal", () -> shiftTotalService.deleteShiftTotal(id));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#findAllShiftTotals(Pageable)}.
+     *
+     * @param pageable Pagination information.
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<Page<ShiftTotal>> findAllShiftTotals(Pageable pageable) {
+        return asyncPersistenceExecutor.supply("ShiftTotalService.findAllShiftTotals", () -> shiftTotalService.findAllShiftTotals(pageable));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#updateStudentName(UUID, String, String, String)}.
+     *
+     * @param id The UUID of the record.
+     * @param studentName The student name.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateStudentName(UUID id, String studentName, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftTotalService.updateStudentName", () -> shiftTotalService.updateStudentName(id, studentName, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#updateAttendantName(UUID, String, String, String)}.
+     *
+     * @param id The UUID of the record.
+     * @param attendantName The attendant name.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateAttendantName(UUID id, String attendantName, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftTotalService.updateAttendantName", () -> shiftTotalService.updateAttendantName(id, attendantName, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#updateActivity(UUID, String, String, String)}.
+     *
+     * @param id The UUID of the record.
+     * @param activity The activity.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateActivity(UUID id, String activity, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftTotalService.updateActivity", () -> shiftTotalService.updateActivity(id, activity, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#updateCost(UUID, Float, String, String)}.
+     *
+     * @param id The UUID of the record.
+     * @param cost The cost.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateCost(UUID id, Float cost, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftTotalService.updateCost", () -> shiftTotalService.updateCost(id, cost, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#updatePaymentMode(UUID, String, String, String)}.
+     *
+     * @param id The UUID of the record.
+     * @param paymentMode The payment mode.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updatePaymentMode(UUID id, String paymentMode, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftTotalService.updatePaymentMode", () -> shiftTotalService.updatePaymentMode(id, paymentMode, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#updateDuration(UUID, String, String, String)}.
+     *
+     * @param id The UUID of the record.
+     * @param duration The duration.
+     * @param lastUpdatedBy The user who last updated the record.
+     * @param accessedBy The user who last accessed the record.
+     * @return Future completed when the operation finishes.
+     */
+    public CompletableFuture<Void> updateDuration(UUID id, String duration, String lastUpdatedBy, String accessedBy) {
+        return asyncPersistenceExecutor.run("ShiftTotalService.updateDuration", () -> shiftTotalService.updateDuration(id, duration, lastUpdatedBy, accessedBy));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#calculateTotalCostsByAttendantNameAndDate(String, Date)}.
+     *
+     * @param attendantName The attendant name.
+     * @param date The date.
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<Object> calculateTotalCostsByAttendantNameAndDate(String attendantName, Date date) {
+        return asyncPersistenceExecutor.supply("ShiftTotalService.calculateTotalCostsByAttendantNameAndDate", () -> shiftTotalService.calculateTotalCostsByAttendantNameAndDate(attendantName, date));
+    }
+
+    /**
+     * Async variant of {@link ShiftTotalService#calculateTotalCostsByAttendantNameAndDate(String, Date)} whose
+     * statements time out in the database.
+     *
+     * @param attendantName The attendant name.
+     * @param date The date.
+     * @param queryTimeoutMillis Statement timeout, rounded up to the next second.
+     * @return Future completed with the result of the operation.
+     */
+    public CompletableFuture<Object> calculateTotalCostsByAttendantNameAndDate(String attendantName, Date date, long queryTimeoutMillis) {
+        return asyncPersistenceExecutor.supplyWithQueryTimeout("ShiftTotalService.calculateTotalCostsByAttendantNameAndDate", queryTimeoutMillis, () -> shiftTotalService.calculateTotalCostsByAttendantNameAndDate(attendantName, date));
+    }
+}
@@ -0,0 +1,91 @@
+package edu.csudh.lsu.persistence.capture;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <p>
+ * Binary layout of a capture file, shared by the {@link CaptureWriter} and the {@link CaptureReader}.
+ * </p>
+ *
+ * <p>
+ * The file starts with {@link #MAGIC} and a version byte, followed by one record per call. Integers are unsigned
+ * LEB128 varints, signed ones zigzag encoded first. Strings are interned per file: the first occurrence is written
+ * in full and later ones as a reference to it, so the service, method, thread and parameter type names of a record
+ * usually take a byte or two each. Values are a tag byte followed by the value.
+ * </p>
+ *
+ * <p>
+ * A record is the {@link #RECORD} byte, the start time as a signed delta to the previous record's, the thread,
+ * service and method names, the parameter types, the arguments, the duration, the failure, the result id and the
+ * number of attempts. Version 1 files, written before calls were recorded outside the retry, have no attempts and
+ * are read as single attempts.
+ * </p>
+ */
+final class CaptureFormat {
+
+    static final byte[] MAGIC = "LSUCAP".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 2;
+    static final int VERSION_WITHOUT_ATTEMPTS = 1;
+
+    static final int RECORD = 1;
+
+    // String references: null, a new string written in full with or without interning it, or 3 + index of an
+    // interned string
+    static final int STRING_NULL = 0;
+    static final int STRING_NEW = 1;
+    static final int STRING_NEW_UNINTERNED = 2;
+    static final int STRING_REFERENCE_BASE = 3;
+    static final int MAX_INTERNED_LENGTH = 256;
+
+    static final int TAG_NULL = 0;
+    static final int TAG_STRING = 1;
+    static final int TAG_BOOLEAN = 2;
+    static final int TAG_INT = 3;
+    static final int TAG_LONG = 4;
+    static final int TAG_FLOAT = 5;
+    static final int TAG_DOUBLE = 6;
+    static final int TAG_DECIMAL = 7;
+    static final int TAG_UUID = 8;
+    static final int TAG_SQL_DATE = 9;
+    static final int TAG_SQL_TIME = 10;
+    static final int TAG_TIMESTAMP = 11;
+    static final int TAG_DATE = 12;
+    static final int TAG_LIST = 13;
+    static final int TAG_ENTITY = 14;
+    static final int TAG_PAGE = 15;
+
+    private CaptureFormat() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in capture file.");
+    }
+
+    static void writeSignedVarLong(DataOutput out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readSignedVarLong(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
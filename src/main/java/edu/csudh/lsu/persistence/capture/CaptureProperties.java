@@ -0,0 +1,36 @@
+package edu.csudh.lsu.persistence.capture;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p>
+ * Settings of the service call capture, bound from {@code lsu.persistence.capture.*}.
+ * </p>
+ *
+ * <p>
+ * The capture is off by default. With {@code lsu.persistence.capture.enabled=true} every public service call is
+ * written to {@link #file}, personal data pseudonymized, for the load simulator to replay.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = CaptureProperties.PREFIX)
+public class CaptureProperties {
+
+    public static final String PREFIX = "lsu.persistence.capture";
+
+    private boolean enabled = false;
+
+    // File the calls are written to, replaced if it exists
+    private String file = "persistence-capture.bin";
+
+    // Calls buffered between the services and the writer thread before new calls are dropped
+    private int bufferCapacity = 16384;
+
+    // Longest time a written call may stay in the file buffer
+    private long flushIntervalMillis = 1000;
+}
@@ -0,0 +1,195 @@
+package edu.csudh.lsu.persistence.capture;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static edu.csudh.lsu.persistence.capture.CaptureFormat.*;
+
+/**
+ * Reads the {@link CapturedCall}s written by a {@link CaptureWriter}. Not thread safe.
+ */
+public class CaptureReader implements Closeable {
+
+    private final DataInputStream in;
+    private final int version;
+    private final List<String> strings = new ArrayList<>();
+    private long previousEpochMicros;
+
+    /**
+     * Constructor for CaptureReader. Reads and checks the file header.
+     *
+     * @param in Stream the capture is read from, closed with the reader
+     * @throws IOException if the stream is not a capture file of a supported version
+     */
+    public CaptureReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+        byte[] magic = new byte[MAGIC.length];
+        try {
+            this.in.readFully(magic);
+        } catch (EOFException e) {
+            throw new IOException("Not a capture file.", e);
+        }
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a capture file.");
+        }
+        this.version = this.in.readUnsignedByte();
+        if (version != VERSION && version != VERSION_WITHOUT_ATTEMPTS) {
+            throw new IOException("Unsupported capture file version " + version + ".");
+        }
+    }
+
+    /**
+     * Reads the next call.
+     *
+     * @return The call, null at the end of the file
+     * @throws IOException if the file is corrupt
+     */
+    public CapturedCall read() throws IOException {
+        int record = in.read();
+        if (record < 0) {
+            return null;
+        }
+        if (record != RECORD) {
+            throw new IOException("Unexpected record type " + record + " in capture file.");
+        }
+        long epochMicros = previousEpochMicros + readSignedVarLong(in);
+        previousEpochMicros = epochMicros;
+        String threadName = readString();
+        String declaringType = readString();
+        String methodName = readString();
+        int parameterCount = readCount();
+        List<String> parameterTypes = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            parameterTypes.add(readString());
+        }
+        int argumentCount = readCount();
+        List<Object> arguments = new ArrayList<>(argumentCount);
+        for (int i = 0; i < argumentCount; i++) {
+            arguments.add(readValue());
+        }
+        long durationNanos = readVarLong(in);
+        String failure = readString();
+        Object resultId = readValue();
+        int attempts = version == VERSION_WITHOUT_ATTEMPTS ? 1 : readCount();
+        return new CapturedCall(epochMicros, threadName, declaringType, methodName,
+                Collections.unmodifiableList(parameterTypes), Collections.unmodifiableList(arguments), durationNanos,
+                failure, resultId, attempts);
+    }
+
+    /**
+     * Reads every remaining call.
+     *
+     * @return Calls in file order
+     * @throws IOException if the file is corrupt
+     */
+    public List<CapturedCall> readAll() throws IOException {
+        List<CapturedCall> calls = new ArrayList<>();
+        for (CapturedCall call = read(); call != null; call = read()) {
+            calls.add(call);
+        }
+        return calls;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Object readValue() throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_INT:
+                return (int) readSignedVarLong(in);
+            case TAG_LONG:
+                return readSignedVarLong(in);
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_DECIMAL:
+                return new BigDecimal(readString());
+            case TAG_UUID:
+                return new UUID(in.readLong(), in.readLong());
+            case TAG_SQL_DATE:
+                return new java.sql.Date(readSignedVarLong(in));
+            case TAG_SQL_TIME:
+                return new Time(readSignedVarLong(in));
+            case TAG_TIMESTAMP:
+                Timestamp timestamp = new Timestamp(readSignedVarLong(in));
+                timestamp.setNanos((int) readVarLong(in));
+                return timestamp;
+            case TAG_DATE:
+                return new Date(readSignedVarLong(in));
+            case TAG_LIST:
+                int size = readCount();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                return Collections.unmodifiableList(list);
+            case TAG_ENTITY:
+                String type = readString();
+                int fieldCount = readCount();
+                Map<String, Object> fields = new LinkedHashMap<>();
+                for (int i = 0; i < fieldCount; i++) {
+                    fields.put(readString(), readValue());
+                }
+                return new CapturedEntity(type, Collections.unmodifiableMap(fields));
+            case TAG_PAGE:
+                return new CapturedPage((int) readSignedVarLong(in), readCount(), readString());
+            default:
+                throw new IOException("Unknown value tag " + tag + " in capture file.");
+        }
+    }
+
+    private String readString() throws IOException {
+        long reference = readVarLong(in);
+        if (reference == STRING_NULL) {
+            return null;
+        }
+        if (reference == STRING_NEW || reference == STRING_NEW_UNINTERNED) {
+            byte[] bytes = new byte[readCount()];
+            in.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            if (reference == STRING_NEW) {
+                strings.add(value);
+            }
+            return value;
+        }
+        long index = reference - STRING_REFERENCE_BASE;
+        if (index >= strings.size()) {
+            throw new IOException("Dangling string reference in capture file.");
+        }
+        return strings.get((int) index);
+    }
+
+    private int readCount() throws IOException {
+        long count = readVarLong(in);
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length in capture file.");
+        }
+        return (int) count;
+    }
+}
@@ -0,0 +1,161 @@
+package edu.csudh.lsu.persistence.capture;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>
+ * Writes {@link CapturedCall}s to a capture file on a background thread.
+ * </p>
+ *
+ * <p>
+ * Service threads hand calls over through a {@link CaptureRingBuffer} and never block or touch the file: when the
+ * writer falls behind and the buffer is full, calls are {@link #getDroppedCount() dropped} instead. The writer
+ * thread drains the buffer, parks briefly when it is empty and flushes the file at least every flush interval.
+ * </p>
+ */
+@Slf4j
+public class CaptureRecorder implements AutoCloseable {
+
+    static final String WRITER_THREAD_NAME = "persistence-capture-writer";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Path file;
+    private final CaptureRingBuffer<CapturedCall> buffer;
+    private final CaptureWriter writer;
+    private final long flushIntervalNanos;
+    private final Thread writerThread;
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    // Wall clock and monotonic clock read together, so that call times are monotonic and microsecond precise
+    private final long baseEpochMicros;
+    private final long baseNanos;
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    /**
+     * Constructor for CaptureRecorder. Creates the file and starts the writer thread.
+     *
+     * @param file                File the calls are written to, replaced if it exists
+     * @param bufferCapacity      Calls buffered before new ones are dropped
+     * @param flushIntervalMillis Longest time a written call may stay in the file buffer
+     * @throws IOException if the file cannot be created
+     */
+    public CaptureRecorder(Path file, int bufferCapacity, long flushIntervalMillis) throws IOException {
+        Assert.isTrue(flushIntervalMillis > 0, "Flush interval must be positive.");
+        this.file = file;
+        this.buffer = new CaptureRingBuffer<>(bufferCapacity);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        OutputStream out = Files.newOutputStream(file);
+        this.writer = new CaptureWriter(out);
+        this.baseEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.baseNanos = System.nanoTime();
+        this.writerThread = new Thread(this::drain, WRITER_THREAD_NAME);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Converts a {@link System#nanoTime()} reading into wall-clock time.
+     *
+     * @param nanoTime Reading of {@link System#nanoTime()}
+     * @return Microseconds since the epoch
+     */
+    public long epochMicrosAt(long nanoTime) {
+        return baseEpochMicros + TimeUnit.NANOSECONDS.toMicros(nanoTime - baseNanos);
+    }
+
+    /**
+     * Queues a call for writing without blocking.
+     *
+     * @param call Call to write
+     * @return Whether the call was queued, false if the buffer was full or the recorder is closed
+     */
+    public boolean record(CapturedCall call) {
+        if (!closed && !failed && buffer.offer(call)) {
+            recorded.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    /**
+     * @return Number of calls queued for writing.
+     */
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    /**
+     * @return Number of calls dropped because the buffer was full, the file could not be written or the recorder
+     * was closed.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return File the calls are written to.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes the queued calls, closes the file and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Capture closed: {} calls written to {}, {} dropped.", getRecordedCount(), file, getDroppedCount());
+    }
+
+    private void drain() {
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+        try (writer) {
+            while (true) {
+                CapturedCall call = buffer.poll();
+                if (call != null) {
+                    writer.write(call);
+                    dirty = true;
+                } else if (closed) {
+                    // Only calls still being offered while the recorder closes can be missed here
+                    break;
+                } else {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                if (dirty && System.nanoTime() - lastFlush >= flushIntervalNanos) {
+                    writer.flush();
+                    lastFlush = System.nanoTime();
+                    dirty = false;
+                }
+            }
+        } catch (IOException e) {
+            failed = true;
+            log.error("Capture to {} stopped, the file could not be written.", file, e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package edu.csudh.lsu.persistence.capture;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * Bounded lock-free queue with many producers and a single consumer.
+ * </p>
+ *
+ * <p>
+ * Every slot carries a sequence number telling whose turn it is: a producer claims the next position with one CAS
+ * on the tail and publishes its element by advancing the slot's sequence, and the consumer frees the slot by
+ * advancing the sequence by one lap. A producer never waits: when the buffer is full, {@link #offer(Object)}
+ * returns false and the element is dropped by the caller. {@link #poll()} must only be called from one thread.
+ * </p>
+ *
+ * @param <E> Type of the elements
+ */
+public final class CaptureRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;  // Only read and written by the consumer
+
+    /**
+     * Constructor for CaptureRingBuffer.
+     *
+     * @param requestedCapacity Minimum number of elements held, rounded up to a power of two
+     */
+    public CaptureRingBuffer(int requestedCapacity) {
+        Assert.isTrue(requestedCapacity > 0 && requestedCapacity <= 1 << 30, "Capacity must be between 1 and 2^30.");
+        this.capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Method to add an element without blocking.
+     *
+     * @param element Element to add, not null
+     * @return True if the element was added, false if the buffer is full
+     */
+    public boolean offer(E element) {
+        Assert.notNull(element, "Element must not be null.");
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    // Release store: the element is visible before the consumer sees the slot as filled
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // Another producer claimed the position first, try the next one
+        }
+    }
+
+    /**
+     * Method to remove the oldest element. Only the consumer thread may call it.
+     *
+     * @return Oldest element, null if the buffer is empty
+     */
+    public E poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.lazySet(index, head + capacity);
+        head++;
+        return element;
+    }
+
+    /**
+     * @return Number of elements the buffer holds at most.
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
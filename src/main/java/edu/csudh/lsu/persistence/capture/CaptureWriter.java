@@ -0,0 +1,174 @@
+package edu.csudh.lsu.persistence.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static edu.csudh.lsu.persistence.capture.CaptureFormat.*;
+
+/**
+ * Writes {@link CapturedCall}s in the {@link CaptureFormat capture format}. Not thread safe.
+ */
+public class CaptureWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private long previousEpochMicros;
+
+    /**
+     * Constructor for CaptureWriter. Writes the file header.
+     *
+     * @param out Stream the capture is written to, closed with the writer
+     * @throws IOException if the header cannot be written
+     */
+    public CaptureWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        this.out.write(MAGIC);
+        this.out.writeByte(VERSION);
+    }
+
+    /**
+     * Appends one call.
+     *
+     * @param call Call to write
+     * @throws IOException if the call cannot be written
+     */
+    public void write(CapturedCall call) throws IOException {
+        out.writeByte(RECORD);
+        // Calls are written in completion order, so the start time may go backwards
+        writeSignedVarLong(out, call.getEpochMicros() - previousEpochMicros);
+        previousEpochMicros = call.getEpochMicros();
+        writeString(call.getThreadName());
+        writeString(call.getDeclaringType());
+        writeString(call.getMethodName());
+        writeVarLong(out, call.getParameterTypes().size());
+        for (String parameterType : call.getParameterTypes()) {
+            writeString(parameterType);
+        }
+        writeVarLong(out, call.getArguments().size());
+        for (Object argument : call.getArguments()) {
+            writeValue(argument);
+        }
+        writeVarLong(out, call.getDurationNanos());
+        writeString(call.getFailure());
+        writeValue(call.getResultId());
+        writeVarLong(out, call.getAttempts());
+    }
+
+    /**
+     * Writes buffered calls to the underlying stream.
+     *
+     * @throws IOException if the calls cannot be written
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(TAG_STRING);
+            writeString(string);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(TAG_INT);
+            writeSignedVarLong(out, integer);
+        } else if (value instanceof Long number) {
+            out.writeByte(TAG_LONG);
+            writeSignedVarLong(out, number);
+        } else if (value instanceof Float number) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat(number);
+        } else if (value instanceof Double number) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(number);
+        } else if (value instanceof BigDecimal decimal) {
+            out.writeByte(TAG_DECIMAL);
+            writeString(decimal.toString());
+        } else if (value instanceof UUID uuid) {
+            out.writeByte(TAG_UUID);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof Date date) {
+            writeDate(date);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            writeVarLong(out, list.size());
+            for (Object element : list) {
+                writeValue(element);
+            }
+        } else if (value instanceof CapturedEntity entity) {
+            out.writeByte(TAG_ENTITY);
+            writeString(entity.getType());
+            writeVarLong(out, entity.getFields().size());
+            for (Map.Entry<String, Object> field : entity.getFields().entrySet()) {
+                writeString(field.getKey());
+                writeValue(field.getValue());
+            }
+        } else if (value instanceof CapturedPage page) {
+            out.writeByte(TAG_PAGE);
+            writeSignedVarLong(out, page.getPage());
+            writeVarLong(out, page.getSize());
+            writeString(page.getSort());
+        } else {
+            out.writeByte(TAG_NULL);
+        }
+    }
+
+    private void writeDate(Date date) throws IOException {
+        if (date instanceof java.sql.Date) {
+            out.writeByte(TAG_SQL_DATE);
+        } else if (date instanceof Time) {
+            out.writeByte(TAG_SQL_TIME);
+        } else if (date instanceof Timestamp) {
+            out.writeByte(TAG_TIMESTAMP);
+        } else {
+            out.writeByte(TAG_DATE);
+        }
+        writeSignedVarLong(out, date.getTime());
+        if (date instanceof Timestamp timestamp) {
+            writeVarLong(out, timestamp.getNanos());
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarLong(out, STRING_NULL);
+            return;
+        }
+        Integer index = strings.get(value);
+        if (index != null) {
+            writeVarLong(out, STRING_REFERENCE_BASE + (long) index);
+            return;
+        }
+        // Only short strings are interned; long ones such as masked signatures are rarely repeated
+        if (value.length() <= MAX_INTERNED_LENGTH) {
+            strings.put(value, strings.size());
+            writeVarLong(out, STRING_NEW);
+        } else {
+            writeVarLong(out, STRING_NEW_UNINTERNED);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,30 @@
+package edu.csudh.lsu.persistence.capture;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One recorded service call. Arguments are {@link CapturedValues captured} values, personal data already masked.
+ */
+@Value
+public class CapturedCall {
+
+    long epochMicros;               // Wall-clock start of the call, in microseconds since the epoch
+    String threadName;              // Thread the call ran on
+    String declaringType;           // Fully qualified name of the service class
+    String methodName;              // Name of the service method
+    List<String> parameterTypes;    // Fully qualified parameter types, identifying overloads
+    List<Object> arguments;         // Captured arguments, one per parameter
+    long durationNanos;             // Time the call took, every retry attempt and backoff included
+    String failure;                 // Class of the exception the call failed with, null if it succeeded
+    Object resultId;                // Captured id of the entity the call returned, null if it returned none
+    int attempts;                   // Transaction attempts the call took, 1 unless it was retried
+
+    /**
+     * @return Operation name as {@code Service.method}, the same as the metrics and spans use.
+     */
+    public String getOperation() {
+        return declaringType.substring(declaringType.lastIndexOf('.') + 1) + "." + methodName;
+    }
+}
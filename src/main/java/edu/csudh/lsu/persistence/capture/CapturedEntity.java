@@ -0,0 +1,15 @@
+package edu.csudh.lsu.persistence.capture;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Field values of an entity argument, by field name, in declaration order from the entity class up.
+ */
+@Value
+public class CapturedEntity {
+
+    String type;                    // Fully qualified name of the entity class
+    Map<String, Object> fields;     // Captured field values
+}
@@ -0,0 +1,14 @@
+package edu.csudh.lsu.persistence.capture;
+
+import lombok.Value;
+
+/**
+ * Page request argument; an unpaged request has a negative page number.
+ */
+@Value
+public class CapturedPage {
+
+    int page;       // Zero-based page number
+    int size;       // Page size
+    String sort;    // Sort as printed by Sort.toString(), e.g. "date: DESC,id: ASC", null if unsorted
+}
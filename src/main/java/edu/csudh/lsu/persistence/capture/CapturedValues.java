@@ -0,0 +1,227 @@
+package edu.csudh.lsu.persistence.capture;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * <p>
+ * Converts service arguments into immutable captured values and back.
+ * </p>
+ *
+ * <p>
+ * Strings, numbers, booleans, UUIDs and dates are kept as they are, dates as copies. Entities become
+ * {@link CapturedEntity field maps}, page requests {@link CapturedPage}s and collections lists. Any other value is
+ * captured as null. Arguments are captured before the call runs, since services fill in ids and audit columns of
+ * the entities they are given.
+ * </p>
+ */
+public final class CapturedValues {
+
+    private static final ClassValue<List<Field>> ENTITY_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return List.copyOf(fields);
+        }
+    };
+
+    private CapturedValues() {
+    }
+
+    /**
+     * Method to capture an argument.
+     *
+     * @param value         Argument
+     * @param name          Name of the parameter, null if unknown
+     * @param pseudonymizer Masks personal strings
+     * @return Captured value
+     */
+    public static Object capture(Object value, String name, Pseudonymizer pseudonymizer) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String string) {
+            return pseudonymizer.isPersonal(name) ? pseudonymizer.mask(string) : string;
+        }
+        if (value instanceof Boolean || value instanceof UUID || isSupportedNumber(value)) {
+            return value;
+        }
+        if (value instanceof Date date) {
+            return copy(date);
+        }
+        if (value instanceof Pageable pageable) {
+            if (pageable.isUnpaged()) {
+                return new CapturedPage(-1, 0, null);
+            }
+            Sort sort = pageable.getSort();
+            return new CapturedPage(pageable.getPageNumber(), pageable.getPageSize(),
+                    sort.isSorted() ? sort.toString() : null);
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> elements = new ArrayList<>(collection.size());
+            collection.forEach(element -> elements.add(capture(element, name, pseudonymizer)));
+            return elements;
+        }
+        if (value.getClass().isAnnotationPresent(Entity.class)) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            for (Field field : ENTITY_FIELDS.get(value.getClass())) {
+                fields.put(field.getName(), capture(read(field, value), field.getName(), pseudonymizer));
+            }
+            return new CapturedEntity(value.getClass().getName(), fields);
+        }
+        return null;
+    }
+
+    /**
+     * Method to capture the id of an entity returned by a call, so that a replay can map the ids it generates to the
+     * recorded ones.
+     *
+     * @param result        Result of the call
+     * @param pseudonymizer Masks personal ids, such as user ids
+     * @return Captured id, null if the result is not an entity
+     */
+    public static Object captureId(Object result, Pseudonymizer pseudonymizer) {
+        Field id = idField(result);
+        return id == null ? null : capture(read(id, result), id.getName(), pseudonymizer);
+    }
+
+    /**
+     * Method to read the id of an entity.
+     *
+     * @param result Result of a call
+     * @return Id, null if the result is not an entity
+     */
+    public static Object idOf(Object result) {
+        Field id = idField(result);
+        return id == null ? null : read(id, result);
+    }
+
+    /**
+     * Method to turn a captured value back into an argument.
+     *
+     * @param captured Captured value
+     * @return Argument equal to the captured one, with personal strings masked
+     * @throws IllegalArgumentException if an entity class cannot be found or instantiated
+     */
+    public static Object materialize(Object captured) {
+        if (captured instanceof CapturedEntity entity) {
+            return materializeEntity(entity);
+        }
+        if (captured instanceof CapturedPage page) {
+            return page.getPage() < 0
+                    ? Pageable.unpaged()
+                    : PageRequest.of(page.getPage(), page.getSize(), sortOf(page.getSort()));
+        }
+        if (captured instanceof List<?> list) {
+            List<Object> elements = new ArrayList<>(list.size());
+            list.forEach(element -> elements.add(materialize(element)));
+            return elements;
+        }
+        if (captured instanceof Date date) {
+            return copy(date);
+        }
+        return captured;
+    }
+
+    static boolean isSupportedNumber(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Float || value instanceof Double
+                || value instanceof BigDecimal;
+    }
+
+    /**
+     * Method to parse a sort printed by {@code Sort.toString()}.
+     *
+     * @param sort Printed sort such as {@code "date: DESC,id: ASC"}, null if unsorted
+     * @return Sort
+     */
+    static Sort sortOf(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.unsorted();
+        }
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String order : sort.split(",")) {
+            int separator = order.lastIndexOf(':');
+            orders.add(separator < 0
+                    ? Sort.Order.by(order.trim())
+                    : new Sort.Order(Sort.Direction.fromString(order.substring(separator + 1).trim()),
+                            order.substring(0, separator).trim()));
+        }
+        return Sort.by(orders);
+    }
+
+    private static Object materializeEntity(CapturedEntity captured) {
+        try {
+            Class<?> type = Class.forName(captured.getType(), true, Thread.currentThread().getContextClassLoader());
+            var constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            Object entity = constructor.newInstance();
+            for (Field field : ENTITY_FIELDS.get(type)) {
+                if (captured.getFields().containsKey(field.getName())) {
+                    field.set(entity, materialize(captured.getFields().get(field.getName())));
+                }
+            }
+            return entity;
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalArgumentException("Cannot materialize captured " + captured.getType() + ".", exception);
+        }
+    }
+
+    private static Field idField(Object value) {
+        if (value == null || !value.getClass().isAnnotationPresent(Entity.class)) {
+            return null;
+        }
+        for (Field field : ENTITY_FIELDS.get(value.getClass())) {
+            if (field.isAnnotationPresent(Id.class)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static Object read(Field field, Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException exception) {
+            return null;
+        }
+    }
+
+    private static Date copy(Date date) {
+        if (date instanceof java.sql.Date) {
+            return new java.sql.Date(date.getTime());
+        }
+        if (date instanceof Time) {
+            return new Time(date.getTime());
+        }
+        if (date instanceof Timestamp timestamp) {
+            Timestamp copy = new Timestamp(timestamp.getTime());
+            copy.setNanos(timestamp.getNanos());
+            return copy;
+        }
+        return new Date(date.getTime());
+    }
+}
@@ -0,0 +1,108 @@
+package edu.csudh.lsu.persistence.capture;
+
+import edu.csudh.lsu.persistence.transaction.TransactionRetryExecutor;
+import lombok.Value;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Records every public service call with its arguments to a {@link CaptureRecorder}, for the load simulator to
+ * replay.
+ * </p>
+ *
+ * <p>
+ * Arguments are captured on the calling thread before the call runs, personal strings pseudonymized by the
+ * {@link Pseudonymizer}, and so is the id of the entity the call returns; writing happens on the recorder's thread.
+ * Repository calls are not captured, since replaying the service calls re-issues them. The aspect runs outside the
+ * retry aspect, so a retried call is recorded once, with the time of every attempt and backoff and the number of
+ * attempts it took; replaying it re-issues the call once and lets the replaying side retry as it needs.
+ * </p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PersistenceCaptureAspect {
+
+    private final CaptureRecorder recorder;
+    private final Pseudonymizer pseudonymizer;
+    private final Map<Method, MethodDescription> methods = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for PersistenceCaptureAspect.
+     *
+     * @param recorder      Recorder the calls are written to
+     * @param pseudonymizer Masks personal strings
+     */
+    public PersistenceCaptureAspect(CaptureRecorder recorder, Pseudonymizer pseudonymizer) {
+        this.recorder = recorder;
+        this.pseudonymizer = pseudonymizer;
+    }
+
+    /**
+     * Records the invocation.
+     *
+     * @param joinPoint Intercepted invocation
+     * @return Result of the invocation
+     * @throws Throwable the failure of the invocation
+     */
+    @Around("within(edu.csudh.lsu.persistence.service..*) && execution(public * *(..))")
+    public Object capture(ProceedingJoinPoint joinPoint) throws Throwable {
+        var signature = (MethodSignature) joinPoint.getSignature();
+        MethodDescription method = methods.computeIfAbsent(signature.getMethod(), MethodDescription::of);
+        Object[] args = joinPoint.getArgs();
+        List<Object> arguments = new ArrayList<>(args.length);
+        for (int i = 0; i < args.length; i++) {
+            arguments.add(CapturedValues.capture(args[i], method.getParameterNames().get(i), pseudonymizer));
+        }
+
+        // Forget the attempts of an earlier call whose capture did not collect them
+        TransactionRetryExecutor.takeLastAttempts();
+        long start = System.nanoTime();
+        Object result = null;
+        String failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable throwable) {
+            failure = throwable.getClass().getName();
+            throw throwable;
+        } finally {
+            long end = System.nanoTime();
+            recorder.record(new CapturedCall(recorder.epochMicrosAt(start), Thread.currentThread().getName(),
+                    signature.getDeclaringType().getName(), method.getName(), method.getParameterTypes(), arguments,
+                    end - start, failure, CapturedValues.captureId(result, pseudonymizer),
+                    TransactionRetryExecutor.takeLastAttempts()));
+        }
+    }
+
+    /**
+     * Names of a method and its parameters, computed once per method.
+     */
+    @Value
+    static class MethodDescription {
+
+        String name;                    // Method name
+        List<String> parameterTypes;    // Fully qualified parameter types
+        List<String> parameterNames;    // Parameter names, null entries when compiled without -parameters
+
+        static MethodDescription of(Method method) {
+            Parameter[] parameters = method.getParameters();
+            return new MethodDescription(method.getName(),
+                    Arrays.stream(parameters).map(parameter -> parameter.getType().getName()).toList(),
+                    Arrays.stream(parameters).map(parameter -> parameter.isNamePresent() ? parameter.getName() : null)
+                            .toList());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package edu.csudh.lsu.persistence.capture;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <p>
+ * Records every public service call to a capture file when {@code lsu.persistence.capture.enabled=true}.
+ * </p>
+ *
+ * <p>
+ * The file is closed, and the calls still buffered written, when the context shuts down. It can be replayed against
+ * H2 with the load simulator's {@code lsu.simulator.replay-file}.
+ * </p>
+ */
+@Slf4j
+@AutoConfiguration
+@ConditionalOnProperty(prefix = CaptureProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CaptureProperties.class)
+public class PersistenceCaptureAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public CaptureRecorder captureRecorder(CaptureProperties properties) throws IOException {
+        CaptureRecorder recorder = new CaptureRecorder(Path.of(properties.getFile()), properties.getBufferCapacity(),
+                properties.getFlushIntervalMillis());
+        log.info("Service call capture enabled: writing to {}.", recorder.getFile().toAbsolutePath());
+        return recorder;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PersistenceCaptureAspect persistenceCaptureAspect(CaptureRecorder captureRecorder) {
+        return new PersistenceCaptureAspect(captureRecorder, new Pseudonymizer());
+    }
+}
@@ -0,0 +1,77 @@
+package edu.csudh.lsu.persistence.capture;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * <p>
+ * Replaces personal data in captured arguments by pseudonyms.
+ * </p>
+ *
+ * <p>
+ * A pseudonym is the salted SHA-256 of the value in hex, repeated to the length of the value and at least
+ * {@value #MIN_LENGTH} characters long. Equal values get equal pseudonyms within one capture, so that a replayed
+ * lookup by attendant name still finds the rows the replay inserted under that name, and row widths stay realistic.
+ * The salt is random per capture and never written, so pseudonyms cannot be reversed by hashing guesses.
+ * </p>
+ *
+ * <p>
+ * Strings are personal unless they are known to hold reference data, such as the activity or the payment mode,
+ * or their name is unknown. Arguments of methods compiled without parameter names are therefore always masked.
+ * </p>
+ */
+public class Pseudonymizer {
+
+    static final int MIN_LENGTH = 12;
+
+    // Entity fields and service parameters holding reference data rather than personal data
+    static final Set<String> NON_PERSONAL = Set.of("activity", "category", "price", "imageLocation", "paymentMode",
+            "duration", "shiftTotal", "role", "permission", "idempotencyKey");
+
+    private final byte[] salt = new byte[16];
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(Pseudonymizer::sha256);
+
+    /**
+     * Constructor for Pseudonymizer.
+     */
+    public Pseudonymizer() {
+        new SecureRandom().nextBytes(salt);
+    }
+
+    /**
+     * @param name Name of the field or parameter, null if unknown
+     * @return True if a string with this name is masked.
+     */
+    public boolean isPersonal(String name) {
+        return name == null || !NON_PERSONAL.contains(name);
+    }
+
+    /**
+     * Method to compute the pseudonym of a value.
+     *
+     * @param value Value to mask, may be null
+     * @return Pseudonym, null for null
+     */
+    public String mask(String value) {
+        if (value == null) {
+            return null;
+        }
+        MessageDigest digest = digests.get();
+        digest.update(salt);
+        String hash = HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        int length = Math.max(MIN_LENGTH, value.length());
+        return hash.repeat(length / hash.length() + 1).substring(0, length);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available.", exception);
+        }
+    }
+}
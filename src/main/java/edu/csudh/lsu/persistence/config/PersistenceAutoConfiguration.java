@@ -0,0 +1,33 @@
+package edu.csudh.lsu.persistence.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * <p>
+ * Auto-configuration of the CockroachDB tuning of the library.
+ * </p>
+ *
+ * <p>
+ * The defaults themselves are published by {@link PersistenceDefaultsEnvironmentPostProcessor} before any bean is
+ * created, so Spring Boot's datasource and JPA auto-configuration consume them like any other property. This class
+ * exposes the bound {@link PersistenceProperties} and logs the effective settings at startup.
+ * </p>
+ */
+@AutoConfiguration(before = {DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class})
+@ConditionalOnProperty(prefix = PersistenceProperties.PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(PersistenceProperties.class)
+public class PersistenceAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PersistenceSettingsReporter persistenceSettingsReporter(Environment environment) {
+        return new PersistenceSettingsReporter(environment);
+    }
+}
@@ -0,0 +1,111 @@
+package edu.csudh.lsu.persistence.config;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Publishes the {@link PersistenceProperties} tuning as default {@code spring.datasource.hikari.*} and
+ * {@code spring.jpa.properties.hibernate.*} properties.
+ * </p>
+ *
+ * <p>
+ * The defaults are added as the last property source of the environment, so Spring Boot's own Hikari and JPA
+ * auto-configuration pick them up and every explicitly configured property of the application overrides them. The
+ * pgjdbc driver properties are only added when the datasource URL uses the PostgreSQL driver; other drivers such as
+ * H2 reject unknown connection settings.
+ * </p>
+ *
+ * <p>
+ * Logging is not initialized yet when this runs, so the warning about an unsized pool goes through Spring Boot's
+ * deferred log and is printed once logging starts.
+ * </p>
+ */
+public class PersistenceDefaultsEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    public static final String PROPERTY_SOURCE_NAME = "lsuPersistenceDefaults";
+
+    private static final String HIKARI = "spring.datasource.hikari.";
+    private static final String DRIVER = HIKARI + "data-source-properties.";
+    private static final String HIBERNATE = "spring.jpa.properties.hibernate.";
+    private static final String POSTGRESQL_URL_PREFIX = "jdbc:postgresql:";
+
+    private final Log log;
+
+    /**
+     * Constructor for PersistenceDefaultsEnvironmentPostProcessor.
+     *
+     * @param logFactory Factory of the log that is replayed once logging is initialized
+     */
+    public PersistenceDefaultsEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(PersistenceDefaultsEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        Binder binder = Binder.get(environment);
+        PersistenceProperties properties = binder.bindOrCreate(PersistenceProperties.PREFIX, PersistenceProperties.class);
+        if (!properties.isEnabled() || environment.getPropertySources().contains(PROPERTY_SOURCE_NAME)) {
+            return;
+        }
+        if (!properties.getPool().isSized() && !environment.containsProperty(HIKARI + "maximum-pool-size")) {
+            log.warn(PersistenceProperties.PREFIX + ".pool.cluster-vcpus is not set, the connection pool falls back to "
+                    + PersistenceProperties.Pool.FALLBACK_MAXIMUM_POOL_SIZE + " connections. Set it to the vCPUs of "
+                    + "the CockroachDB cluster, or set " + PersistenceProperties.PREFIX + ".pool.maximum-pool-size.");
+        }
+        String url = binder.bind("spring.datasource.url", String.class)
+                .orElseGet(() -> binder.bind(HIKARI + "jdbc-url", String.class).orElse(null));
+        environment.getPropertySources().addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, defaults(properties, url)));
+    }
+
+    /**
+     * Builds the default properties for the given tuning.
+     *
+     * @param properties Tuning to translate
+     * @param url        JDBC URL of the datasource, may be null
+     * @return Spring Boot property names mapped to their default values
+     */
+    static Map<String, Object> defaults(PersistenceProperties properties, String url) {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+
+        // Fixed-size pool, as recommended for CockroachDB
+        int maximumPoolSize = properties.getPool().resolveMaximumPoolSize();
+        defaults.put(HIKARI + "maximum-pool-size", maximumPoolSize);
+        defaults.put(HIKARI + "minimum-idle", maximumPoolSize);
+
+        PersistenceProperties.Jdbc jdbc = properties.getJdbc();
+        defaults.put(HIBERNATE + "jdbc.batch_size", jdbc.getBatchSize());
+        defaults.put(HIBERNATE + "order_inserts", jdbc.isOrderInserts());
+        defaults.put(HIBERNATE + "order_updates", jdbc.isOrderUpdates());
+        defaults.put(HIBERNATE + "jdbc.batch_versioned_data", true);
+        defaults.put(HIBERNATE + "jdbc.fetch_size", jdbc.getFetchSize());
+
+        PersistenceProperties.Hibernate hibernate = properties.getHibernate();
+        defaults.put(HIBERNATE + "query.plan_cache_max_size", hibernate.getQueryPlanCacheMaxSize());
+        defaults.put(HIBERNATE + "query.in_clause_parameter_padding", hibernate.isInClauseParameterPadding());
+
+        if (url != null && url.startsWith(POSTGRESQL_URL_PREFIX)) {
+            defaults.put(DRIVER + "reWriteBatchedInserts", jdbc.isReWriteBatchedInserts());
+            defaults.put(DRIVER + "prepareThreshold", jdbc.getPrepareThreshold());
+            defaults.put(DRIVER + "preparedStatementCacheQueries", jdbc.getPreparedStatementCacheQueries());
+            defaults.put(DRIVER + "preparedStatementCacheSizeMiB", jdbc.getPreparedStatementCacheSizeMib());
+            defaults.put(DRIVER + "defaultRowFetchSize", jdbc.getFetchSize());
+        }
+        return defaults;
+    }
+
+    @Override
+    public int getOrder() {
+        // Runs after the application's config files have been loaded
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
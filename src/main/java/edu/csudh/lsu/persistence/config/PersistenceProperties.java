@@ -0,0 +1,128 @@
+package edu.csudh.lsu.persistence.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p>
+ * CockroachDB-tuned defaults for the connection pool, the JDBC driver and Hibernate, bound from
+ * {@code lsu.persistence.tuning.*}.
+ * </p>
+ *
+ * <p>
+ * These values are only defaults: {@link PersistenceDefaultsEnvironmentPostProcessor} publishes them as the lowest
+ * precedence property source, so any {@code spring.datasource.hikari.*} or {@code spring.jpa.properties.*} setting
+ * of the consuming application still wins. Set {@code lsu.persistence.tuning.enabled=false} to turn them off.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = PersistenceProperties.PREFIX)
+public class PersistenceProperties {
+
+    public static final String PREFIX = "lsu.persistence.tuning";
+
+    private boolean enabled = true;
+
+    private final Pool pool = new Pool();
+
+    private final Jdbc jdbc = new Jdbc();
+
+    private final Hibernate hibernate = new Hibernate();
+
+    /**
+     * Hikari pool sizing. CockroachDB recommends about four active connections per vCPU of the cluster, shared by
+     * every instance of the application, and a fixed-size pool so connections are not churned under load. The
+     * processors of the application host say nothing about the cluster, so without {@code cluster-vcpus} the pool
+     * falls back to a fixed {@value #FALLBACK_MAXIMUM_POOL_SIZE} connections.
+     */
+    @Getter
+    @Setter
+    @ToString
+    public static class Pool {
+
+        // Hikari's own default pool size
+        public static final int FALLBACK_MAXIMUM_POOL_SIZE = 10;
+
+        // vCPUs of the CockroachDB cluster, required for the vCPU based size
+        private Integer clusterVcpus;
+
+        private int connectionsPerVcpu = 4;
+
+        // Application instances sharing the cluster, the connection budget is split between them
+        private int instances = 1;
+
+        // Explicit pool size, takes precedence over the vCPU based size
+        private Integer maximumPoolSize;
+
+        /**
+         * Resolves the pool size: the explicit {@code maximum-pool-size} if set, otherwise
+         * {@code clusterVcpus * connectionsPerVcpu / instances}, never less than two, and
+         * {@value #FALLBACK_MAXIMUM_POOL_SIZE} when the cluster vCPUs are not configured either.
+         *
+         * @return Maximum number of connections of the pool
+         */
+        public int resolveMaximumPoolSize() {
+            if (maximumPoolSize != null) {
+                return Math.max(1, maximumPoolSize);
+            }
+            if (clusterVcpus == null) {
+                return FALLBACK_MAXIMUM_POOL_SIZE;
+            }
+            return Math.max(2, clusterVcpus * connectionsPerVcpu / Math.max(1, instances));
+        }
+
+        /**
+         * @return Whether the pool size is configured, explicitly or through the cluster vCPUs.
+         */
+        public boolean isSized() {
+            return maximumPoolSize != null || clusterVcpus != null;
+        }
+    }
+
+    /**
+     * JDBC batching, fetching and pgjdbc driver settings. The driver settings are only applied when the datasource
+     * URL points at the PostgreSQL driver CockroachDB is reached through.
+     */
+    @Getter
+    @Setter
+    @ToString
+    public static class Jdbc {
+
+        // CockroachDB recommends batches of 128 rows for multi-row inserts
+        private int batchSize = 128;
+
+        private boolean orderInserts = true;
+
+        private boolean orderUpdates = true;
+
+        private int fetchSize = 100;
+
+        // Lets pgjdbc rewrite a batch of single-row INSERTs into multi-row INSERTs
+        private boolean reWriteBatchedInserts = true;
+
+        // Executions of a statement before pgjdbc switches it to a server-side prepared statement
+        private int prepareThreshold = 5;
+
+        private int preparedStatementCacheQueries = 256;
+
+        private int preparedStatementCacheSizeMib = 5;
+    }
+
+    /**
+     * Hibernate query plan settings. The library issues a small, fixed set of queries, so a modest plan cache with
+     * padded IN clauses keeps every plan cached without holding thousands of entries.
+     */
+    @Getter
+    @Setter
+    @ToString
+    public static class Hibernate {
+
+        private int queryPlanCacheMaxSize = 256;
+
+        private boolean inClauseParameterPadding = true;
+    }
+}
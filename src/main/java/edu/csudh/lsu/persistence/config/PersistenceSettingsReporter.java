@@ -0,0 +1,64 @@
+package edu.csudh.lsu.persistence.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logs the pool, JDBC and Hibernate settings in effect once the application context has started, after the
+ * tuning defaults and the application's own configuration have been merged.
+ */
+@Slf4j
+public class PersistenceSettingsReporter implements SmartInitializingSingleton {
+
+    static final List<String> REPORTED_PROPERTIES = List.of(
+            "spring.datasource.hikari.maximum-pool-size",
+            "spring.datasource.hikari.minimum-idle",
+            "spring.jpa.properties.hibernate.jdbc.batch_size",
+            "spring.jpa.properties.hibernate.order_inserts",
+            "spring.jpa.properties.hibernate.order_updates",
+            "spring.jpa.properties.hibernate.jdbc.fetch_size",
+            "spring.jpa.properties.hibernate.query.plan_cache_max_size",
+            "spring.jpa.properties.hibernate.query.in_clause_parameter_padding",
+            "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts",
+            "spring.datasource.hikari.data-source-properties.prepareThreshold",
+            "spring.datasource.hikari.data-source-properties.preparedStatementCacheQueries",
+            "spring.datasource.hikari.data-source-properties.preparedStatementCacheSizeMiB",
+            "spring.datasource.hikari.data-source-properties.defaultRowFetchSize");
+
+    private final Environment environment;
+
+    /**
+     * Constructor for PersistenceSettingsReporter.
+     *
+     * @param environment Environment the effective settings are read from
+     */
+    public PersistenceSettingsReporter(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        log.info("Effective persistence settings: {}", effectiveSettings());
+    }
+
+    /**
+     * Reads the effective value of every reported setting; settings that are not configured are left out.
+     *
+     * @return Property names mapped to their effective values, in a stable order
+     */
+    public Map<String, String> effectiveSettings() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        for (String property : REPORTED_PROPERTIES) {
+            String value = environment.getProperty(property);
+            if (value != null) {
+                settings.put(property, value);
+            }
+        }
+        return settings;
+    }
+}
@@ -21,13 +21,17 @@ public class PersistenceConstants {
     public static final String ENTITY_MUST_NOT_BE_EMPTY = "Entity must not be empty.";
     public static final String ENTITY_MUST_NOT_BE_NULL = "Entity must not be null.";
     public static final String AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD = "An exception occurred while upserting a record.";
+    public static final String A_DASHBOARD_QUERY_TIMED_OUT = "A dashboard query timed out.";
 
     // Format
     public static final String DATE = "yyyy-MM-dd'T'HH:mm:ss.SSS";
 
     public static final String COMMA = ",";
-    public static final String OPEN_BRACKET = ")";
-    public static final String CLOSE_BRACKET = "(";
+    public static final String OPEN_BRACKET = "(";
+    public static final String CLOSE_BRACKET = ")";
+
+    // Transaction retry
+    public static final String SERIALIZATION_FAILURE_SQL_STATE = "40001";
 
 
 }
@@ -0,0 +1,52 @@
+package edu.csudh.lsu.persistence.dashboard;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import lombok.Value;
+import org.springframework.data.domain.Page;
+
+import java.sql.Date;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Immutable view of everything the front-desk dashboard shows, read in one concurrent fan-out by
+ * {@link DashboardSnapshotService}.
+ * </p>
+ */
+@Value
+public class DashboardSnapshot {
+
+    Date date;                                  // Date the attendant totals were calculated for
+    List<String> categories;                    // All activity categories
+    Map<String, Object> totalCostsByAttendant;  // Total costs per attendant, in the order the attendants were requested
+    Page<ShiftReport> shiftReports;             // Requested page of shift reports
+    long elapsedMillis;                         // Wall-clock time taken to build the snapshot
+
+    /**
+     * Constructor for DashboardSnapshot. Collections are copied so later changes by the caller are not visible.
+     *
+     * @param date                  Date the attendant totals were calculated for
+     * @param categories            All activity categories
+     * @param totalCostsByAttendant Total costs per attendant, may contain null totals
+     * @param shiftReports          Requested page of shift reports
+     * @param elapsedMillis         Wall-clock time taken to build the snapshot
+     */
+    public DashboardSnapshot(Date date, List<String> categories, Map<String, Object> totalCostsByAttendant,
+                             Page<ShiftReport> shiftReports, long elapsedMillis) {
+        this.date = date == null ? null : new Date(date.getTime());
+        this.categories = categories == null ? List.of() : List.copyOf(categories);
+        this.totalCostsByAttendant = Collections.unmodifiableMap(new LinkedHashMap<>(totalCostsByAttendant));
+        this.shiftReports = shiftReports == null ? Page.empty() : shiftReports;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * @return Copy of the date, since {@link Date} is mutable.
+     */
+    public Date getDate() {
+        return date == null ? null : new Date(date.getTime());
+    }
+}
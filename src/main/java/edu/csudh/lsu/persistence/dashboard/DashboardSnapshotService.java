@@ -0,0 +1,194 @@
+package edu.csudh.lsu.persistence.dashboard;
+
+import edu.csudh.lsu.persistence.async.AsyncActivityService;
+import edu.csudh.lsu.persistence.async.AsyncPersistenceExecutor;
+import edu.csudh.lsu.persistence.async.AsyncShiftReportService;
+import edu.csudh.lsu.persistence.async.AsyncShiftTotalService;
+import edu.csudh.lsu.persistence.constants.PersistenceConstants;
+import edu.csudh.lsu.persistence.exception.PersistenceException;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.TransactionException;
+import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * <p>
+ * Builds the front-desk dashboard in one concurrent fan-out.
+ * </p>
+ *
+ * <p>
+ * The category list, the total costs of every attendant and the page of shift reports are independent reads, so
+ * they are started concurrently on the async service facades and joined at the end. End-to-end latency is that of
+ * the slowest query rather than the sum of all of them. By default as many attendant totals run at once as
+ * {@link AsyncPersistenceExecutor} has database permits, which already bound the connections in use;
+ * {@code lsu.persistence.dashboard.max-concurrent-attendant-queries} lowers that to leave permits for other callers.
+ * </p>
+ *
+ * <p>
+ * Every query is bounded by a statement timeout in the database, and the caller stops waiting for it after the same
+ * time. The first failure or timeout fails the whole snapshot at once, and attendant totals not yet started are not
+ * started anymore.
+ * </p>
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+    @Autowired
+    private AsyncActivityService asyncActivityService;
+
+    @Autowired
+    private AsyncShiftTotalService asyncShiftTotalService;
+
+    @Autowired
+    private AsyncShiftReportService asyncShiftReportService;
+
+    @Value("${lsu.persistence.dashboard.query-timeout-millis:2000}")
+    private long queryTimeoutMillis;
+
+    @Autowired
+    private AsyncPersistenceExecutor asyncPersistenceExecutor;
+
+    // Zero or less runs as many attendant totals at once as the executor has database permits
+    @Value("${lsu.persistence.dashboard.max-concurrent-attendant-queries:0}")
+    private int maxConcurrentAttendantQueries;
+
+    /**
+     * Reads every part of the dashboard concurrently and combines the results into one snapshot.
+     *
+     * @param attendantNames Attendants whose total costs are shown, duplicates are read once
+     * @param date           Date the attendant totals are calculated for
+     * @param pageable       Page of shift reports to show
+     * @return Immutable snapshot of the dashboard
+     * @throws TransactionException                  if a transaction error occurs during a query.
+     * @throws JDBCConnectionException               if there is a JDBC connection issue.
+     * @throws JpaSystemException                    if there is a JPA system error.
+     * @throws DataAccessResourceFailureException    if a data access resource fails.
+     * @throws PersistenceException                  if a query times out or a general persistence error occurs.
+     */
+    public DashboardSnapshot fetchSnapshot(List<String> attendantNames, Date date, Pageable pageable)
+            throws TransactionException, JDBCConnectionException, JpaSystemException, DataAccessResourceFailureException {
+
+        long start = System.nanoTime();
+        log.debug("Fetching dashboard snapshot for {} attendants on date '{}'.", attendantNames.size(), date);
+
+        // Completed exceptionally by the first query that fails, so the snapshot does not wait for the others
+        CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+        CompletableFuture<List<String>> categories = failFast(withTimeout(asyncActivityService.fetchAllCategories(queryTimeoutMillis)), firstFailure);
+        CompletableFuture<Page<ShiftReport>> shiftReports = failFast(withTimeout(asyncShiftReportService.fetchAllShiftReports(pageable, queryTimeoutMillis)), firstFailure);
+        Map<String, CompletableFuture<Object>> totalCosts = new LinkedHashMap<>();
+        for (String attendantName : new LinkedHashSet<>(attendantNames)) {
+            totalCosts.put(attendantName, failFast(new CompletableFuture<>(), firstFailure));
+        }
+        Queue<Map.Entry<String, CompletableFuture<Object>>> pendingTotalCosts = new ConcurrentLinkedQueue<>(totalCosts.entrySet());
+        int lanes = maxConcurrentAttendantQueries > 0 ? maxConcurrentAttendantQueries : asyncPersistenceExecutor.getMaxConcurrency();
+        for (int lane = 0; lane < lanes; lane++) {
+            startNextTotalCosts(pendingTotalCosts, date, firstFailure);
+        }
+
+        List<CompletableFuture<?>> queries = new ArrayList<>(totalCosts.values());
+        queries.add(categories);
+        queries.add(shiftReports);
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(queries.toArray(CompletableFuture[]::new)), firstFailure).join();
+        } catch (CompletionException exception) {
+            throw translate(exception.getCause());
+        }
+
+        Map<String, Object> totalCostsByAttendant = new LinkedHashMap<>();
+        totalCosts.forEach((attendantName, query) -> totalCostsByAttendant.put(attendantName, query.join()));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Fetched dashboard snapshot with {} queries in {} ms.", queries.size(), elapsedMillis);
+        return new DashboardSnapshot(date, categories.join(), totalCostsByAttendant, shiftReports.join(), elapsedMillis);
+    }
+
+    /**
+     * Starts the total costs query of the next pending attendant, and the one after it once that query succeeds.
+     */
+    private void startNextTotalCosts(Queue<Map.Entry<String, CompletableFuture<Object>>> pending, Date date,
+                                     CompletableFuture<Void> firstFailure) {
+        Map.Entry<String, CompletableFuture<Object>> next = pending.poll();
+        if (next == null || firstFailure.isDone()) {
+            return;
+        }
+        CompletableFuture<Object> query;
+        try {
+            query = asyncShiftTotalService.calculateTotalCostsByAttendantNameAndDate(next.getKey(), date, queryTimeoutMillis);
+        } catch (RuntimeException exception) {
+            // Possibly on the thread of a finished query, where a thrown exception would be lost
+            next.getValue().completeExceptionally(exception);
+            return;
+        }
+        withTimeout(query)
+                .whenComplete((totalCosts, failure) -> {
+                    if (failure != null) {
+                        next.getValue().completeExceptionally(failure);
+                    } else {
+                        next.getValue().complete(totalCosts);
+                        startNextTotalCosts(pending, date, firstFailure);
+                    }
+                });
+    }
+
+    private static <T> CompletableFuture<T> failFast(CompletableFuture<T> query, CompletableFuture<Void> firstFailure) {
+        query.whenComplete((result, failure) -> {
+            if (failure != null) {
+                firstFailure.completeExceptionally(failure);
+            }
+        });
+        return query;
+    }
+
+    private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> query) {
+        return query.orTimeout(queryTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean isTimeout(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof QueryTimeoutException
+                    || cause instanceof jakarta.persistence.QueryTimeoutException
+                    || cause instanceof TransactionTimedOutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RuntimeException translate(Throwable failure) {
+        if (isTimeout(failure)) {
+            log.error("A dashboard query did not finish within {} ms.", queryTimeoutMillis);
+            return new PersistenceException(PersistenceConstants.A_DASHBOARD_QUERY_TIMED_OUT,
+                    "Timed out after " + queryTimeoutMillis + " ms", failure);
+        }
+        if (failure instanceof DataAccessResourceFailureException || failure instanceof JDBCConnectionException
+                || failure instanceof JpaSystemException || failure instanceof TransactionException
+                || failure instanceof PersistenceException) {
+            log.error("Data access or transaction failure while fetching dashboard snapshot.", failure);
+            return (RuntimeException) failure;
+        }
+        log.error("An unexpected error occurred while fetching dashboard snapshot.", failure);
+        return new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, failure.getMessage(), failure);
+    }
+}
@@ -0,0 +1,82 @@
+package edu.csudh.lsu.persistence.dashboard;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Instant;
+
+/**
+ * <p>
+ * Immutable aggregates of today's shift totals and shift reports, recomputed in the background by
+ * {@link TodaySnapshotRefresher}.
+ * </p>
+ */
+@Value
+public class TodaySnapshot {
+
+    Date date;                          // Date the aggregates were calculated for
+    long sessionCount;                  // Number of shift totals recorded on the date
+    BigDecimal totalRevenue;            // Sum of the cost of every shift total on the date
+    BigDecimal totalRevenueCard;        // Sum of the cost of card shift totals on the date
+    BigDecimal totalRevenueCash;        // Sum of the cost of cash shift totals on the date
+    long shiftReportCount;              // Number of shift reports closed on the date
+    BigDecimal reportedRevenueCard;     // Card revenue reported by the shift reports closed on the date
+    BigDecimal reportedRevenueCash;     // Cash revenue reported by the shift reports closed on the date
+    Instant refreshedAt;                // When the aggregates were read, null if they never were
+
+    /**
+     * Constructor for TodaySnapshot. Null amounts are stored as zero.
+     *
+     * @param date                Date the aggregates were calculated for
+     * @param sessionCount        Number of shift totals recorded on the date
+     * @param totalRevenue        Sum of the cost of every shift total on the date
+     * @param totalRevenueCard    Sum of the cost of card shift totals on the date
+     * @param totalRevenueCash    Sum of the cost of cash shift totals on the date
+     * @param shiftReportCount    Number of shift reports closed on the date
+     * @param reportedRevenueCard Card revenue reported by the shift reports closed on the date
+     * @param reportedRevenueCash Cash revenue reported by the shift reports closed on the date
+     * @param refreshedAt         When the aggregates were read, null if they never were
+     */
+    public TodaySnapshot(Date date, long sessionCount, BigDecimal totalRevenue, BigDecimal totalRevenueCard,
+                         BigDecimal totalRevenueCash, long shiftReportCount, BigDecimal reportedRevenueCard,
+                         BigDecimal reportedRevenueCash, Instant refreshedAt) {
+        this.date = date == null ? null : new Date(date.getTime());
+        this.sessionCount = sessionCount;
+        this.totalRevenue = zeroIfNull(totalRevenue);
+        this.totalRevenueCard = zeroIfNull(totalRevenueCard);
+        this.totalRevenueCash = zeroIfNull(totalRevenueCash);
+        this.shiftReportCount = shiftReportCount;
+        this.reportedRevenueCard = zeroIfNull(reportedRevenueCard);
+        this.reportedRevenueCash = zeroIfNull(reportedRevenueCash);
+        this.refreshedAt = refreshedAt;
+    }
+
+    /**
+     * Snapshot served before the first refresh has finished.
+     *
+     * @param date Date the snapshot stands for
+     * @return Snapshot with zero counts and amounts and no refresh time
+     */
+    public static TodaySnapshot empty(Date date) {
+        return new TodaySnapshot(date, 0, null, null, null, 0, null, null, null);
+    }
+
+    /**
+     * @return Copy of the date, since {@link Date} is mutable.
+     */
+    public Date getDate() {
+        return date == null ? null : new Date(date.getTime());
+    }
+
+    /**
+     * @return Whether the snapshot holds aggregates read from the database.
+     */
+    public boolean isLoaded() {
+        return refreshedAt != null;
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal amount) {
+        return amount == null ? BigDecimal.ZERO : amount;
+    }
+}
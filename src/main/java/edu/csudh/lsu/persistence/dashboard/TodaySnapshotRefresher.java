@@ -0,0 +1,224 @@
+package edu.csudh.lsu.persistence.dashboard;
+
+import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftReportRepository;
+import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftTotalRepository;
+import edu.csudh.lsu.persistence.utils.TimeUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Keeps today's revenue and session counts in memory so polling screens never touch the database.
+ * </p>
+ *
+ * <p>
+ * A single background thread recomputes the aggregates of SHIFT_TOTAL and SHIFT_REPORT for the current PST date
+ * every few seconds, both in one read-only transaction, and publishes the result by swapping an
+ * {@link AtomicReference}. {@link #current()} is a plain volatile read: it never blocks, never waits for a refresh
+ * and never queries the database. A failed refresh keeps serving the previous snapshot, which then shows up as a
+ * growing {@link #getStalenessMillis() staleness}.
+ * </p>
+ *
+ * <p>
+ * The refresher is only created when {@code lsu.persistence.today-snapshot.enabled=true}; the interval is set with
+ * {@code lsu.persistence.today-snapshot.refresh-interval-seconds}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "lsu.persistence.today-snapshot", name = "enabled", havingValue = "true")
+public class TodaySnapshotRefresher implements InitializingBean, DisposableBean {
+
+    private final ShiftTotalRepository shiftTotalRepository;
+    private final ShiftReportRepository shiftReportRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long refreshIntervalSeconds;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<TodaySnapshot> snapshot;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private volatile long lastRefreshDurationNanos = -1;
+
+    /**
+     * Constructor for TodaySnapshotRefresher.
+     *
+     * @param shiftTotalRepository   Repository the shift total aggregates are read from
+     * @param shiftReportRepository  Repository the shift report aggregates are read from
+     * @param transactionManager     Transaction manager used to read both aggregates in one read-only transaction
+     * @param refreshIntervalSeconds Seconds between the end of one refresh and the start of the next
+     */
+    public TodaySnapshotRefresher(ShiftTotalRepository shiftTotalRepository, ShiftReportRepository shiftReportRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${lsu.persistence.today-snapshot.refresh-interval-seconds:5}") long refreshIntervalSeconds) {
+        Assert.isTrue(refreshIntervalSeconds > 0, "Refresh interval must be positive.");
+        this.shiftTotalRepository = shiftTotalRepository;
+        this.shiftReportRepository = shiftReportRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+        this.snapshot = new AtomicReference<>(TodaySnapshot.empty(today()));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("today-snapshot-refresher").daemon().factory());
+    }
+
+    /**
+     * Starts the periodic refresh, beginning immediately.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshIntervalSeconds, TimeUnit.SECONDS);
+        log.info("Today snapshot refresher started with a {} s refresh interval.", refreshIntervalSeconds);
+    }
+
+    /**
+     * Returns the latest published snapshot without touching the database. Until the first refresh has finished
+     * this is an empty snapshot for which {@link TodaySnapshot#isLoaded()} is false.
+     *
+     * @return Latest snapshot of today's aggregates
+     */
+    public TodaySnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Requests a refresh ahead of the schedule, e.g. after a shift total was saved. When called inside a transaction
+     * the refresh is requested once that transaction commits, so it sees the new row. Requests arriving while a
+     * refresh is already pending are coalesced into it.
+     */
+    public void forceRefresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRefresh();
+                }
+            });
+        } else {
+            scheduleRefresh();
+        }
+    }
+
+    /**
+     * @return Milliseconds since the published snapshot was read from the database, or -1 if it never was.
+     */
+    public long getStalenessMillis() {
+        Instant refreshedAt = snapshot.get().getRefreshedAt();
+        return refreshedAt == null ? -1 : Math.max(0, Duration.between(refreshedAt, Instant.now()).toMillis());
+    }
+
+    /**
+     * @return Milliseconds the last successful refresh took, or -1 if none has finished yet.
+     */
+    public long getLastRefreshDurationMillis() {
+        long nanos = lastRefreshDurationNanos;
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * @return Number of successful refreshes.
+     */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * @return Number of failed refreshes.
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * Stops the background refresh.
+     */
+    @Override
+    public void destroy() {
+        log.info("Shutting down today snapshot refresher.");
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Reads today's aggregates and publishes them. Runs on the refresher thread.
+     */
+    void refresh() {
+        refreshPending.set(false);
+        long start = System.nanoTime();
+        Date today = today();
+        TodaySnapshot refreshed = transactionTemplate.execute(status -> {
+            Object[] totals = firstRow(shiftTotalRepository.summarizeByDate(today), 4);
+            Object[] reports = firstRow(shiftReportRepository.summarizeByClosingShiftDate(today), 3);
+            return new TodaySnapshot(today,
+                    toLong(totals[0]), toBigDecimal(totals[1]), toBigDecimal(totals[2]), toBigDecimal(totals[3]),
+                    toLong(reports[0]), toBigDecimal(reports[1]), toBigDecimal(reports[2]),
+                    Instant.now());
+        });
+        snapshot.set(refreshed);
+        lastRefreshDurationNanos = System.nanoTime() - start;
+        refreshes.increment();
+        log.debug("Refreshed today snapshot for '{}' in {} ms.", today, getLastRefreshDurationMillis());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception exception) {
+            // Keep the previous snapshot and the schedule alive; the next run tries again
+            refreshFailures.increment();
+            log.error("Failed to refresh today snapshot, serving a snapshot {} ms old.", getStalenessMillis(), exception);
+        }
+    }
+
+    private void scheduleRefresh() {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(this::refreshQuietly);
+        } catch (RejectedExecutionException exception) {
+            refreshPending.set(false);
+            log.warn("Today snapshot refresher is shut down, ignoring forced refresh.");
+        }
+    }
+
+    private static Date today() {
+        return new Date(TimeUtils.getFormattedCurrentPSTTime().getTime());
+    }
+
+    private static Object[] firstRow(List<Object[]> rows, int columns) {
+        return rows == null || rows.isEmpty() || rows.get(0) == null ? new Object[columns] : rows.get(0);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        return value instanceof Number number ? new BigDecimal(number.toString()) : BigDecimal.ZERO;
+    }
+}
@@ -29,4 +29,17 @@ public class PersistenceException extends RuntimeException{
         this.errorDescription = errorDescription;
         this.errorCode = errorCode;
     }
+
+    /**
+     * Constructor to handle the error message, error code and root cause initialization
+     *
+     * @param errorDescription Error Description
+     * @param errorCode Error Code
+     * @param cause Root cause of the failure
+     */
+    public PersistenceException(String errorDescription, String errorCode, Throwable cause) {
+        super(errorDescription, cause);
+        this.errorDescription = errorDescription;
+        this.errorCode = errorCode;
+    }
 }
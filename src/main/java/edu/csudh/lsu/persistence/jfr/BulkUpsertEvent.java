@@ -0,0 +1,17 @@
+package edu.csudh.lsu.persistence.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a {@code CustomRepository.upsertAll} or {@code upsertAllReturning} call; the row count is the number of
+ * entities upserted.
+ */
+@Name(BulkUpsertEvent.NAME)
+@Label("Bulk Upsert")
+@Description("Multi-row upsert through a custom repository")
+public class BulkUpsertEvent extends PersistenceEvent {
+
+    public static final String NAME = "edu.csudh.lsu.persistence.BulkUpsert";
+}
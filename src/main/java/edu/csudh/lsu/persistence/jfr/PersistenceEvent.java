@@ -0,0 +1,32 @@
+package edu.csudh.lsu.persistence.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * <p>
+ * Common fields of the persistence JFR events. The duration is the one JFR records between {@link #begin()} and
+ * {@link #commit()}.
+ * </p>
+ */
+@Category({"LSU", "Persistence"})
+@StackTrace(false)
+abstract class PersistenceEvent extends Event {
+
+    @Label("Entity Type")
+    String entityType;
+
+    @Label("Component")
+    String component;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Row Count")
+    long rowCount = -1;
+
+    @Label("SQL Fingerprint")
+    String sqlFingerprint;
+}
@@ -0,0 +1,138 @@
+package edu.csudh.lsu.persistence.jfr;
+
+import edu.csudh.lsu.persistence.sql.FingerprintStatementInspector;
+import edu.csudh.lsu.persistence.sql.SqlFingerprintCache;
+import edu.csudh.lsu.persistence.utils.RowCounts;
+import jakarta.persistence.Entity;
+import jdk.jfr.EventType;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Set;
+
+/**
+ * <p>
+ * Emits a JFR event for every public service method and every {@code CustomRepository.upsertAll} and
+ * {@code upsertAllReturning} call: {@link BulkUpsertEvent} for upserts, {@link PersistenceReadEvent} for methods whose
+ * name starts with a read verb and {@link PersistenceWriteEvent} for the rest.
+ * </p>
+ *
+ * <p>
+ * Without a running recording the aspect costs one {@link EventType#isEnabled()} check per call and allocates
+ * nothing. The SQL fingerprint is the one of the last statement the operation executed, as captured by the
+ * {@link FingerprintStatementInspector}; a nested operation that executes no statement leaves the statement of its
+ * caller in place.
+ * </p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class PersistenceFlightRecorderAspect {
+
+    private static final Set<String> READ_PREFIXES = Set.of("find", "fetch", "get", "count", "exists", "calculate");
+    private static final String UPSERT_ALL = "upsertAll";
+    private static final String SERVICE_SUFFIX = "Service";
+
+    private static final EventType BULK_UPSERT = EventType.getEventType(BulkUpsertEvent.class);
+    private static final EventType READ = EventType.getEventType(PersistenceReadEvent.class);
+    private static final EventType WRITE = EventType.getEventType(PersistenceWriteEvent.class);
+
+    /**
+     * Records the invocation as a JFR event when a recording enables it.
+     *
+     * @param joinPoint Intercepted invocation
+     * @return Result of the invocation
+     * @throws Throwable the failure of the invocation
+     */
+    @Around("(within(edu.csudh.lsu.persistence.service..*) && execution(public * *(..))) " +
+            "|| execution(* edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepository+.upsertAll*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        var signature = (MethodSignature) joinPoint.getSignature();
+        String operation = signature.getName();
+        if (!eventType(operation).isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        PersistenceEvent event = newEvent(operation);
+        SqlFingerprintCache.Description callerStatement = FingerprintStatementInspector.lastStatement();
+        FingerprintStatementInspector.clear();
+        event.begin();
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                String component = signature.getDeclaringType().getSimpleName();
+                event.component = component;
+                event.operation = operation;
+                event.entityType = entityType(component, joinPoint.getArgs(), result);
+                event.rowCount = RowCounts.of(result);
+                SqlFingerprintCache.Description statement = FingerprintStatementInspector.lastStatement();
+                event.sqlFingerprint = statement == null ? null : statement.getFingerprint();
+                event.commit();
+            }
+            if (FingerprintStatementInspector.lastStatement() == null) {
+                FingerprintStatementInspector.restore(callerStatement);
+            }
+        }
+    }
+
+    static EventType eventType(String operation) {
+        if (operation.startsWith(UPSERT_ALL)) {
+            return BULK_UPSERT;
+        }
+        for (String prefix : READ_PREFIXES) {
+            if (operation.startsWith(prefix)) {
+                return READ;
+            }
+        }
+        return WRITE;
+    }
+
+    static PersistenceEvent newEvent(String operation) {
+        EventType eventType = eventType(operation);
+        if (eventType == BULK_UPSERT) {
+            return new BulkUpsertEvent();
+        }
+        return eventType == READ ? new PersistenceReadEvent() : new PersistenceWriteEvent();
+    }
+
+    /**
+     * Names the entity an operation works on: the entity passed as the first argument, or the first entity of a
+     * collection argument or result, or else the name of the service without its {@code Service} suffix.
+     *
+     * @param component Simple name of the intercepted class
+     * @param args      Arguments of the invocation
+     * @param result    Result of the invocation, null when it failed
+     * @return Simple name of the entity class
+     */
+    static String entityType(String component, Object[] args, Object result) {
+        Object first = args.length > 0 ? args[0] : null;
+        Class<?> entity = entityClass(first);
+        if (entity == null) {
+            entity = entityClass(result);
+        }
+        if (entity != null) {
+            return entity.getSimpleName();
+        }
+        return component.endsWith(SERVICE_SUFFIX)
+                ? component.substring(0, component.length() - SERVICE_SUFFIX.length())
+                : component;
+    }
+
+    private static Class<?> entityClass(Object value) {
+        if (value instanceof Iterable<?> iterable) {
+            var iterator = iterable.iterator();
+            value = iterator.hasNext() ? iterator.next() : null;
+        }
+        if (value != null && value.getClass().isAnnotationPresent(Entity.class)) {
+            return value.getClass();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package edu.csudh.lsu.persistence.jfr;
+
+import edu.csudh.lsu.persistence.sql.FingerprintStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * <p>
+ * Registers the {@link PersistenceFlightRecorderAspect} and the {@link FingerprintStatementInspector} it reads SQL
+ * fingerprints from.
+ * </p>
+ *
+ * <p>
+ * Enabled with {@code lsu.persistence.jfr.enabled=true}. Events then cost nothing measurable until a recording
+ * enables them, for example with {@code jcmd <pid> JFR.start}.
+ * </p>
+ *
+ * <p>
+ * The inspector is installed as Hibernate's {@code hibernate.session_factory.statement_inspector}, which holds a
+ * single inspector. An inspector the application configures itself is kept; events then carry no SQL fingerprint.
+ * </p>
+ */
+@AutoConfiguration(before = HibernateJpaAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "lsu.persistence.jfr", name = "enabled", havingValue = "true")
+public class PersistenceFlightRecorderAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PersistenceFlightRecorderAspect persistenceFlightRecorderAspect() {
+        return new PersistenceFlightRecorderAspect();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer flightRecorderHibernatePropertiesCustomizer() {
+        return hibernateProperties -> hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR,
+                new FingerprintStatementInspector());
+    }
+}
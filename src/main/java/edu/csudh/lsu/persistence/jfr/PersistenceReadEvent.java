@@ -0,0 +1,16 @@
+package edu.csudh.lsu.persistence.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a service read such as {@code ShiftTotalService.findAllShiftTotals}.
+ */
+@Name(PersistenceReadEvent.NAME)
+@Label("Persistence Read")
+@Description("Read through a persistence service")
+public class PersistenceReadEvent extends PersistenceEvent {
+
+    public static final String NAME = "edu.csudh.lsu.persistence.PersistenceRead";
+}
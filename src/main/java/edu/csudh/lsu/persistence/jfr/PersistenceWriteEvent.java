@@ -0,0 +1,16 @@
+package edu.csudh.lsu.persistence.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event of a service write such as {@code ShiftReportService.updateRevenueInCash}.
+ */
+@Name(PersistenceWriteEvent.NAME)
+@Label("Persistence Write")
+@Description("Write through a persistence service")
+public class PersistenceWriteEvent extends PersistenceEvent {
+
+    public static final String NAME = "edu.csudh.lsu.persistence.PersistenceWrite";
+}
@@ -0,0 +1,169 @@
+package edu.csudh.lsu.persistence.metrics;
+
+import edu.csudh.lsu.persistence.dashboard.TodaySnapshotRefresher;
+import edu.csudh.lsu.persistence.routing.WorkloadPoolMetrics;
+import edu.csudh.lsu.persistence.transaction.TransactionRetryMetrics;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * <p>
+ * Exports the counters the library keeps itself, without Micrometer, as meters.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@value #SNAPSHOT_STALENESS} and {@value #SNAPSHOT_REFRESH_DURATION}: age of today's snapshot and duration
+ *     of its last refresh, absent values reported as NaN</li>
+ *     <li>{@value #SNAPSHOT_REFRESHES}: refreshes of today's snapshot, tagged with their outcome</li>
+ *     <li>{@value #RETRY_EXECUTIONS}, {@value #RETRY_RETRIES}, {@value #RETRY_ABORTS} and {@value #RETRY_CONTENTION}:
+ *     CockroachDB retry counters of {@link TransactionRetryMetrics}, tagged with the operation</li>
+ *     <li>{@value #SINGLE_FLIGHT_CALLS} and {@value #SINGLE_FLIGHT_IN_FLIGHT}: calls that ran their own query or
+ *     shared one, and queries running now</li>
+ * </ul>
+ *
+ * <p>
+ * Every meter reads the library's own counters when the registry polls it, so nothing is added to the hot path.
+ * Components that are not beans of the application, such as a disabled snapshot refresher, are skipped.
+ * </p>
+ */
+public class PersistenceMeterBinder implements MeterBinder {
+
+    public static final String SNAPSHOT_STALENESS = "lsu.persistence.today.snapshot.staleness";
+    public static final String SNAPSHOT_REFRESH_DURATION = "lsu.persistence.today.snapshot.refresh.duration";
+    public static final String SNAPSHOT_REFRESHES = "lsu.persistence.today.snapshot.refreshes";
+    public static final String RETRY_EXECUTIONS = "lsu.persistence.transaction.executions";
+    public static final String RETRY_RETRIES = "lsu.persistence.transaction.retries";
+    public static final String RETRY_ABORTS = "lsu.persistence.transaction.aborts";
+    public static final String RETRY_CONTENTION = "lsu.persistence.transaction.contention";
+    public static final String SINGLE_FLIGHT_CALLS = "lsu.persistence.single.flight.calls";
+    public static final String SINGLE_FLIGHT_IN_FLIGHT = "lsu.persistence.single.flight.in.flight";
+    public static final String POOL_ACQUISITIONS = "lsu.persistence.pool.acquisitions";
+    public static final String POOL_WAIT = "lsu.persistence.pool.wait";
+    public static final String POOL_WAIT_MAX = "lsu.persistence.pool.wait.max";
+    public static final String POOL_TIMEOUTS = "lsu.persistence.pool.timeouts";
+    public static final String POOL_PENDING = "lsu.persistence.pool.pending";
+
+    private final ObjectProvider<TodaySnapshotRefresher> todaySnapshotRefresher;
+    private final ObjectProvider<TransactionRetryMetrics> transactionRetryMetrics;
+    private final ObjectProvider<SingleFlight> singleFlight;
+    private final ObjectProvider<WorkloadPoolMetrics> workloadPoolMetrics;
+
+    /**
+     * Constructor for PersistenceMeterBinder.
+     *
+     * @param todaySnapshotRefresher  Refresher of today's snapshot, if enabled
+     * @param transactionRetryMetrics Retry counters, if the retry aspect is in use
+     * @param singleFlight            Single-flight of the services, if in use
+     * @param workloadPoolMetrics     Connection wait counters of the workload routed pools, if routing is enabled
+     */
+    public PersistenceMeterBinder(ObjectProvider<TodaySnapshotRefresher> todaySnapshotRefresher,
+                                  ObjectProvider<TransactionRetryMetrics> transactionRetryMetrics,
+                                  ObjectProvider<SingleFlight> singleFlight,
+                                  ObjectProvider<WorkloadPoolMetrics> workloadPoolMetrics) {
+        this.todaySnapshotRefresher = todaySnapshotRefresher;
+        this.transactionRetryMetrics = transactionRetryMetrics;
+        this.singleFlight = singleFlight;
+        this.workloadPoolMetrics = workloadPoolMetrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        todaySnapshotRefresher.ifAvailable(refresher -> bindTodaySnapshot(registry, refresher));
+        transactionRetryMetrics.ifAvailable(metrics -> bindTransactionRetries(registry, metrics));
+        singleFlight.ifAvailable(flight -> bindSingleFlight(registry, flight));
+        workloadPoolMetrics.ifAvailable(metrics -> bindWorkloadPools(registry, metrics));
+    }
+
+    private static void bindTodaySnapshot(MeterRegistry registry, TodaySnapshotRefresher refresher) {
+        TimeGauge.builder(SNAPSHOT_STALENESS, refresher, TimeUnit.MILLISECONDS,
+                        orNaN(TodaySnapshotRefresher::getStalenessMillis))
+                .description("Time since today's snapshot was read from the database")
+                .register(registry);
+        TimeGauge.builder(SNAPSHOT_REFRESH_DURATION, refresher, TimeUnit.MILLISECONDS,
+                        orNaN(TodaySnapshotRefresher::getLastRefreshDurationMillis))
+                .description("Duration of the last successful refresh of today's snapshot")
+                .register(registry);
+        FunctionCounter.builder(SNAPSHOT_REFRESHES, refresher, TodaySnapshotRefresher::getRefreshCount)
+                .tag("outcome", "success")
+                .register(registry);
+        FunctionCounter.builder(SNAPSHOT_REFRESHES, refresher, TodaySnapshotRefresher::getRefreshFailureCount)
+                .tag("outcome", "failure")
+                .register(registry);
+    }
+
+    private static void bindTransactionRetries(MeterRegistry registry, TransactionRetryMetrics metrics) {
+        metrics.forEachOperation((operation, counters) -> {
+            FunctionCounter.builder(RETRY_EXECUTIONS, counters, TransactionRetryMetrics.OperationMetrics::getExecutions)
+                    .tag("operation", operation)
+                    .register(registry);
+            FunctionCounter.builder(RETRY_RETRIES, counters, TransactionRetryMetrics.OperationMetrics::getRetries)
+                    .tag("operation", operation)
+                    .register(registry);
+            FunctionCounter.builder(RETRY_ABORTS, counters, TransactionRetryMetrics.OperationMetrics::getAborts)
+                    .tag("operation", operation)
+                    .register(registry);
+            FunctionCounter.builder(RETRY_CONTENTION, counters,
+                            operationCounters -> operationCounters.getContentionNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                    .tag("operation", operation)
+                    .baseUnit("seconds")
+                    .description("Time spent in failed attempts and backoff")
+                    .register(registry);
+        });
+    }
+
+    private static void bindSingleFlight(MeterRegistry registry, SingleFlight flight) {
+        FunctionCounter.builder(SINGLE_FLIGHT_CALLS, flight, SingleFlight::getExecutedCount)
+                .tag("result", "executed")
+                .register(registry);
+        FunctionCounter.builder(SINGLE_FLIGHT_CALLS, flight, SingleFlight::getCoalescedCount)
+                .tag("result", "coalesced")
+                .register(registry);
+        Gauge.builder(SINGLE_FLIGHT_IN_FLIGHT, flight, SingleFlight::getInFlightCount)
+                .register(registry);
+    }
+
+    private static void bindWorkloadPools(MeterRegistry registry, WorkloadPoolMetrics metrics) {
+        metrics.getPools().forEach((workload, pool) -> {
+            String poolTag = workload.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder(POOL_ACQUISITIONS, pool, WorkloadPoolMetrics.PoolMetrics::getAcquisitions)
+                    .tag("pool", poolTag)
+                    .description("Connections handed out by the pool")
+                    .register(registry);
+            FunctionCounter.builder(POOL_WAIT, pool,
+                            poolMetrics -> poolMetrics.getWaitNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                    .tag("pool", poolTag)
+                    .baseUnit("seconds")
+                    .description("Time callers waited for a connection")
+                    .register(registry);
+            TimeGauge.builder(POOL_WAIT_MAX, pool, TimeUnit.NANOSECONDS, WorkloadPoolMetrics.PoolMetrics::getMaxWaitNanos)
+                    .tag("pool", poolTag)
+                    .description("Longest wait for a connection")
+                    .register(registry);
+            FunctionCounter.builder(POOL_TIMEOUTS, pool, WorkloadPoolMetrics.PoolMetrics::getTimeouts)
+                    .tag("pool", poolTag)
+                    .description("Callers that gave up after the connection timeout")
+                    .register(registry);
+            Gauge.builder(POOL_PENDING, pool, WorkloadPoolMetrics.PoolMetrics::getThreadsAwaitingConnection)
+                    .tag("pool", poolTag)
+                    .description("Threads waiting for a connection")
+                    .register(registry);
+        });
+    }
+
+    private static <T> ToDoubleFunction<T> orNaN(ToLongFunction<T> millis) {
+        return source -> {
+            long value = millis.applyAsLong(source);
+            return value < 0 ? Double.NaN : value;
+        };
+    }
+}
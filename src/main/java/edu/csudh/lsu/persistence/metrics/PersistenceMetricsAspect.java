@@ -0,0 +1,151 @@
+package edu.csudh.lsu.persistence.metrics;
+
+import edu.csudh.lsu.persistence.utils.RowCounts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Records Micrometer metrics for every public service method, for {@code CustomRepository.upsertAll} and
+ * {@code upsertAllReturning}, and for every {@code @Modifying} repository method returning the number of rows it
+ * changed, such as the {@code update*} methods.
+ * </p>
+ *
+ * <ul>
+ *     <li>{@value #OPERATION_TIMER}: timer with a percentile histogram, tagged with component, operation and
+ *     outcome</li>
+ *     <li>{@value #OPERATION_ERRORS}: counter tagged with component, operation and the exception class</li>
+ *     <li>{@value #OPERATION_ROWS}: distribution of the rows returned or written, for operations returning a count,
+ *     a collection or a page</li>
+ * </ul>
+ *
+ * <p>
+ * Meters are built once per method and cached, so a call costs two {@link System#nanoTime()} reads, one map lookup
+ * and the timer update. The aspect runs inside the retry aspect and records every attempt; retry counts themselves
+ * are kept by {@code TransactionRetryMetrics}.
+ * </p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class PersistenceMetricsAspect {
+
+    public static final String OPERATION_TIMER = "lsu.persistence.operation";
+    public static final String OPERATION_ERRORS = "lsu.persistence.operation.errors";
+    public static final String OPERATION_ROWS = "lsu.persistence.operation.rows";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, OperationMeters> operations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for PersistenceMetricsAspect.
+     *
+     * @param meterRegistry Registry the meters are registered in
+     */
+    public PersistenceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Times the invocation and records its outcome.
+     *
+     * @param joinPoint Intercepted invocation
+     * @return Result of the invocation
+     * @throws Throwable the failure of the invocation
+     */
+    @Around("(within(edu.csudh.lsu.persistence.service..*) && execution(public * *(..))) " +
+            "|| execution(* edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepository+.upsertAll*(..)) " +
+            "|| execution(@org.springframework.data.jpa.repository.Modifying int edu.csudh.lsu.persistence.repository..*.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        var signature = (MethodSignature) joinPoint.getSignature();
+        var method = signature.getMethod();
+        var meters = operations.get(method);
+        if (meters == null) {
+            meters = operations.computeIfAbsent(method, key -> new OperationMeters(meterRegistry,
+                    signature.getDeclaringType().getSimpleName(), key.getName(), key.getReturnType()));
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            meters.recordSuccess(System.nanoTime() - start, result);
+            return result;
+        } catch (Throwable throwable) {
+            meters.recordFailure(System.nanoTime() - start, throwable);
+            throw throwable;
+        }
+    }
+
+    /**
+     * Cached meters of a single operation.
+     */
+    static final class OperationMeters {
+
+        private final MeterRegistry meterRegistry;
+        private final String component;
+        private final String operation;
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary rows;
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        OperationMeters(MeterRegistry meterRegistry, String component, String operation, Class<?> returnType) {
+            this.meterRegistry = meterRegistry;
+            this.component = component;
+            this.operation = operation;
+            this.success = timer("success");
+            this.failure = timer("error");
+            this.rows = RowCounts.carriedBy(returnType)
+                    ? DistributionSummary.builder(OPERATION_ROWS)
+                    .description("Rows returned or written by a persistence operation")
+                    .baseUnit("rows")
+                    .tag("component", component)
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    : null;
+        }
+
+        void recordSuccess(long nanos, Object result) {
+            success.record(nanos, TimeUnit.NANOSECONDS);
+            if (rows != null) {
+                long count = RowCounts.of(result);
+                if (count >= 0) {
+                    rows.record(count);
+                }
+            }
+        }
+
+        void recordFailure(long nanos, Throwable throwable) {
+            failure.record(nanos, TimeUnit.NANOSECONDS);
+            errors.computeIfAbsent(throwable.getClass(), type -> Counter.builder(OPERATION_ERRORS)
+                    .description("Failed persistence operations by exception class")
+                    .tag("component", component)
+                    .tag("operation", operation)
+                    .tag("exception", type.getSimpleName())
+                    .register(meterRegistry)).increment();
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder(OPERATION_TIMER)
+                    .description("Latency of a persistence operation")
+                    .tag("component", component)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
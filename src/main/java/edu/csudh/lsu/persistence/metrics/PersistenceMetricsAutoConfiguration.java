@@ -0,0 +1,52 @@
+package edu.csudh.lsu.persistence.metrics;
+
+import edu.csudh.lsu.persistence.dashboard.TodaySnapshotRefresher;
+import edu.csudh.lsu.persistence.routing.WorkloadPoolMetrics;
+import edu.csudh.lsu.persistence.transaction.TransactionRetryMetrics;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * <p>
+ * Opt-in Micrometer instrumentation of the services and of {@code CustomRepository.upsertAll}, and export of the
+ * library's own counters: snapshot staleness, transaction retries, single-flight calls and connection waits of the
+ * workload routed pools, see {@link PersistenceMeterBinder}. Spring Boot binds the binder to every registry.
+ * </p>
+ *
+ * <p>
+ * Enabled with {@code lsu.persistence.metrics.enabled=true} when Micrometer is on the classpath and the application
+ * provides a {@link MeterRegistry}, typically through Spring Boot Actuator.
+ * </p>
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "lsu.persistence.metrics", name = "enabled", havingValue = "true")
+public class PersistenceMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    public PersistenceMetricsAspect persistenceMetricsAspect(MeterRegistry meterRegistry) {
+        return new PersistenceMetricsAspect(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    public PersistenceMeterBinder persistenceMeterBinder(ObjectProvider<TodaySnapshotRefresher> todaySnapshotRefresher,
+                                                         ObjectProvider<TransactionRetryMetrics> transactionRetryMetrics,
+                                                         ObjectProvider<SingleFlight> singleFlight,
+                                                         ObjectProvider<WorkloadPoolMetrics> workloadPoolMetrics) {
+        return new PersistenceMeterBinder(todaySnapshotRefresher, transactionRetryMetrics, singleFlight,
+                workloadPoolMetrics);
+    }
+}
@@ -35,20 +35,22 @@ import java.util.UUID;
 @Repository
 public interface ActivityRepository extends JpaRepository<Activity, UUID> {
 
-    // Upsert an activity
+    // Upsert an activity in a single statement, without the SELECT that save() issues for an entity with an assigned id
     @Modifying
     @Transactional
-    @Query(value = "UPSERT INTO ACTIVITY (ID, ACTIVITY, CATEGORY, PRICE, IMAGE_LOCATION, CREATED_TIME, CREATED_DATE, LAST_UPDATED_BY, ACCESSED_BY) " +
-            "VALUES (:id, :activity, :category, :price, :imageLocation, :createdTime, :createdDate, :lastUpdatedBy, :accessedBy)", nativeQuery = true)
-    void upsertActivity(@Param("id") UUID id,
-                        @Param("activity") String activity,
-                        @Param("category") String category,
-                        @Param("price") String price,
-                        @Param("imageLocation") String imageLocation,
-                        @Param("createdTime") Time createdTime,
-                        @Param("createdDate") Date createdDate,
-                        @Param("lastUpdatedBy") String lastUpdatedBy,
-                        @Param("accessedBy") String accessedBy);
+    @Query(value = "UPSERT INTO ACTIVITY (ID, ACTIVITY, CATEGORY, PRICE, IMAGE_LOCATION, CREATED_TIME, CREATED_DATE, LAST_UPDATED_DATE, LAST_UPDATED_TIME, LAST_UPDATED_BY, ACCESSED_BY) " +
+            "VALUES (:id, :activity, :category, :price, :imageLocation, :createdTime, :createdDate, :lastUpdatedDate, :lastUpdatedTime, :lastUpdatedBy, :accessedBy)", nativeQuery = true)
+    int upsertActivity(@Param("id") UUID id,
+                       @Param("activity") String activity,
+                       @Param("category") String category,
+                       @Param("price") String price,
+                       @Param("imageLocation") String imageLocation,
+                       @Param("createdTime") Time createdTime,
+                       @Param("createdDate") Date createdDate,
+                       @Param("lastUpdatedDate") Date lastUpdatedDate,
+                       @Param("lastUpdatedTime") Time lastUpdatedTime,
+                       @Param("lastUpdatedBy") String lastUpdatedBy,
+                       @Param("accessedBy") String accessedBy);
 
     // List of categories
     @Query(value = "SELECT DISTINCT CATEGORY FROM ACTIVITY", nativeQuery = true)
@@ -58,5 +60,5 @@ public interface ActivityRepository extends JpaRepository<Activity, UUID> {
     @Modifying
     @Transactional
     @Query(value = "DELETE FROM ACTIVITY WHERE ID = :id", nativeQuery = true)
-    void deleteActivityById(@Param("id") UUID id);
+    int deleteActivityById(@Param("id") UUID id);
 }
@@ -1,5 +1,6 @@
 package edu.csudh.lsu.persistence.repository.gamesroom.common;
 
+import edu.csudh.lsu.persistence.utils.UuidUtils;
 import jakarta.persistence.*;
 import lombok.SneakyThrows;
 import org.springframework.data.jpa.repository.support.JpaEntityInformation;
@@ -12,6 +13,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -147,15 +149,68 @@ public class CustomRepositoryImpl<T, I> extends SimpleJpaRepository<T, I> implem
     }
 
     /**
-     * Performs the upsert operation on the list of entities.
+     * Assigns a client-side UUID to every entity whose UUID id is still null. Native UPSERTs bypass Hibernate's id
+     * generator, so ids are filled in here rather than left to the database.
+     *
+     * @param columnFields List of fields
+     * @param entities Entities about to be upserted
+     * @throws PersistenceException if an error occurs while setting the id
+     */
+    @SneakyThrows
+    private void assignMissingIds(List<Field> columnFields, List<T> entities) {
+        for (var field : columnFields) {
+            if (!field.isAnnotationPresent(Id.class) || !UUID.class.equals(field.getType()))
+                continue;
+            for (var entity : entities) {
+                try {
+                    var pd = new PropertyDescriptor(field.getName(), entity.getClass());
+                    if (pd.getReadMethod().invoke(entity) == null)
+                        pd.getWriteMethod().invoke(entity, UuidUtils.randomUuid());
+                } catch (IllegalAccessException | InvocationTargetException e) {
+                    throw new PersistenceException(AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD);
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs the upsert operation on the list of entities in a single statement.
      *
      * @param entities List of entities to upsert
-     * @return List of upserted entities
+     * @return The given entities, with the ids assigned to those that had none
      * @throws PersistenceException if an error occurs during the upsert operation
      */
     @Override
-    @SneakyThrows
     public List<T> upsertAll(List<T> entities) {
+        createUpsertQuery(entities, false).executeUpdate(); // Execute the query
+        return entities;
+    }
+
+    /**
+     * Performs the upsert operation on the list of entities in a single statement and reads back the stored rows, for
+     * callers that need columns computed by the database.
+     *
+     * @param entities List of entities to upsert
+     * @return List of upserted entities as stored by the database, including ids and server-computed columns
+     * @throws PersistenceException if an error occurs during the upsert operation
+     */
+    @Override
+    public List<T> upsertAllReturning(List<T> entities) {
+        @SuppressWarnings("unchecked")
+        final List<T> upserted = createUpsertQuery(entities, true).getResultList(); // Execute the query and read back the stored rows
+        return upserted;
+    }
+
+    /**
+     * Builds the multi-row UPSERT of the entities and binds their values.
+     *
+     * @param entities List of entities to upsert
+     * @param returning Whether the statement hands back the stored rows
+     * @return Native query ready to execute
+     * @throws PersistenceException if an error occurs while accessing entity properties
+     */
+    @SneakyThrows
+    private Query createUpsertQuery(List<T> entities, boolean returning) {
 
         Assert.notNull(entities, ENTITY_MUST_NOT_BE_NULL); // Ensure entities list is not null
         Assert.notEmpty(entities, ENTITY_MUST_NOT_BE_EMPTY); // Ensure entities list is not empty
@@ -164,6 +219,7 @@ public class CustomRepositoryImpl<T, I> extends SimpleJpaRepository<T, I> implem
         final List<Field> columnFields = getColumnFields(sampleEntity.getClass()); // Get column fields of the sample entity
 
         Assert.notEmpty(columnFields, DEFINE_THE_ENTITY_WITH_PROPER_JPA_ANNOTATIONS); // Ensure there are column fields
+        assignMissingIds(columnFields, entities); // Pre-assign UUID ids so the database never has to generate them
 
         var queryBuilder = new StringBuilder();
         queryBuilder.append(formInitialQuery(columnFields, sampleEntity.getClass().getAnnotation(Table.class).name())); // Form initial UPSERT query
@@ -171,10 +227,11 @@ public class CustomRepositoryImpl<T, I> extends SimpleJpaRepository<T, I> implem
         entities.forEach(entity -> queryBuilder.append(OPEN_BRACKET).append(populateColumnParams(columnFields, index.getAndIncrement()))
                 .append(CLOSE_BRACKET).append(COMMA)); // Append parameter placeholders
         queryBuilder.deleteCharAt(queryBuilder.lastIndexOf(COMMA)); // Remove trailing comma
+        if (returning)
+            queryBuilder.append(" RETURNING *"); // Hand back the stored rows, so server-computed columns need no second round trip
         final var nativeQuery = entityManager.createNativeQuery(queryBuilder.toString(), sampleEntity.getClass()); // Create native query
         index.set(0); // Reset index
         entities.forEach(entity -> populateColumnValues(columnFields, entity, nativeQuery, index.getAndIncrement())); // Set parameter values
-        nativeQuery.executeUpdate(); // Execute the query
-        return entities;
+        return nativeQuery;
     }
 }
@@ -1,9 +1,12 @@
 package edu.csudh.lsu.persistence.repository.gamesroom.profile;
 
 import edu.csudh.lsu.persistence.model.profile.Profile;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,24 +42,26 @@ public interface ProfileRepository extends JpaRepository<Profile, String> {
     @Transactional
     @Query(value = "UPSERT INTO PROFILE (USER_ID, USER_PASSWORD, FIRST_NAME, LAST_NAME, ROLE, PERMISSION, CREATED_TIME, CREATED_DATE, LAST_UPDATED_BY, ACCESSED_BY) " +
             "VALUES (:userId, :userPassword, :firstName, :lastName, :role, :permission, :createdTime, :createdDate, :lastUpdatedBy, :accessedBy)", nativeQuery = true)
-    void upsertProfile(@Param("userId") String userId,
-                       @Param("userPassword") String userPassword,
-                       @Param("firstName") String firstName,
-                       @Param("lastName") String lastName,
-                       @Param("role") String role,
-                       @Param("permission") String permission,
-                       @Param("createdTime") Time createdTime,
-                       @Param("createdDate") Date createdDate,
-                       @Param("lastUpdatedBy") String lastUpdatedBy,
-                       @Param("accessedBy") String accessedBy);
+    int upsertProfile(@Param("userId") String userId,
+                      @Param("userPassword") String userPassword,
+                      @Param("firstName") String firstName,
+                      @Param("lastName") String lastName,
+                      @Param("role") String role,
+                      @Param("permission") String permission,
+                      @Param("createdTime") Time createdTime,
+                      @Param("createdDate") Date createdDate,
+                      @Param("lastUpdatedBy") String lastUpdatedBy,
+                      @Param("accessedBy") String accessedBy);
 
     // Delete a profile (considering lastUpdatedDate and lastUpdatedTime)
     @Modifying
     @Transactional
     @Query(value = "DELETE FROM PROFILE WHERE USER_ID = :userId", nativeQuery = true)
-    void deleteProfile(@Param("userId") String userId);
+    int deleteProfile(@Param("userId") String userId);
 
-    // List all profiles
+    // List all profiles, loaded read-only so Hibernate keeps no dirty-checking snapshot of them
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query(value = "SELECT * FROM PROFILE", nativeQuery = true)
     List<Profile> findAllProfiles();
 
@@ -64,55 +69,55 @@ public interface ProfileRepository extends JpaRepository<Profile, String> {
     @Modifying
     @Transactional
     @Query(value = "UPDATE PROFILE SET USER_PASSWORD = :userPassword, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId", nativeQuery = true)
-    void updatePassword(@Param("userId") String userId,
-                        @Param("userPassword") String userPassword,
-                        @Param("lastUpdatedBy") String lastUpdatedBy,
-                        @Param("lastUpdatedDate") Date lastUpdatedDate,
-                        @Param("lastUpdatedTime") Time lastUpdatedTime,
-                        @Param("accessedBy") String accessedBy);
+    int updatePassword(@Param("userId") String userId,
+                       @Param("userPassword") String userPassword,
+                       @Param("lastUpdatedBy") String lastUpdatedBy,
+                       @Param("lastUpdatedDate") Date lastUpdatedDate,
+                       @Param("lastUpdatedTime") Time lastUpdatedTime,
+                       @Param("accessedBy") String accessedBy);
 
     // Update first name (considering lastUpdatedDate and lastUpdatedTime)
     @Modifying
     @Transactional
     @Query(value = "UPDATE PROFILE SET FIRST_NAME = :firstName, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId", nativeQuery = true)
-    void updateFirstName(@Param("userId") String userId,
-                         @Param("firstName") String firstName,
-                         @Param("lastUpdatedBy") String lastUpdatedBy,
-                         @Param("lastUpdatedDate") Date lastUpdatedDate,
-                         @Param("lastUpdatedTime") Time lastUpdatedTime,
-                         @Param("accessedBy") String accessedBy);
+    int updateFirstName(@Param("userId") String userId,
+                        @Param("firstName") String firstName,
+                        @Param("lastUpdatedBy") String lastUpdatedBy,
+                        @Param("lastUpdatedDate") Date lastUpdatedDate,
+                        @Param("lastUpdatedTime") Time lastUpdatedTime,
+                        @Param("accessedBy") String accessedBy);
 
     // Update last name (considering lastUpdatedDate and lastUpdatedTime)
     @Modifying
     @Transactional
     @Query(value = "UPDATE PROFILE SET LAST_NAME = :lastName, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId", nativeQuery = true)
-    void updateLastName(@Param("userId") String userId,
-                        @Param("lastName") String lastName,
-                        @Param("lastUpdatedBy") String lastUpdatedBy,
-                        @Param("lastUpdatedDate") Date lastUpdatedDate,
-                        @Param("lastUpdatedTime") Time lastUpdatedTime,
-                        @Param("accessedBy") String accessedBy);
+    int updateLastName(@Param("userId") String userId,
+                       @Param("lastName") String lastName,
+                       @Param("lastUpdatedBy") String lastUpdatedBy,
+                       @Param("lastUpdatedDate") Date lastUpdatedDate,
+                       @Param("lastUpdatedTime") Time lastUpdatedTime,
+                       @Param("accessedBy") String accessedBy);
 
     // Update role
     @Modifying
     @Transactional
     @Query(value = "UPDATE PROFILE SET ROLE = :role, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId", nativeQuery = true)
-    void updateRole(@Param("userId") String userId,
-                    @Param("role") String role,
-                    @Param("lastUpdatedBy") String lastUpdatedBy,
-                    @Param("lastUpdatedDate") Date lastUpdatedDate,
-                    @Param("lastUpdatedTime") Time lastUpdatedTime,
-                    @Param("accessedBy") String accessedBy);
+    int updateRole(@Param("userId") String userId,
+                   @Param("role") String role,
+                   @Param("lastUpdatedBy") String lastUpdatedBy,
+                   @Param("lastUpdatedDate") Date lastUpdatedDate,
+                   @Param("lastUpdatedTime") Time lastUpdatedTime,
+                   @Param("accessedBy") String accessedBy);
 
     // Update permission
     @Modifying
     @Transactional
     @Query(value = "UPDATE PROFILE SET PERMISSION = :permission, LAST_UPDATED_BY = :lastUpdatedBy, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, ACCESSED_BY = :accessedBy WHERE USER_ID = :userId", nativeQuery = true)
-    void updatePermission(@Param("userId") String userId,
-                          @Param("permission") String permission,
-                          @Param("lastUpdatedBy") String lastUpdatedBy,
-                          @Param("lastUpdatedDate") Date lastUpdatedDate,
-                          @Param("lastUpdatedTime") Time lastUpdatedTime,
-                          @Param("accessedBy") String accessedBy);
+    int updatePermission(@Param("userId") String userId,
+                         @Param("permission") String permission,
+                         @Param("lastUpdatedBy") String lastUpdatedBy,
+                         @Param("lastUpdatedDate") Date lastUpdatedDate,
+                         @Param("lastUpdatedTime") Time lastUpdatedTime,
+                         @Param("accessedBy") String accessedBy);
 
 }
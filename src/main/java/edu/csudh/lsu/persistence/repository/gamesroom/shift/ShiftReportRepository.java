@@ -1,156 +1,188 @@
 package edu.csudh.lsu.persistence.repository.gamesroom.shift;
 
 import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Date;
 import java.sql.Time;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ShiftReportRepository extends JpaRepository<ShiftReport, UUID> {
 
-    // Upsert a shift report
-    @Modifying
+    // Page through all rows read-only, so Hibernate keeps no dirty-checking snapshot of them even when the caller's
+    // transaction is read-write
+    @Override
+    @Transactional(readOnly = true)
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), forCounting = false)
+    Page<ShiftReport> findAll(Pageable pageable);
+
+    // Upsert a shift report keyed by its natural key (closing shift date, attendant name) and return the stored row;
+    // a resubmission only updates the row when the reported figures or signatures differ, so a kiosk retry writes
+    // nothing and reads the stored row back in the same statement. The closing time alone is not compared, it is
+    // stamped by the service when the kiosk leaves it out
     @Transactional
-    @Query(value = "UPSERT INTO SHIFT_REPORT (CLOSING_SHIFT_DATE, CLOSING_SHIFT_TIME, ATTENDANT_NAME, RECONCILOR_NAME, RECONCILOR_SIGN, ATTENDANT_SIGN, REVENUE_IN_CARD, REVENUE_IN_CASH, SHIFT_TOTAL, OPENING_BALANCE, CREATED_TIME, CREATED_DATE, LAST_UPDATED_DATE, LAST_UPDATED_TIME, LAST_UPDATED_BY, ACCESSED_BY) " +
-            "VALUES (:closingShiftDate, :closingShiftTime, :attendantName, :reconcilorName, :reconcilorSign, :attendantSign, :revenueInCard, :revenueInCash, :shiftTotal, :openingBalance, :createdTime, :createdDate, :lastUpdatedDate, :lastUpdatedTime, :lastUpdatedBy, :accessedBy)", nativeQuery = true)
-    void upsertShiftReport(@Param("closingShiftDate") Date closingShiftDate,
-                           @Param("closingShiftTime") Time closingShiftTime,
-                           @Param("attendantName") String attendantName,
-                           @Param("reconcilorName") String reconcilorName,
-                           @Param("reconcilorSign") String reconcilorSign,
-                           @Param("attendantSign") String attendantSign,
-                           @Param("revenueInCard") Float revenueInCard,
-                           @Param("revenueInCash") Float revenueInCash,
-                           @Param("shiftTotal") String shiftTotal,
-                           @Param("openingBalance") Float openingBalance,
-                           @Param("createdTime") Time createdTime,
-                           @Param("createdDate") Date createdDate,
-                           @Param("lastUpdatedDate") Date lastUpdatedDate,
-                           @Param("lastUpdatedTime") Time lastUpdatedTime,
-                           @Param("lastUpdatedBy") String lastUpdatedBy,
-                           @Param("accessedBy") String accessedBy);
+    @Query(value = "WITH up AS (INSERT INTO SHIFT_REPORT (SHIFT_REPORT_ID, CLOSING_SHIFT_DATE, CLOSING_SHIFT_TIME, ATTENDANT_NAME, RECONCILOR_NAME, RECONCILOR_SIGN, ATTENDANT_SIGN, REVENUE_IN_CARD, REVENUE_IN_CASH, SHIFT_TOTAL, OPENING_BALANCE, CREATED_TIME, CREATED_DATE, LAST_UPDATED_DATE, LAST_UPDATED_TIME, LAST_UPDATED_BY, ACCESSED_BY) " +
+            "VALUES (:shiftReportId, :closingShiftDate, :closingShiftTime, :attendantName, :reconcilorName, :reconcilorSign, :attendantSign, :revenueInCard, :revenueInCash, :shiftTotal, :openingBalance, :createdTime, :createdDate, :lastUpdatedDate, :lastUpdatedTime, :lastUpdatedBy, :accessedBy) " +
+            "ON CONFLICT (CLOSING_SHIFT_DATE, ATTENDANT_NAME) DO UPDATE SET CLOSING_SHIFT_TIME = excluded.CLOSING_SHIFT_TIME, RECONCILOR_NAME = excluded.RECONCILOR_NAME, " +
+            "RECONCILOR_SIGN = excluded.RECONCILOR_SIGN, ATTENDANT_SIGN = excluded.ATTENDANT_SIGN, REVENUE_IN_CARD = excluded.REVENUE_IN_CARD, REVENUE_IN_CASH = excluded.REVENUE_IN_CASH, " +
+            "SHIFT_TOTAL = excluded.SHIFT_TOTAL, OPENING_BALANCE = excluded.OPENING_BALANCE, LAST_UPDATED_DATE = excluded.LAST_UPDATED_DATE, " +
+            "LAST_UPDATED_TIME = excluded.LAST_UPDATED_TIME, LAST_UPDATED_BY = excluded.LAST_UPDATED_BY, ACCESSED_BY = excluded.ACCESSED_BY " +
+            "WHERE (SHIFT_REPORT.RECONCILOR_NAME, SHIFT_REPORT.RECONCILOR_SIGN, SHIFT_REPORT.ATTENDANT_SIGN, SHIFT_REPORT.REVENUE_IN_CARD, SHIFT_REPORT.REVENUE_IN_CASH, SHIFT_REPORT.SHIFT_TOTAL, SHIFT_REPORT.OPENING_BALANCE) " +
+            "IS DISTINCT FROM (excluded.RECONCILOR_NAME, excluded.RECONCILOR_SIGN, excluded.ATTENDANT_SIGN, excluded.REVENUE_IN_CARD, excluded.REVENUE_IN_CASH, excluded.SHIFT_TOTAL, excluded.OPENING_BALANCE) RETURNING *) " +
+            "SELECT * FROM up UNION ALL SELECT * FROM SHIFT_REPORT WHERE CLOSING_SHIFT_DATE = :closingShiftDate AND ATTENDANT_NAME = :attendantName AND NOT EXISTS (SELECT 1 FROM up)", nativeQuery = true)
+    ShiftReport upsertShiftReport(@Param("shiftReportId") UUID shiftReportId,
+                                  @Param("closingShiftDate") Date closingShiftDate,
+                                  @Param("closingShiftTime") Time closingShiftTime,
+                                  @Param("attendantName") String attendantName,
+                                  @Param("reconcilorName") String reconcilorName,
+                                  @Param("reconcilorSign") String reconcilorSign,
+                                  @Param("attendantSign") String attendantSign,
+                                  @Param("revenueInCard") Float revenueInCard,
+                                  @Param("revenueInCash") Float revenueInCash,
+                                  @Param("shiftTotal") String shiftTotal,
+                                  @Param("openingBalance") Float openingBalance,
+                                  @Param("createdTime") Time createdTime,
+                                  @Param("createdDate") Date createdDate,
+                                  @Param("lastUpdatedDate") Date lastUpdatedDate,
+                                  @Param("lastUpdatedTime") Time lastUpdatedTime,
+                                  @Param("lastUpdatedBy") String lastUpdatedBy,
+                                  @Param("accessedBy") String accessedBy);
 
     // Update the closing shift date
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET CLOSING_SHIFT_DATE = :closingShiftDate, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateClosingShiftDate(@Param("shiftReportId") UUID shiftReportId,
-                                @Param("closingShiftDate") Date closingShiftDate,
-                                @Param("lastUpdatedDate") Date lastUpdatedDate,
-                                @Param("lastUpdatedTime") Time lastUpdatedTime,
-                                @Param("lastUpdatedBy") String lastUpdatedBy,
-                                @Param("accessedBy") String accessedBy);
+    int updateClosingShiftDate(@Param("shiftReportId") UUID shiftReportId,
+                               @Param("closingShiftDate") Date closingShiftDate,
+                               @Param("lastUpdatedDate") Date lastUpdatedDate,
+                               @Param("lastUpdatedTime") Time lastUpdatedTime,
+                               @Param("lastUpdatedBy") String lastUpdatedBy,
+                               @Param("accessedBy") String accessedBy);
 
     // Update the closing shift time
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET CLOSING_SHIFT_TIME = :closingShiftTime, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateClosingShiftTime(@Param("shiftReportId") UUID shiftReportId,
-                                @Param("closingShiftTime") Time closingShiftTime,
-                                @Param("lastUpdatedDate") Date lastUpdatedDate,
-                                @Param("lastUpdatedTime") Time lastUpdatedTime,
-                                @Param("lastUpdatedBy") String lastUpdatedBy,
-                                @Param("accessedBy") String accessedBy);
+    int updateClosingShiftTime(@Param("shiftReportId") UUID shiftReportId,
+                               @Param("closingShiftTime") Time closingShiftTime,
+                               @Param("lastUpdatedDate") Date lastUpdatedDate,
+                               @Param("lastUpdatedTime") Time lastUpdatedTime,
+                               @Param("lastUpdatedBy") String lastUpdatedBy,
+                               @Param("accessedBy") String accessedBy);
 
     // Update the attendant name
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET ATTENDANT_NAME = :attendantName, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateAttendantName(@Param("shiftReportId") UUID shiftReportId,
-                             @Param("attendantName") String attendantName,
-                             @Param("lastUpdatedDate") Date lastUpdatedDate,
-                             @Param("lastUpdatedTime") Time lastUpdatedTime,
-                             @Param("lastUpdatedBy") String lastUpdatedBy,
-                             @Param("accessedBy") String accessedBy);
+    int updateAttendantName(@Param("shiftReportId") UUID shiftReportId,
+                            @Param("attendantName") String attendantName,
+                            @Param("lastUpdatedDate") Date lastUpdatedDate,
+                            @Param("lastUpdatedTime") Time lastUpdatedTime,
+                            @Param("lastUpdatedBy") String lastUpdatedBy,
+                            @Param("accessedBy") String accessedBy);
 
     // Update the reconcilor name
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET RECONCILOR_NAME = :reconcilorName, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateReconcilorName(@Param("shiftReportId") UUID shiftReportId,
-                              @Param("reconcilorName") String reconcilorName,
-                              @Param("lastUpdatedDate") Date lastUpdatedDate,
-                              @Param("lastUpdatedTime") Time lastUpdatedTime,
-                              @Param("lastUpdatedBy") String lastUpdatedBy,
-                              @Param("accessedBy") String accessedBy);
+    int updateReconcilorName(@Param("shiftReportId") UUID shiftReportId,
+                             @Param("reconcilorName") String reconcilorName,
+                             @Param("lastUpdatedDate") Date lastUpdatedDate,
+                             @Param("lastUpdatedTime") Time lastUpdatedTime,
+                             @Param("lastUpdatedBy") String lastUpdatedBy,
+                             @Param("accessedBy") String accessedBy);
 
     // Update the reconcilor sign
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET RECONCILOR_SIGN = :reconcilorSign, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateReconcilorSign(@Param("shiftReportId") UUID shiftReportId,
-                              @Param("reconcilorSign") String reconcilorSign,
-                              @Param("lastUpdatedDate") Date lastUpdatedDate,
-                              @Param("lastUpdatedTime") Time lastUpdatedTime,
-                              @Param("lastUpdatedBy") String lastUpdatedBy,
-                              @Param("accessedBy") String accessedBy);
+    int updateReconcilorSign(@Param("shiftReportId") UUID shiftReportId,
+                             @Param("reconcilorSign") String reconcilorSign,
+                             @Param("lastUpdatedDate") Date lastUpdatedDate,
+                             @Param("lastUpdatedTime") Time lastUpdatedTime,
+                             @Param("lastUpdatedBy") String lastUpdatedBy,
+                             @Param("accessedBy") String accessedBy);
 
     // Update the attendant sign
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET ATTENDANT_SIGN = :attendantSign, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateAttendantSign(@Param("shiftReportId") UUID shiftReportId,
-                             @Param("attendantSign") String attendantSign,
-                             @Param("lastUpdatedDate") Date lastUpdatedDate,
-                             @Param("lastUpdatedTime") Time lastUpdatedTime,
-                             @Param("lastUpdatedBy") String lastUpdatedBy,
-                             @Param("accessedBy") String accessedBy);
+    int updateAttendantSign(@Param("shiftReportId") UUID shiftReportId,
+                            @Param("attendantSign") String attendantSign,
+                            @Param("lastUpdatedDate") Date lastUpdatedDate,
+                            @Param("lastUpdatedTime") Time lastUpdatedTime,
+                            @Param("lastUpdatedBy") String lastUpdatedBy,
+                            @Param("accessedBy") String accessedBy);
 
     // Update the revenue in card
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET REVENUE_IN_CARD = :revenueInCard, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateRevenueInCard(@Param("shiftReportId") UUID shiftReportId,
-                             @Param("revenueInCard") Float revenueInCard,
-                             @Param("lastUpdatedDate") Date lastUpdatedDate,
-                             @Param("lastUpdatedTime") Time lastUpdatedTime,
-                             @Param("lastUpdatedBy") String lastUpdatedBy,
-                             @Param("accessedBy") String accessedBy);
+    int updateRevenueInCard(@Param("shiftReportId") UUID shiftReportId,
+                            @Param("revenueInCard") Float revenueInCard,
+                            @Param("lastUpdatedDate") Date lastUpdatedDate,
+                            @Param("lastUpdatedTime") Time lastUpdatedTime,
+                            @Param("lastUpdatedBy") String lastUpdatedBy,
+                            @Param("accessedBy") String accessedBy);
 
     // Update the revenue in cash
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET REVENUE_IN_CASH = :revenueInCash, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateRevenueInCash(@Param("shiftReportId") UUID shiftReportId,
-                             @Param("revenueInCash") Float revenueInCash,
-                             @Param("lastUpdatedDate") Date lastUpdatedDate,
-                             @Param("lastUpdatedTime") Time lastUpdatedTime,
-                             @Param("lastUpdatedBy") String lastUpdatedBy,
-                             @Param("accessedBy") String accessedBy);
+    int updateRevenueInCash(@Param("shiftReportId") UUID shiftReportId,
+                            @Param("revenueInCash") Float revenueInCash,
+                            @Param("lastUpdatedDate") Date lastUpdatedDate,
+                            @Param("lastUpdatedTime") Time lastUpdatedTime,
+                            @Param("lastUpdatedBy") String lastUpdatedBy,
+                            @Param("accessedBy") String accessedBy);
 
     // Update the shift total
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET SHIFT_TOTAL = :shiftTotal, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateShiftTotal(@Param("shiftReportId") UUID shiftReportId,
-                          @Param("shiftTotal") String shiftTotal,
-                          @Param("lastUpdatedDate") Date lastUpdatedDate,
-                          @Param("lastUpdatedTime") Time lastUpdatedTime,
-                          @Param("lastUpdatedBy") String lastUpdatedBy,
-                          @Param("accessedBy") String accessedBy);
+    int updateShiftTotal(@Param("shiftReportId") UUID shiftReportId,
+                         @Param("shiftTotal") String shiftTotal,
+                         @Param("lastUpdatedDate") Date lastUpdatedDate,
+                         @Param("lastUpdatedTime") Time lastUpdatedTime,
+                         @Param("lastUpdatedBy") String lastUpdatedBy,
+                         @Param("accessedBy") String accessedBy);
 
     // Update the opening balance
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_REPORT SET OPENING_BALANCE = :openingBalance, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void updateOpeningBalance(@Param("shiftReportId") UUID shiftReportId,
-                              @Param("openingBalance") Float openingBalance,
-                              @Param("lastUpdatedDate") Date lastUpdatedDate,
-                              @Param("lastUpdatedTime") Time lastUpdatedTime,
-                              @Param("lastUpdatedBy") String lastUpdatedBy,
-                              @Param("accessedBy") String accessedBy);
+    int updateOpeningBalance(@Param("shiftReportId") UUID shiftReportId,
+                             @Param("openingBalance") Float openingBalance,
+                             @Param("lastUpdatedDate") Date lastUpdatedDate,
+                             @Param("lastUpdatedTime") Time lastUpdatedTime,
+                             @Param("lastUpdatedBy") String lastUpdatedBy,
+                             @Param("accessedBy") String accessedBy);
 
     // Delete a shift report
     @Modifying
     @Transactional
     @Query(value = "DELETE FROM SHIFT_REPORT WHERE SHIFT_REPORT_ID = :shiftReportId", nativeQuery = true)
-    void deleteShiftReport(@Param("shiftReportId") UUID shiftReportId);
+    int deleteShiftReport(@Param("shiftReportId") UUID shiftReportId);
+
+    // Summarise all shift reports closed on a specific date: number of reports and reported revenue by payment mode
+    @Query(value = "SELECT " +
+            "COUNT(*) AS report_count, " +
+            "COALESCE(SUM(CAST(revenue_in_card AS DECIMAL(10,2))), 0) AS total_revenue_card, " +
+            "COALESCE(SUM(CAST(revenue_in_cash AS DECIMAL(10,2))), 0) AS total_revenue_cash " +
+            "FROM SHIFT_REPORT " +
+            "WHERE CLOSING_SHIFT_DATE = :date", nativeQuery = true)
+    List<Object[]> summarizeByClosingShiftDate(@Param("date") Date date);
 
 }
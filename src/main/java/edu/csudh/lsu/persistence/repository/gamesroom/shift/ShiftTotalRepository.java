@@ -1,93 +1,111 @@
 package edu.csudh.lsu.persistence.repository.gamesroom.shift;
 
 import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Date;
 import java.sql.Time;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ShiftTotalRepository extends JpaRepository<ShiftTotal, UUID> {
 
-    // Upsert a shift total (Insert or Update)
-    @Modifying
+    // Page through all rows read-only, so Hibernate keeps no dirty-checking snapshot of them even when the caller's
+    // transaction is read-write
+    @Override
+    @Transactional(readOnly = true)
+    @QueryHints(value = @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"), forCounting = false)
+    Page<ShiftTotal> findAll(Pageable pageable);
+
+    // Insert a shift total once per idempotency key and return the stored row; resubmitting the same key writes
+    // nothing and returns the existing row (DO NOTHING returns no row on conflict, so the existing one is read in the
+    // same statement)
     @Transactional
-    @Query(value = "UPSERT INTO SHIFT_TOTAL (STUDENT_NAME, ATTENDANT_NAME, ACTIVITY, COST, PAYMENT_MODE, START_TIME, DATE, DURATION, CREATED_TIME, CREATED_DATE, LAST_UPDATED_DATE, LAST_UPDATED_TIME, LAST_UPDATED_BY, ACCESSED_BY) " +
-            "VALUES (:studentName, :attendantName, :activity, :cost, :paymentMode, :startTime, :date, :duration, :createdTime, :createdDate, :lastUpdatedDate, :lastUpdatedTime, :lastUpdatedBy, :accessedBy)", nativeQuery = true)
-    void upsertShiftTotal(@Param("studentName") String studentName,
-                          @Param("attendantName") String attendantName,
-                          @Param("activity") String activity,
-                          @Param("cost") Float cost,
-                          @Param("paymentMode") String paymentMode,
-                          @Param("startTime") Time startTime,
-                          @Param("date") Date date,
-                          @Param("duration") String duration,
-                          @Param("createdTime") Time createdTime,
-                          @Param("createdDate") Date createdDate,
-                          @Param("lastUpdatedDate") Date lastUpdatedDate,
-                          @Param("lastUpdatedTime") Time lastUpdatedTime,
-                          @Param("lastUpdatedBy") String lastUpdatedBy,
-                          @Param("accessedBy") String accessedBy);
+    @Query(value = "WITH ins AS (INSERT INTO SHIFT_TOTAL (ID, IDEMPOTENCY_KEY, STUDENT_NAME, ATTENDANT_NAME, ACTIVITY, COST, PAYMENT_MODE, START_TIME, DATE, DURATION, CREATED_TIME, CREATED_DATE, LAST_UPDATED_DATE, LAST_UPDATED_TIME, LAST_UPDATED_BY, ACCESSED_BY) " +
+            "VALUES (:id, :idempotencyKey, :studentName, :attendantName, :activity, :cost, :paymentMode, :startTime, :date, :duration, :createdTime, :createdDate, :lastUpdatedDate, :lastUpdatedTime, :lastUpdatedBy, :accessedBy) " +
+            "ON CONFLICT (IDEMPOTENCY_KEY) DO NOTHING RETURNING *) " +
+            "SELECT * FROM ins UNION ALL SELECT * FROM SHIFT_TOTAL WHERE IDEMPOTENCY_KEY = :idempotencyKey AND NOT EXISTS (SELECT 1 FROM ins)", nativeQuery = true)
+    ShiftTotal upsertShiftTotal(@Param("id") UUID id,
+                                @Param("idempotencyKey") String idempotencyKey,
+                                @Param("studentName") String studentName,
+                                @Param("attendantName") String attendantName,
+                                @Param("activity") String activity,
+                                @Param("cost") Float cost,
+                                @Param("paymentMode") String paymentMode,
+                                @Param("startTime") Time startTime,
+                                @Param("date") Date date,
+                                @Param("duration") String duration,
+                                @Param("createdTime") Time createdTime,
+                                @Param("createdDate") Date createdDate,
+                                @Param("lastUpdatedDate") Date lastUpdatedDate,
+                                @Param("lastUpdatedTime") Time lastUpdatedTime,
+                                @Param("lastUpdatedBy") String lastUpdatedBy,
+                                @Param("accessedBy") String accessedBy);
 
     // Update the student name
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_TOTAL SET STUDENT_NAME = :studentName, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id", nativeQuery = true)
-    void updateStudentName(@Param("id") UUID id, @Param("studentName") String studentName,
-                           @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
-                           @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
+    int updateStudentName(@Param("id") UUID id, @Param("studentName") String studentName,
+                          @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
+                          @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
 
     // Update the attendant name
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_TOTAL SET ATTENDANT_NAME = :attendantName, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id", nativeQuery = true)
-    void updateAttendantName(@Param("id") UUID id, @Param("attendantName") String attendantName,
-                             @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
-                             @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
+    int updateAttendantName(@Param("id") UUID id, @Param("attendantName") String attendantName,
+                            @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
+                            @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
 
     // Update the activity
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_TOTAL SET ACTIVITY = :activity, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id", nativeQuery = true)
-    void updateActivity(@Param("id") UUID id, @Param("activity") String activity,
-                        @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
-                        @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
+    int updateActivity(@Param("id") UUID id, @Param("activity") String activity,
+                       @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
+                       @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
 
     // Update the cost
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_TOTAL SET COST = :cost, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id", nativeQuery = true)
-    void updateCost(@Param("id") UUID id, @Param("cost") Float cost,
-                    @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
-                    @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
+    int updateCost(@Param("id") UUID id, @Param("cost") Float cost,
+                   @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
+                   @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
 
     // Update the payment mode
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_TOTAL SET PAYMENT_MODE = :paymentMode, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id", nativeQuery = true)
-    void updatePaymentMode(@Param("id") UUID id, @Param("paymentMode") String paymentMode,
-                           @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
-                           @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
+    int updatePaymentMode(@Param("id") UUID id, @Param("paymentMode") String paymentMode,
+                          @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
+                          @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
 
     // Update the duration
     @Modifying
     @Transactional
     @Query(value = "UPDATE SHIFT_TOTAL SET DURATION = :duration, LAST_UPDATED_DATE = :lastUpdatedDate, LAST_UPDATED_TIME = :lastUpdatedTime, LAST_UPDATED_BY = :lastUpdatedBy, ACCESSED_BY = :accessedBy WHERE ID = :id", nativeQuery = true)
-    void updateDuration(@Param("id") UUID id, @Param("duration") String duration,
-                        @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
-                        @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
+    int updateDuration(@Param("id") UUID id, @Param("duration") String duration,
+                       @Param("lastUpdatedDate") Date lastUpdatedDate, @Param("lastUpdatedTime") Time lastUpdatedTime,
+                       @Param("lastUpdatedBy") String lastUpdatedBy, @Param("accessedBy") String accessedBy);
 
     // Delete a shift total
     @Modifying
     @Transactional
     @Query(value = "DELETE FROM SHIFT_TOTAL WHERE ID = :id", nativeQuery = true)
-    void deleteShiftTotal(@Param("id") UUID id);
+    int deleteShiftTotal(@Param("id") UUID id);
 
     // Calculate total costs for a given attendant for a specific date
     @Query(value = "SELECT " +
@@ -101,4 +119,14 @@ public interface ShiftTotalRepository extends JpaRepository<ShiftTotal, UUID> {
             "GROUP BY attendant_name", nativeQuery = true)
     Object findTotalCostsByAttendantNameAndDate(@Param("attendantName") String attendantName, @Param("date") Date date);
 
+    // Summarise all shift totals for a specific date: number of sessions, total revenue and revenue by payment mode
+    @Query(value = "SELECT " +
+            "COUNT(*) AS session_count, " +
+            "COALESCE(SUM(CAST(cost AS DECIMAL(10,2))), 0) AS total_cost, " +
+            "COALESCE(SUM(CASE WHEN payment_mode = 'card' THEN CAST(cost AS DECIMAL(10,2)) ELSE 0 END), 0) AS total_cost_card, " +
+            "COALESCE(SUM(CASE WHEN payment_mode = 'cash' THEN CAST(cost AS DECIMAL(10,2)) ELSE 0 END), 0) AS total_cost_cash " +
+            "FROM SHIFT_TOTAL " +
+            "WHERE DATE = :date", nativeQuery = true)
+    List<Object[]> summarizeByDate(@Param("date") Date date);
+
 }
@@ -0,0 +1,24 @@
+package edu.csudh.lsu.persistence.routing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Marks a method, or every method of a class, as reporting work. With workload routing enabled the call gets its
+ * connection from the reporting pool instead of the OLTP pool.
+ * </p>
+ *
+ * <p>
+ * The workload is chosen when the connection is acquired. A reporting method called inside a transaction that
+ * already holds an OLTP connection keeps using that connection.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ReportingWorkload {
+}
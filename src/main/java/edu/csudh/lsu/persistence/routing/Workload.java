@@ -0,0 +1,13 @@
+package edu.csudh.lsu.persistence.routing;
+
+/**
+ * Kind of database work a call performs, used to pick the connection pool it runs on.
+ */
+public enum Workload {
+
+    // Short kiosk reads and writes that must stay fast
+    OLTP,
+
+    // Long paging and aggregation reads for reports
+    REPORTING
+}
@@ -0,0 +1,45 @@
+package edu.csudh.lsu.persistence.routing;
+
+/**
+ * Holds the {@link Workload} of the current thread. Threads that never entered a workload run as {@link Workload#OLTP}.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * @return Workload of the current thread, {@link Workload#OLTP} by default.
+     */
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.OLTP;
+    }
+
+    /**
+     * Switches the current thread to the given workload.
+     *
+     * @param workload Workload to switch to
+     * @return Workload set before, to be passed to {@link #restore(Workload)}; null if none was set
+     */
+    static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    /**
+     * Restores the workload returned by {@link #enter(Workload)}.
+     *
+     * @param previous Workload to restore, null to clear the thread
+     */
+    static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
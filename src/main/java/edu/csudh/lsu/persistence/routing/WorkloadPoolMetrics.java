@@ -0,0 +1,139 @@
+package edu.csudh.lsu.persistence.routing;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-pool connection wait counters of the workload routed pools.
+ *
+ * <p>
+ * Hikari reports every connection acquisition to the tracker of its pool, so the counters show how long callers
+ * of each workload waited for a connection and how often they gave up. All counters are lock free.
+ * </p>
+ */
+public class WorkloadPoolMetrics {
+
+    private final Map<Workload, PoolMetrics> pools = new EnumMap<>(Workload.class);
+
+    /**
+     * Constructor for WorkloadPoolMetrics.
+     */
+    public WorkloadPoolMetrics() {
+        for (Workload workload : Workload.values()) {
+            pools.put(workload, new PoolMetrics());
+        }
+    }
+
+    /**
+     * @param workload Workload of the pool
+     * @return Counters of the pool serving the workload
+     */
+    public PoolMetrics forWorkload(Workload workload) {
+        return pools.get(workload);
+    }
+
+    /**
+     * @return Read-only view of the counters of every pool.
+     */
+    public Map<Workload, PoolMetrics> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * Creates the Hikari tracker factory feeding the counters of the given workload.
+     *
+     * @param workload Workload of the pool the factory is installed on
+     * @return Tracker factory for {@code HikariConfig#setMetricsTrackerFactory}
+     */
+    public MetricsTrackerFactory trackerFactory(Workload workload) {
+        PoolMetrics poolMetrics = forWorkload(workload);
+        return (poolName, poolStats) -> poolMetrics.track(poolStats);
+    }
+
+    /**
+     * Counters of a single pool.
+     */
+    @ToString
+    public static final class PoolMetrics {
+
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Long::max, 0);
+        private final LongAdder timeouts = new LongAdder();
+        @ToString.Exclude
+        private volatile PoolStats poolStats;
+
+        IMetricsTracker track(PoolStats poolStats) {
+            this.poolStats = poolStats;
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    recordWait(elapsedAcquiredNanos);
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    timeouts.increment();
+                }
+            };
+        }
+
+        void recordWait(long nanos) {
+            acquisitions.increment();
+            waitNanos.add(nanos);
+            maxWaitNanos.accumulate(nanos);
+        }
+
+        /**
+         * @return Number of connections handed out by the pool.
+         */
+        public long getAcquisitions() {
+            return acquisitions.sum();
+        }
+
+        /**
+         * @return Total time callers waited for a connection, in nanoseconds.
+         */
+        public long getWaitNanos() {
+            return waitNanos.sum();
+        }
+
+        /**
+         * @return Longest single wait for a connection, in nanoseconds.
+         */
+        public long getMaxWaitNanos() {
+            return maxWaitNanos.get();
+        }
+
+        /**
+         * @return Average wait for a connection in nanoseconds, zero before the first acquisition.
+         */
+        public long getAverageWaitNanos() {
+            long count = acquisitions.sum();
+            return count == 0 ? 0 : waitNanos.sum() / count;
+        }
+
+        /**
+         * @return Number of callers that gave up after the connection timeout of the pool.
+         */
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+        /**
+         * @return Number of threads currently waiting for a connection, zero before the pool has started.
+         */
+        public int getThreadsAwaitingConnection() {
+            PoolStats stats = poolStats;
+            return stats == null ? 0 : stats.getPendingThreads();
+        }
+    }
+}
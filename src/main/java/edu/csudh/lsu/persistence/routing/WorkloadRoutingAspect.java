@@ -0,0 +1,41 @@
+package edu.csudh.lsu.persistence.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link ReportingWorkload} to Spring managed beans.
+ *
+ * <p>
+ * The aspect runs just inside the transaction retry aspect and outside the {@code @Transactional} interceptor of a
+ * transactional service method, so the workload is already set when a transaction acquires its connection.
+ * </p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class WorkloadRoutingAspect {
+
+    /**
+     * Runs methods annotated with {@link ReportingWorkload}, or declared in a class annotated with it, as
+     * {@link Workload#REPORTING}.
+     *
+     * @param joinPoint Intercepted invocation
+     * @return Result of the invocation
+     * @throws Throwable the failure of the invocation
+     */
+    @Around("@within(edu.csudh.lsu.persistence.routing.ReportingWorkload) " +
+            "|| @annotation(edu.csudh.lsu.persistence.routing.ReportingWorkload)")
+    public Object routeToReporting(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload previous = WorkloadContext.enter(Workload.REPORTING);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+}
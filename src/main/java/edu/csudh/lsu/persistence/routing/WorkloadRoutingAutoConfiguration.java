@@ -0,0 +1,130 @@
+package edu.csudh.lsu.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import edu.csudh.lsu.persistence.config.PersistenceAutoConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+/**
+ * <p>
+ * Replaces the single datasource with a {@link WorkloadRoutingDataSource} over two Hikari pools when
+ * {@code lsu.persistence.routing.enabled=true}.
+ * </p>
+ *
+ * <p>
+ * Both pools are built from {@code spring.datasource.*} and inherit every {@code spring.datasource.hikari.*}
+ * setting, then get their own size, connection timeout and {@link WorkloadPoolMetrics} tracker. On CockroachDB each
+ * pool also sets the {@code statement_timeout} and {@code default_transaction_priority} of its sessions through the
+ * pgjdbc {@code options} connection parameter, so a month-end report yields to kiosk writes on contention.
+ * </p>
+ *
+ * <p>
+ * Unless {@code spring.datasource.hikari.minimum-idle} is set, the OLTP pool keeps all of its connections open so
+ * kiosk writes never wait for one to be established; the reporting pool keeps Hikari's own default. An application
+ * that defines its own {@link DataSource} keeps it, and routing is then left to that datasource.
+ * </p>
+ */
+@Slf4j
+@AutoConfiguration(before = DataSourceAutoConfiguration.class, after = PersistenceAutoConfiguration.class)
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnProperty(prefix = WorkloadRoutingProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({WorkloadRoutingProperties.class, DataSourceProperties.class})
+public class WorkloadRoutingAutoConfiguration {
+
+    private static final String HIKARI = "spring.datasource.hikari";
+    private static final String POSTGRESQL_URL_PREFIX = "jdbc:postgresql:";
+
+    @Bean
+    @ConditionalOnMissingBean
+    public WorkloadPoolMetrics workloadPoolMetrics() {
+        return new WorkloadPoolMetrics();
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnMissingBean(DataSource.class)
+    public WorkloadRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                                WorkloadRoutingProperties routingProperties,
+                                                WorkloadPoolMetrics workloadPoolMetrics, Environment environment) {
+        Binder binder = Binder.get(environment);
+        int oltpPoolSize = binder.bind(HIKARI + ".maximum-pool-size", Integer.class).orElse(10);
+
+        HikariDataSource oltp = createPool(dataSourceProperties, binder, Workload.OLTP, routingProperties.getOltp(),
+                oltpPoolSize, workloadPoolMetrics.trackerFactory(Workload.OLTP));
+        HikariDataSource reporting = createPool(dataSourceProperties, binder, Workload.REPORTING,
+                routingProperties.getReporting(), Math.max(2, oltpPoolSize / 4),
+                workloadPoolMetrics.trackerFactory(Workload.REPORTING));
+
+        log.info("Workload routing enabled: OLTP pool of {} connections, reporting pool of {} connections.",
+                oltp.getMaximumPoolSize(), reporting.getMaximumPoolSize());
+        return new WorkloadRoutingDataSource(oltp, reporting);
+    }
+
+    /**
+     * Builds the pool of one workload.
+     *
+     * @param dataSourceProperties URL and credentials of the database
+     * @param binder               Binder used to copy the {@code spring.datasource.hikari.*} settings
+     * @param workload             Workload served by the pool
+     * @param pool                 Settings of the pool
+     * @param defaultPoolSize      Pool size used when the settings do not set one
+     * @param trackerFactory       Tracker factory recording the connection waits of the pool
+     * @return Unstarted Hikari pool
+     */
+    static HikariDataSource createPool(DataSourceProperties dataSourceProperties, Binder binder, Workload workload,
+                                       WorkloadRoutingProperties.Pool pool, int defaultPoolSize,
+                                       MetricsTrackerFactory trackerFactory) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(HIKARI, Bindable.ofInstance(dataSource));
+
+        int maximumPoolSize = pool.getMaximumPoolSize() != null ? pool.getMaximumPoolSize() : defaultPoolSize;
+        dataSource.setPoolName("lsu-" + workload.name().toLowerCase(Locale.ROOT));
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        if (workload == Workload.OLTP && !binder.bind(HIKARI + ".minimum-idle", Integer.class).isBound()) {
+            dataSource.setMinimumIdle(maximumPoolSize); // Reserved, a fixed size pool as Hikari recommends
+        }
+        dataSource.setConnectionTimeout(pool.getConnectionTimeoutMillis());
+        dataSource.setMetricsTrackerFactory(trackerFactory);
+
+        String jdbcUrl = dataSource.getJdbcUrl();
+        if (jdbcUrl != null && jdbcUrl.startsWith(POSTGRESQL_URL_PREFIX)) {
+            Object existingOptions = dataSource.getDataSourceProperties().get("options");
+            dataSource.addDataSourceProperty("options", sessionOptions(existingOptions, pool));
+        }
+        return dataSource;
+    }
+
+    /**
+     * Builds the pgjdbc {@code options} parameter setting the session variables of a pool.
+     *
+     * @param existingOptions Options already configured by the application, kept in front; may be null
+     * @param pool            Settings of the pool
+     * @return Value of the {@code options} connection parameter
+     */
+    static String sessionOptions(Object existingOptions, WorkloadRoutingProperties.Pool pool) {
+        StringBuilder options = new StringBuilder();
+        if (existingOptions != null && !existingOptions.toString().isBlank()) {
+            options.append(existingOptions.toString().trim()).append(' ');
+        }
+        options.append("-c statement_timeout=").append(pool.getStatementTimeoutMillis());
+        if (pool.getTransactionPriority() != null && !pool.getTransactionPriority().isBlank()) {
+            options.append(" -c default_transaction_priority=").append(pool.getTransactionPriority().trim());
+        }
+        return options.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package edu.csudh.lsu.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Routes each connection request to the pool of the {@link WorkloadContext#current() current workload}. Closing the
+ * routing datasource closes both pools.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final DataSource oltp;
+    private final DataSource reporting;
+
+    /**
+     * Constructor for WorkloadRoutingDataSource.
+     *
+     * @param oltp      Pool used for OLTP work, also the fallback
+     * @param reporting Pool used for reporting work
+     */
+    public WorkloadRoutingDataSource(DataSource oltp, DataSource reporting) {
+        this.oltp = oltp;
+        this.reporting = reporting;
+        setTargetDataSources(Map.<Object, Object>of(Workload.OLTP, oltp, Workload.REPORTING, reporting));
+        setDefaultTargetDataSource(oltp);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    @Override
+    public void close() throws Exception {
+        try {
+            closeIfPossible(reporting);
+        } finally {
+            closeIfPossible(oltp);
+        }
+    }
+
+    private static void closeIfPossible(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
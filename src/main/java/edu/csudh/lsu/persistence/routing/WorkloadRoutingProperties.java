@@ -0,0 +1,64 @@
+package edu.csudh.lsu.persistence.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p>
+ * Settings of the workload routed pools, bound from {@code lsu.persistence.routing.*}.
+ * </p>
+ *
+ * <p>
+ * Routing is off by default. With {@code lsu.persistence.routing.enabled=true} the library replaces the single
+ * datasource with a reserved OLTP pool and a smaller reporting pool, both built from {@code spring.datasource.*}.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = WorkloadRoutingProperties.PREFIX)
+public class WorkloadRoutingProperties {
+
+    public static final String PREFIX = "lsu.persistence.routing";
+
+    private boolean enabled = false;
+
+    // Kiosk work: full pool size, fail fast on a saturated pool, short statements, normal priority
+    private final Pool oltp = new Pool(null, 2_000, 5_000, "normal");
+
+    // Reports: a quarter of the OLTP pool, patient callers, long statements, low priority
+    private final Pool reporting = new Pool(null, 30_000, 300_000, "low");
+
+    /**
+     * Settings of a single pool.
+     */
+    @Getter
+    @Setter
+    @ToString
+    public static class Pool {
+
+        // Defaults to spring.datasource.hikari.maximum-pool-size for OLTP and a quarter of it for reporting
+        private Integer maximumPoolSize;
+
+        // Time a caller waits for a connection before failing
+        private long connectionTimeoutMillis;
+
+        // CockroachDB statement_timeout of the pool's sessions, 0 disables it
+        private long statementTimeoutMillis;
+
+        // CockroachDB default_transaction_priority of the pool's sessions: low, normal or high
+        private String transactionPriority;
+
+        public Pool() {
+        }
+
+        Pool(Integer maximumPoolSize, long connectionTimeoutMillis, long statementTimeoutMillis, String transactionPriority) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.connectionTimeoutMillis = connectionTimeoutMillis;
+            this.statementTimeoutMillis = statementTimeoutMillis;
+            this.transactionPriority = transactionPriority;
+        }
+    }
+}
@@ -4,6 +4,9 @@ import edu.csudh.lsu.persistence.constants.PersistenceConstants;
 import edu.csudh.lsu.persistence.exception.PersistenceException;
 import edu.csudh.lsu.persistence.model.activity.Activity;
 import edu.csudh.lsu.persistence.repository.gamesroom.activity.ActivityRepository;
+import edu.csudh.lsu.persistence.transaction.RetryableTransaction;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
+import edu.csudh.lsu.persistence.utils.UuidUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.TransactionException;
 import org.hibernate.exception.JDBCConnectionException;
@@ -43,13 +46,18 @@ import java.util.UUID;
  */
 @Slf4j
 @Service
+@RetryableTransaction
 public class ActivityService {
 
     @Autowired
     private ActivityRepository activityRepository;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
     /**
-     * Saves the provided Activity entity. If the entity already exists, it is updated.
+     * Saves the provided Activity entity. If the entity already exists, it is updated. The write is a single UPSERT,
+     * so an activity that already carries an id is not read back first the way {@code save} would via merge.
      *
      * @param activity The Activity entity to be saved or updated.
      * @throws TransactionException                  if a transaction error occurs during the operation.
@@ -71,10 +79,12 @@ public class ActivityService {
                 activity.setCreatedDate(Date.valueOf(now.toLocalDate()));
                 activity.setCreatedTime(Time.valueOf(now.toLocalTime()));
                 log.debug("Setting createdDate and createdTime for new activity.");
-
+                if (activity.getId() == null) {
+                    activity.setId(UuidUtils.randomUuid());
+                }
 
                 // Save the activity entity
-                activityRepository.save(activity);
+                upsertActivity(activity, now);
                 log.info("Activity '{}' saved or updated successfully.", activity.getActivity());
             } else {
                 log.warn("Attempted to save a null activity.");
@@ -84,14 +94,15 @@ public class ActivityService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while saving activity '{}'.", activity != null ? activity.getActivity() : "null", exception);
-            throw new PersistenceException(PersistenceConstants.AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD, exception.getMessage(), exception);
         }
     }
 
     /**
-     * Fetches all unique activity categories from the repository.
+     * Fetches all unique activity categories from the repository. Concurrent callers may share the result of one
+     * query, so the list is unmodifiable.
      *
-     * @return categoryList List<String>             A list of all unique categories.
+     * @return categoryList List<String>             An unmodifiable list of all unique categories.
      * @throws TransactionException                  if a transaction error occurs during the operation.
      * @throws JDBCConnectionException               if there is a JDBC connection issue.
      * @throws JpaSystemException                    if there is a JPA system error.
@@ -102,7 +113,8 @@ public class ActivityService {
             , DataAccessResourceFailureException {
 
         try {
-            var categoryList = activityRepository.getAllCategories();
+            var categoryList = singleFlight.execute("ActivityService.fetchAllCategories",
+                    () -> List.copyOf(activityRepository.getAllCategories()));
             log.info("Fetched {} categories. Categories: {}", CollectionUtils.isEmpty(categoryList) ? "no" : categoryList.size(), categoryList);
             return categoryList;
         } catch (DataAccessResourceFailureException | JDBCConnectionException | JpaSystemException
@@ -111,7 +123,7 @@ public class ActivityService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while fetching categories.", exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -137,7 +149,7 @@ public class ActivityService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while deleting activity with ID '{}'.", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -160,7 +172,7 @@ public class ActivityService {
                 var now = LocalDateTime.now(ZoneId.of("America/Los_Angeles"));
                 activity.setLastUpdatedBy("User"); // Set this to the appropriate user
                 activity.setCreatedDate(Date.valueOf(now.toLocalDate())); // Optionally set createdDate or use another field to track the update
-                activityRepository.save(activity);
+                upsertActivity(activity, now);
                 log.info("Activity '{}' updated successfully.", activity.getActivity());
             } else {
                 log.warn("Attempted to update a null activity or activity with a null ID.");
@@ -170,7 +182,21 @@ public class ActivityService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating activity '{}'.", activity != null ? activity.getActivity() : "null", exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
+
+    /**
+     * Writes the activity with one UPSERT statement.
+     *
+     * @param activity The Activity entity to be written, with its id already assigned.
+     * @param now      Current time in PST, recorded as the last update.
+     */
+    private void upsertActivity(Activity activity, LocalDateTime now) {
+        activity.setLastUpdatedDate(Date.valueOf(now.toLocalDate()));
+        activity.setLastUpdatedTime(Time.valueOf(now.toLocalTime()));
+        activityRepository.upsertActivity(activity.getId(), activity.getActivity(), activity.getCategory(), activity.getPrice(),
+                activity.getImageLocation(), activity.getCreatedTime(), activity.getCreatedDate(), activity.getLastUpdatedDate(),
+                activity.getLastUpdatedTime(), activity.getLastUpdatedBy(), activity.getAccessedBy());
+    }
 }
@@ -4,6 +4,8 @@ import edu.csudh.lsu.persistence.constants.PersistenceConstants;
 import edu.csudh.lsu.persistence.exception.PersistenceException;
 import edu.csudh.lsu.persistence.model.profile.Profile;
 import edu.csudh.lsu.persistence.repository.gamesroom.profile.ProfileRepository;
+import edu.csudh.lsu.persistence.transaction.RetryableTransaction;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
 import edu.csudh.lsu.persistence.utils.TimeUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.TransactionException;
@@ -39,11 +41,15 @@ import java.util.Objects;
 
 @Slf4j
 @Service
+@RetryableTransaction
 public class ProfileService {
 
     @Autowired
     private ProfileRepository profileRepository;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
     /**
      * Saves or updates the provided Profile entity.
      *
@@ -85,7 +91,7 @@ public class ProfileService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while saving or updating profile with User ID: {}", profile.getUserId(), exception);
-            throw new PersistenceException(PersistenceConstants.AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD, exception.getMessage(), exception);
         }
     }
 
@@ -112,14 +118,16 @@ public class ProfileService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while deleting profile with User ID: {}", userId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
     /**
-     * Fetches all profiles from the repository.
+     * Fetches all profiles from the repository. Concurrent callers may share the result of one query, so the list is
+     * unmodifiable and its profiles are detached: changing one is never written back, and callers must not change
+     * them.
      *
-     * @return A list of all profiles.
+     * @return An unmodifiable list of all profiles.
      * @throws TransactionException                  if a transaction error occurs during the operation.
      * @throws JDBCConnectionException               if there is a JDBC connection issue.
      * @throws JpaSystemException                    if there is a JPA system error.
@@ -131,7 +139,9 @@ public class ProfileService {
 
         try {
             log.debug("Attempting to fetch all profiles");
-            List<Profile> profiles = profileRepository.findAllProfiles();
+            // Outside a transaction the repository's own transaction has ended, so the shared profiles are detached
+            List<Profile> profiles = singleFlight.execute("ProfileService.findAllProfiles",
+                    () -> List.copyOf(profileRepository.findAllProfiles()));
             log.info("Fetched {} profiles.", profiles.size());
             return profiles;
         } catch (DataAccessResourceFailureException | JDBCConnectionException | JpaSystemException
@@ -140,7 +150,7 @@ public class ProfileService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while fetching profiles.", exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -172,7 +182,7 @@ public class ProfileService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating password for User ID: {}", userId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -204,7 +214,7 @@ public class ProfileService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating first name for User ID: {}", userId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -236,7 +246,7 @@ public class ProfileService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating last name for User ID: {}", userId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -268,7 +278,7 @@ public class ProfileService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating role for User ID: {}", userId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -300,7 +310,7 @@ public class ProfileService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating permission for User ID: {}", userId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 }
@@ -4,11 +4,15 @@ import edu.csudh.lsu.persistence.constants.PersistenceConstants;
 import edu.csudh.lsu.persistence.exception.PersistenceException;
 import edu.csudh.lsu.persistence.model.shift.ShiftReport;
 import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftReportRepository;
+import edu.csudh.lsu.persistence.routing.ReportingWorkload;
+import edu.csudh.lsu.persistence.transaction.RetryableTransaction;
 import edu.csudh.lsu.persistence.utils.PersistenceStringUtils;
 import edu.csudh.lsu.persistence.utils.TimeUtils;
+import edu.csudh.lsu.persistence.utils.UuidUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.TransactionException;
 import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.domain.Page;
@@ -41,22 +45,26 @@ import java.util.UUID;
 
 @Slf4j
 @Service
+@RetryableTransaction
 public class ShiftReportService {
 
     @Autowired
     private ShiftReportRepository shiftReportRepository;
 
     /**
-     * Saves or updates the provided ShiftReport entity.
+     * Saves or updates the provided ShiftReport entity. Reports are identified by closing shift date and attendant
+     * name, so submitting the same report twice updates the existing row instead of creating a duplicate. The given
+     * ShiftReport then takes the stored row's values, its ID included.
      *
      * @param shiftReport The ShiftReport entity to be saved or updated.
+     * @return The stored ShiftReport as returned by the database, or null if the given ShiftReport is null.
      * @throws TransactionException                  if a transaction error occurs during the operation.
      * @throws JDBCConnectionException               if there is a JDBC connection issue.
      * @throws JpaSystemException                    if there is a JPA system error.
      * @throws DataAccessResourceFailureException    if a data access resource fails.
      * @throws PersistenceException                  if a general persistence error occurs.
      */
-    public void saveOrUpdateShiftReport(ShiftReport shiftReport) throws TransactionException, JDBCConnectionException, JpaSystemException
+    public ShiftReport saveOrUpdateShiftReport(ShiftReport shiftReport) throws TransactionException, JDBCConnectionException, JpaSystemException
             , DataAccessResourceFailureException {
 
         try {
@@ -70,7 +78,20 @@ public class ShiftReportService {
                 shiftReport.setLastUpdatedDate(currentDate);
                 shiftReport.setLastUpdatedTime(new Time(TimeUtils.getFormattedCurrentPSTTime().getTime()));
 
-                shiftReportRepository.upsertShiftReport(
+                // The closing shift date is part of the natural key, so it must be known before the upsert
+                if (shiftReport.getClosingShiftDate() == null) {
+                    shiftReport.setClosingShiftDate(currentDate);
+                }
+                if (shiftReport.getClosingShiftTime() == null) {
+                    shiftReport.setClosingShiftTime(new Time(currentTime.getTime()));
+                }
+                // Only used when the natural key is new, an existing report keeps its ID
+                UUID shiftReportId = shiftReport.getShiftReportId() != null
+                        ? shiftReport.getShiftReportId()
+                        : UuidUtils.randomUuid();
+
+                ShiftReport savedShiftReport = shiftReportRepository.upsertShiftReport(
+                        shiftReportId,
                         shiftReport.getClosingShiftDate(), shiftReport.getClosingShiftTime(), shiftReport.getAttendantName(),
                         shiftReport.getReconcilorName(), shiftReport.getReconcilorSign(), shiftReport.getAttendantSign(),
                         shiftReport.getRevenueInCard(), shiftReport.getRevenueInCash(), shiftReport.getShiftTotal(),
@@ -80,8 +101,14 @@ public class ShiftReportService {
                 );
 
                 log.info("Shift report saved or updated successfully.");
+                // The given ShiftReport takes the stored row's columns, so its ID is the one later updates must use
+                if (savedShiftReport != null) {
+                    BeanUtils.copyProperties(savedShiftReport, shiftReport);
+                }
+                return savedShiftReport;
             } else {
                 log.warn("Attempted to save or update a null shift report.");
+                return null;
             }
         } catch (DataAccessResourceFailureException | JDBCConnectionException | JpaSystemException
                  | TransactionException exception) {
@@ -89,7 +116,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while saving or updating shift report.", exception);
-            throw new PersistenceException(PersistenceConstants.AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD, exception.getMessage(), exception);
         }
     }
 
@@ -122,7 +149,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating closing shift date for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -155,7 +182,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating closing shift time for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -181,7 +208,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while deleting ShiftReport with ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -218,7 +245,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating attendant name for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -255,7 +282,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating reconcilor name for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -292,7 +319,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating reconcilor sign for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -329,7 +356,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating attendant sign for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -362,7 +389,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating revenue in card for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -395,7 +422,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating revenue in cash for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -432,7 +459,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating shift total for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -465,7 +492,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating opening balance for ShiftReport ID: {}", shiftReportId, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -480,6 +507,7 @@ public class ShiftReportService {
      * @throws DataAccessResourceFailureException    if a data access resource fails.
      * @throws PersistenceException                  if a general persistence error occurs.
      */
+    @ReportingWorkload
     public Page<ShiftReport> fetchAllShiftReports(Pageable pageable) throws TransactionException, JDBCConnectionException, JpaSystemException
             , DataAccessResourceFailureException {
 
@@ -494,7 +522,7 @@ public class ShiftReportService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while fetching ShiftReport records.", exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 }
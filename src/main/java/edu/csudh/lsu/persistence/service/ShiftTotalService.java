@@ -1,13 +1,20 @@
 package edu.csudh.lsu.persistence.service;
 
 import edu.csudh.lsu.persistence.constants.PersistenceConstants;
+import edu.csudh.lsu.persistence.dashboard.TodaySnapshotRefresher;
 import edu.csudh.lsu.persistence.exception.PersistenceException;
 import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
 import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftTotalRepository;
+import edu.csudh.lsu.persistence.routing.ReportingWorkload;
+import edu.csudh.lsu.persistence.transaction.RetryableTransaction;
+import edu.csudh.lsu.persistence.utils.PersistenceStringUtils;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
 import edu.csudh.lsu.persistence.utils.TimeUtils;
+import edu.csudh.lsu.persistence.utils.UuidUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.TransactionException;
 import org.hibernate.exception.JDBCConnectionException;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.domain.Page;
@@ -41,22 +48,32 @@ import java.util.UUID;
 
 @Slf4j
 @Service
+@RetryableTransaction
 public class ShiftTotalService {
 
     @Autowired
     private ShiftTotalRepository shiftTotalRepository;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired(required = false)
+    private TodaySnapshotRefresher todaySnapshotRefresher;  // Only present when the today snapshot is enabled
+
     /**
-     * Saves or updates the provided ShiftTotal entity.
+     * Saves the provided ShiftTotal entity once per idempotency key. Resubmitting a ShiftTotal with a key that was
+     * already saved, e.g. a kiosk retry after a timeout, leaves the existing row untouched. The given ShiftTotal then
+     * takes the stored row's values, its ID included.
      *
      * @param shiftTotal The ShiftTotal entity to be saved or updated.
+     * @return The stored ShiftTotal as returned by the database, or null if the given ShiftTotal is null.
      * @throws TransactionException                  if a transaction error occurs during the operation.
      * @throws JDBCConnectionException               if there is a JDBC connection issue.
      * @throws JpaSystemException                    if there is a JPA system error.
      * @throws DataAccessResourceFailureException    if a data access resource fails.
      * @throws PersistenceException                  if a general persistence error occurs.
      */
-    public void saveShiftTotal(ShiftTotal shiftTotal) throws TransactionException, JDBCConnectionException, JpaSystemException
+    public ShiftTotal saveShiftTotal(ShiftTotal shiftTotal) throws TransactionException, JDBCConnectionException, JpaSystemException
             , DataAccessResourceFailureException {
 
         try {
@@ -67,7 +84,24 @@ public class ShiftTotalService {
                 shiftTotal.setLastUpdatedDate(new Date(TimeUtils.getFormattedCurrentPSTTime().getTime()));
                 shiftTotal.setLastUpdatedTime(new Time(TimeUtils.getFormattedCurrentPSTTime().getTime()));
 
-                shiftTotalRepository.upsertShiftTotal(
+                if (shiftTotal.getStartTime() == null) {
+                    shiftTotal.setStartTime(new Time(TimeUtils.getFormattedCurrentPSTTime().getTime()));
+                }
+                if (shiftTotal.getDate() == null) {
+                    shiftTotal.setDate(new Date(TimeUtils.getFormattedCurrentPSTTime().getTime()));
+                }
+                // Only used when the idempotency key is new, a resubmission keeps the ID of the stored row
+                UUID id = shiftTotal.getId() != null ? shiftTotal.getId() : UuidUtils.randomUuid();
+                // Without a client supplied key a resubmission cannot be recognised, so the row is always new
+                String idempotencyKey = shiftTotal.getIdempotencyKey();
+                if (!PersistenceStringUtils.isNotNullOrEmpty(idempotencyKey)) {
+                    log.debug("No idempotency key supplied for shift total, generating one.");
+                    idempotencyKey = id.toString();
+                }
+
+                ShiftTotal savedShiftTotal = shiftTotalRepository.upsertShiftTotal(
+                        id,
+                        idempotencyKey,
                         shiftTotal.getStudentName(),
                         shiftTotal.getAttendantName(),
                         shiftTotal.getActivity(),
@@ -84,8 +118,17 @@ public class ShiftTotalService {
                         shiftTotal.getAccessedBy()
                 );
                 log.info("Shift Total saved or updated successfully.");
+                // The given ShiftTotal takes the stored row's columns, so its ID is the one later updates must use
+                if (savedShiftTotal != null) {
+                    BeanUtils.copyProperties(savedShiftTotal, shiftTotal);
+                }
+                if (todaySnapshotRefresher != null) {
+                    todaySnapshotRefresher.forceRefresh();
+                }
+                return savedShiftTotal;
             } else {
                 log.warn("Attempted to save a null shift total.");
+                return null;
             }
         } catch (DataAccessResourceFailureException | JDBCConnectionException | JpaSystemException
                  | TransactionException exception) {
@@ -93,7 +136,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while saving shift total.", exception);
-            throw new PersistenceException(PersistenceConstants.AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.AN_EXCEPTION_OCCURRED_WHILE_UPSERTING_A_RECORD, exception.getMessage(), exception);
         }
     }
 
@@ -121,7 +164,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating student name for Shift Total ID: {}", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -150,7 +193,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while deleting Shift Total ID: {}", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -165,6 +208,7 @@ public class ShiftTotalService {
      * @throws DataAccessResourceFailureException    if a data access resource fails.
      * @throws PersistenceException                  if a general persistence error occurs.
      */
+    @ReportingWorkload
     public Page<ShiftTotal> findAllShiftTotals(Pageable pageable) throws TransactionException, JDBCConnectionException, JpaSystemException
             , DataAccessResourceFailureException {
 
@@ -179,7 +223,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while fetching ShiftTotal records.", exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -211,7 +255,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating student name for ShiftTotal ID: {}", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -243,7 +287,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating attendant name for ShiftTotal ID: {}", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -275,7 +319,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating activity for ShiftTotal ID: {}", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -307,7 +351,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating cost for ShiftTotal ID: {}", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -339,7 +383,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating payment mode for ShiftTotal ID: {}", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -371,7 +415,7 @@ public class ShiftTotalService {
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while updating duration for ShiftTotal ID: {}", id, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 
@@ -393,16 +437,18 @@ public class ShiftTotalService {
 
         try {
             log.debug("Attempting to calculate total costs for attendant '{}' on date '{}'", attendantName, date);
-            Object totalCosts = shiftTotalRepository.findTotalCostsByAttendantNameAndDate(attendantName, date);
+            Object totalCosts = singleFlight.execute("ShiftTotalService.calculateTotalCostsByAttendantNameAndDate",
+                    () -> shiftTotalRepository.findTotalCostsByAttendantNameAndDate(attendantName, date), attendantName, date);
             log.info("Calculated total costs for attendant '{}'.", attendantName);
-            return totalCosts;
+            // The row may be shared with concurrent callers, so each caller gets an array of its own
+            return totalCosts instanceof Object[] row ? row.clone() : totalCosts;
         } catch (DataAccessResourceFailureException | JDBCConnectionException | JpaSystemException
                  | TransactionException exception) {
             log.error("Data access or transaction failure while calculating total costs for attendant '{}' on date '{}'", attendantName, date, exception);
             throw exception;
         } catch (Exception exception) {
             log.error("An unexpected error occurred while calculating total costs for attendant '{}' on date '{}'", attendantName, date, exception);
-            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+            throw new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage(), exception);
         }
     }
 }
@@ -0,0 +1,57 @@
+package edu.csudh.lsu.persistence.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * <p>
+ * Hibernate {@link StatementInspector} remembering the statement most recently prepared on the current thread, so
+ * that the {@link StatementTimingListener} can attribute the execution it times to a statement.
+ * </p>
+ *
+ * <p>
+ * The SQL is returned unchanged. Hibernate prepares a statement right before executing it on the same thread, so the
+ * remembered statement is the one being executed. Only its {@link SqlFingerprintCache.Description description} is
+ * remembered, never the raw SQL, so a pooled thread does not hold on to the last multi-row UPSERT it prepared.
+ * </p>
+ */
+public class FingerprintStatementInspector implements StatementInspector {
+
+    // Distinct statements whose description is cached, shared by every session factory
+    static final int FINGERPRINT_CACHE_SIZE = 2_000;
+
+    private static final SqlFingerprintCache FINGERPRINTS = new SqlFingerprintCache(FINGERPRINT_CACHE_SIZE);
+    private static final ThreadLocal<SqlFingerprintCache.Description> LAST_STATEMENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        LAST_STATEMENT.set(FINGERPRINTS.describe(sql));
+        return sql;
+    }
+
+    /**
+     * @return Description of the statement most recently prepared on the current thread, null if none.
+     */
+    public static SqlFingerprintCache.Description lastStatement() {
+        return LAST_STATEMENT.get();
+    }
+
+    /**
+     * Puts back a statement remembered earlier on the current thread, typically around a nested operation.
+     *
+     * @param statement Description of the statement to remember, null to forget
+     */
+    public static void restore(SqlFingerprintCache.Description statement) {
+        if (statement == null) {
+            LAST_STATEMENT.remove();
+        } else {
+            LAST_STATEMENT.set(statement);
+        }
+    }
+
+    /**
+     * Forgets the statement remembered for the current thread.
+     */
+    public static void clear() {
+        LAST_STATEMENT.remove();
+    }
+}
@@ -0,0 +1,305 @@
+package edu.csudh.lsu.persistence.sql;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Aggregates JDBC statement timings by {@link SqlFingerprint fingerprint} and logs statements slower than a
+ * threshold.
+ * </p>
+ *
+ * <p>
+ * At most {@code maxFingerprints} fingerprints are tracked, so a flood of ad-hoc SQL cannot grow the table without
+ * bound. When the table is full, a statement with a new fingerprint replaces the tracked fingerprint with the lowest
+ * maximum time if it took longer, and is otherwise only counted as {@link #getDroppedCount() dropped}; the table
+ * therefore keeps the slowest fingerprints rather than the first ones seen. The p99 of each fingerprint comes from a
+ * small log-scale histogram with 25% resolution.
+ * </p>
+ *
+ * <p>
+ * Hibernate instantiates the {@link StatementTimingListener} of every session itself, so the log the listeners
+ * report to is {@link #install(SlowQueryLog) installed} globally.
+ * </p>
+ */
+@Slf4j
+public class SlowQueryLog {
+
+    private static volatile SlowQueryLog installed;
+
+    private final long thresholdNanos;
+    private final int maxFingerprints;
+    private final Map<String, FingerprintStats> fingerprints = new ConcurrentHashMap<>();
+    private final SqlFingerprintCache fingerprintCache;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final Object evictionLock = new Object();
+    // Lower bound of the lowest maximum time in a full table, maxima only grow; new statements at or below it are
+    // dropped without scanning the table
+    private volatile long evictionFloorNanos;
+
+    /**
+     * Constructor for SlowQueryLog.
+     *
+     * @param thresholdMillis Statements taking at least this long are logged
+     * @param maxFingerprints Maximum number of distinct fingerprints tracked
+     */
+    public SlowQueryLog(long thresholdMillis, int maxFingerprints) {
+        Assert.isTrue(thresholdMillis >= 0, "Threshold must not be negative.");
+        Assert.isTrue(maxFingerprints > 0, "Maximum fingerprints must be positive.");
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.maxFingerprints = maxFingerprints;
+        // Raw SQL varies more than fingerprints, so the cache is bounded separately
+        this.fingerprintCache = new SqlFingerprintCache(maxFingerprints * 4);
+    }
+
+    /**
+     * Makes a log the target of every {@link StatementTimingListener}.
+     *
+     * @param slowQueryLog Log to install, null to stop recording
+     */
+    public static synchronized void install(SlowQueryLog slowQueryLog) {
+        installed = slowQueryLog;
+    }
+
+    /**
+     * @return The installed log, null if none is installed.
+     */
+    public static SlowQueryLog installed() {
+        return installed;
+    }
+
+    /**
+     * Stops recording into this log if it is the installed one.
+     */
+    public void uninstall() {
+        synchronized (SlowQueryLog.class) {
+            if (installed == this) {
+                installed = null;
+            }
+        }
+    }
+
+    /**
+     * Records one execution of a statement.
+     *
+     * @param sql   SQL as sent to the driver
+     * @param nanos Execution time in nanoseconds
+     */
+    public void record(String sql, long nanos) {
+        record(fingerprintCache.describe(sql), nanos);
+    }
+
+    /**
+     * Records one execution of a statement described earlier, as captured by the
+     * {@link FingerprintStatementInspector}.
+     *
+     * @param statement Description of the SQL as sent to the driver
+     * @param nanos     Execution time in nanoseconds
+     */
+    public void record(SqlFingerprintCache.Description statement, long nanos) {
+        String fingerprint = statement.getFingerprint();
+        FingerprintStats stats = fingerprints.get(fingerprint);
+        if (stats == null) {
+            if (fingerprints.size() < maxFingerprints) {
+                stats = fingerprints.computeIfAbsent(fingerprint,
+                        key -> new FingerprintStats(statement.getBindParameters()));
+            } else if (nanos <= evictionFloorNanos) {
+                dropped.increment();
+            } else {
+                recordReplacingFastest(fingerprint, statement.getBindParameters(), nanos);
+            }
+        }
+        if (stats != null) {
+            stats.record(nanos);
+        }
+        if (nanos >= thresholdNanos) {
+            log.warn("Slow statement took {} ms with {} bind parameters: {}", TimeUnit.NANOSECONDS.toMillis(nanos),
+                    statement.getBindParameters(), fingerprint);
+        }
+    }
+
+    /**
+     * Method to record a statement with a new fingerprint into the full table, evicting the fingerprint with the
+     * lowest maximum time if the statement took longer. The evicted fingerprint then also ranks below the new one by
+     * p99, which never exceeds the maximum.
+     *
+     * @param fingerprint    Fingerprint of the new statement
+     * @param bindParameters Bind parameters of the new statement
+     * @param nanos          Execution time of the new statement
+     */
+    private void recordReplacingFastest(String fingerprint, int bindParameters, long nanos) {
+        synchronized (evictionLock) {
+            FingerprintStats stats = fingerprints.get(fingerprint);
+            if (stats != null) {
+                stats.record(nanos);
+                return;
+            }
+            String fastest = null;
+            long fastestMax = Long.MAX_VALUE;
+            long secondFastestMax = Long.MAX_VALUE;
+            for (Map.Entry<String, FingerprintStats> entry : fingerprints.entrySet()) {
+                long max = entry.getValue().maxNanos();
+                if (max < fastestMax) {
+                    secondFastestMax = fastestMax;
+                    fastestMax = max;
+                    fastest = entry.getKey();
+                } else if (max < secondFastestMax) {
+                    secondFastestMax = max;
+                }
+            }
+            if (fastest != null && nanos <= fastestMax) {
+                evictionFloorNanos = fastestMax;
+                dropped.increment();
+                return;
+            }
+            // Recorded before it is added, so a concurrent scan never sees the new fingerprint without its time
+            stats = new FingerprintStats(bindParameters);
+            stats.record(nanos);
+            if (fastest != null) {
+                fingerprints.remove(fastest);
+                evicted.increment();
+            }
+            fingerprints.put(fingerprint, stats);
+            evictionFloorNanos = Math.min(nanos, secondFastestMax);
+        }
+    }
+
+    /**
+     * Returns the slowest fingerprints, ordered by p99 and then by maximum time.
+     *
+     * @param limit Maximum number of fingerprints returned
+     * @return Summaries of the slowest fingerprints
+     */
+    public List<FingerprintSummary> getTopSlowest(int limit) {
+        return fingerprints.entrySet().stream()
+                .map(entry -> entry.getValue().summarize(entry.getKey()))
+                .sorted(Comparator.comparingLong(FingerprintSummary::getP99Nanos)
+                        .thenComparingLong(FingerprintSummary::getMaxNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * @return Number of statements not aggregated because the fingerprint table was full of slower fingerprints.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return Number of fingerprints evicted from the full table to make room for a slower one.
+     */
+    public long getEvictedCount() {
+        return evicted.sum();
+    }
+
+    /**
+     * Clears every aggregate.
+     */
+    public void reset() {
+        synchronized (evictionLock) {
+            fingerprints.clear();
+            evictionFloorNanos = 0;
+        }
+        dropped.reset();
+        evicted.reset();
+    }
+
+    /**
+     * Aggregated timings of one fingerprint.
+     */
+    @Value
+    public static class FingerprintSummary {
+
+        String fingerprint;     // Normalized statement
+        int bindParameters;     // Bind parameters of the first statement seen with this fingerprint
+        long count;             // Number of executions
+        long totalNanos;        // Sum of the execution times
+        long maxNanos;          // Slowest execution
+        long p99Nanos;          // 99th percentile execution time, upper bound of its histogram bucket
+    }
+
+    /**
+     * Lock free timings of one fingerprint.
+     */
+    static final class FingerprintStats {
+
+        // Four buckets per power of two of microseconds; the last power of two starts at 2^32 µs, about 1.2 hours,
+        // and bucket 127 ends at 2^33 µs, about 2.4 hours, also holding anything slower
+        static final int BUCKETS = 128;
+
+        private final int bindParameters;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        FingerprintStats(int bindParameters) {
+            this.bindParameters = bindParameters;
+        }
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.incrementAndGet(bucketOf(TimeUnit.NANOSECONDS.toMicros(nanos)));
+        }
+
+        long maxNanos() {
+            return maxNanos.get();
+        }
+
+        FingerprintSummary summarize(String fingerprint) {
+            long max = maxNanos.get();
+            return new FingerprintSummary(fingerprint, bindParameters, count.sum(), totalNanos.sum(), max,
+                    Math.min(max, percentileNanos(0.99)));
+        }
+
+        long percentileNanos(double percentile) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram.get(i);
+                total += counts[i];
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return TimeUnit.MICROSECONDS.toNanos(upperBoundMicros(i));
+                }
+            }
+            return 0;
+        }
+
+        static int bucketOf(long micros) {
+            if (micros < 4) {
+                return (int) Math.max(0, micros);
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            int subBucket = (int) ((micros >>> (exponent - 2)) & 3);
+            return Math.min(BUCKETS - 1, 4 + (exponent - 2) * 4 + subBucket);
+        }
+
+        static long upperBoundMicros(int bucket) {
+            if (bucket < 4) {
+                return bucket;
+            }
+            int exponent = (bucket - 4) / 4 + 2;
+            int subBucket = (bucket - 4) % 4;
+            return ((4L + subBucket + 1) << (exponent - 2)) - 1;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package edu.csudh.lsu.persistence.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * Registers the {@link FingerprintStatementInspector} and the {@link StatementTimingListener} with Hibernate and
+ * installs a {@link SlowQueryLog} when {@code lsu.persistence.slow-query.enabled=true}.
+ * </p>
+ *
+ * <p>
+ * A statement inspector or session listener already configured by the application is kept, in which case the log
+ * stays empty.
+ * </p>
+ */
+@Slf4j
+@AutoConfiguration(before = HibernateJpaAutoConfiguration.class)
+@ConditionalOnProperty(prefix = SlowQueryLogProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SlowQueryLogProperties.class)
+public class SlowQueryLogAutoConfiguration {
+
+    @Bean(destroyMethod = "uninstall")
+    @ConditionalOnMissingBean
+    public SlowQueryLog slowQueryLog(SlowQueryLogProperties properties) {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(properties.getThresholdMillis(), properties.getMaxFingerprints());
+        SlowQueryLog.install(slowQueryLog);
+        log.info("Slow-query log enabled: threshold {} ms, up to {} fingerprints.", properties.getThresholdMillis(),
+                properties.getMaxFingerprints());
+        return slowQueryLog;
+    }
+
+    // Depends on the log so that it is installed before the first session opens
+    @Bean
+    public HibernatePropertiesCustomizer slowQueryLogHibernatePropertiesCustomizer(SlowQueryLog slowQueryLog) {
+        return SlowQueryLogAutoConfiguration::registerTiming;
+    }
+
+    /**
+     * Adds the statement inspector and the timing listener to the Hibernate properties unless already set.
+     *
+     * @param hibernateProperties Properties the session factory is built from
+     */
+    static void registerTiming(Map<String, Object> hibernateProperties) {
+        hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new FingerprintStatementInspector());
+        hibernateProperties.putIfAbsent(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                StatementTimingListener.class.getName());
+    }
+}
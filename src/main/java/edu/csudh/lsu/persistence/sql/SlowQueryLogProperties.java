@@ -0,0 +1,33 @@
+package edu.csudh.lsu.persistence.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <p>
+ * Settings of the slow-query log, bound from {@code lsu.persistence.slow-query.*}.
+ * </p>
+ *
+ * <p>
+ * The log is off by default. With {@code lsu.persistence.slow-query.enabled=true} every JDBC statement is timed and
+ * aggregated by fingerprint, and statements over the threshold are logged at WARN.
+ * </p>
+ */
+@Getter
+@Setter
+@ToString
+@ConfigurationProperties(prefix = SlowQueryLogProperties.PREFIX)
+public class SlowQueryLogProperties {
+
+    public static final String PREFIX = "lsu.persistence.slow-query";
+
+    private boolean enabled = false;
+
+    // Statements taking at least this long are logged
+    private long thresholdMillis = 200;
+
+    // Distinct fingerprints aggregated before new ones are dropped
+    private int maxFingerprints = 500;
+}
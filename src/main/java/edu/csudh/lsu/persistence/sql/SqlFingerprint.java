@@ -0,0 +1,102 @@
+package edu.csudh.lsu.persistence.sql;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Normalizes SQL into fingerprints so that statements differing only in literal values or row count group together.
+ * </p>
+ *
+ * <p>
+ * String and numeric literals become {@code ?}, runs of whitespace collapse to one space, a {@code VALUES} list of
+ * any number of parameter tuples becomes {@code VALUES (...)} and an {@code IN} list of parameters becomes
+ * {@code IN (...)}. A 50-row and a 500-row multi-row UPSERT therefore share one fingerprint.
+ * </p>
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // Possessive, because a greedy group recurses once per repetition and overflows the stack on a 10,000-row UPSERT
+    private static final String PARAMETER_TUPLE = "\\(\\s*+\\?(?:\\s*+,\\s*+\\?)*+\\s*+\\)";
+    private static final Pattern VALUES_LIST = Pattern.compile(
+            "(?i)\\bVALUES\\s*+" + PARAMETER_TUPLE + "(?:\\s*+,\\s*+" + PARAMETER_TUPLE + ")*+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*" + PARAMETER_TUPLE);
+    private static final Pattern OPERATION = Pattern.compile("^\\s*(\\w+)");
+    private static final Pattern TABLE = Pattern.compile("(?i)\\b(?:FROM|INTO|UPDATE)\\s+([\\w.\"]+)");
+
+    private SqlFingerprint() {
+    }
+
+    /**
+     * Method to compute the fingerprint of a statement.
+     *
+     * @param sql SQL statement, may be null
+     * @return Normalized statement, empty for null
+     */
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+        fingerprint = VALUES_LIST.matcher(fingerprint).replaceAll("VALUES (...)");
+        return IN_LIST.matcher(fingerprint).replaceAll("IN (...)");
+    }
+
+    /**
+     * Method to count the JDBC bind parameters of a statement, ignoring question marks inside string literals.
+     *
+     * @param sql SQL statement, may be null
+     * @return Number of {@code ?} placeholders
+     */
+    public static int countBindParameters(String sql) {
+        if (sql == null) {
+            return 0;
+        }
+        Matcher literals = STRING_LITERAL.matcher(sql);
+        int count = 0;
+        int position = 0;
+        while (literals.find()) {
+            count += countQuestionMarks(sql, position, literals.start());
+            position = literals.end();
+        }
+        return count + countQuestionMarks(sql, position, sql.length());
+    }
+
+    /**
+     * Method to read the operation of a statement from its first keyword.
+     *
+     * @param sql SQL statement, may be null
+     * @return Upper-case keyword such as {@code SELECT} or {@code UPSERT}, null if there is none
+     */
+    public static String operationOf(String sql) {
+        Matcher matcher = sql == null ? null : OPERATION.matcher(sql);
+        return matcher != null && matcher.find() ? matcher.group(1).toUpperCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Method to read the first table a statement reads from, inserts into or updates.
+     *
+     * @param sql SQL statement, may be null
+     * @return Table name as written in the statement, null if none is found
+     */
+    public static String tableOf(String sql) {
+        Matcher matcher = sql == null ? null : TABLE.matcher(sql);
+        return matcher != null && matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static int countQuestionMarks(String sql, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
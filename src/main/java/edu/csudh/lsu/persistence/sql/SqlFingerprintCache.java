@@ -0,0 +1,90 @@
+package edu.csudh.lsu.persistence.sql;
+
+import lombok.Value;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Bounded cache of the {@link SqlFingerprint fingerprint}, operation, table and bind parameter count of raw SQL
+ * statements.
+ * </p>
+ *
+ * <p>
+ * Fingerprinting takes several regular expression passes, while an application prepares the same few hundred
+ * statements over and over, so the result is computed once per distinct statement. Once {@code maxEntries} statements
+ * are cached, new ones are still described but no longer cached, so a flood of ad-hoc SQL cannot grow the cache
+ * without bound.
+ * </p>
+ *
+ * <p>
+ * Statements longer than {@link #MAX_CACHED_LENGTH} characters are described but never cached. A multi-row UPSERT
+ * has a different SQL string for every row count and a 10,000-row one runs to hundreds of kilobytes, so caching them
+ * would let a few hundred batch sizes pin hundreds of megabytes; fingerprinting such a statement again costs little
+ * next to executing it.
+ * </p>
+ */
+public class SqlFingerprintCache {
+
+    /**
+     * Longest statement cached, in characters; the statements Hibernate generates for the entities are well below it.
+     */
+    public static final int MAX_CACHED_LENGTH = 2_048;
+
+    private static final Description NONE = new Description("", null, null, 0);
+
+    private final int maxEntries;
+    private final Map<String, Description> descriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for SqlFingerprintCache.
+     *
+     * @param maxEntries Maximum number of statements cached
+     */
+    public SqlFingerprintCache(int maxEntries) {
+        Assert.isTrue(maxEntries > 0, "Maximum entries must be positive.");
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Method to describe a statement, from the cache when it was seen before.
+     *
+     * @param sql SQL statement, may be null
+     * @return Fingerprint, operation, table and bind parameter count of the statement
+     */
+    public Description describe(String sql) {
+        if (sql == null) {
+            return NONE;
+        }
+        Description description = descriptions.get(sql);
+        if (description == null) {
+            description = new Description(SqlFingerprint.of(sql), SqlFingerprint.operationOf(sql),
+                    SqlFingerprint.tableOf(sql), SqlFingerprint.countBindParameters(sql));
+            if (sql.length() <= MAX_CACHED_LENGTH && descriptions.size() < maxEntries) {
+                descriptions.put(sql, description);
+            }
+        }
+        return description;
+    }
+
+    /**
+     * @return Number of statements cached.
+     */
+    public int size() {
+        return descriptions.size();
+    }
+
+    /**
+     * Fingerprint, operation, table and bind parameter count of one statement.
+     */
+    @Value
+    public static class Description {
+
+        String fingerprint;     // Normalized statement, empty for null
+        String operation;       // Upper-case first keyword, null if there is none
+        String table;           // First table read, inserted into or updated, null if none is found
+        int bindParameters;     // JDBC placeholders outside string literals
+    }
+}
@@ -0,0 +1,54 @@
+package edu.csudh.lsu.persistence.sql;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * <p>
+ * Session event listener timing every JDBC statement and batch execution and reporting it, together with the
+ * statement captured by the {@link FingerprintStatementInspector}, to the {@link SlowQueryLog#installed() installed}
+ * {@link SlowQueryLog}.
+ * </p>
+ *
+ * <p>
+ * Hibernate creates one instance per session from {@code hibernate.session.events.auto}, which is why the class has
+ * a no-argument constructor and the log is looked up globally. Sessions are single threaded, so the start time needs
+ * no synchronization.
+ * </p>
+ */
+public class StatementTimingListener extends BaseSessionEventListener {
+
+    private long executionStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        if (executionStart < 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - executionStart;
+        executionStart = -1;
+        SlowQueryLog slowQueryLog = SlowQueryLog.installed();
+        SqlFingerprintCache.Description statement = FingerprintStatementInspector.lastStatement();
+        if (slowQueryLog != null && statement != null) {
+            slowQueryLog.record(statement, nanos);
+        }
+    }
+}
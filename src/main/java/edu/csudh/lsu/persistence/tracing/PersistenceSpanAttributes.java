@@ -0,0 +1,32 @@
+package edu.csudh.lsu.persistence.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+
+/**
+ * <p>
+ * Names of the persistence spans and their attributes, following the OpenTelemetry database semantic conventions
+ * where one exists.
+ * </p>
+ *
+ * <p>
+ * {@link #STATEMENT} carries the {@link edu.csudh.lsu.persistence.sql.SqlFingerprint fingerprint} of the SQL rather
+ * than the SQL itself, so literal values never leave the process.
+ * </p>
+ */
+public final class PersistenceSpanAttributes {
+
+    public static final String INSTRUMENTATION_NAME = "edu.csudh.lsu.persistence";
+    public static final String CONNECTION_ACQUIRE_SPAN = "connection acquire";
+
+    public static final AttributeKey<String> SYSTEM = AttributeKey.stringKey("db.system");
+    public static final AttributeKey<String> TABLE = AttributeKey.stringKey("db.sql.table");
+    public static final AttributeKey<String> OPERATION = AttributeKey.stringKey("db.operation");
+    public static final AttributeKey<String> STATEMENT = AttributeKey.stringKey("db.statement");
+    public static final AttributeKey<Long> ROWS = AttributeKey.longKey("lsu.persistence.rows");
+    public static final AttributeKey<String> ENTITY = AttributeKey.stringKey("lsu.persistence.entity");
+    public static final AttributeKey<String> CODE_NAMESPACE = AttributeKey.stringKey("code.namespace");
+    public static final AttributeKey<String> CODE_FUNCTION = AttributeKey.stringKey("code.function");
+
+    private PersistenceSpanAttributes() {
+    }
+}
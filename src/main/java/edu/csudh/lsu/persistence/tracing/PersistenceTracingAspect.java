@@ -0,0 +1,74 @@
+package edu.csudh.lsu.persistence.tracing;
+
+import edu.csudh.lsu.persistence.utils.RowCounts;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * <p>
+ * Opens an internal span named {@code Component.operation} around every public service method and every
+ * {@code CustomRepository.upsertAll} and {@code upsertAllReturning} call, as a child of the caller's current span.
+ * The pool acquisition and SQL spans of the {@link TracingDataSource} nest below it.
+ * </p>
+ *
+ * <p>
+ * The aspect runs inside the retry aspect, so every attempt of a retried transaction gets its own span.
+ * </p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class PersistenceTracingAspect {
+
+    private final Tracer tracer;
+
+    /**
+     * Constructor for PersistenceTracingAspect.
+     *
+     * @param tracer Tracer the spans are created with
+     */
+    public PersistenceTracingAspect(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /**
+     * Runs the invocation inside a span.
+     *
+     * @param joinPoint Intercepted invocation
+     * @return Result of the invocation
+     * @throws Throwable the failure of the invocation
+     */
+    @Around("(within(edu.csudh.lsu.persistence.service..*) && execution(public * *(..))) " +
+            "|| execution(* edu.csudh.lsu.persistence.repository.gamesroom.common.CustomRepository+.upsertAll*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        var signature = (MethodSignature) joinPoint.getSignature();
+        String component = signature.getDeclaringType().getSimpleName();
+        Span span = tracer.spanBuilder(component + "." + signature.getName())
+                .setSpanKind(SpanKind.INTERNAL)
+                .setAttribute(PersistenceSpanAttributes.CODE_NAMESPACE, signature.getDeclaringTypeName())
+                .setAttribute(PersistenceSpanAttributes.CODE_FUNCTION, signature.getName())
+                .startSpan();
+        try (Scope ignored = span.makeCurrent()) {
+            Object result = joinPoint.proceed();
+            long rows = RowCounts.of(result);
+            if (rows >= 0) {
+                span.setAttribute(PersistenceSpanAttributes.ROWS, rows);
+            }
+            return result;
+        } catch (Throwable throwable) {
+            span.recordException(throwable);
+            span.setStatus(StatusCode.ERROR, throwable.getClass().getSimpleName());
+            throw throwable;
+        } finally {
+            span.end();
+        }
+    }
+}
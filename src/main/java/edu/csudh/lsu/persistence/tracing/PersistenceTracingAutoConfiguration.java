@@ -0,0 +1,65 @@
+package edu.csudh.lsu.persistence.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <p>
+ * Opt-in OpenTelemetry spans for the services, connection acquisition and SQL execution, enabled with
+ * {@code lsu.persistence.tracing.enabled=true} when the OpenTelemetry API is on the classpath.
+ * </p>
+ *
+ * <p>
+ * Spans go to the application's {@link OpenTelemetry} bean, typically configured by Spring Boot Actuator. Without
+ * one, and with the OpenTelemetry SDK on the classpath, a local SDK exporting to the log through the
+ * {@link Slf4jSpanExporter} is created, so traces can be read without a collector.
+ * </p>
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.opentelemetry.OpenTelemetryAutoConfiguration")
+@ConditionalOnClass(OpenTelemetry.class)
+@ConditionalOnProperty(prefix = "lsu.persistence.tracing", name = "enabled", havingValue = "true")
+public class PersistenceTracingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PersistenceTracingAspect persistenceTracingAspect(ObjectProvider<OpenTelemetry> openTelemetry) {
+        return new PersistenceTracingAspect(openTelemetry.getIfAvailable(OpenTelemetry::noop)
+                .getTracer(PersistenceSpanAttributes.INSTRUMENTATION_NAME));
+    }
+
+    @Bean
+    public static TracingDataSourcePostProcessor tracingDataSourcePostProcessor(
+            ObjectProvider<OpenTelemetry> openTelemetry) {
+        return new TracingDataSourcePostProcessor(openTelemetry);
+    }
+
+    /**
+     * Local SDK logging the spans, used when the application does not provide an {@link OpenTelemetry} bean.
+     */
+    @Slf4j
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(OpenTelemetrySdk.class)
+    @ConditionalOnMissingBean(OpenTelemetry.class)
+    static class LoggingExporterConfiguration {
+
+        @Bean(destroyMethod = "close")
+        public OpenTelemetrySdk persistenceOpenTelemetry() {
+            log.info("No OpenTelemetry bean found, persistence spans are written to the log.");
+            return OpenTelemetrySdk.builder()
+                    .setTracerProvider(SdkTracerProvider.builder()
+                            .addSpanProcessor(SimpleSpanProcessor.create(new Slf4jSpanExporter()))
+                            .build())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package edu.csudh.lsu.persistence.tracing;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Span exporter writing every span to the application log, so persistence traces can be read without an
+ * OpenTelemetry collector. Spans are logged at DEBUG, failed ones at WARN.
+ * </p>
+ */
+@Slf4j
+public class Slf4jSpanExporter implements SpanExporter {
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos());
+            if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+                log.warn("Span '{}' failed after {} us: trace={} span={} parent={} {}", span.getName(), micros,
+                        span.getTraceId(), span.getSpanId(), span.getParentSpanId(), span.getAttributes().asMap());
+            } else if (log.isDebugEnabled()) {
+                log.debug("Span '{}' took {} us: trace={} span={} parent={} {}", span.getName(), micros,
+                        span.getTraceId(), span.getSpanId(), span.getParentSpanId(), span.getAttributes().asMap());
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,224 @@
+package edu.csudh.lsu.persistence.tracing;
+
+import edu.csudh.lsu.persistence.sql.SqlFingerprintCache;
+import edu.csudh.lsu.persistence.utils.DatabaseDialect;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * <p>
+ * Data source adding a client span for every connection acquisition and every JDBC statement execution.
+ * </p>
+ *
+ * <p>
+ * The {@value PersistenceSpanAttributes#CONNECTION_ACQUIRE_SPAN} span measures the wait on the pool, which is the
+ * part of a slow call the service span alone cannot explain. Statement spans are named after the operation and table,
+ * for example {@code UPSERT SHIFT_TOTAL}, and carry the SQL fingerprint and, for updates and batches, the number of
+ * rows affected. Connections and statements are wrapped in JDK proxies, so nothing is added to the Hibernate session.
+ * Fingerprints are cached per distinct SQL, so a statement is only normalized the first time it runs.
+ * </p>
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final String EQUALS = "equals";
+
+    // Distinct statements whose fingerprint is cached
+    static final int FINGERPRINT_CACHE_SIZE = 2_000;
+
+    private final Tracer tracer;
+    private final SqlFingerprintCache fingerprintCache = new SqlFingerprintCache(FINGERPRINT_CACHE_SIZE);
+    private volatile String system;
+
+    /**
+     * Constructor for TracingDataSource.
+     *
+     * @param targetDataSource Data source whose connections are traced
+     * @param tracer           Tracer the spans are created with
+     */
+    public TracingDataSource(DataSource targetDataSource, Tracer tracer) {
+        super(targetDataSource);
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return acquire(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return acquire(username, password);
+    }
+
+    private Connection acquire(String username, String password) throws SQLException {
+        Span span = tracer.spanBuilder(PersistenceSpanAttributes.CONNECTION_ACQUIRE_SPAN)
+                .setSpanKind(SpanKind.INTERNAL)
+                .startSpan();
+        Connection connection;
+        try (Scope ignored = span.makeCurrent()) {
+            connection = username == null
+                    ? obtainTargetDataSource().getConnection()
+                    : obtainTargetDataSource().getConnection(username, password);
+        } catch (SQLException | RuntimeException exception) {
+            span.recordException(exception);
+            span.setStatus(StatusCode.ERROR, exception.getClass().getSimpleName());
+            throw exception;
+        } finally {
+            span.end();
+        }
+        if (system == null) {
+            system = DatabaseDialect.fromProductName(connection.getMetaData().getDatabaseProductName())
+                    .name().toLowerCase(Locale.ROOT);
+        }
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Sums the update counts of a batch, ignoring the statements whose count the driver does not report.
+     *
+     * @param result Result of an {@code execute*} method
+     * @return Rows affected, or -1 if the result carries no row count
+     */
+    static long rowsAffected(Object result) {
+        long rows = -1;
+        if (result instanceof Integer || result instanceof Long) {
+            rows = ((Number) result).longValue();
+        } else if (result instanceof int[] counts) {
+            rows = 0;
+            for (int count : counts) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[] counts) {
+            rows = 0;
+            for (long count : counts) {
+                rows += Math.max(0, count);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Wraps the statements created by a connection.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (EQUALS.equals(method.getName())) {
+                return proxy == args[0];
+            }
+            Object result = TracingDataSource.invoke(connection, method, args);
+            if (result instanceof CallableStatement callable) {
+                return proxy(CallableStatement.class, new StatementHandler(callable, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement prepared) {
+                return proxy(PreparedStatement.class, new StatementHandler(prepared, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, null));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Times the executions of one statement.
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (EQUALS.equals(method.getName())) {
+                return proxy == args[0];
+            }
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return TracingDataSource.invoke(statement, method, args);
+            }
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            Span span = statementSpan(sql).startSpan();
+            try (Scope ignored = span.makeCurrent()) {
+                Object result = TracingDataSource.invoke(statement, method, args);
+                long rows = rowsAffected(result);
+                if (rows >= 0) {
+                    span.setAttribute(PersistenceSpanAttributes.ROWS, rows);
+                }
+                return result;
+            } catch (Throwable throwable) {
+                span.recordException(throwable);
+                span.setStatus(StatusCode.ERROR, throwable.getClass().getSimpleName());
+                throw throwable;
+            } finally {
+                span.end();
+            }
+        }
+
+        private SpanBuilder statementSpan(String sql) {
+            SqlFingerprintCache.Description description = fingerprintCache.describe(sql);
+            String operation = description.getOperation();
+            String table = description.getTable();
+            SpanBuilder builder = tracer.spanBuilder(operation == null ? "SQL"
+                            : table == null ? operation : operation + " " + table)
+                    .setSpanKind(SpanKind.CLIENT)
+                    .setAttribute(PersistenceSpanAttributes.SYSTEM, system);
+            if (operation != null) {
+                builder.setAttribute(PersistenceSpanAttributes.OPERATION, operation);
+            }
+            if (table != null) {
+                builder.setAttribute(PersistenceSpanAttributes.TABLE, table);
+            }
+            if (sql != null) {
+                builder.setAttribute(PersistenceSpanAttributes.STATEMENT, description.getFingerprint());
+            }
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package edu.csudh.lsu.persistence.tracing;
+
+import io.opentelemetry.api.OpenTelemetry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every {@link DataSource} bean in a {@link TracingDataSource}. The tracer is looked up when the first data
+ * source is wrapped, so the post processor itself does not force the early creation of the OpenTelemetry beans.
+ */
+public class TracingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<OpenTelemetry> openTelemetry;
+
+    /**
+     * Constructor for TracingDataSourcePostProcessor.
+     *
+     * @param openTelemetry Provider of the OpenTelemetry instance, a no-op one is used when none is available
+     */
+    public TracingDataSourcePostProcessor(ObjectProvider<OpenTelemetry> openTelemetry) {
+        this.openTelemetry = openTelemetry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+            return new TracingDataSource(dataSource, openTelemetry.getIfAvailable(OpenTelemetry::noop)
+                    .getTracer(PersistenceSpanAttributes.INSTRUMENTATION_NAME));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,141 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import edu.csudh.lsu.persistence.routing.ReportingWorkload;
+import edu.csudh.lsu.persistence.utils.DatabaseDialect;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Runs historical report queries against a consistent snapshot in the past.
+ * </p>
+ *
+ * <p>
+ * Each read opens a read-only transaction whose first statement is
+ * {@code SET TRANSACTION AS OF SYSTEM TIME ...}. Every repository and service call made inside it, including the
+ * count and page queries of {@code findAll(pageable)}, then reads the same snapshot without taking part in
+ * contention with current writers. {@link #followerRead(Supplier)} lets CockroachDB serve the reads from the nearest
+ * replica. On H2 the clause is skipped and the reads see the latest data, so the same code runs in tests.
+ * </p>
+ *
+ * <pre>{@code
+ * Page<ShiftReport> lastSemester = historicalReadTemplate.followerRead(
+ *         () -> shiftReportService.fetchAllShiftReports(pageable));
+ * }</pre>
+ */
+@Slf4j
+@Component
+public class HistoricalReadTemplate {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSSxxx").withZone(ZoneOffset.UTC);
+
+    private static final String SNAPSHOT_TRANSACTION_PREFIX = "AS OF SYSTEM TIME ";
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for HistoricalReadTemplate.
+     *
+     * @param transactionManager Transaction manager used to open the read-only snapshot transactions
+     * @param entityManager      Shared entity manager bound to the current transaction
+     */
+    public HistoricalReadTemplate(PlatformTransactionManager transactionManager, EntityManager entityManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Reads at {@code follower_read_timestamp()}, the most recent time that any replica can serve, typically
+     * around five seconds in the past.
+     *
+     * @param query Reads to run against the snapshot
+     * @param <T>   Result type
+     * @return Result of the reads
+     */
+    @ReportingWorkload
+    public <T> T followerRead(Supplier<T> query) {
+        return read("follower_read_timestamp()", query);
+    }
+
+    /**
+     * Reads the snapshot of an exact point in time, which must lie within the garbage collection window of the
+     * tables being read.
+     *
+     * @param timestamp Point in time to read, not in the future
+     * @param query     Reads to run against the snapshot
+     * @param <T>       Result type
+     * @return Result of the reads
+     */
+    @ReportingWorkload
+    public <T> T asOf(Instant timestamp, Supplier<T> query) {
+        Assert.notNull(timestamp, "Timestamp must not be null.");
+        Assert.isTrue(!timestamp.isAfter(Instant.now()), "Timestamp must not be in the future.");
+        return read(timestampClause(timestamp), query);
+    }
+
+    /**
+     * Reads the snapshot of the given time ago.
+     *
+     * @param staleness How far in the past to read, must be positive
+     * @param query     Reads to run against the snapshot
+     * @param <T>       Result type
+     * @return Result of the reads
+     */
+    @ReportingWorkload
+    public <T> T staleBy(Duration staleness, Supplier<T> query) {
+        Assert.notNull(staleness, "Staleness must not be null.");
+        Assert.isTrue(!staleness.isNegative() && !staleness.isZero(), "Staleness must be positive.");
+        return read(stalenessClause(staleness), query);
+    }
+
+    static String timestampClause(Instant timestamp) {
+        return "'" + TIMESTAMP_FORMAT.format(timestamp) + "'";
+    }
+
+    static String stalenessClause(Duration staleness) {
+        return "'-" + staleness.toMillis() + "ms'";
+    }
+
+    private <T> T read(String asOfSystemTime, Supplier<T> query) {
+        Assert.notNull(query, "Query must not be null.");
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // AS OF SYSTEM TIME must be the first statement of its transaction
+            throw new IllegalStateException("Historical reads cannot join the caller's transaction. "
+                    + "Call them outside of any transaction.");
+        }
+        // Named after the snapshot, so SingleFlight only coalesces reads of the same point in time
+        TransactionTemplate snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager(),
+                transactionTemplate);
+        snapshot.setName(SNAPSHOT_TRANSACTION_PREFIX + asOfSystemTime);
+        return snapshot.execute(status -> {
+            if (DatabaseDialect.resolve(entityManager) == DatabaseDialect.COCKROACHDB) {
+                String sql = "SET TRANSACTION AS OF SYSTEM TIME " + asOfSystemTime;
+                entityManager.unwrap(Session.class).doWork(connection -> {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute(sql);
+                    }
+                });
+                log.debug("Reading snapshot {}.", asOfSystemTime);
+            } else {
+                log.debug("Database does not support AS OF SYSTEM TIME, reading latest data instead of {}.", asOfSystemTime);
+            }
+            return query.get();
+        });
+    }
+}
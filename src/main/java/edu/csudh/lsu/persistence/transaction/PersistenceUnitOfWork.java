@@ -0,0 +1,201 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Groups several service operations into one database transaction.
+ * </p>
+ *
+ * <p>
+ * Operations enlisted in a {@link Work} are deferred until {@link Work#commit()}, then replayed in order inside a
+ * single transaction with Hibernate's flush mode set to {@link FlushMode#COMMIT}. Repository and service methods
+ * join that transaction instead of committing on their own, so a shift close costs one BEGIN/COMMIT pair rather than
+ * one per operation, and pending entity changes are flushed once, JDBC-batched up to
+ * {@code hibernate.jdbc.batch_size}. A CockroachDB retry error replays the whole unit.
+ * </p>
+ *
+ * <p>
+ * Native {@code @Modifying} updates and upserts are not entity changes: each still executes as its own statement
+ * when its operation runs, inside the shared transaction. Combining them would need a multi-row statement written for
+ * the specific operations.
+ * </p>
+ *
+ * <p>
+ * When the unit joins a transaction the caller already opened, the caller's flush mode is restored once the
+ * operations have run.
+ * </p>
+ *
+ * <pre>{@code
+ * unitOfWork.begin("closeShift")
+ *         .enlist(() -> shiftReportService.saveOrUpdateShiftReport(report))
+ *         .enlist(() -> shiftReportService.updateRevenueInCash(reportId, cash, attendant, attendant))
+ *         .enlist(() -> profileService.updateRole(attendantId, "ATTENDANT"))
+ *         .commit();
+ * }</pre>
+ */
+@Slf4j
+@Component
+public class PersistenceUnitOfWork {
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final TransactionRetryExecutor retryExecutor;
+
+    /**
+     * Constructor for PersistenceUnitOfWork.
+     *
+     * @param transactionManager Transaction manager used to open the shared transaction
+     * @param entityManager      Shared entity manager bound to the current transaction
+     * @param retryExecutor      Executor replaying the unit on CockroachDB retry errors
+     */
+    public PersistenceUnitOfWork(PlatformTransactionManager transactionManager, EntityManager entityManager,
+                                 TransactionRetryExecutor retryExecutor) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.retryExecutor = retryExecutor;
+    }
+
+    /**
+     * Starts collecting operations for a new unit of work.
+     *
+     * @param name Name of the unit, used for logging and retry metrics
+     * @return An empty unit of work
+     */
+    public Work begin(String name) {
+        Assert.hasText(name, "Unit of work name must not be empty.");
+        return new Work(name);
+    }
+
+    /**
+     * A set of deferred operations committed together. Instances are not thread safe and can be committed once.
+     */
+    public final class Work {
+
+        private final String name;
+        private final List<Runnable> operations = new ArrayList<>();
+        private boolean committed;
+
+        private Work(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Defers an operation until {@link #commit()}. The operation may run more than once if the unit is retried.
+         *
+         * @param operation Operation to enlist
+         * @return This unit of work
+         */
+        public Work enlist(Runnable operation) {
+            Assert.notNull(operation, "Operation must not be null.");
+            Assert.state(!committed, "Unit of work '" + name + "' has already been committed.");
+            operations.add(operation);
+            return this;
+        }
+
+        /**
+         * @return Number of enlisted operations.
+         */
+        public int size() {
+            return operations.size();
+        }
+
+        /**
+         * Runs every enlisted operation in one transaction, flushes once and commits once.
+         *
+         * @return Number of JDBC statements and batches sent by the successful attempt
+         */
+        public int commit() {
+            Assert.state(!committed, "Unit of work '" + name + "' has already been committed.");
+            committed = true;
+            if (operations.isEmpty()) {
+                log.debug("Unit of work '{}' has no operations, nothing to commit.", name);
+                return 0;
+            }
+
+            long start = System.nanoTime();
+            var statementCounter = new StatementCounter();
+            retryExecutor.execute("PersistenceUnitOfWork." + name, RetryPolicy.DEFAULT,
+                    () -> transactionTemplate.execute(status -> {
+                        statementCounter.reset();
+                        var session = entityManager.unwrap(Session.class);
+                        FlushMode previousFlushMode = session.getHibernateFlushMode();
+                        session.setHibernateFlushMode(FlushMode.COMMIT);
+                        session.addEventListeners(statementCounter);
+                        try {
+                            operations.forEach(Runnable::run);
+                            // A joined transaction commits later, so its pending changes are flushed and counted now
+                            if (!status.isNewTransaction()) {
+                                session.flush();
+                            }
+                            return null;
+                        } finally {
+                            session.setHibernateFlushMode(previousFlushMode);
+                            // The caller's session outlives the unit and cannot drop listeners, so the counter stops
+                            if (!status.isNewTransaction()) {
+                                statementCounter.stop();
+                            }
+                        }
+                    }));
+
+            log.info("Unit of work '{}' committed {} operations with {} statements in {} ms.", name, operations.size(),
+                    statementCounter.getStatements(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return statementCounter.getStatements();
+        }
+    }
+
+    /**
+     * Counts statements and batches executed by the session of the current attempt, including the commit flush.
+     */
+    static final class StatementCounter extends BaseSessionEventListener {
+
+        private int statements;
+        private boolean stopped;
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            count();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            count();
+        }
+
+        @Override
+        public void transactionCompletion(boolean successful) {
+            stopped = true;
+        }
+
+        void reset() {
+            statements = 0;
+            stopped = false;
+        }
+
+        void stop() {
+            stopped = true;
+        }
+
+        private void count() {
+            if (!stopped) {
+                statements++;
+            }
+        }
+
+        int getStatements() {
+            return statements;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.JDBCException;
+import org.springframework.util.Assert;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static edu.csudh.lsu.persistence.constants.PersistenceConstants.SERIALIZATION_FAILURE_SQL_STATE;
+
+/**
+ * Immutable retry budget and backoff calculation for CockroachDB transaction retries.
+ */
+@Getter
+@ToString
+public final class RetryPolicy {
+
+    // Guards against pathological cause chains that point back to themselves
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    public static final RetryPolicy DEFAULT = new RetryPolicy(5, 20, 2000);
+
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    /**
+     * Constructor for {@link RetryPolicy}.
+     *
+     * @param maxAttempts          Maximum number of attempts, including the first one
+     * @param initialBackoffMillis Backoff ceiling for the first retry
+     * @param maxBackoffMillis     Upper bound for a single backoff
+     */
+    public RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis) {
+        Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than zero.");
+        Assert.isTrue(initialBackoffMillis >= 0 && maxBackoffMillis >= initialBackoffMillis,
+                "Backoff must satisfy 0 <= initialBackoffMillis <= maxBackoffMillis.");
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * Builds a policy from the attributes of a {@link RetryableTransaction} annotation.
+     *
+     * @param retryableTransaction Annotation to read, may be null
+     * @return Policy described by the annotation, or {@link #DEFAULT} when the annotation is null
+     */
+    public static RetryPolicy from(RetryableTransaction retryableTransaction) {
+        if (retryableTransaction == null) {
+            return DEFAULT;
+        }
+        return new RetryPolicy(retryableTransaction.maxAttempts(), retryableTransaction.initialBackoffMillis(),
+                retryableTransaction.maxBackoffMillis());
+    }
+
+    /**
+     * Computes a "full jitter" exponential backoff: a uniformly random delay between zero and
+     * {@code min(maxBackoff, initialBackoff * 2^(retry - 1))}. Spreading the retries over the whole window keeps
+     * the contending transactions from colliding on the same row again in lock step.
+     *
+     * @param retry One-based retry number
+     * @return Delay in milliseconds before the given retry
+     */
+    public long backoffMillis(int retry) {
+        int shift = Math.min(Math.max(retry - 1, 0), 30);
+        long ceiling = Math.min(maxBackoffMillis, initialBackoffMillis << shift);
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Checks whether a failure is a CockroachDB transaction retry error anywhere in its cause chain.
+     *
+     * @param throwable Failure to inspect
+     * @return true if the failure carries SQLSTATE 40001
+     */
+    public static boolean isRetryable(Throwable throwable) {
+        var current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (SERIALIZATION_FAILURE_SQL_STATE.equals(sqlStateOf(current))) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private static String sqlStateOf(Throwable throwable) {
+        if (throwable instanceof SQLException sqlException) {
+            return sqlException.getSQLState();
+        }
+        if (throwable instanceof JDBCException jdbcException) {
+            return jdbcException.getSQLState();
+        }
+        return null;
+    }
+}
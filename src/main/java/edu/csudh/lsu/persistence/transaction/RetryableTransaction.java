@@ -0,0 +1,42 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method (or every public method of a service) as safe to re-run when CockroachDB
+ * rejects its transaction with a serialization failure (SQLSTATE 40001).
+ *
+ * <p>
+ * The whole method is re-run, including repository calls that committed before the failure, so it must be
+ * idempotent.
+ * </p>
+ *
+ * <p>
+ * The retry only happens at the outermost transaction boundary. A method called inside a transaction that
+ * was started elsewhere is executed once and the failure is left for the owner of that transaction to retry.
+ * </p>
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryableTransaction {
+
+    /**
+     * @return Maximum number of attempts, including the first one.
+     */
+    int maxAttempts() default 5;
+
+    /**
+     * @return Backoff ceiling in milliseconds for the first retry; doubled on every following retry.
+     */
+    long initialBackoffMillis() default 20;
+
+    /**
+     * @return Upper bound in milliseconds for a single backoff.
+     */
+    long maxBackoffMillis() default 2000;
+}
@@ -0,0 +1,66 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies {@link RetryableTransaction} to Spring managed beans.
+ *
+ * <p>
+ * The unit of retry is the whole service call, not a transaction. Most service methods have no
+ * {@code @Transactional} of their own, so each repository call inside them commits in its own transaction, and a
+ * retry re-runs every statement of the call, those that already committed included. Only idempotent methods may
+ * therefore carry {@link RetryableTransaction}, such as the upserts keyed on a client supplied id, idempotency key or
+ * natural key, and the updates setting columns to given values.
+ * </p>
+ *
+ * <p>
+ * The aspect runs outside every other aspect but the capture one. Where a service method is {@code @Transactional},
+ * the aspect also runs outside that interceptor, so every retry starts a brand-new transaction instead of
+ * re-entering the one that CockroachDB already aborted.
+ * </p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class TransactionRetryAspect {
+
+    private final TransactionRetryExecutor retryExecutor;
+
+    /**
+     * Constructor for TransactionRetryAspect.
+     *
+     * @param retryExecutor Executor performing the retries
+     */
+    public TransactionRetryAspect(TransactionRetryExecutor retryExecutor) {
+        this.retryExecutor = retryExecutor;
+    }
+
+    /**
+     * Retries methods annotated with {@link RetryableTransaction}, or declared in a class annotated with it.
+     *
+     * @param joinPoint Intercepted invocation
+     * @return Result of the invocation
+     * @throws Throwable the failure of the last attempt
+     */
+    @Around("@within(edu.csudh.lsu.persistence.transaction.RetryableTransaction) " +
+            "|| @annotation(edu.csudh.lsu.persistence.transaction.RetryableTransaction)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        var signature = (MethodSignature) joinPoint.getSignature();
+        var method = signature.getMethod();
+
+        var retryableTransaction = AnnotatedElementUtils.findMergedAnnotation(method, RetryableTransaction.class);
+        if (retryableTransaction == null) {
+            retryableTransaction = AnnotatedElementUtils.findMergedAnnotation(signature.getDeclaringType(), RetryableTransaction.class);
+        }
+
+        var operation = signature.getDeclaringType().getSimpleName() + "." + method.getName();
+        return retryExecutor.execute(operation, RetryPolicy.from(retryableTransaction), joinPoint::proceed);
+    }
+}
@@ -0,0 +1,129 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs a unit of work and re-runs it when CockroachDB aborts its transaction with a retry error (SQLSTATE 40001).
+ *
+ * <p>
+ * CockroachDB's client-side retry protocol rolls back to the {@code cockroach_restart} savepoint and replays the
+ * statements on the same connection. A Hibernate session cannot be reused once one of its statements has failed,
+ * so this executor restarts the whole transaction instead: every attempt gets a fresh transaction and persistence
+ * context. Attempts are separated by a jittered exponential backoff and bounded by the {@link RetryPolicy}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TransactionRetryExecutor {
+
+    // Attempts of the last retried execution on the thread, until the capture aspect around it takes them
+    private static final ThreadLocal<Integer> LAST_ATTEMPTS = new ThreadLocal<>();
+
+    private final TransactionRetryMetrics retryMetrics;
+
+    /**
+     * Constructor for TransactionRetryExecutor.
+     *
+     * @param retryMetrics Metrics collected per operation
+     */
+    public TransactionRetryExecutor(TransactionRetryMetrics retryMetrics) {
+        this.retryMetrics = retryMetrics;
+    }
+
+    /**
+     * Unit of work that may be attempted more than once.
+     *
+     * @param <T> Result type
+     */
+    @FunctionalInterface
+    public interface RetryableWork<T> {
+        T execute() throws Throwable;
+    }
+
+    /**
+     * Executes the work, retrying it on CockroachDB retry errors.
+     *
+     * <p>
+     * If a transaction is already active on the calling thread the work runs exactly once: the failed
+     * transaction can only be retried by whoever started it.
+     * </p>
+     *
+     * @param operation Operation name used for logging and metrics
+     * @param policy    Retry budget and backoff
+     * @param work      Work to execute
+     * @param <T>       Result type
+     * @return Result of the first successful attempt
+     */
+    @SneakyThrows
+    public <T> T execute(String operation, RetryPolicy policy, RetryableWork<T> work) {
+        var metrics = retryMetrics.forOperation(operation);
+        metrics.recordExecution();
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.execute();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            long attemptStart = System.nanoTime();
+            try {
+                T result = work.execute();
+                rememberAttempts(attempt);
+                return result;
+            } catch (Throwable failure) {
+                if (!RetryPolicy.isRetryable(failure)) {
+                    rememberAttempts(attempt);
+                    throw failure;
+                }
+                if (attempt >= policy.getMaxAttempts()) {
+                    rememberAttempts(attempt);
+                    metrics.recordAbort(System.nanoTime() - attemptStart);
+                    log.error("Transaction retry budget of {} attempts exhausted for operation: {}", policy.getMaxAttempts(), operation);
+                    throw failure;
+                }
+                long backoffMillis = policy.backoffMillis(attempt);
+                log.warn("Retryable transaction failure on attempt {} of {} for operation: {}. Retrying in {} ms.",
+                        attempt, policy.getMaxAttempts(), operation, backoffMillis);
+                sleep(backoffMillis, failure);
+                metrics.recordRetry(System.nanoTime() - attemptStart);
+            }
+        }
+    }
+
+    /**
+     * Returns and forgets the number of attempts the last execution on the current thread took, for the capture
+     * aspect running around the retry to record with the call.
+     *
+     * @return Attempts of the last execution that retried, 1 if none did since the last call
+     */
+    public static int takeLastAttempts() {
+        Integer attempts = LAST_ATTEMPTS.get();
+        if (attempts == null) {
+            return 1;
+        }
+        LAST_ATTEMPTS.remove();
+        return attempts;
+    }
+
+    // Only retried executions are remembered, so the common single attempt does not touch the thread local
+    private static void rememberAttempts(int attempt) {
+        if (attempt > 1) {
+            LAST_ATTEMPTS.set(attempt);
+        }
+    }
+
+    private static void sleep(long backoffMillis, Throwable failure) throws Throwable {
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMillis);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            failure.addSuppressed(interruptedException);
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import lombok.ToString;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Per-operation counters for CockroachDB transaction retries.
+ *
+ * <p>
+ * Operations are keyed by {@code ServiceName.methodName}. All counters are lock free so recording stays off the
+ * hot path of the services being retried.
+ * </p>
+ */
+@Component
+public class TransactionRetryMetrics {
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, OperationMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the counters of an operation, creating them on first use.
+     *
+     * @param operation Operation name
+     * @return Counters for the operation
+     */
+    public OperationMetrics forOperation(String operation) {
+        OperationMetrics metrics = operations.get(operation);
+        if (metrics != null) {
+            return metrics;
+        }
+        var created = new OperationMetrics();
+        metrics = operations.putIfAbsent(operation, created);
+        if (metrics != null) {
+            return metrics;
+        }
+        listeners.forEach(listener -> listener.accept(operation, created));
+        return created;
+    }
+
+    /**
+     * Registers a listener called with the counters of every operation, at once for those seen so far and on first
+     * use for later ones, e.g. to export them to a metrics registry. A listener may be called twice for an operation
+     * first used while it is being registered.
+     *
+     * @param listener Listener taking the operation name and its counters
+     */
+    public void forEachOperation(BiConsumer<String, OperationMetrics> listener) {
+        listeners.add(listener);
+        operations.forEach(listener);
+    }
+
+    /**
+     * @return Read-only view of the counters of every operation seen so far.
+     */
+    public Map<String, OperationMetrics> getOperations() {
+        return Collections.unmodifiableMap(operations);
+    }
+
+    /**
+     * Counters of a single operation.
+     */
+    @ToString
+    public static final class OperationMetrics {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder aborts = new LongAdder();
+        private final LongAdder contentionNanos = new LongAdder();
+
+        void recordExecution() {
+            executions.increment();
+        }
+
+        void recordRetry(long contentionNanos) {
+            retries.increment();
+            this.contentionNanos.add(contentionNanos);
+        }
+
+        void recordAbort(long contentionNanos) {
+            aborts.increment();
+            this.contentionNanos.add(contentionNanos);
+        }
+
+        /**
+         * @return Number of times the operation was invoked.
+         */
+        public long getExecutions() {
+            return executions.sum();
+        }
+
+        /**
+         * @return Number of attempts that failed with a retry error and were run again.
+         */
+        public long getRetries() {
+            return retries.sum();
+        }
+
+        /**
+         * @return Number of invocations that failed with a retry error after using up their attempt budget.
+         */
+        public long getAborts() {
+            return aborts.sum();
+        }
+
+        /**
+         * @return Total time spent in failed attempts and backoff, in nanoseconds.
+         */
+        public long getContentionNanos() {
+            return contentionNanos.sum();
+        }
+    }
+}
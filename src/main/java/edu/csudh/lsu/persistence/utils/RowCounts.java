@@ -0,0 +1,53 @@
+package edu.csudh.lsu.persistence.utils;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+
+/**
+ * <p>
+ * Reads the number of rows an operation returned or wrote from its result, for the metrics, JFR events and spans.
+ * </p>
+ *
+ * <p>
+ * Depends on nothing but Spring Data, so that the always-on instrumentation can use it without loading the optional
+ * Micrometer or OpenTelemetry types.
+ * </p>
+ */
+public final class RowCounts {
+
+    private RowCounts() {
+    }
+
+    /**
+     * Method to count the rows carried by a result: the value of an integral count, the size of a collection or the
+     * number of elements of a page.
+     *
+     * @param result Result of an operation
+     * @return Number of rows, or -1 if the result does not carry a row count
+     */
+    public static long of(Object result) {
+        if (result instanceof Integer || result instanceof Long) {
+            return ((Number) result).longValue();
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        return -1;
+    }
+
+    /**
+     * Method to tell whether results of a return type carry a row count.
+     *
+     * @param returnType Declared return type of an operation
+     * @return True for integral counts, collections and pages
+     */
+    public static boolean carriedBy(Class<?> returnType) {
+        return returnType == int.class || returnType == long.class || returnType == Integer.class
+                || returnType == Long.class || Collection.class.isAssignableFrom(returnType)
+                || Slice.class.isAssignableFrom(returnType);
+    }
+}
@@ -0,0 +1,124 @@
+package edu.csudh.lsu.persistence.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Coalesces identical concurrent reads into one database query.
+ * </p>
+ *
+ * <p>
+ * Calls are keyed by operation name and arguments. The first caller of a key runs the query on its own thread;
+ * callers arriving with the same key while it is still running wait for it and receive the same result, or the same
+ * exception. Nothing is cached: once the query finishes the key is released and the next call queries again.
+ * </p>
+ *
+ * <p>
+ * Results are shared, so callers must treat them as read-only. Calls made inside a read-write transaction always
+ * run on their own, since they may need to see that transaction's uncommitted writes. Calls inside a read-only
+ * transaction, such as the dashboard reads of {@code AsyncPersistenceExecutor}, only see committed data and are
+ * coalesced with calls in the same named transaction, or outside of any: {@code HistoricalReadTemplate} names its
+ * transactions after the snapshot they read, so reads of different points in time never share a result.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs the query, or joins an identical one already running.
+     *
+     * @param operation Name of the operation, e.g. {@code ServiceName.methodName}
+     * @param query     Query to run if no identical call is in flight
+     * @param arguments Arguments identifying the call together with the operation, compared with equals
+     * @param <T>       Result type
+     * @return Result of the query
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Supplier<T> query, Object... arguments) {
+        Assert.hasText(operation, "Operation must not be empty.");
+        Assert.notNull(query, "Query must not be null.");
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            executed.increment();
+            return query.get();
+        }
+
+        Key key = new Key(operation, TransactionSynchronizationManager.getCurrentTransactionName(),
+                Arrays.asList(arguments));
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            coalesced.increment();
+            log.debug("Joining in-flight call of '{}'.", operation);
+            return (T) await(leader);
+        }
+
+        executed.increment();
+        try {
+            T result = query.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error exception) {
+            flight.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return Number of calls that ran their own query.
+     */
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * @return Number of calls that shared the query of an identical call in flight.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return Number of queries currently in flight.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException exception) {
+            // Rethrow the leader's own exception so callers see the same failure it did
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (exception.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+
+    private record Key(String operation, String transactionName, List<Object> arguments) {
+    }
+}
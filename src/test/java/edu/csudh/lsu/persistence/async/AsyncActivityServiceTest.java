@@ -0,0 +1,114 @@
+package edu.csudh.lsu.persistence.async;
+
+import edu.csudh.lsu.persistence.model.activity.Activity;
+import edu.csudh.lsu.persistence.service.ActivityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncActivityServiceTest {
+
+    private static final Activity ACTIVITY = new Activity();
+    private static final UUID ID = UUID.randomUUID();
+
+    @Mock
+    private ActivityService activityService;
+
+    @Spy
+    private AsyncPersistenceExecutor asyncPersistenceExecutor = new AsyncPersistenceExecutor(4);
+
+    @InjectMocks
+    private AsyncActivityService asyncActivityService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncPersistenceExecutor.destroy();
+    }
+
+    @Test
+    void saveActivity_delegatesToService() {
+        // Act
+        asyncActivityService.saveActivity(ACTIVITY).join();
+
+        // Assert
+        verify(activityService).saveActivity(ACTIVITY);
+    }
+
+    @Test
+    void fetchAllCategories_delegatesToService() {
+        // Arrange
+        List<String> expected = List.of("Bowling");
+        when(activityService.fetchAllCategories()).thenReturn(expected);
+
+        // Act
+        List<String> result = asyncActivityService.fetchAllCategories().join();
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    void fetchAllCategories_withQueryTimeout_delegatesToServiceInTimedTransaction() {
+        // Arrange
+        List<String> expected = List.of("Bowling");
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ReflectionTestUtils.setField(asyncPersistenceExecutor, "transactionManager", transactionManager);
+        when(activityService.fetchAllCategories()).thenReturn(expected);
+
+        // Act
+        List<String> result = asyncActivityService.fetchAllCategories(2_000).join();
+
+        // Assert
+        assertSame(expected, result);
+        verify(asyncPersistenceExecutor).supplyWithQueryTimeout(eq("ActivityService.fetchAllCategories"), eq(2_000L), any());
+    }
+
+    @Test
+    void deleteActivity_delegatesToService() {
+        // Act
+        asyncActivityService.deleteActivity(ID).join();
+
+        // Assert
+        verify(activityService).deleteActivity(ID);
+    }
+
+    @Test
+    void updateActivity_delegatesToService() {
+        // Act
+        asyncActivityService.updateActivity(ACTIVITY).join();
+
+        // Assert
+        verify(activityService).updateActivity(ACTIVITY);
+    }
+
+    @Test
+    void saveActivity_whenServiceFails_completesExceptionally() {
+        // Arrange
+        RuntimeException failure = new RuntimeException("Unexpected error");
+        doThrow(failure).when(activityService).saveActivity(any());
+
+        // Act & Assert
+        CompletionException thrown = assertThrows(CompletionException.class, () -> asyncActivityService.saveActivity(ACTIVITY).join());
+        assertSame(failure, thrown.getCause());
+    }
+}
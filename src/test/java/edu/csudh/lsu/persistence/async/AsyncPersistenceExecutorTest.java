@@ -0,0 +1,127 @@
+package edu.csudh.lsu.persistence.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncPersistenceExecutorTest {
+
+    private AsyncPersistenceExecutor asyncPersistenceExecutor;
+
+    @BeforeEach
+    void setUp() {
+        asyncPersistenceExecutor = new AsyncPersistenceExecutor(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        asyncPersistenceExecutor.destroy();
+    }
+
+    @Test
+    void supply_runsWorkOnVirtualThread() {
+        // Act
+        Boolean virtual = asyncPersistenceExecutor.supply("test", () -> Thread.currentThread().isVirtual()).join();
+
+        // Assert
+        assertTrue(virtual);
+    }
+
+    @Test
+    void run_whenWorkFails_completesExceptionally() {
+        // Arrange
+        IllegalArgumentException failure = new IllegalArgumentException("boom");
+
+        // Act
+        CompletableFuture<Void> future = asyncPersistenceExecutor.run("test", () -> {
+            throw failure;
+        });
+
+        // Assert
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        assertSame(failure, thrown.getCause());
+        assertEquals(2, asyncPersistenceExecutor.getAvailablePermits(), "Permit must be released after a failure");
+    }
+
+    @Test
+    void supply_whenTransactionActive_throwsException() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> asyncPersistenceExecutor.supply("test", () -> "never"));
+    }
+
+    @Test
+    void supply_boundsConcurrencyToPermits() {
+        // Arrange
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            futures.add(asyncPersistenceExecutor.run("test", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Assert
+        assertTrue(maxRunning.get() <= asyncPersistenceExecutor.getMaxConcurrency(),
+                "At most " + asyncPersistenceExecutor.getMaxConcurrency() + " tasks may run, saw " + maxRunning.get());
+        assertEquals(2, asyncPersistenceExecutor.getAvailablePermits());
+    }
+
+    @Test
+    void supplyWithQueryTimeout_runsWorkInReadOnlyTransactionWithTimeoutRoundedUpToSeconds() {
+        // Arrange
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        ReflectionTestUtils.setField(asyncPersistenceExecutor, "transactionManager", transactionManager);
+
+        // Act
+        String result = asyncPersistenceExecutor.supplyWithQueryTimeout("test", 1_500, () -> "done").join();
+
+        // Assert
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals("done", result);
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals(2, definition.getValue().getTimeout());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void supplyWithQueryTimeout_whenNoTransactionManager_throwsException() {
+        assertThrows(IllegalStateException.class, () -> asyncPersistenceExecutor.supplyWithQueryTimeout("test", 1_000, () -> "never"));
+    }
+
+    @Test
+    void constructor_whenConcurrencyIsNotPositive_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncPersistenceExecutor(0));
+    }
+}
@@ -0,0 +1,128 @@
+package edu.csudh.lsu.persistence.async;
+
+import edu.csudh.lsu.persistence.model.profile.Profile;
+import edu.csudh.lsu.persistence.service.ProfileService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncProfileServiceTest {
+
+    private static final Profile PROFILE = new Profile();
+
+    @Mock
+    private ProfileService profileService;
+
+    @Spy
+    private AsyncPersistenceExecutor asyncPersistenceExecutor = new AsyncPersistenceExecutor(4);
+
+    @InjectMocks
+    private AsyncProfileService asyncProfileService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncPersistenceExecutor.destroy();
+    }
+
+    @Test
+    void saveOrUpdateProfile_delegatesToService() {
+        // Act
+        asyncProfileService.saveOrUpdateProfile(PROFILE).join();
+
+        // Assert
+        verify(profileService).saveOrUpdateProfile(PROFILE);
+    }
+
+    @Test
+    void deleteProfile_delegatesToService() {
+        // Act
+        asyncProfileService.deleteProfile("value").join();
+
+        // Assert
+        verify(profileService).deleteProfile("value");
+    }
+
+    @Test
+    void findAllProfiles_delegatesToService() {
+        // Arrange
+        List<Profile> expected = List.of(PROFILE);
+        when(profileService.findAllProfiles()).thenReturn(expected);
+
+        // Act
+        List<Profile> result = asyncProfileService.findAllProfiles().join();
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    void updatePassword_delegatesToService() {
+        // Act
+        asyncProfileService.updatePassword("value", "value").join();
+
+        // Assert
+        verify(profileService).updatePassword("value", "value");
+    }
+
+    @Test
+    void updateFirstName_delegatesToService() {
+        // Act
+        asyncProfileService.updateFirstName("value", "value").join();
+
+        // Assert
+        verify(profileService).updateFirstName("value", "value");
+    }
+
+    @Test
+    void updateLastName_delegatesToService() {
+        // Act
+        asyncProfileService.updateLastName("value", "value").join();
+
+        // Assert
+        verify(profileService).updateLastName("value", "value");
+    }
+
+    @Test
+    void updateRole_delegatesToService() {
+        // Act
+        asyncProfileService.updateRole("value", "value").join();
+
+        // Assert
+        verify(profileService).updateRole("value", "value");
+    }
+
+    @Test
+    void updatePermission_delegatesToService() {
+        // Act
+        asyncProfileService.updatePermission("value", "value").join();
+
+        // Assert
+        verify(profileService).updatePermission("value", "value");
+    }
+
+    @Test
+    void saveOrUpdateProfile_whenServiceFails_completesExceptionally() {
+        // Arrange
+        RuntimeException failure = new RuntimeException("Unexpected error");
+        doThrow(failure).when(profileService).saveOrUpdateProfile(any());
+
+        // Act & Assert
+        CompletionException thrown = assertThrows(CompletionException.class, () -> asyncProfileService.saveOrUpdateProfile(PROFILE).join());
+        assertSame(failure, thrown.getCause());
+    }
+}
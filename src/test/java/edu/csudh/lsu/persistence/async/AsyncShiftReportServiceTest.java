@@ -0,0 +1,186 @@
+package edu.csudh.lsu.persistence.async;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import edu.csudh.lsu.persistence.service.ShiftReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncShiftReportServiceTest {
+
+    private static final ShiftReport SHIFT_REPORT = new ShiftReport();
+    private static final UUID ID = UUID.randomUUID();
+    private static final Date DATE = new Date(System.currentTimeMillis());
+    private static final Time TIME = new Time(System.currentTimeMillis());
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+    @Mock
+    private ShiftReportService shiftReportService;
+
+    @Spy
+    private AsyncPersistenceExecutor asyncPersistenceExecutor = new AsyncPersistenceExecutor(4);
+
+    @InjectMocks
+    private AsyncShiftReportService asyncShiftReportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncPersistenceExecutor.destroy();
+    }
+
+    @Test
+    void saveOrUpdateShiftReport_delegatesToService() {
+        // Arrange
+        ShiftReport expected = new ShiftReport();
+        when(shiftReportService.saveOrUpdateShiftReport(SHIFT_REPORT)).thenReturn(expected);
+
+        // Act
+        ShiftReport result = asyncShiftReportService.saveOrUpdateShiftReport(SHIFT_REPORT).join();
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    void updateClosingShiftDate_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateClosingShiftDate(ID, DATE, "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateClosingShiftDate(ID, DATE, "value", "value");
+    }
+
+    @Test
+    void updateClosingShiftTime_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateClosingShiftTime(ID, TIME, "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateClosingShiftTime(ID, TIME, "value", "value");
+    }
+
+    @Test
+    void deleteShiftReport_delegatesToService() {
+        // Act
+        asyncShiftReportService.deleteShiftReport(ID).join();
+
+        // Assert
+        verify(shiftReportService).deleteShiftReport(ID);
+    }
+
+    @Test
+    void updateAttendantName_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateAttendantName(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateAttendantName(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateReconcilorName_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateReconcilorName(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateReconcilorName(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateReconcilorSign_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateReconcilorSign(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateReconcilorSign(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateAttendantSign_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateAttendantSign(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateAttendantSign(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateRevenueInCard_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateRevenueInCard(ID, 1.5f, "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateRevenueInCard(ID, 1.5f, "value", "value");
+    }
+
+    @Test
+    void updateRevenueInCash_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateRevenueInCash(ID, 1.5f, "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateRevenueInCash(ID, 1.5f, "value", "value");
+    }
+
+    @Test
+    void updateShiftTotal_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateShiftTotal(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateShiftTotal(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateOpeningBalance_delegatesToService() {
+        // Act
+        asyncShiftReportService.updateOpeningBalance(ID, 1.5f, "value", "value").join();
+
+        // Assert
+        verify(shiftReportService).updateOpeningBalance(ID, 1.5f, "value", "value");
+    }
+
+    @Test
+    void fetchAllShiftReports_delegatesToService() {
+        // Arrange
+        Page<ShiftReport> expected = Page.empty();
+        when(shiftReportService.fetchAllShiftReports(PAGEABLE)).thenReturn(expected);
+
+        // Act
+        Page<ShiftReport> result = asyncShiftReportService.fetchAllShiftReports(PAGEABLE).join();
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    void updateClosingShiftDate_whenServiceFails_completesExceptionally() {
+        // Arrange
+        RuntimeException failure = new RuntimeException("Unexpected error");
+        doThrow(failure).when(shiftReportService).updateClosingShiftDate(any(), any(), any(), any());
+
+        // Act & Assert
+        CompletionException thrown = assertThrows(CompletionException.class, () -> asyncShiftReportService.updateClosingShiftDate(ID, DATE, "value", "value").join());
+        assertSame(failure, thrown.getCause());
+    }
+}
@@ -0,0 +1,171 @@
+package edu.csudh.lsu.persistence.async;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.service.ShiftTotalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AsyncShiftTotalServiceTest {
+
+    private static final ShiftTotal SHIFT_TOTAL = new ShiftTotal();
+    private static final UUID ID = UUID.randomUUID();
+    private static final Date DATE = new Date(System.currentTimeMillis());
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+    @Mock
+    private ShiftTotalService shiftTotalService;
+
+    @Spy
+    private AsyncPersistenceExecutor asyncPersistenceExecutor = new AsyncPersistenceExecutor(4);
+
+    @InjectMocks
+    private AsyncShiftTotalService asyncShiftTotalService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncPersistenceExecutor.destroy();
+    }
+
+    @Test
+    void saveShiftTotal_delegatesToService() {
+        // Arrange
+        ShiftTotal expected = new ShiftTotal();
+        when(shiftTotalService.saveShiftTotal(SHIFT_TOTAL)).thenReturn(expected);
+
+        // Act
+        ShiftTotal result = asyncShiftTotalService.saveShiftTotal(SHIFT_TOTAL).join();
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    void updateStudentName_delegatesToService() {
+        // Act
+        asyncShiftTotalService.updateStudentName(ID, "value").join();
+
+        // Assert
+        verify(shiftTotalService).updateStudentName(ID, "value");
+    }
+
+    @Test
+    void deleteShiftTotal_delegatesToService() {
+        // Act
+        asyncShiftTotalService.deleteShiftTotal(ID).join();
+
+        // Assert
+        verify(shiftTotalService).deleteShiftTotal(ID);
+    }
+
+    @Test
+    void findAllShiftTotals_delegatesToService() {
+        // Arrange
+        Page<ShiftTotal> expected = Page.empty();
+        when(shiftTotalService.findAllShiftTotals(PAGEABLE)).thenReturn(expected);
+
+        // Act
+        Page<ShiftTotal> result = asyncShiftTotalService.findAllShiftTotals(PAGEABLE).join();
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    void updateStudentName_withAuditFields_delegatesToService() {
+        // Act
+        asyncShiftTotalService.updateStudentName(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftTotalService).updateStudentName(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateAttendantName_delegatesToService() {
+        // Act
+        asyncShiftTotalService.updateAttendantName(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftTotalService).updateAttendantName(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateActivity_delegatesToService() {
+        // Act
+        asyncShiftTotalService.updateActivity(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftTotalService).updateActivity(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateCost_delegatesToService() {
+        // Act
+        asyncShiftTotalService.updateCost(ID, 1.5f, "value", "value").join();
+
+        // Assert
+        verify(shiftTotalService).updateCost(ID, 1.5f, "value", "value");
+    }
+
+    @Test
+    void updatePaymentMode_delegatesToService() {
+        // Act
+        asyncShiftTotalService.updatePaymentMode(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftTotalService).updatePaymentMode(ID, "value", "value", "value");
+    }
+
+    @Test
+    void updateDuration_delegatesToService() {
+        // Act
+        asyncShiftTotalService.updateDuration(ID, "value", "value", "value").join();
+
+        // Assert
+        verify(shiftTotalService).updateDuration(ID, "value", "value", "value");
+    }
+
+    @Test
+    void calculateTotalCostsByAttendantNameAndDate_delegatesToService() {
+        // Arrange
+        Object expected = List.of();
+        when(shiftTotalService.calculateTotalCostsByAttendantNameAndDate("value", DATE)).thenReturn(expected);
+
+        // Act
+        Object result = asyncShiftTotalService.calculateTotalCostsByAttendantNameAndDate("value", DATE).join();
+
+        // Assert
+        assertSame(expected, result);
+    }
+
+    @Test
+    void updateStudentName_whenServiceFails_completesExceptionally() {
+        // Arrange
+        RuntimeException failure = new RuntimeException("Unexpected error");
+        doThrow(failure).when(shiftTotalService).updateStudentName(any(), any());
+
+        // Act & Assert
+        CompletionException thrown = assertThrows(CompletionException.class, () -> asyncShiftTotalService.updateStudentName(ID, "value").join());
+        assertSame(failure, thrown.getCause());
+    }
+}
@@ -0,0 +1,176 @@
+package edu.csudh.lsu.persistence.capture;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaptureFileTest {
+
+    private final Pseudonymizer pseudonymizer = new Pseudonymizer();
+
+    @Test
+    void read_whenCallsWereWritten_returnsEqualCallsThenNull() throws IOException {
+        // Arrange
+        Timestamp timestamp = new Timestamp(1_700_000_000_123L);
+        timestamp.setNanos(123_456_789);
+        List<Object> arguments = Arrays.asList(null, "text", true, 7, -8L, 1.5f, 2.5d, new BigDecimal("3.25"),
+                UUID.randomUUID(), Date.valueOf("2024-05-01"), Time.valueOf("13:45:00"), timestamp,
+                List.of("a", List.of(1)), new CapturedPage(2, 50, "date: DESC"), new CapturedPage(-1, 0, null));
+        CapturedCall first = new CapturedCall(1_700_000_000_000_000L, "main", "a.b.ShiftTotalService", "save",
+                List.of("a.b.ShiftTotal"), arguments, 1_500_000, null, UUID.randomUUID(), 1);
+        // Started before the first call but completed after it
+        CapturedCall second = new CapturedCall(1_699_999_999_999_000L, "main", "a.b.ShiftTotalService", "save",
+                List.of("a.b.ShiftTotal"), List.of("text"), 42, "java.lang.IllegalStateException", null, 3);
+
+        // Act
+        byte[] bytes = write(first, second);
+        CaptureReader reader = new CaptureReader(new ByteArrayInputStream(bytes));
+
+        // Assert
+        assertEquals(first, reader.read());
+        assertEquals(second, reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    void write_whenStringsRepeat_writesThemOnce() throws IOException {
+        // Arrange
+        CapturedCall call = new CapturedCall(0, "worker-1", "edu.csudh.lsu.persistence.service.ProfileService",
+                "findProfile", List.of("java.lang.String"), List.of("someone"), 10, null, null, 1);
+
+        // Act
+        int oneCall = write(call).length;
+        int twoCalls = write(call, call).length;
+
+        // Assert
+        assertTrue(twoCalls - oneCall < 16, "Repeated call took " + (twoCalls - oneCall) + " bytes");
+    }
+
+    @Test
+    void read_whenFileHasVersion1_readsCallsAsSingleAttempts() throws IOException {
+        // Arrange
+        CapturedCall call = new CapturedCall(0, "main", "S", "save", List.of(), List.of(), 10, null, null, 1);
+        byte[] bytes = write(call);
+        // Version 1 records end at the result id, so dropping the attempts byte gives a version 1 file
+        byte[] version1 = Arrays.copyOf(bytes, bytes.length - 1);
+        version1[CaptureFormat.MAGIC.length] = CaptureFormat.VERSION_WITHOUT_ATTEMPTS;
+
+        // Act
+        CaptureReader reader = new CaptureReader(new ByteArrayInputStream(version1));
+
+        // Assert
+        assertEquals(call, reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    void constructor_whenStreamIsNotACapture_throwsIOException() {
+        assertThrows(IOException.class, () -> new CaptureReader(new ByteArrayInputStream("LSUXXX1".getBytes())));
+        assertThrows(IOException.class, () -> new CaptureReader(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void capture_whenArgumentIsAnEntity_masksPersonalFieldsAndMaterializesBack() throws IOException {
+        // Arrange
+        ShiftTotal shiftTotal = new ShiftTotal();
+        shiftTotal.setIdempotencyKey("key-1");
+        shiftTotal.setStudentName("Student One");
+        shiftTotal.setAttendantName("Attendant One");
+        shiftTotal.setActivity("Billiards");
+        shiftTotal.setCost(4.5f);
+        shiftTotal.setPaymentMode("Card");
+        shiftTotal.setStartTime(Time.valueOf("10:00:00"));
+
+        // Act
+        Object captured = CapturedValues.capture(shiftTotal, "shiftTotal", pseudonymizer);
+        shiftTotal.setStudentName("Changed after capture");
+        CapturedCall call = new CapturedCall(0, "main", "S", "save", List.of(), List.of(captured), 0, null, null, 1);
+        Object replayed = CapturedValues.materialize(
+                new CaptureReader(new ByteArrayInputStream(write(call))).read().getArguments().get(0));
+
+        // Assert
+        ShiftTotal materialized = assertInstanceOf(ShiftTotal.class, replayed);
+        assertEquals(pseudonymizer.mask("Student One"), materialized.getStudentName());
+        assertNotEquals("Student One", materialized.getStudentName());
+        assertEquals(pseudonymizer.mask("Attendant One"), materialized.getAttendantName());
+        assertEquals("key-1", materialized.getIdempotencyKey());
+        assertEquals("Billiards", materialized.getActivity());
+        assertEquals(4.5f, materialized.getCost());
+        assertEquals("Card", materialized.getPaymentMode());
+        assertEquals(Time.valueOf("10:00:00"), materialized.getStartTime());
+    }
+
+    @Test
+    void capture_whenArgumentIsAPageRequest_materializesAnEqualRequest() {
+        // Arrange
+        Pageable sorted = PageRequest.of(3, 20, Sort.by(Sort.Order.desc("date"), Sort.Order.asc("id")));
+
+        // Act & Assert
+        assertEquals(sorted, CapturedValues.materialize(CapturedValues.capture(sorted, "pageable", pseudonymizer)));
+        assertTrue(assertInstanceOf(Pageable.class, CapturedValues.materialize(
+                CapturedValues.capture(Pageable.unpaged(), "pageable", pseudonymizer))).isUnpaged());
+    }
+
+    @Test
+    void mask_whenValuesAreEqual_returnsEqualPseudonymsOfAtLeastTheValueLength() {
+        assertEquals(pseudonymizer.mask("Jane"), pseudonymizer.mask("Jane"));
+        assertNotEquals(pseudonymizer.mask("Jane"), pseudonymizer.mask("John"));
+        assertEquals(Pseudonymizer.MIN_LENGTH, pseudonymizer.mask("Jane").length());
+        assertEquals(300, pseudonymizer.mask("x".repeat(300)).length());
+        assertNotEquals(pseudonymizer.mask("Jane"), new Pseudonymizer().mask("Jane"));
+        assertTrue(pseudonymizer.isPersonal(null));
+        assertFalse(pseudonymizer.isPersonal("paymentMode"));
+    }
+
+    @Test
+    void close_whenCallsWereRecorded_writesThemToTheFile(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path file = directory.resolve("capture.bin");
+        CaptureRecorder recorder = new CaptureRecorder(file, 16, 1000);
+        long start = System.nanoTime();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            recorder.record(new CapturedCall(recorder.epochMicrosAt(start + i * 1_000L), "main", "S", "call",
+                    List.of(), List.of(i), i, null, null, 1));
+        }
+        recorder.close();
+
+        // Assert
+        List<CapturedCall> calls = new CaptureReader(Files.newInputStream(file)).readAll();
+        assertEquals(3, calls.size());
+        assertEquals(List.of(2), calls.get(2).getArguments());
+        assertEquals(2, calls.get(2).getEpochMicros() - calls.get(0).getEpochMicros());
+        assertEquals(3, recorder.getRecordedCount());
+        assertEquals(0, recorder.getDroppedCount());
+        assertFalse(recorder.record(calls.get(0)));
+    }
+
+    private static byte[] write(CapturedCall... calls) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CaptureWriter writer = new CaptureWriter(out)) {
+            for (CapturedCall call : calls) {
+                writer.write(call);
+            }
+        }
+        return out.toByteArray();
+    }
+}
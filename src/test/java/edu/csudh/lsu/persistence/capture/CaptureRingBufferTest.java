@@ -0,0 +1,92 @@
+package edu.csudh.lsu.persistence.capture;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaptureRingBufferTest {
+
+    @Test
+    void constructor_whenCapacityIsNotAPowerOfTwo_roundsUp() {
+        assertEquals(1, new CaptureRingBuffer<>(1).capacity());
+        assertEquals(8, new CaptureRingBuffer<>(5).capacity());
+        assertEquals(16, new CaptureRingBuffer<>(16).capacity());
+    }
+
+    @Test
+    void offer_whenBufferIsFull_dropsUntilConsumerPolls() {
+        // Arrange
+        CaptureRingBuffer<Integer> buffer = new CaptureRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        // Act & Assert
+        assertFalse(buffer.offer(4));
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+        assertEquals(List.of(1, 2, 3, 4), List.of(buffer.poll(), buffer.poll(), buffer.poll(), buffer.poll()));
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void offer_whenProducersRunConcurrently_deliversEveryElementOnceInProducerOrder() throws InterruptedException {
+        // Arrange
+        int producers = 4;
+        int perProducer = 20_000;
+        CaptureRingBuffer<Long> buffer = new CaptureRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            threads.add(Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(producer << 32 | i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        Set<Long> seen = new HashSet<>();
+        long[] lastOfProducer = {-1, -1, -1, -1};
+        while (seen.size() < producers * perProducer) {
+            Long element = buffer.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = (int) (element >>> 32);
+            long sequence = element & 0xFFFFFFFFL;
+            assertTrue(sequence > lastOfProducer[producer], "Elements of one producer must stay in order");
+            lastOfProducer[producer] = sequence;
+            assertTrue(seen.add(element), "Element delivered twice");
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        assertNull(buffer.poll());
+        for (long last : lastOfProducer) {
+            assertEquals(perProducer - 1, last);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
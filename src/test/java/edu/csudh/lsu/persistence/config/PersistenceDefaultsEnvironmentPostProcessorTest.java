@@ -0,0 +1,137 @@
+package edu.csudh.lsu.persistence.config;
+
+import org.apache.commons.logging.Log;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PersistenceDefaultsEnvironmentPostProcessorTest {
+
+    private final Log log = mock(Log.class);
+    private final PersistenceDefaultsEnvironmentPostProcessor postProcessor = new PersistenceDefaultsEnvironmentPostProcessor(destination -> log);
+
+    @Test
+    void postProcessEnvironment_whenNothingConfigured_addsTunedDefaults() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("lsu.persistence.tuning.pool.cluster-vcpus", "8");
+
+        // Act
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        // Assert
+        assertEquals("32", environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+        assertEquals("32", environment.getProperty("spring.datasource.hikari.minimum-idle"));
+        assertEquals("128", environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size"));
+        assertEquals("true", environment.getProperty("spring.jpa.properties.hibernate.order_inserts"));
+        assertEquals("100", environment.getProperty("spring.jpa.properties.hibernate.jdbc.fetch_size"));
+        assertEquals("256", environment.getProperty("spring.jpa.properties.hibernate.query.plan_cache_max_size"));
+        verify(log, never()).warn(any());
+    }
+
+    @Test
+    void postProcessEnvironment_whenClusterVcpusMissing_warnsAndUsesFallbackPoolSize() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment();
+
+        // Act
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        // Assert
+        assertEquals("10", environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+        verify(log).warn(argThat(message -> message.toString().contains("cluster-vcpus")));
+    }
+
+    @Test
+    void postProcessEnvironment_whenApplicationConfiguresProperty_keepsApplicationValue() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "7")
+                .withProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "20");
+
+        // Act
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        // Assert
+        assertEquals("7", environment.getProperty("spring.datasource.hikari.maximum-pool-size"));
+        assertEquals("20", environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size"));
+        verify(log, never()).warn(any());
+    }
+
+    @Test
+    void postProcessEnvironment_whenDisabled_addsNothing() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("lsu.persistence.tuning.enabled", "false");
+
+        // Act
+        postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+        // Assert
+        assertFalse(environment.getPropertySources().contains(PersistenceDefaultsEnvironmentPostProcessor.PROPERTY_SOURCE_NAME));
+        assertNull(environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size"));
+    }
+
+    @Test
+    void defaults_whenUrlIsPostgresql_addsDriverProperties() {
+        // Act
+        Map<String, Object> defaults = PersistenceDefaultsEnvironmentPostProcessor.defaults(
+                new PersistenceProperties(), "jdbc:postgresql://localhost:26257/lsu?sslmode=disable");
+
+        // Assert
+        assertEquals(true, defaults.get("spring.datasource.hikari.data-source-properties.reWriteBatchedInserts"));
+        assertEquals(256, defaults.get("spring.datasource.hikari.data-source-properties.preparedStatementCacheQueries"));
+        assertEquals(100, defaults.get("spring.datasource.hikari.data-source-properties.defaultRowFetchSize"));
+    }
+
+    @Test
+    void defaults_whenUrlIsNotPostgresql_skipsDriverProperties() {
+        // Act
+        Map<String, Object> defaults = PersistenceDefaultsEnvironmentPostProcessor.defaults(
+                new PersistenceProperties(), "jdbc:h2:mem:test");
+
+        // Assert
+        assertTrue(defaults.keySet().stream().noneMatch(key -> key.contains("data-source-properties")));
+    }
+
+    @Test
+    void resolveMaximumPoolSize_splitsConnectionBudgetBetweenInstances() {
+        // Arrange
+        PersistenceProperties.Pool pool = new PersistenceProperties.Pool();
+        pool.setClusterVcpus(12);
+        pool.setInstances(3);
+
+        // Act & Assert
+        assertEquals(16, pool.resolveMaximumPoolSize());
+
+        pool.setMaximumPoolSize(5);
+        assertEquals(5, pool.resolveMaximumPoolSize());
+    }
+
+    @Test
+    void resolveMaximumPoolSize_neverReturnsLessThanTwo() {
+        // Arrange
+        PersistenceProperties.Pool pool = new PersistenceProperties.Pool();
+        pool.setClusterVcpus(1);
+        pool.setInstances(10);
+
+        // Act & Assert
+        assertEquals(2, pool.resolveMaximumPoolSize());
+    }
+
+    @Test
+    void resolveMaximumPoolSize_whenClusterVcpusMissing_returnsFixedFallback() {
+        // Arrange
+        PersistenceProperties.Pool pool = new PersistenceProperties.Pool();
+        pool.setInstances(4);
+
+        // Act & Assert
+        assertFalse(pool.isSized());
+        assertEquals(PersistenceProperties.Pool.FALLBACK_MAXIMUM_POOL_SIZE, pool.resolveMaximumPoolSize());
+    }
+}
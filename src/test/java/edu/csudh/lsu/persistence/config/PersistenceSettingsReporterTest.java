@@ -0,0 +1,35 @@
+package edu.csudh.lsu.persistence.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistenceSettingsReporterTest {
+
+    @Test
+    void effectiveSettings_reportsOnlyConfiguredProperties() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "16")
+                .withProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "64");
+        PersistenceSettingsReporter reporter = new PersistenceSettingsReporter(environment);
+
+        // Act
+        Map<String, String> settings = reporter.effectiveSettings();
+
+        // Assert
+        assertEquals(2, settings.size());
+        assertEquals("16", settings.get("spring.datasource.hikari.maximum-pool-size"));
+        assertEquals("64", settings.get("spring.jpa.properties.hibernate.jdbc.batch_size"));
+    }
+
+    @Test
+    void afterSingletonsInstantiated_whenNothingConfigured_doesNotThrow() {
+        PersistenceSettingsReporter reporter = new PersistenceSettingsReporter(new MockEnvironment());
+
+        assertDoesNotThrow(reporter::afterSingletonsInstantiated);
+    }
+}
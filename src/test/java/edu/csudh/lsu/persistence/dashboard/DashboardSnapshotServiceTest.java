@@ -0,0 +1,241 @@
+package edu.csudh.lsu.persistence.dashboard;
+
+import edu.csudh.lsu.persistence.async.AsyncActivityService;
+import edu.csudh.lsu.persistence.async.AsyncPersistenceExecutor;
+import edu.csudh.lsu.persistence.async.AsyncShiftReportService;
+import edu.csudh.lsu.persistence.async.AsyncShiftTotalService;
+import edu.csudh.lsu.persistence.constants.PersistenceConstants;
+import edu.csudh.lsu.persistence.exception.PersistenceException;
+import edu.csudh.lsu.persistence.model.shift.ShiftReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardSnapshotServiceTest {
+
+    private static final Date DATE = new Date(System.currentTimeMillis());
+    private static final Pageable PAGEABLE = PageRequest.of(0, 20);
+
+    @Mock
+    private AsyncActivityService asyncActivityService;
+
+    @Mock
+    private AsyncShiftTotalService asyncShiftTotalService;
+
+    @Mock
+    private AsyncShiftReportService asyncShiftReportService;
+
+    @Mock
+    private AsyncPersistenceExecutor asyncPersistenceExecutor;
+
+    @InjectMocks
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(dashboardSnapshotService, "queryTimeoutMillis", 2_000L);
+        when(asyncPersistenceExecutor.getMaxConcurrency()).thenReturn(10);
+    }
+
+    @Test
+    void fetchSnapshot_whenAllQueriesSucceed_combinesResults() {
+        // Arrange
+        Page<ShiftReport> shiftReports = new PageImpl<>(List.of(new ShiftReport()));
+        when(asyncActivityService.fetchAllCategories(2_000L)).thenReturn(CompletableFuture.completedFuture(List.of("Pool", "Console")));
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 2_000L)).thenReturn(CompletableFuture.completedFuture(shiftReports));
+        when(asyncShiftTotalService.calculateTotalCostsByAttendantNameAndDate("Jane", DATE, 2_000L)).thenReturn(CompletableFuture.<Object>completedFuture(12.5));
+        when(asyncShiftTotalService.calculateTotalCostsByAttendantNameAndDate("John", DATE, 2_000L)).thenReturn(CompletableFuture.<Object>completedFuture(null));
+
+        // Act
+        DashboardSnapshot snapshot = dashboardSnapshotService.fetchSnapshot(List.of("Jane", "John", "Jane"), DATE, PAGEABLE);
+
+        // Assert
+        assertEquals(List.of("Pool", "Console"), snapshot.getCategories());
+        assertSame(shiftReports, snapshot.getShiftReports());
+        assertEquals(List.of("Jane", "John"), List.copyOf(snapshot.getTotalCostsByAttendant().keySet()));
+        assertEquals(12.5, snapshot.getTotalCostsByAttendant().get("Jane"));
+        assertNull(snapshot.getTotalCostsByAttendant().get("John"));
+        assertEquals(DATE, snapshot.getDate());
+        verify(asyncShiftTotalService, times(1)).calculateTotalCostsByAttendantNameAndDate("Jane", DATE, 2_000L);
+    }
+
+    @Test
+    void fetchSnapshot_startsEveryQueryBeforeWaitingOnAny() throws Exception {
+        // Arrange
+        CompletableFuture<List<String>> categories = new CompletableFuture<>();
+        CompletableFuture<Page<ShiftReport>> shiftReports = new CompletableFuture<>();
+        CompletableFuture<Object> totalCosts = new CompletableFuture<>();
+        when(asyncActivityService.fetchAllCategories(2_000L)).thenReturn(categories);
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 2_000L)).thenReturn(shiftReports);
+        when(asyncShiftTotalService.calculateTotalCostsByAttendantNameAndDate("Jane", DATE, 2_000L)).thenReturn(totalCosts);
+
+        // Act
+        try (var caller = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<DashboardSnapshot> snapshot = caller.submit(() -> dashboardSnapshotService.fetchSnapshot(List.of("Jane"), DATE, PAGEABLE));
+
+            // Assert - all three queries are in flight while none has completed
+            verify(asyncActivityService, timeout(1_000)).fetchAllCategories(2_000L);
+            verify(asyncShiftReportService, timeout(1_000)).fetchAllShiftReports(PAGEABLE, 2_000L);
+            verify(asyncShiftTotalService, timeout(1_000)).calculateTotalCostsByAttendantNameAndDate("Jane", DATE, 2_000L);
+            assertFalse(snapshot.isDone());
+
+            categories.complete(List.of("Pool"));
+            shiftReports.complete(Page.empty());
+            totalCosts.complete(5.0);
+            assertEquals(Map.of("Jane", 5.0), snapshot.get().getTotalCostsByAttendant());
+        }
+    }
+
+    @Test
+    void fetchSnapshot_whenQueryTimesOut_throwsPersistenceException() {
+        // Arrange
+        ReflectionTestUtils.setField(dashboardSnapshotService, "queryTimeoutMillis", 50L);
+        when(asyncActivityService.fetchAllCategories(50L)).thenReturn(new CompletableFuture<>());
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 50L)).thenReturn(CompletableFuture.completedFuture(Page.empty()));
+
+        // Act & Assert
+        PersistenceException exception = assertThrows(PersistenceException.class,
+                () -> dashboardSnapshotService.fetchSnapshot(List.of(), DATE, PAGEABLE));
+        assertEquals(PersistenceConstants.A_DASHBOARD_QUERY_TIMED_OUT, exception.getMessage());
+    }
+
+    @Test
+    void fetchSnapshot_whenQueryFails_failsWithoutWaitingForTheOthers() {
+        // Arrange - the categories never complete, so only the failure can end the snapshot in time
+        when(asyncActivityService.fetchAllCategories(2_000L)).thenReturn(new CompletableFuture<>());
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 2_000L)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        // Act & Assert
+        assertTimeoutPreemptively(Duration.ofMillis(1_000), () -> assertThrows(PersistenceException.class,
+                () -> dashboardSnapshotService.fetchSnapshot(List.of(), DATE, PAGEABLE)));
+    }
+
+    @Test
+    void fetchSnapshot_whenMaxConcurrentAttendantQueriesSet_runsBoundedNumberOfTotalCostsQueriesAtOnce() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(dashboardSnapshotService, "maxConcurrentAttendantQueries", 2);
+        Map<String, CompletableFuture<Object>> totalCosts = new ConcurrentHashMap<>();
+        when(asyncActivityService.fetchAllCategories(2_000L)).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 2_000L)).thenReturn(CompletableFuture.completedFuture(Page.empty()));
+        when(asyncShiftTotalService.calculateTotalCostsByAttendantNameAndDate(anyString(), eq(DATE), eq(2_000L)))
+                .thenAnswer(invocation -> totalCosts.computeIfAbsent(invocation.getArgument(0), name -> new CompletableFuture<>()));
+
+        // Act
+        try (var caller = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<DashboardSnapshot> snapshot = caller.submit(() -> dashboardSnapshotService.fetchSnapshot(List.of("A", "B", "C", "D"), DATE, PAGEABLE));
+
+            // Assert - two lanes, each starting its next attendant once the previous one completes
+            verify(asyncShiftTotalService, timeout(1_000).times(2)).calculateTotalCostsByAttendantNameAndDate(anyString(), eq(DATE), eq(2_000L));
+            assertEquals(Set.of("A", "B"), totalCosts.keySet());
+
+            totalCosts.get("A").complete(1.0);
+            verify(asyncShiftTotalService, timeout(1_000)).calculateTotalCostsByAttendantNameAndDate("C", DATE, 2_000L);
+            assertFalse(totalCosts.containsKey("D"));
+
+            totalCosts.get("B").complete(2.0);
+            verify(asyncShiftTotalService, timeout(1_000)).calculateTotalCostsByAttendantNameAndDate("D", DATE, 2_000L);
+            totalCosts.get("C").complete(3.0);
+            totalCosts.get("D").complete(4.0);
+            assertEquals(List.of(1.0, 2.0, 3.0, 4.0), List.copyOf(snapshot.get().getTotalCostsByAttendant().values()));
+        }
+    }
+
+    @Test
+    void fetchSnapshot_byDefault_runsTotalCostsQueriesOfEveryAttendantConcurrently() throws Exception {
+        // Arrange
+        List<String> attendants = List.of("A", "B", "C", "D", "E");
+        Map<String, CompletableFuture<Object>> totalCosts = new ConcurrentHashMap<>();
+        when(asyncActivityService.fetchAllCategories(2_000L)).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 2_000L)).thenReturn(CompletableFuture.completedFuture(Page.empty()));
+        when(asyncShiftTotalService.calculateTotalCostsByAttendantNameAndDate(anyString(), eq(DATE), eq(2_000L)))
+                .thenAnswer(invocation -> totalCosts.computeIfAbsent(invocation.getArgument(0), name -> new CompletableFuture<>()));
+
+        // Act
+        try (var caller = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<DashboardSnapshot> snapshot = caller.submit(() -> dashboardSnapshotService.fetchSnapshot(attendants, DATE, PAGEABLE));
+
+            // Assert - every attendant's query is in flight while none has completed
+            verify(asyncShiftTotalService, timeout(1_000).times(attendants.size()))
+                    .calculateTotalCostsByAttendantNameAndDate(anyString(), eq(DATE), eq(2_000L));
+            assertEquals(Set.copyOf(attendants), totalCosts.keySet());
+            assertFalse(snapshot.isDone());
+
+            totalCosts.values().forEach(query -> query.complete(1.0));
+            assertEquals(attendants, List.copyOf(snapshot.get().getTotalCostsByAttendant().keySet()));
+        }
+    }
+
+    @Test
+    void fetchSnapshot_whenStatementTimesOutInDatabase_throwsTimeoutPersistenceException() {
+        // Arrange - the service wraps the translated timeout like any other unexpected failure
+        PersistenceException failure = new PersistenceException(PersistenceConstants.PERSISTENCE_EXCEPTION, "timeout",
+                new QueryTimeoutException("canceling statement due to statement timeout"));
+        when(asyncActivityService.fetchAllCategories(2_000L)).thenReturn(CompletableFuture.failedFuture(failure));
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 2_000L)).thenReturn(CompletableFuture.completedFuture(Page.empty()));
+
+        // Act & Assert
+        PersistenceException exception = assertThrows(PersistenceException.class,
+                () -> dashboardSnapshotService.fetchSnapshot(List.of(), DATE, PAGEABLE));
+        assertEquals(PersistenceConstants.A_DASHBOARD_QUERY_TIMED_OUT, exception.getMessage());
+    }
+
+    @Test
+    void fetchSnapshot_whenQueryFailsWithDataAccessError_rethrowsIt() {
+        // Arrange
+        JpaSystemException failure = new JpaSystemException(new RuntimeException("JPA system failure"));
+        when(asyncActivityService.fetchAllCategories(2_000L)).thenReturn(CompletableFuture.failedFuture(failure));
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 2_000L)).thenReturn(CompletableFuture.completedFuture(Page.empty()));
+
+        // Act & Assert
+        assertSame(failure, assertThrows(JpaSystemException.class,
+                () -> dashboardSnapshotService.fetchSnapshot(List.of(), DATE, PAGEABLE)));
+    }
+
+    @Test
+    void fetchSnapshot_whenQueryFailsUnexpectedly_throwsPersistenceException() {
+        // Arrange
+        when(asyncActivityService.fetchAllCategories(2_000L)).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(asyncShiftReportService.fetchAllShiftReports(PAGEABLE, 2_000L)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        // Act & Assert
+        PersistenceException exception = assertThrows(PersistenceException.class,
+                () -> dashboardSnapshotService.fetchSnapshot(List.of(), DATE, PAGEABLE));
+        assertEquals(PersistenceConstants.PERSISTENCE_EXCEPTION, exception.getMessage());
+    }
+
+    @Test
+    void snapshot_isImmutable() {
+        // Arrange
+        DashboardSnapshot snapshot = new DashboardSnapshot(DATE, List.of("Pool"), Map.<String, Object>of("Jane", 1.0), null, 3);
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getCategories().add("Console"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getTotalCostsByAttendant().put("John", 2.0));
+        snapshot.getDate().setTime(0);
+        assertEquals(DATE, snapshot.getDate());
+        assertTrue(snapshot.getShiftReports().isEmpty());
+    }
+}
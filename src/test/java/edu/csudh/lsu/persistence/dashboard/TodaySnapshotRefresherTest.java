@@ -0,0 +1,170 @@
+package edu.csudh.lsu.persistence.dashboard;
+
+import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftReportRepository;
+import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftTotalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TodaySnapshotRefresherTest {
+
+    private ShiftTotalRepository shiftTotalRepository;
+    private ShiftReportRepository shiftReportRepository;
+    private PlatformTransactionManager transactionManager;
+    private TodaySnapshotRefresher todaySnapshotRefresher;
+
+    @BeforeEach
+    void setUp() {
+        shiftTotalRepository = mock(ShiftTotalRepository.class);
+        shiftReportRepository = mock(ShiftReportRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(shiftTotalRepository.summarizeByDate(any())).thenReturn(Collections.singletonList(
+                new Object[]{7L, new BigDecimal("52.50"), new BigDecimal("40.00"), new BigDecimal("12.50")}));
+        when(shiftReportRepository.summarizeByClosingShiftDate(any())).thenReturn(Collections.singletonList(
+                new Object[]{2, 40.0, 12.5}));
+        // Long interval so only explicit refreshes run during a test
+        todaySnapshotRefresher = new TodaySnapshotRefresher(shiftTotalRepository, shiftReportRepository, transactionManager, 3_600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        todaySnapshotRefresher.destroy();
+    }
+
+    @Test
+    void current_beforeFirstRefresh_returnsEmptySnapshot() {
+        // Act
+        TodaySnapshot snapshot = todaySnapshotRefresher.current();
+
+        // Assert
+        assertFalse(snapshot.isLoaded());
+        assertEquals(0, snapshot.getSessionCount());
+        assertEquals(BigDecimal.ZERO, snapshot.getTotalRevenue());
+        assertEquals(-1, todaySnapshotRefresher.getStalenessMillis());
+        assertEquals(-1, todaySnapshotRefresher.getLastRefreshDurationMillis());
+        verifyNoInteractions(shiftTotalRepository, shiftReportRepository);
+    }
+
+    @Test
+    void refresh_publishesAggregatesReadInOneReadOnlyTransaction() {
+        // Act
+        todaySnapshotRefresher.refresh();
+
+        // Assert
+        TodaySnapshot snapshot = todaySnapshotRefresher.current();
+        assertTrue(snapshot.isLoaded());
+        assertEquals(7, snapshot.getSessionCount());
+        assertEquals(new BigDecimal("52.50"), snapshot.getTotalRevenue());
+        assertEquals(new BigDecimal("40.00"), snapshot.getTotalRevenueCard());
+        assertEquals(new BigDecimal("12.50"), snapshot.getTotalRevenueCash());
+        assertEquals(2, snapshot.getShiftReportCount());
+        assertEquals(new BigDecimal("40.0"), snapshot.getReportedRevenueCard());
+        assertEquals(new BigDecimal("12.5"), snapshot.getReportedRevenueCash());
+        assertTrue(todaySnapshotRefresher.getStalenessMillis() >= 0);
+        assertTrue(todaySnapshotRefresher.getLastRefreshDurationMillis() >= 0);
+        assertEquals(1, todaySnapshotRefresher.getRefreshCount());
+        verify(transactionManager, times(1)).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void current_doesNotQueryDatabase() {
+        // Arrange
+        todaySnapshotRefresher.refresh();
+        clearInvocations(shiftTotalRepository, shiftReportRepository);
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            todaySnapshotRefresher.current();
+        }
+
+        // Assert
+        verifyNoInteractions(shiftTotalRepository, shiftReportRepository);
+    }
+
+    @Test
+    void refresh_whenNoRowsReturned_publishesZeroes() {
+        // Arrange
+        when(shiftTotalRepository.summarizeByDate(any())).thenReturn(List.of());
+        when(shiftReportRepository.summarizeByClosingShiftDate(any())).thenReturn(null);
+
+        // Act
+        todaySnapshotRefresher.refresh();
+
+        // Assert
+        TodaySnapshot snapshot = todaySnapshotRefresher.current();
+        assertTrue(snapshot.isLoaded());
+        assertEquals(0, snapshot.getSessionCount());
+        assertEquals(BigDecimal.ZERO, snapshot.getReportedRevenueCash());
+    }
+
+    @Test
+    void forceRefresh_whenRefreshFails_keepsPreviousSnapshot() {
+        // Arrange
+        todaySnapshotRefresher.refresh();
+        TodaySnapshot previous = todaySnapshotRefresher.current();
+        when(shiftTotalRepository.summarizeByDate(any())).thenThrow(new DataAccessResourceFailureException("Database down"));
+
+        // Act
+        todaySnapshotRefresher.forceRefresh();
+
+        // Assert
+        verify(shiftTotalRepository, timeout(1_000).times(2)).summarizeByDate(any());
+        verify(transactionManager, timeout(1_000)).rollback(any());
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (todaySnapshotRefresher.getRefreshFailureCount() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, todaySnapshotRefresher.getRefreshFailureCount());
+        assertSame(previous, todaySnapshotRefresher.current());
+    }
+
+    @Test
+    void forceRefresh_withoutTransaction_refreshesInBackground() {
+        // Act
+        todaySnapshotRefresher.forceRefresh();
+
+        // Assert
+        verify(shiftReportRepository, timeout(1_000)).summarizeByClosingShiftDate(any());
+        verify(transactionManager, timeout(1_000)).commit(any());
+    }
+
+    @Test
+    void forceRefresh_insideTransaction_waitsForCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        todaySnapshotRefresher.forceRefresh();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        // Assert
+        assertEquals(1, synchronizations.size());
+        verifyNoInteractions(shiftTotalRepository);
+        synchronizations.get(0).afterCommit();
+        verify(shiftTotalRepository, timeout(1_000)).summarizeByDate(any());
+    }
+
+    @Test
+    void constructor_whenIntervalIsNotPositive_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TodaySnapshotRefresher(shiftTotalRepository, shiftReportRepository, transactionManager, 0));
+    }
+}
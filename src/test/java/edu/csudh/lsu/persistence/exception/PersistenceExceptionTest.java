@@ -3,6 +3,7 @@ package edu.csudh.lsu.persistence.exception;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class PersistenceExceptionTest {
 
@@ -24,4 +25,15 @@ class PersistenceExceptionTest {
 
         assertEquals(errorDescription, exception.getMessage());
     }
+
+    @Test
+    void testPersistenceExceptionWithDescriptionCodeAndCause() {
+        String errorDescription = "This is an error with a cause";
+        RuntimeException cause = new RuntimeException("root cause");
+
+        PersistenceException exception = new PersistenceException(errorDescription, "ERR_002", cause);
+
+        assertEquals(errorDescription, exception.getMessage());
+        assertSame(cause, exception.getCause());
+    }
 }
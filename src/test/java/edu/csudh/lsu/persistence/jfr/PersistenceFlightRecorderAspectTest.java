@@ -0,0 +1,154 @@
+package edu.csudh.lsu.persistence.jfr;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.sql.FingerprintStatementInspector;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PersistenceFlightRecorderAspectTest {
+
+    private final PersistenceFlightRecorderAspect flightRecorderAspect = new PersistenceFlightRecorderAspect();
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        FingerprintStatementInspector.clear();
+    }
+
+    @Test
+    void record_whenRecording_emitsParsableEvents() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint upsert = joinPointFor(ShiftTotalRepository.class, "upsertAll", List.of(new ShiftTotal()));
+        when(upsert.proceed()).thenAnswer(invocation -> {
+            new FingerprintStatementInspector().inspect("upsert into shift_total (id, cost) values (?, ?), (?, ?)");
+            return List.of(new ShiftTotal(), new ShiftTotal());
+        });
+        ProceedingJoinPoint read = joinPointFor(ShiftReportService.class, "fetchAllShiftReports");
+        when(read.proceed()).thenReturn(List.of());
+        ProceedingJoinPoint write = joinPointFor(ShiftReportService.class, "updateRevenueInCash");
+        when(write.proceed()).thenReturn(null);
+        Path file = tempDir.resolve("persistence.jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(BulkUpsertEvent.NAME);
+            recording.enable(PersistenceReadEvent.NAME);
+            recording.enable(PersistenceWriteEvent.NAME);
+            recording.start();
+            flightRecorderAspect.record(upsert);
+            flightRecorderAspect.record(read);
+            flightRecorderAspect.record(write);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent bulkUpsert = single(events, BulkUpsertEvent.NAME);
+        assertEquals("ShiftTotal", bulkUpsert.getString("entityType"));
+        assertEquals("upsertAll", bulkUpsert.getString("operation"));
+        assertEquals(2, bulkUpsert.getLong("rowCount"));
+        assertEquals("upsert into shift_total (id, cost) VALUES (...)", bulkUpsert.getString("sqlFingerprint"));
+        assertFalse(bulkUpsert.getDuration().isNegative());
+
+        RecordedEvent fetch = single(events, PersistenceReadEvent.NAME);
+        assertEquals("ShiftReport", fetch.getString("entityType"));
+        assertEquals(0, fetch.getLong("rowCount"));
+        assertNull(fetch.getString("sqlFingerprint"));
+
+        RecordedEvent update = single(events, PersistenceWriteEvent.NAME);
+        assertEquals("ShiftReportService", update.getString("component"));
+        assertEquals(-1, update.getLong("rowCount"));
+    }
+
+    @Test
+    void record_whenNotRecording_onlyProceeds() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = joinPointFor(ShiftReportService.class, "fetchAllShiftReports");
+        when(joinPoint.proceed()).thenReturn(List.of());
+
+        // Act
+        Object result = flightRecorderAspect.record(joinPoint);
+
+        // Assert
+        assertEquals(List.of(), result);
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    void record_whenNestedOperationExecutesNoStatement_keepsTheStatementOfTheCaller() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint inner = joinPointFor(ShiftReportService.class, "fetchAllShiftReports");
+        when(inner.proceed()).thenReturn(List.of());
+        ProceedingJoinPoint outer = joinPointFor(ShiftReportService.class, "updateRevenueInCash");
+        when(outer.proceed()).thenAnswer(invocation -> {
+            new FingerprintStatementInspector().inspect("update shift_report set revenue_in_cash = ? where id = ?");
+            return flightRecorderAspect.record(inner);
+        });
+        Path file = tempDir.resolve("nested.jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(PersistenceReadEvent.NAME);
+            recording.enable(PersistenceWriteEvent.NAME);
+            recording.start();
+            flightRecorderAspect.record(outer);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertNull(single(events, PersistenceReadEvent.NAME).getString("sqlFingerprint"));
+        assertEquals("update shift_report set revenue_in_cash = ? where id = ?",
+                single(events, PersistenceWriteEvent.NAME).getString("sqlFingerprint"));
+    }
+
+    @Test
+    void newEvent_classifiesByOperationName() {
+        assertInstanceOf(BulkUpsertEvent.class, PersistenceFlightRecorderAspect.newEvent("upsertAll"));
+        assertInstanceOf(BulkUpsertEvent.class, PersistenceFlightRecorderAspect.newEvent("upsertAllReturning"));
+        assertInstanceOf(PersistenceReadEvent.class, PersistenceFlightRecorderAspect.newEvent("findAllShiftTotals"));
+        assertInstanceOf(PersistenceReadEvent.class,
+                PersistenceFlightRecorderAspect.newEvent("calculateTotalCostsByAttendantNameAndDate"));
+        assertInstanceOf(PersistenceWriteEvent.class, PersistenceFlightRecorderAspect.newEvent("saveShiftTotal"));
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+
+    private static ProceedingJoinPoint joinPointFor(Class<?> component, String operation, Object... args) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(args);
+        when(signature.getName()).thenReturn(operation);
+        doReturn(component).when(signature).getDeclaringType();
+        return joinPoint;
+    }
+
+    static class ShiftReportService {
+    }
+
+    static class ShiftTotalRepository {
+    }
+}
@@ -0,0 +1,124 @@
+package edu.csudh.lsu.persistence.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import edu.csudh.lsu.persistence.dashboard.TodaySnapshotRefresher;
+import edu.csudh.lsu.persistence.routing.Workload;
+import edu.csudh.lsu.persistence.routing.WorkloadPoolMetrics;
+import edu.csudh.lsu.persistence.transaction.TransactionRetryMetrics;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PersistenceMeterBinderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void bindTo_exportsTodaySnapshotStalenessAndRefreshes() {
+        // Arrange
+        TodaySnapshotRefresher refresher = mock(TodaySnapshotRefresher.class);
+        when(refresher.getStalenessMillis()).thenReturn(1_500L);
+        when(refresher.getLastRefreshDurationMillis()).thenReturn(-1L);
+        when(refresher.getRefreshCount()).thenReturn(3L);
+        when(refresher.getRefreshFailureCount()).thenReturn(1L);
+
+        // Act
+        binderWith(Map.of("todaySnapshotRefresher", refresher)).bindTo(meterRegistry);
+
+        // Assert
+        assertEquals(1.5, meterRegistry.get(PersistenceMeterBinder.SNAPSHOT_STALENESS).timeGauge().value(TimeUnit.SECONDS));
+        assertTrue(Double.isNaN(meterRegistry.get(PersistenceMeterBinder.SNAPSHOT_REFRESH_DURATION).timeGauge().value()),
+                "A refresh that never finished should not be reported as zero");
+        assertEquals(3, meterRegistry.get(PersistenceMeterBinder.SNAPSHOT_REFRESHES).tag("outcome", "success").functionCounter().count());
+        assertEquals(1, meterRegistry.get(PersistenceMeterBinder.SNAPSHOT_REFRESHES).tag("outcome", "failure").functionCounter().count());
+    }
+
+    @Test
+    void bindTo_exportsRetryCountersOfOperationsSeenBeforeAndAfterBinding() {
+        // Arrange
+        TransactionRetryMetrics retryMetrics = new TransactionRetryMetrics();
+        retryMetrics.forOperation("ShiftTotalService.saveShiftTotal");
+
+        // Act
+        binderWith(Map.of("transactionRetryMetrics", retryMetrics)).bindTo(meterRegistry);
+        retryMetrics.forOperation("ShiftReportService.saveOrUpdateShiftReport");
+
+        // Assert
+        assertNotNull(meterRegistry.get(PersistenceMeterBinder.RETRY_RETRIES)
+                .tag("operation", "ShiftTotalService.saveShiftTotal").functionCounter());
+        assertNotNull(meterRegistry.get(PersistenceMeterBinder.RETRY_ABORTS)
+                .tag("operation", "ShiftReportService.saveOrUpdateShiftReport").functionCounter());
+        assertEquals(2, meterRegistry.get(PersistenceMeterBinder.RETRY_CONTENTION).functionCounters().size());
+    }
+
+    @Test
+    void bindTo_exportsSingleFlightCalls() {
+        // Arrange
+        SingleFlight singleFlight = new SingleFlight();
+        binderWith(Map.of("singleFlight", singleFlight)).bindTo(meterRegistry);
+
+        // Act
+        singleFlight.execute("ActivityService.fetchAllCategories", () -> "Pool");
+
+        // Assert
+        assertEquals(1, meterRegistry.get(PersistenceMeterBinder.SINGLE_FLIGHT_CALLS).tag("result", "executed").functionCounter().count());
+        assertEquals(0, meterRegistry.get(PersistenceMeterBinder.SINGLE_FLIGHT_CALLS).tag("result", "coalesced").functionCounter().count());
+        assertEquals(0, meterRegistry.get(PersistenceMeterBinder.SINGLE_FLIGHT_IN_FLIGHT).gauge().value());
+    }
+
+    @Test
+    void bindTo_exportsConnectionWaitsPerWorkloadPool() {
+        // Arrange
+        WorkloadPoolMetrics poolMetrics = new WorkloadPoolMetrics();
+        binderWith(Map.of("workloadPoolMetrics", poolMetrics)).bindTo(meterRegistry);
+        IMetricsTracker tracker = poolMetrics.trackerFactory(Workload.REPORTING).create("reporting", new PoolStats(0) {
+            @Override
+            protected void update() {
+                pendingThreads = 2;
+            }
+        });
+
+        // Act
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(30));
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        tracker.recordConnectionTimeout();
+
+        // Assert
+        assertEquals(2, meterRegistry.get(PersistenceMeterBinder.POOL_ACQUISITIONS).tag("pool", "reporting").functionCounter().count());
+        assertEquals(0.04, meterRegistry.get(PersistenceMeterBinder.POOL_WAIT).tag("pool", "reporting").functionCounter().count(), 1e-9);
+        assertEquals(30, meterRegistry.get(PersistenceMeterBinder.POOL_WAIT_MAX).tag("pool", "reporting").timeGauge().value(TimeUnit.MILLISECONDS));
+        assertEquals(1, meterRegistry.get(PersistenceMeterBinder.POOL_TIMEOUTS).tag("pool", "reporting").functionCounter().count());
+        assertEquals(2, meterRegistry.get(PersistenceMeterBinder.POOL_PENDING).tag("pool", "reporting").gauge().value());
+        assertEquals(0, meterRegistry.get(PersistenceMeterBinder.POOL_ACQUISITIONS).tag("pool", "oltp").functionCounter().count());
+    }
+
+    @Test
+    void bindTo_whenComponentsAreNotBeans_registersNothing() {
+        // Act
+        binderWith(Map.of()).bindTo(meterRegistry);
+
+        // Assert
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    private static PersistenceMeterBinder binderWith(Map<String, Object> beans) {
+        var beanFactory = new StaticListableBeanFactory(beans);
+        return new PersistenceMeterBinder(beanFactory.getBeanProvider(TodaySnapshotRefresher.class),
+                beanFactory.getBeanProvider(TransactionRetryMetrics.class), beanFactory.getBeanProvider(SingleFlight.class),
+                beanFactory.getBeanProvider(WorkloadPoolMetrics.class));
+    }
+}
@@ -0,0 +1,106 @@
+package edu.csudh.lsu.persistence.metrics;
+
+import edu.csudh.lsu.persistence.repository.gamesroom.profile.ProfileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.hibernate.exception.JDBCConnectionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PersistenceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PersistenceMetricsAspect metricsAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricsAspect = new PersistenceMetricsAspect(meterRegistry);
+    }
+
+    @Test
+    void measure_whenOperationSucceeds_recordsTimerAndRows() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = joinPointFor(SampleService.class, "findAll");
+        when(joinPoint.proceed()).thenReturn(List.of("a", "b", "c"));
+
+        // Act
+        metricsAspect.measure(joinPoint);
+        metricsAspect.measure(joinPoint);
+
+        // Assert
+        assertEquals(2, meterRegistry.get(PersistenceMetricsAspect.OPERATION_TIMER)
+                .tags("component", "SampleService", "operation", "findAll", "outcome", "success").timer().count());
+        var rows = meterRegistry.get(PersistenceMetricsAspect.OPERATION_ROWS).tag("operation", "findAll").summary();
+        assertEquals(2, rows.count());
+        assertEquals(6, rows.totalAmount());
+    }
+
+    @Test
+    void measure_whenOperationFails_countsErrorByExceptionClassAndRethrows() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = joinPointFor(SampleService.class, "update");
+        JDBCConnectionException failure = new JDBCConnectionException("connection lost", new SQLException("lost"));
+        when(joinPoint.proceed()).thenThrow(failure);
+
+        // Act & Assert
+        assertSame(failure, assertThrows(JDBCConnectionException.class, () -> metricsAspect.measure(joinPoint)));
+        assertEquals(1, meterRegistry.get(PersistenceMetricsAspect.OPERATION_ERRORS)
+                .tags("operation", "update", "exception", "JDBCConnectionException").counter().count());
+        assertEquals(1, meterRegistry.get(PersistenceMetricsAspect.OPERATION_TIMER)
+                .tags("operation", "update", "outcome", "error").timer().count());
+        assertNull(meterRegistry.find(PersistenceMetricsAspect.OPERATION_ROWS).tag("operation", "update").summary());
+    }
+
+    @Test
+    void measure_whenModifyingRepositoryMethodReturnsCount_recordsRowsChanged() {
+        // Arrange - a JDK proxy stands in for the Spring Data repository, which is one as well
+        ProfileRepository target = (ProfileRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ProfileRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "updateRole" -> 1;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(metricsAspect);
+        ProfileRepository profileRepository = proxyFactory.getProxy();
+
+        // Act
+        profileRepository.updateRole("jdoe", "MANAGER", "admin", null, null, "admin");
+
+        // Assert
+        var rows = meterRegistry.get(PersistenceMetricsAspect.OPERATION_ROWS)
+                .tags("component", "ProfileRepository", "operation", "updateRole").summary();
+        assertEquals(1, rows.count());
+        assertEquals(1, rows.totalAmount());
+    }
+
+    private static ProceedingJoinPoint joinPointFor(Class<?> type, String methodName) throws NoSuchMethodException {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(type.getDeclaredMethod(methodName));
+        doReturn(type).when(signature).getDeclaringType();
+        return joinPoint;
+    }
+
+    static class SampleService {
+
+        List<String> findAll() {
+            return List.of();
+        }
+
+        void update() {
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package edu.csudh.lsu.persistence.repository.gamesroom.shift;
+
+import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
+import edu.csudh.lsu.persistence.test.ShiftTotals;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Session;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks on H2 that paging through shift totals keeps no dirty-checking snapshots, even inside a read-write
+ * transaction, and measures with JOL the heap those snapshots cost per 1,000 rows when they are kept.
+ */
+class ShiftTotalRepositoryReadOnlyTest {
+
+    private static final int ROWS = 1_000;
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private ShiftTotalRepository shiftTotalRepository;
+
+    @BeforeEach
+    void setUp() {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:shift-total-read-only-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+        var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(ShiftTotal.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                AvailableSettings.HBM2DDL_AUTO, "create-drop",
+                AvailableSettings.STATEMENT_BATCH_SIZE, "100",
+                AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        shiftTotalRepository = new JpaRepositoryFactory(entityManager).getRepository(ShiftTotalRepository.class);
+
+        entityManager.getTransaction().begin();
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(ShiftTotals.sample(i));
+        }
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Test
+    void findAll_whenCallerTransactionIsReadWrite_loadsEntitiesReadOnly() {
+        // Arrange
+        entityManager.getTransaction().begin();
+
+        // Act
+        List<ShiftTotal> shiftTotals = shiftTotalRepository.findAll(PageRequest.of(0, ROWS)).getContent();
+
+        // Assert
+        Session session = entityManager.unwrap(Session.class);
+        assertEquals(ROWS, shiftTotals.size());
+        assertTrue(shiftTotals.stream().allMatch(session::isReadOnly));
+        assertTrue(loadedStates(shiftTotals).isEmpty());
+        entityManager.getTransaction().commit();
+    }
+
+    @Test
+    void findAll_keepsNoSnapshotHeapThatAPlainQueryKeeps() {
+        // Arrange - a plain JPQL query is what findAll(pageable) ran before the read-only hint
+        entityManager.getTransaction().begin();
+        List<ShiftTotal> managed = entityManager.createQuery("select s from ShiftTotal s", ShiftTotal.class).getResultList();
+        long managedSnapshotBytes = snapshotBytes(managed);
+        entityManager.getTransaction().commit();
+        entityManager.clear();
+
+        // Act
+        entityManager.getTransaction().begin();
+        List<ShiftTotal> readOnly = shiftTotalRepository.findAll(PageRequest.of(0, ROWS)).getContent();
+        long readOnlySnapshotBytes = snapshotBytes(readOnly);
+        entityManager.getTransaction().commit();
+
+        // Assert
+        assertEquals(ROWS, managed.size());
+        assertTrue(managedSnapshotBytes > 0, "A plain query keeps one snapshot per entity");
+        assertEquals(0, readOnlySnapshotBytes, "Read-only entities keep no snapshot, saving "
+                + managedSnapshotBytes + " bytes per " + ROWS + " rows");
+    }
+
+    // Heap retained by the snapshots alone: the graph of entities and snapshots minus the graph of the entities
+    private long snapshotBytes(List<ShiftTotal> entities) {
+        List<Object[]> loadedStates = loadedStates(entities);
+        if (loadedStates.isEmpty()) {
+            return 0;
+        }
+        long entitiesOnly = GraphLayout.parseInstance(entities.toArray()).totalSize();
+        long entitiesAndSnapshots = GraphLayout.parseInstance(entities.toArray(), loadedStates.toArray()).totalSize();
+        return entitiesAndSnapshots - entitiesOnly;
+    }
+
+    private List<Object[]> loadedStates(List<ShiftTotal> entities) {
+        var persistenceContext = entityManager.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+        return entities.stream()
+                .map(entity -> persistenceContext.getEntry(entity).getLoadedState())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package edu.csudh.lsu.persistence.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WorkloadRoutingAspectTest {
+
+    private final WorkloadRoutingAspect routingAspect = new WorkloadRoutingAspect();
+
+    @Test
+    void current_whenNoWorkloadEntered_returnsOltp() {
+        assertEquals(Workload.OLTP, WorkloadContext.current());
+    }
+
+    @Test
+    void routeToReporting_runsInvocationAsReportingAndRestoresOltp() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        AtomicReference<Workload> observed = new AtomicReference<>();
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            observed.set(WorkloadContext.current());
+            return "page";
+        });
+
+        // Act
+        Object result = routingAspect.routeToReporting(joinPoint);
+
+        // Assert
+        assertEquals("page", result);
+        assertEquals(Workload.REPORTING, observed.get());
+        assertEquals(Workload.OLTP, WorkloadContext.current());
+    }
+
+    @Test
+    void routeToReporting_whenInvocationFails_restoresPreviousWorkload() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+        Workload previous = WorkloadContext.enter(Workload.REPORTING);
+
+        try {
+            // Act & Assert
+            assertThrows(IllegalStateException.class, () -> routingAspect.routeToReporting(joinPoint));
+            assertEquals(Workload.REPORTING, WorkloadContext.current());
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+        assertEquals(Workload.OLTP, WorkloadContext.current());
+    }
+}
@@ -0,0 +1,131 @@
+package edu.csudh.lsu.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadRoutingAutoConfigurationTest {
+
+    @Test
+    void createPool_appliesWorkloadSettingsOverHikariProperties() {
+        // Arrange
+        DataSourceProperties dataSourceProperties = dataSourceProperties("jdbc:h2:mem:" + UUID.randomUUID());
+        Binder binder = Binder.get(new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "40")
+                .withProperty("spring.datasource.hikari.max-lifetime", "600000"));
+        WorkloadRoutingProperties routingProperties = new WorkloadRoutingProperties();
+
+        // Act
+        try (HikariDataSource reporting = WorkloadRoutingAutoConfiguration.createPool(dataSourceProperties, binder,
+                Workload.REPORTING, routingProperties.getReporting(), 10,
+                new WorkloadPoolMetrics().trackerFactory(Workload.REPORTING))) {
+
+            // Assert
+            assertEquals("lsu-reporting", reporting.getPoolName());
+            assertEquals(10, reporting.getMaximumPoolSize());
+            assertEquals(-1, reporting.getMinimumIdle()); // Hikari's default, as many as the maximum
+            assertEquals(30_000, reporting.getConnectionTimeout());
+            assertEquals(600_000, reporting.getMaxLifetime());
+            assertFalse(reporting.getDataSourceProperties().containsKey("options"));
+        }
+    }
+
+    @Test
+    void createPool_whenMinimumIdleUnset_reservesOltpPool() {
+        // Arrange
+        WorkloadRoutingProperties.Pool pool = new WorkloadRoutingProperties().getOltp();
+
+        // Act
+        try (HikariDataSource oltp = WorkloadRoutingAutoConfiguration.createPool(
+                dataSourceProperties("jdbc:h2:mem:" + UUID.randomUUID()), Binder.get(new MockEnvironment()),
+                Workload.OLTP, pool, 12, new WorkloadPoolMetrics().trackerFactory(Workload.OLTP))) {
+
+            // Assert
+            assertEquals(12, oltp.getMinimumIdle());
+        }
+    }
+
+    @Test
+    void createPool_whenMinimumIdleSet_keepsIt() {
+        // Arrange
+        Binder binder = Binder.get(new MockEnvironment().withProperty("spring.datasource.hikari.minimum-idle", "3"));
+        WorkloadRoutingProperties routingProperties = new WorkloadRoutingProperties();
+
+        // Act
+        try (HikariDataSource oltp = WorkloadRoutingAutoConfiguration.createPool(
+                dataSourceProperties("jdbc:h2:mem:" + UUID.randomUUID()), binder, Workload.OLTP,
+                routingProperties.getOltp(), 12, new WorkloadPoolMetrics().trackerFactory(Workload.OLTP));
+             HikariDataSource reporting = WorkloadRoutingAutoConfiguration.createPool(
+                     dataSourceProperties("jdbc:h2:mem:" + UUID.randomUUID()), binder, Workload.REPORTING,
+                     routingProperties.getReporting(), 4, new WorkloadPoolMetrics().trackerFactory(Workload.REPORTING))) {
+
+            // Assert
+            assertEquals(3, oltp.getMinimumIdle());
+            assertEquals(3, reporting.getMinimumIdle());
+        }
+    }
+
+    @Test
+    void dataSource_whenApplicationDefinesOne_backsOff() throws Exception {
+        // Act
+        ConditionalOnMissingBean condition = WorkloadRoutingAutoConfiguration.class.getMethod("dataSource",
+                DataSourceProperties.class, WorkloadRoutingProperties.class, WorkloadPoolMetrics.class,
+                Environment.class).getAnnotation(ConditionalOnMissingBean.class);
+
+        // Assert
+        assertNotNull(condition);
+        assertArrayEquals(new Class<?>[]{DataSource.class}, condition.value());
+    }
+
+    @Test
+    void createPool_whenConnectionAcquired_recordsWaitInMetricsOfWorkload() throws Exception {
+        // Arrange
+        WorkloadPoolMetrics metrics = new WorkloadPoolMetrics();
+        WorkloadRoutingProperties.Pool pool = new WorkloadRoutingProperties().getOltp();
+        pool.setMaximumPoolSize(2);
+
+        try (HikariDataSource oltp = WorkloadRoutingAutoConfiguration.createPool(
+                dataSourceProperties("jdbc:h2:mem:" + UUID.randomUUID()), Binder.get(new MockEnvironment()),
+                Workload.OLTP, pool, 10, metrics.trackerFactory(Workload.OLTP))) {
+
+            // Act
+            try (Connection ignored = oltp.getConnection()) {
+                assertEquals(0, metrics.forWorkload(Workload.OLTP).getThreadsAwaitingConnection());
+            }
+
+            // Assert
+            assertEquals(1, metrics.forWorkload(Workload.OLTP).getAcquisitions());
+            assertTrue(metrics.forWorkload(Workload.OLTP).getMaxWaitNanos() >= metrics.forWorkload(Workload.OLTP).getAverageWaitNanos());
+            assertEquals(0, metrics.forWorkload(Workload.REPORTING).getAcquisitions());
+            assertEquals(0, metrics.forWorkload(Workload.REPORTING).getAverageWaitNanos());
+        }
+    }
+
+    @Test
+    void sessionOptions_setsTimeoutAndPriorityAfterExistingOptions() {
+        // Arrange
+        WorkloadRoutingProperties.Pool reporting = new WorkloadRoutingProperties().getReporting();
+
+        // Act & Assert
+        assertEquals("-c statement_timeout=300000 -c default_transaction_priority=low",
+                WorkloadRoutingAutoConfiguration.sessionOptions(null, reporting));
+        assertEquals("--cluster=lsu -c statement_timeout=300000 -c default_transaction_priority=low",
+                WorkloadRoutingAutoConfiguration.sessionOptions(" --cluster=lsu ", reporting));
+    }
+
+    private static DataSourceProperties dataSourceProperties(String url) {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl(url);
+        return dataSourceProperties;
+    }
+}
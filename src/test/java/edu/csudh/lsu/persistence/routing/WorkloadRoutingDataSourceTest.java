@@ -0,0 +1,54 @@
+package edu.csudh.lsu.persistence.routing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WorkloadRoutingDataSourceTest {
+
+    @Test
+    void getConnection_routesToPoolOfCurrentWorkload() throws Exception {
+        // Arrange
+        DataSource oltp = mock(DataSource.class);
+        DataSource reporting = mock(DataSource.class);
+        Connection oltpConnection = mock(Connection.class);
+        Connection reportingConnection = mock(Connection.class);
+        when(oltp.getConnection()).thenReturn(oltpConnection);
+        when(reporting.getConnection()).thenReturn(reportingConnection);
+        WorkloadRoutingDataSource routingDataSource = new WorkloadRoutingDataSource(oltp, reporting);
+
+        // Act
+        Connection defaultConnection = routingDataSource.getConnection();
+        Workload previous = WorkloadContext.enter(Workload.REPORTING);
+        Connection routedConnection;
+        try {
+            routedConnection = routingDataSource.getConnection();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+
+        // Assert
+        assertSame(oltpConnection, defaultConnection);
+        assertSame(reportingConnection, routedConnection);
+    }
+
+    @Test
+    void close_closesBothPools() throws Exception {
+        // Arrange
+        DataSource oltp = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+        DataSource reporting = mock(DataSource.class, withSettings().extraInterfaces(Closeable.class));
+        WorkloadRoutingDataSource routingDataSource = new WorkloadRoutingDataSource(oltp, reporting);
+
+        // Act
+        routingDataSource.close();
+
+        // Assert
+        verify((Closeable) oltp).close();
+        verify((Closeable) reporting).close();
+    }
+}
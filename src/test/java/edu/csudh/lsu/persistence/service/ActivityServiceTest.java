@@ -4,6 +4,7 @@ import edu.csudh.lsu.persistence.constants.PersistenceConstants;
 import edu.csudh.lsu.persistence.exception.PersistenceException;
 import edu.csudh.lsu.persistence.model.activity.Activity;
 import edu.csudh.lsu.persistence.repository.gamesroom.activity.ActivityRepository;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
 import org.hibernate.TransactionException;
 import org.hibernate.exception.JDBCConnectionException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.orm.jpa.JpaSystemException;
 
@@ -29,6 +31,9 @@ class ActivityServiceTest {
     @Mock
     private ActivityRepository activityRepository;
 
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight();
+
     @InjectMocks
     private ActivityService activityService;
 
@@ -43,7 +48,7 @@ class ActivityServiceTest {
         activityService.saveActivity(null);
 
         // Assert
-        verify(activityRepository, never()).save(any(Activity.class));
+        verify(activityRepository, never()).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -55,7 +60,27 @@ class ActivityServiceTest {
         activityService.saveActivity(activity);
 
         // Assert
-        verify(activityRepository, times(1)).save(activity);
+        assertNotNull(activity.getId());
+        verify(activityRepository, times(1)).upsertActivity(eq(activity.getId()), eq(activity.getActivity()), eq(activity.getCategory()),
+                eq(activity.getPrice()), eq(activity.getImageLocation()), any(Time.class), any(Date.class), any(Date.class), any(Time.class),
+                eq(activity.getLastUpdatedBy()), eq(activity.getAccessedBy()));
+        verify(activityRepository, never()).save(any(Activity.class));
+    }
+
+    @Test
+    void saveActivity_whenIdAssigned_keepsIdAndWritesOnce() {
+        // Arrange
+        Activity activity = createSampleActivity();
+        UUID id = UUID.randomUUID();
+        activity.setId(id);
+
+        // Act
+        activityService.saveActivity(activity);
+
+        // Assert
+        assertEquals(id, activity.getId());
+        verify(activityRepository, times(1)).upsertActivity(eq(id), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        verifyNoMoreInteractions(activityRepository);
     }
 
     @Test
@@ -63,7 +88,7 @@ class ActivityServiceTest {
         // Arrange
         Activity activity = createSampleActivity();
         doThrow(new DataAccessResourceFailureException("Data access failure"))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(DataAccessResourceFailureException.class, () -> activityService.saveActivity(activity));
@@ -74,7 +99,7 @@ class ActivityServiceTest {
         // Arrange
         Activity activity = createSampleActivity();
         doThrow(new JDBCConnectionException("JDBC connection failure", null))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(JDBCConnectionException.class, () -> activityService.saveActivity(activity));
@@ -85,7 +110,7 @@ class ActivityServiceTest {
         // Arrange
         Activity activity = createSampleActivity();
         doThrow(new JpaSystemException(new RuntimeException("JPA system failure")))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(JpaSystemException.class, () -> activityService.saveActivity(activity));
@@ -96,7 +121,7 @@ class ActivityServiceTest {
         // Arrange
         Activity activity = createSampleActivity();
         doThrow(new TransactionException("Transaction failure"))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(TransactionException.class, () -> activityService.saveActivity(activity));
@@ -107,7 +132,7 @@ class ActivityServiceTest {
         // Arrange
         Activity activity = createSampleActivity();
         doThrow(new RuntimeException("Unexpected error"))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         PersistenceException exception = assertThrows(PersistenceException.class, () -> activityService.saveActivity(activity));
@@ -127,6 +152,22 @@ class ActivityServiceTest {
         assertEquals(2, result.size());
         assertEquals("Category1", result.get(0));
         assertEquals("Category2", result.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> result.add("Category3"),
+                "The list may be shared with concurrent callers");
+    }
+
+    @Test
+    void fetchAllCategories_runsQueryThroughSingleFlight() {
+        // Arrange
+        when(activityRepository.getAllCategories()).thenReturn(List.of("Category1"));
+
+        // Act
+        activityService.fetchAllCategories();
+
+        // Assert
+        assertEquals(1, singleFlight.getExecutedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+        verify(activityRepository, times(1)).getAllCategories();
     }
 
     @Test
@@ -274,7 +315,10 @@ class ActivityServiceTest {
         activityService.updateActivity(activity);
 
         // Assert
-        verify(activityRepository, times(1)).save(activity);
+        verify(activityRepository, times(1)).upsertActivity(eq(activity.getId()), eq(activity.getActivity()), eq(activity.getCategory()),
+                eq(activity.getPrice()), eq(activity.getImageLocation()), any(), any(Date.class), any(Date.class), any(Time.class),
+                eq("User"), eq(activity.getAccessedBy()));
+        verify(activityRepository, never()).save(any(Activity.class));
     }
 
     @Test
@@ -283,7 +327,7 @@ class ActivityServiceTest {
         activityService.updateActivity(null);
 
         // Assert
-        verify(activityRepository, never()).save(any(Activity.class));
+        verify(activityRepository, never()).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -296,7 +340,7 @@ class ActivityServiceTest {
         activityService.updateActivity(activity);
 
         // Assert
-        verify(activityRepository, never()).save(any(Activity.class));
+        verify(activityRepository, never()).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -305,7 +349,7 @@ class ActivityServiceTest {
         Activity activity = createSampleActivity();
         activity.setId(UUID.randomUUID());
         doThrow(new DataAccessResourceFailureException("Data access failure"))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(DataAccessResourceFailureException.class, () -> activityService.updateActivity(activity));
@@ -317,7 +361,7 @@ class ActivityServiceTest {
         Activity activity = createSampleActivity();
         activity.setId(UUID.randomUUID());
         doThrow(new JDBCConnectionException("JDBC connection failure", null))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(JDBCConnectionException.class, () -> activityService.updateActivity(activity));
@@ -329,7 +373,7 @@ class ActivityServiceTest {
         Activity activity = createSampleActivity();
         activity.setId(UUID.randomUUID());
         doThrow(new JpaSystemException(new RuntimeException("JPA system failure")))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(JpaSystemException.class, () -> activityService.updateActivity(activity));
@@ -341,7 +385,7 @@ class ActivityServiceTest {
         Activity activity = createSampleActivity();
         activity.setId(UUID.randomUUID());
         doThrow(new TransactionException("Transaction failure"))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(TransactionException.class, () -> activityService.updateActivity(activity));
@@ -353,7 +397,7 @@ class ActivityServiceTest {
         Activity activity = createSampleActivity();
         activity.setId(UUID.randomUUID());
         doThrow(new RuntimeException("Unexpected error"))
-                .when(activityRepository).save(any(Activity.class));
+                .when(activityRepository).upsertActivity(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         PersistenceException exception = assertThrows(PersistenceException.class, () -> activityService.updateActivity(activity));
@@ -4,6 +4,7 @@ import edu.csudh.lsu.persistence.constants.PersistenceConstants;
 import edu.csudh.lsu.persistence.exception.PersistenceException;
 import edu.csudh.lsu.persistence.model.profile.Profile;
 import edu.csudh.lsu.persistence.repository.gamesroom.profile.ProfileRepository;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
 import org.hibernate.TransactionException;
 import org.hibernate.exception.JDBCConnectionException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.orm.jpa.JpaSystemException;
 
@@ -28,6 +30,9 @@ class ProfileServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight();
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -236,6 +241,8 @@ class ProfileServiceTest {
 
         // Assert
         assertEquals(2, result.size());
+        assertThrows(UnsupportedOperationException.class, () -> result.add(createSampleProfile()),
+                "The list may be shared with concurrent callers");
     }
 
     @Test
@@ -60,12 +60,17 @@ class ShiftReportServiceTest {
     void saveOrUpdateShiftReport_whenValidShiftReport_savesSuccessfully() {
         // Arrange
         ShiftReport shiftReport = createSampleShiftReport();
+        ShiftReport storedShiftReport = createSampleShiftReport();
+        when(shiftReportRepository.upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(storedShiftReport);
 
         // Act
-        shiftReportService.saveOrUpdateShiftReport(shiftReport);
+        ShiftReport result = shiftReportService.saveOrUpdateShiftReport(shiftReport);
 
         // Assert
+        assertSame(storedShiftReport, result);
         verify(shiftReportRepository, times(1)).upsertShiftReport(
+                any(UUID.class),
                 eq(shiftReport.getClosingShiftDate()), eq(shiftReport.getClosingShiftTime()), eq(shiftReport.getAttendantName()),
                 eq(shiftReport.getReconcilorName()), eq(shiftReport.getReconcilorSign()), eq(shiftReport.getAttendantSign()),
                 eq(shiftReport.getRevenueInCard()), eq(shiftReport.getRevenueInCash()), eq(shiftReport.getShiftTotal()),
@@ -75,13 +80,64 @@ class ShiftReportServiceTest {
         );
     }
 
+    @Test
+    void saveOrUpdateShiftReport_whenNaturalKeyDateMissing_defaultsDateTimeAndId() {
+        // Arrange
+        ShiftReport shiftReport = createSampleShiftReport();
+        shiftReport.setClosingShiftDate(null);
+        shiftReport.setClosingShiftTime(null);
+
+        // Act
+        shiftReportService.saveOrUpdateShiftReport(shiftReport);
+
+        // Assert
+        assertNotNull(shiftReport.getClosingShiftDate());
+        assertNotNull(shiftReport.getClosingShiftTime());
+        verify(shiftReportRepository, times(1)).upsertShiftReport(any(UUID.class),
+                eq(shiftReport.getClosingShiftDate()), eq(shiftReport.getClosingShiftTime()), eq(shiftReport.getAttendantName()),
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void saveOrUpdateShiftReport_whenIdPresent_keepsId() {
+        // Arrange
+        ShiftReport shiftReport = createSampleShiftReport();
+        UUID shiftReportId = UUID.randomUUID();
+        shiftReport.setShiftReportId(shiftReportId);
+
+        // Act
+        shiftReportService.saveOrUpdateShiftReport(shiftReport);
+
+        // Assert
+        assertEquals(shiftReportId, shiftReport.getShiftReportId());
+        verify(shiftReportRepository, times(1)).upsertShiftReport(eq(shiftReportId),
+                any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void saveOrUpdateShiftReport_whenNaturalKeyAlreadyStored_takesTheStoredId() {
+        // Arrange
+        ShiftReport resubmitted = createSampleShiftReport();
+        ShiftReport stored = createSampleShiftReport();
+        stored.setShiftReportId(UUID.randomUUID());
+        when(shiftReportRepository.upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(stored);
+
+        // Act
+        shiftReportService.saveOrUpdateShiftReport(resubmitted);
+
+        // Assert
+        assertEquals(stored.getShiftReportId(), resubmitted.getShiftReportId());
+    }
+
     @Test
     void saveOrUpdateShiftReport_whenShiftReportIsNull_logsWarning() {
         // Act
-        shiftReportService.saveOrUpdateShiftReport(null);
+        ShiftReport result = shiftReportService.saveOrUpdateShiftReport(null);
 
         // Assert
-        verify(shiftReportRepository, never()).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+        assertNull(result);
+        verify(shiftReportRepository, never()).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
     }
 
     @Test
@@ -89,7 +145,7 @@ class ShiftReportServiceTest {
         // Arrange
         ShiftReport shiftReport = createSampleShiftReport();
         doThrow(new DataAccessResourceFailureException("Data access failure"))
-                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(DataAccessResourceFailureException.class, () -> shiftReportService.saveOrUpdateShiftReport(shiftReport));
@@ -100,7 +156,7 @@ class ShiftReportServiceTest {
         // Arrange
         ShiftReport shiftReport = createSampleShiftReport();
         doThrow(new JDBCConnectionException("JDBC connection failure", null))
-                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(JDBCConnectionException.class, () -> shiftReportService.saveOrUpdateShiftReport(shiftReport));
@@ -111,7 +167,7 @@ class ShiftReportServiceTest {
         // Arrange
         ShiftReport shiftReport = createSampleShiftReport();
         doThrow(new JpaSystemException(new RuntimeException("JPA system failure")))
-                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(JpaSystemException.class, () -> shiftReportService.saveOrUpdateShiftReport(shiftReport));
@@ -122,7 +178,7 @@ class ShiftReportServiceTest {
         // Arrange
         ShiftReport shiftReport = createSampleShiftReport();
         doThrow(new TransactionException("Transaction failure"))
-                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         assertThrows(TransactionException.class, () -> shiftReportService.saveOrUpdateShiftReport(shiftReport));
@@ -133,7 +189,7 @@ class ShiftReportServiceTest {
         // Arrange
         ShiftReport shiftReport = createSampleShiftReport();
         doThrow(new RuntimeException("Unexpected error"))
-                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+                .when(shiftReportRepository).upsertShiftReport(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
 
         // Act & Assert
         PersistenceException exception = assertThrows(PersistenceException.class, () -> shiftReportService.saveOrUpdateShiftReport(shiftReport));
@@ -1,9 +1,11 @@
 package edu.csudh.lsu.persistence.service;
 
 import edu.csudh.lsu.persistence.constants.PersistenceConstants;
+import edu.csudh.lsu.persistence.dashboard.TodaySnapshotRefresher;
 import edu.csudh.lsu.persistence.exception.PersistenceException;
 import edu.csudh.lsu.persistence.model.shift.ShiftTotal;
 import edu.csudh.lsu.persistence.repository.gamesroom.shift.ShiftTotalRepository;
+import edu.csudh.lsu.persistence.utils.SingleFlight;
 import org.hibernate.TransactionException;
 import org.hibernate.exception.JDBCConnectionException;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.sql.Date;
 import java.sql.Time;
@@ -42,6 +45,9 @@ class ShiftTotalServiceTest {
     @Mock
     private ShiftTotalRepository shiftTotalRepository;
 
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight();
+
     @InjectMocks
     private ShiftTotalService shiftTotalService;
 
@@ -54,35 +60,116 @@ class ShiftTotalServiceTest {
     @Test
     void saveShiftTotal_whenShiftTotalIsNull_logsWarning() {
         // Act
-        shiftTotalService.saveShiftTotal(null);
+        ShiftTotal result = shiftTotalService.saveShiftTotal(null);
 
         // Assert
-        verify(shiftTotalRepository, never()).upsertShiftTotal(anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+        assertNull(result);
+        verify(shiftTotalRepository, never()).upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
     }
 
     @Test
     void saveShiftTotal_whenValidShiftTotal_savesSuccessfully() {
         // Arrange
         ShiftTotal shiftTotal = createSampleShiftTotal();
+        ShiftTotal storedShiftTotal = createSampleShiftTotal();
+        when(shiftTotalRepository.upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString()))
+                .thenReturn(storedShiftTotal);
 
         // Act
-        shiftTotalService.saveShiftTotal(shiftTotal);
+        ShiftTotal result = shiftTotalService.saveShiftTotal(shiftTotal);
 
         // Assert
+        assertSame(storedShiftTotal, result);
         verify(shiftTotalRepository, times(1)).upsertShiftTotal(
-                eq(shiftTotal.getStudentName()), eq(shiftTotal.getAttendantName()), eq(shiftTotal.getActivity()),
-                eq(shiftTotal.getCost()), eq(shiftTotal.getPaymentMode()), eq(shiftTotal.getStartTime()),
-                eq(shiftTotal.getDate()), eq(shiftTotal.getDuration()), any(Time.class), any(Date.class),
+                any(UUID.class), anyString(), eq(shiftTotal.getStudentName()), eq(shiftTotal.getAttendantName()), eq(shiftTotal.getActivity()),
+                eq(shiftTotal.getCost()), eq(shiftTotal.getPaymentMode()), any(Time.class),
+                any(Date.class), eq(shiftTotal.getDuration()), any(Time.class), any(Date.class),
                 any(Date.class), any(Time.class), eq(shiftTotal.getLastUpdatedBy()), eq(shiftTotal.getAccessedBy())
         );
     }
 
+    @Test
+    void saveShiftTotal_whenIdempotencyKeySupplied_keepsKeyAndGeneratesId() {
+        // Arrange
+        ShiftTotal shiftTotal = createSampleShiftTotal();
+        shiftTotal.setIdempotencyKey("kiosk-7-request-42");
+
+        // Act
+        shiftTotalService.saveShiftTotal(shiftTotal);
+
+        // Assert
+        assertNotNull(shiftTotal.getStartTime());
+        assertNotNull(shiftTotal.getDate());
+        verify(shiftTotalRepository, times(1)).upsertShiftTotal(any(UUID.class), eq("kiosk-7-request-42"),
+                anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    void saveShiftTotal_whenIdempotencyKeyMissing_generatesKeyFromId() {
+        // Arrange
+        ShiftTotal shiftTotal = createSampleShiftTotal();
+        UUID id = UUID.randomUUID();
+        shiftTotal.setId(id);
+
+        // Act
+        shiftTotalService.saveShiftTotal(shiftTotal);
+
+        // Assert
+        verify(shiftTotalRepository, times(1)).upsertShiftTotal(eq(id), eq(id.toString()),
+                anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    void saveShiftTotal_whenKeyAlreadyStored_takesTheStoredId() {
+        // Arrange
+        ShiftTotal resubmitted = createSampleShiftTotal();
+        resubmitted.setIdempotencyKey("kiosk-7-request-42");
+        ShiftTotal stored = createSampleShiftTotal();
+        stored.setId(UUID.randomUUID());
+        stored.setIdempotencyKey("kiosk-7-request-42");
+        when(shiftTotalRepository.upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString()))
+                .thenReturn(stored);
+
+        // Act
+        shiftTotalService.saveShiftTotal(resubmitted);
+
+        // Assert
+        assertEquals(stored.getId(), resubmitted.getId());
+        assertEquals("kiosk-7-request-42", resubmitted.getIdempotencyKey());
+    }
+
+    @Test
+    void saveShiftTotal_whenTodaySnapshotEnabled_forcesRefresh() {
+        // Arrange
+        TodaySnapshotRefresher todaySnapshotRefresher = mock(TodaySnapshotRefresher.class);
+        ReflectionTestUtils.setField(shiftTotalService, "todaySnapshotRefresher", todaySnapshotRefresher);
+
+        // Act
+        shiftTotalService.saveShiftTotal(createSampleShiftTotal());
+
+        // Assert
+        verify(todaySnapshotRefresher, times(1)).forceRefresh();
+    }
+
+    @Test
+    void saveShiftTotal_whenSaveFails_doesNotForceRefresh() {
+        // Arrange
+        TodaySnapshotRefresher todaySnapshotRefresher = mock(TodaySnapshotRefresher.class);
+        ReflectionTestUtils.setField(shiftTotalService, "todaySnapshotRefresher", todaySnapshotRefresher);
+        doThrow(new DataAccessResourceFailureException("Data access failure"))
+                .when(shiftTotalRepository).upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class, () -> shiftTotalService.saveShiftTotal(createSampleShiftTotal()));
+        verify(todaySnapshotRefresher, never()).forceRefresh();
+    }
+
     @Test
     void saveShiftTotal_whenDataAccessResourceFailureException_throwsException() {
         // Arrange
         ShiftTotal shiftTotal = createSampleShiftTotal();
         doThrow(new DataAccessResourceFailureException("Data access failure"))
-                .when(shiftTotalRepository).upsertShiftTotal(anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+                .when(shiftTotalRepository).upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
 
         // Act & Assert
         assertThrows(DataAccessResourceFailureException.class, () -> shiftTotalService.saveShiftTotal(shiftTotal));
@@ -93,7 +180,7 @@ class ShiftTotalServiceTest {
         // Arrange
         ShiftTotal shiftTotal = createSampleShiftTotal();
         doThrow(new JDBCConnectionException("JDBC connection failure", null))
-                .when(shiftTotalRepository).upsertShiftTotal(anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+                .when(shiftTotalRepository).upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
 
         // Act & Assert
         assertThrows(JDBCConnectionException.class, () -> shiftTotalService.saveShiftTotal(shiftTotal));
@@ -104,7 +191,7 @@ class ShiftTotalServiceTest {
         // Arrange
         ShiftTotal shiftTotal = createSampleShiftTotal();
         doThrow(new JpaSystemException(new RuntimeException("JPA system failure")))
-                .when(shiftTotalRepository).upsertShiftTotal(anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+                .when(shiftTotalRepository).upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
 
         // Act & Assert
         assertThrows(JpaSystemException.class, () -> shiftTotalService.saveShiftTotal(shiftTotal));
@@ -115,7 +202,7 @@ class ShiftTotalServiceTest {
         // Arrange
         ShiftTotal shiftTotal = createSampleShiftTotal();
         doThrow(new TransactionException("Transaction failure"))
-                .when(shiftTotalRepository).upsertShiftTotal(anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+                .when(shiftTotalRepository).upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
 
         // Act & Assert
         assertThrows(TransactionException.class, () -> shiftTotalService.saveShiftTotal(shiftTotal));
@@ -126,7 +213,7 @@ class ShiftTotalServiceTest {
         // Arrange
         ShiftTotal shiftTotal = createSampleShiftTotal();
         doThrow(new RuntimeException("Unexpected error"))
-                .when(shiftTotalRepository).upsertShiftTotal(anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
+                .when(shiftTotalRepository).upsertShiftTotal(any(), anyString(), anyString(), anyString(), anyString(), anyFloat(), anyString(), any(), any(), any(), any(), any(), any(), any(), anyString(), anyString());
 
         // Act & Assert
         PersistenceException exception = assertThrows(PersistenceException.class, () -> shiftTotalService.saveShiftTotal(shiftTotal));
@@ -390,6 +477,20 @@ class ShiftTotalServiceTest {
         verify(shiftTotalRepository, times(1)).findTotalCostsByAttendantNameAndDate(eq(attendantName), eq(date));
     }
 
+    @Test
+    void calculateTotalCostsByAttendantNameAndDate_whenRow_returnsCopyOfTheSharedRow() {
+        // Arrange
+        Object[] row = {"John Doe", 1.0, 2.0, 3.0};
+        when(shiftTotalRepository.findTotalCostsByAttendantNameAndDate(anyString(), any(Date.class))).thenReturn(row);
+
+        // Act
+        Object result = shiftTotalService.calculateTotalCostsByAttendantNameAndDate("John Doe", new Date(System.currentTimeMillis()));
+
+        // Assert
+        assertNotSame(row, result);
+        assertArrayEquals(row, (Object[]) result);
+    }
+
     @Test
     void calculateTotalCostsByAttendantNameAndDate_whenDataAccessResourceFailureException_throwsException() {
         // Arrange
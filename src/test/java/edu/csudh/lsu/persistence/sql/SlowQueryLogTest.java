@@ -0,0 +1,157 @@
+package edu.csudh.lsu.persistence.sql;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    @AfterEach
+    void tearDown() {
+        SlowQueryLog.install(null);
+        FingerprintStatementInspector.clear();
+    }
+
+    @Test
+    void record_whenStatementsShareFingerprint_aggregatesThem() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(1_000, 10);
+
+        // Act
+        for (int i = 1; i <= 100; i++) {
+            slowQueryLog.record("select * from profile where user_id = " + i, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        slowQueryLog.record("insert into activity values (?, ?)", TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Assert
+        List<SlowQueryLog.FingerprintSummary> top = slowQueryLog.getTopSlowest(5);
+        assertEquals(2, top.size());
+        SlowQueryLog.FingerprintSummary insert = top.get(0);
+        assertEquals("insert into activity VALUES (...)", insert.getFingerprint());
+        assertEquals(2, insert.getBindParameters());
+        SlowQueryLog.FingerprintSummary select = top.get(1);
+        assertEquals("select * from profile where user_id = ?", select.getFingerprint());
+        assertEquals(100, select.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), select.getMaxNanos());
+        // p99 of 1..100 ms is 99 ms, within the 25% resolution of the histogram
+        assertTrue(select.getP99Nanos() >= TimeUnit.MILLISECONDS.toNanos(99));
+        assertTrue(select.getP99Nanos() <= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void record_whenFingerprintTableIsFull_countsDropped() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(1_000, 2);
+
+        // Act
+        slowQueryLog.record("select a from t", 1_000);
+        slowQueryLog.record("select b from t", 1_000);
+        slowQueryLog.record("select c from t", 1_000);
+        slowQueryLog.record("select a from t", 1_000);
+
+        // Assert
+        assertEquals(2, slowQueryLog.getTopSlowest(10).size());
+        assertEquals(1, slowQueryLog.getDroppedCount());
+        slowQueryLog.reset();
+        assertTrue(slowQueryLog.getTopSlowest(10).isEmpty());
+        assertEquals(0, slowQueryLog.getDroppedCount());
+    }
+
+    @Test
+    void record_whenFingerprintTableIsFull_keepsSlowestFingerprints() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Long.MAX_VALUE, 2);
+        slowQueryLog.record("select a from t", TimeUnit.MILLISECONDS.toNanos(5));
+        slowQueryLog.record("select b from t", TimeUnit.MILLISECONDS.toNanos(1));
+
+        // Act
+        slowQueryLog.record("select c from t", TimeUnit.MILLISECONDS.toNanos(50));
+        slowQueryLog.record("select d from t", TimeUnit.MILLISECONDS.toNanos(2));
+        slowQueryLog.record("select e from t", TimeUnit.MILLISECONDS.toNanos(20));
+
+        // Assert
+        List<SlowQueryLog.FingerprintSummary> top = slowQueryLog.getTopSlowest(10);
+        assertEquals(List.of("select c from t", "select e from t"),
+                top.stream().map(SlowQueryLog.FingerprintSummary::getFingerprint).toList());
+        assertEquals(2, slowQueryLog.getEvictedCount());
+        assertEquals(1, slowQueryLog.getDroppedCount());
+    }
+
+    @Test
+    void upperBoundMicros_ofLastBucket_isAbout2Point4Hours() {
+        // The last power of two starts at 2^32 µs, about 1.2 hours
+        assertEquals(SlowQueryLog.FingerprintStats.BUCKETS - 4, SlowQueryLog.FingerprintStats.bucketOf(1L << 32));
+        assertEquals((1L << 33) - 1, SlowQueryLog.FingerprintStats.upperBoundMicros(SlowQueryLog.FingerprintStats.BUCKETS - 1));
+    }
+
+    @Test
+    void bucketOf_staysWithinUpperBound() {
+        for (long micros : new long[]{0, 3, 4, 7, 8, 1_000, 123_456, Long.MAX_VALUE}) {
+            int bucket = SlowQueryLog.FingerprintStats.bucketOf(micros);
+            assertTrue(bucket < SlowQueryLog.FingerprintStats.BUCKETS);
+            if (bucket < SlowQueryLog.FingerprintStats.BUCKETS - 1) {
+                assertTrue(micros <= SlowQueryLog.FingerprintStats.upperBoundMicros(bucket));
+                assertTrue(bucket == 0 || micros > SlowQueryLog.FingerprintStats.upperBoundMicros(bucket - 1));
+            }
+        }
+    }
+
+    @Test
+    void timingListener_whenLogInstalled_recordsInspectedStatement() {
+        // Arrange
+        SlowQueryLog slowQueryLog = new SlowQueryLog(1_000, 10);
+        SlowQueryLog.install(slowQueryLog);
+        StatementTimingListener listener = new StatementTimingListener();
+
+        // Act
+        new FingerprintStatementInspector().inspect("update profile set role = ? where user_id = ?");
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+        listener.jdbcExecuteBatchStart();
+        listener.jdbcExecuteBatchEnd();
+        listener.jdbcExecuteStatementEnd();
+
+        // Assert
+        List<SlowQueryLog.FingerprintSummary> top = slowQueryLog.getTopSlowest(1);
+        assertEquals(2, top.get(0).getCount());
+        slowQueryLog.uninstall();
+        assertNull(SlowQueryLog.installed());
+    }
+
+    @Test
+    void inspector_whenStatementIsLargeMultiRowUpsert_remembersOnlyItsDescription() {
+        // Arrange
+        StringBuilder sql = new StringBuilder("upsert into shift_total (id, total_cost) values ");
+        for (int i = 0; i < 1_000; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?)");
+        }
+
+        // Act
+        new FingerprintStatementInspector().inspect(sql.toString());
+
+        // Assert
+        SqlFingerprintCache.Description statement = FingerprintStatementInspector.lastStatement();
+        assertEquals("upsert into shift_total (id, total_cost) VALUES (...)", statement.getFingerprint());
+        assertEquals(2_000, statement.getBindParameters());
+    }
+
+    @Test
+    void registerTiming_keepsExistingInspector() {
+        // Arrange
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.session_factory.statement_inspector", "custom");
+
+        // Act
+        SlowQueryLogAutoConfiguration.registerTiming(properties);
+
+        // Assert
+        assertEquals("custom", properties.get("hibernate.session_factory.statement_inspector"));
+        assertEquals(StatementTimingListener.class.getName(), properties.get("hibernate.session.events.auto"));
+    }
+}
@@ -0,0 +1,61 @@
+package edu.csudh.lsu.persistence.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlFingerprintCacheTest {
+
+    @Test
+    void describe_whenStatementRepeats_returnsCachedDescription() {
+        // Arrange
+        SqlFingerprintCache cache = new SqlFingerprintCache(10);
+        String sql = "SELECT * FROM SHIFT_TOTAL WHERE ATTENDANT_NAME = 'Jane'";
+
+        // Act
+        SqlFingerprintCache.Description first = cache.describe(sql);
+        SqlFingerprintCache.Description second = cache.describe(sql);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("SELECT * FROM SHIFT_TOTAL WHERE ATTENDANT_NAME = ?", first.getFingerprint());
+        assertEquals("SELECT", first.getOperation());
+        assertEquals("SHIFT_TOTAL", first.getTable());
+    }
+
+    @Test
+    void describe_whenCacheIsFull_describesWithoutCaching() {
+        // Arrange
+        SqlFingerprintCache cache = new SqlFingerprintCache(2);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            cache.describe("DELETE FROM ACTIVITY WHERE ID = " + i);
+        }
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals("DELETE FROM ACTIVITY WHERE ID = ?", cache.describe("DELETE FROM ACTIVITY WHERE ID = 9").getFingerprint());
+        assertEquals("", cache.describe(null).getFingerprint());
+    }
+
+    @Test
+    void describe_whenStatementIsLargeMultiRowUpsert_describesWithoutCaching() {
+        // Arrange
+        SqlFingerprintCache cache = new SqlFingerprintCache(10);
+        StringBuilder sql = new StringBuilder("UPSERT INTO SHIFT_TOTAL (ID, ATTENDANT_NAME, TOTAL_COST) VALUES ");
+        for (int i = 0; i < 10_000; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?)");
+        }
+
+        // Act
+        SqlFingerprintCache.Description description = cache.describe(sql.toString());
+
+        // Assert
+        assertTrue(sql.length() > SqlFingerprintCache.MAX_CACHED_LENGTH);
+        assertEquals(0, cache.size());
+        assertEquals("UPSERT INTO SHIFT_TOTAL (ID, ATTENDANT_NAME, TOTAL_COST) VALUES (...)", description.getFingerprint());
+        assertEquals("UPSERT", description.getOperation());
+        assertEquals("SHIFT_TOTAL", description.getTable());
+    }
+}
@@ -0,0 +1,68 @@
+package edu.csudh.lsu.persistence.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlFingerprintTest {
+
+    @Test
+    void of_whenMultiRowUpsertsDifferInRowCount_returnsSameFingerprint() {
+        // Arrange
+        String twoRows = "UPSERT INTO shift_totals (id, total) VALUES (?, ?), (?, ?)";
+        String threeRows = "UPSERT INTO shift_totals (id, total)\n  VALUES (?,?),(?,?),(?,?)";
+
+        // Act
+        String fingerprint = SqlFingerprint.of(twoRows);
+
+        // Assert
+        assertEquals("UPSERT INTO shift_totals (id, total) VALUES (...)", fingerprint);
+        assertEquals(fingerprint, SqlFingerprint.of(threeRows));
+    }
+
+    @Test
+    void of_whenStatementHasLiteralsAndInList_replacesThem() {
+        // Act
+        String fingerprint = SqlFingerprint.of(
+                "select * from profile where role = 'it''s' and age > 21 and id in (?, ?, ?) and col_1 = 1.5");
+
+        // Assert
+        assertEquals("select * from profile where role = ? and age > ? and id IN (...) and col_1 = ?", fingerprint);
+    }
+
+    @Test
+    void of_whenUpsertHasTenThousandRows_collapsesWithoutOverflowingTheStack() {
+        // Arrange
+        StringBuilder sql = new StringBuilder("UPSERT INTO SHIFT_TOTAL (ID, ATTENDANT_NAME) VALUES ");
+        for (int i = 0; i < 10_000; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?)");
+        }
+
+        // Act
+        String fingerprint = SqlFingerprint.of(sql.toString());
+
+        // Assert
+        assertEquals("UPSERT INTO SHIFT_TOTAL (ID, ATTENDANT_NAME) VALUES (...)", fingerprint);
+    }
+
+    @Test
+    void of_whenNull_returnsEmpty() {
+        assertEquals("", SqlFingerprint.of(null));
+    }
+
+    @Test
+    void countBindParameters_ignoresQuestionMarksInLiterals() {
+        assertEquals(3, SqlFingerprint.countBindParameters("insert into t values (?, '?', ?, ?)"));
+        assertEquals(0, SqlFingerprint.countBindParameters("select 1"));
+        assertEquals(0, SqlFingerprint.countBindParameters(null));
+    }
+
+    @Test
+    void operationAndTable_readFirstKeywordAndTable() {
+        assertEquals("UPSERT", SqlFingerprint.operationOf(" upsert into shift_total (id) values (?)"));
+        assertEquals("shift_total", SqlFingerprint.tableOf(" upsert into shift_total (id) values (?)"));
+        assertEquals("PROFILE", SqlFingerprint.tableOf("update PROFILE set role = ? where user_id = ?"));
+        assertNull(SqlFingerprint.tableOf("select 1"));
+        assertNull(SqlFingerprint.operationOf(null));
+    }
+}
@@ -0,0 +1,88 @@
+package edu.csudh.lsu.persistence.tracing;
+
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PersistenceTracingAspectTest {
+
+    private InMemorySpanExporter spanExporter;
+    private SdkTracerProvider tracerProvider;
+    private PersistenceTracingAspect tracingAspect;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build();
+        tracingAspect = new PersistenceTracingAspect(tracerProvider.get(PersistenceSpanAttributes.INSTRUMENTATION_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void trace_whenOperationSucceeds_recordsRowsAndParentsNestedSpans() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = joinPointFor("upsertAll");
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            tracerProvider.get("nested").spanBuilder("connection acquire").startSpan().end();
+            return List.of(1, 2);
+        });
+
+        // Act
+        tracingAspect.trace(joinPoint);
+
+        // Assert
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertEquals(2, spans.size());
+        SpanData operation = spans.get(1);
+        assertEquals("ShiftTotalRepository.upsertAll", operation.getName());
+        assertEquals(2L, operation.getAttributes().get(PersistenceSpanAttributes.ROWS));
+        assertEquals(operation.getSpanId(), spans.get(0).getParentSpanId());
+    }
+
+    @Test
+    void trace_whenOperationFails_marksSpanAsErrorAndRethrows() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = joinPointFor("deleteShiftTotal");
+        IllegalStateException failure = new IllegalStateException("closed");
+        when(joinPoint.proceed()).thenThrow(failure);
+
+        // Act & Assert
+        assertSame(failure, assertThrows(IllegalStateException.class, () -> tracingAspect.trace(joinPoint)));
+        SpanData span = spanExporter.getFinishedSpanItems().get(0);
+        assertEquals(StatusCode.ERROR, span.getStatus().getStatusCode());
+        assertEquals(1, span.getEvents().size());
+        assertTrue(new Slf4jSpanExporter().export(spanExporter.getFinishedSpanItems()).isSuccess());
+        assertTrue(new Slf4jSpanExporter().flush().isSuccess());
+    }
+
+    private static ProceedingJoinPoint joinPointFor(String operation) {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn(operation);
+        when(signature.getDeclaringTypeName()).thenReturn(ShiftTotalRepository.class.getName());
+        doReturn(ShiftTotalRepository.class).when(signature).getDeclaringType();
+        return joinPoint;
+    }
+
+    static class ShiftTotalRepository {
+    }
+}
@@ -0,0 +1,96 @@
+package edu.csudh.lsu.persistence.tracing;
+
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingDataSourceTest {
+
+    private InMemorySpanExporter spanExporter;
+    private SdkTracerProvider tracerProvider;
+    private TracingDataSource tracingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        spanExporter = InMemorySpanExporter.create();
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(spanExporter))
+                .build();
+        Tracer tracer = tracerProvider.get(PersistenceSpanAttributes.INSTRUMENTATION_NAME);
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:tracing;DB_CLOSE_DELAY=-1");
+        tracingDataSource = new TracingDataSource(h2, tracer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void getConnection_tracesAcquisitionAndStatements() throws Exception {
+        // Arrange
+        try (Connection connection = tracingDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists shift_total (id int primary key, cost int)");
+            statement.execute("delete from shift_total");
+        }
+        spanExporter.reset();
+
+        // Act
+        try (Connection connection = tracingDataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into shift_total (id, cost) values (?, ?)")) {
+            for (int id = 1; id <= 3; id++) {
+                insert.setInt(1, id);
+                insert.setInt(2, id * 10);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            try (PreparedStatement select = connection.prepareStatement("select cost from shift_total where cost > 15");
+                 ResultSet resultSet = select.executeQuery()) {
+                assertTrue(resultSet.next());
+            }
+        }
+
+        // Assert
+        List<SpanData> spans = spanExporter.getFinishedSpanItems();
+        assertEquals(List.of(PersistenceSpanAttributes.CONNECTION_ACQUIRE_SPAN, "INSERT shift_total",
+                "SELECT shift_total"), spans.stream().map(SpanData::getName).toList());
+        SpanData insert = spans.get(1);
+        assertEquals(SpanKind.CLIENT, insert.getKind());
+        assertEquals("h2", insert.getAttributes().get(PersistenceSpanAttributes.SYSTEM));
+        assertEquals("INSERT", insert.getAttributes().get(PersistenceSpanAttributes.OPERATION));
+        assertEquals("shift_total", insert.getAttributes().get(PersistenceSpanAttributes.TABLE));
+        assertEquals("insert into shift_total (id, cost) VALUES (...)",
+                insert.getAttributes().get(PersistenceSpanAttributes.STATEMENT));
+        assertEquals(3L, insert.getAttributes().get(PersistenceSpanAttributes.ROWS));
+        SpanData select = spans.get(2);
+        assertEquals("select cost from shift_total where cost > ?",
+                select.getAttributes().get(PersistenceSpanAttributes.STATEMENT));
+        assertNull(select.getAttributes().get(PersistenceSpanAttributes.ROWS));
+    }
+
+    @Test
+    void rowsAffected_sumsReportedCounts() {
+        assertEquals(4, TracingDataSource.rowsAffected(4));
+        assertEquals(3, TracingDataSource.rowsAffected(new int[]{1, 2, Statement.SUCCESS_NO_INFO}));
+        assertEquals(5, TracingDataSource.rowsAffected(new long[]{5L}));
+        assertEquals(-1, TracingDataSource.rowsAffected(true));
+    }
+}
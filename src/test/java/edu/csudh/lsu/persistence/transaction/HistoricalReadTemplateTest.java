@@ -0,0 +1,121 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.dialect.CockroachDialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HistoricalReadTemplateTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Session session = mock(Session.class);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void followerRead_whenCockroachDb_setsSnapshotBeforeQueryInReadOnlyTransaction() throws Exception {
+        // Arrange
+        HistoricalReadTemplate template = templateFor(new CockroachDialect());
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        when(transactionManager.getTransaction(definition.capture())).thenReturn(new SimpleTransactionStatus());
+
+        // Act
+        String result = template.followerRead(() -> "reports");
+
+        // Assert
+        assertEquals("reports", result);
+        assertTrue(definition.getValue().isReadOnly());
+        assertEquals("AS OF SYSTEM TIME follower_read_timestamp()", definition.getValue().getName());
+        assertEquals("SET TRANSACTION AS OF SYSTEM TIME follower_read_timestamp()", executedStatement());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void staleBy_whenH2_runsQueryWithoutSnapshot() {
+        // Arrange
+        HistoricalReadTemplate template = templateFor(new H2Dialect());
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // Act
+        Integer result = template.staleBy(Duration.ofSeconds(10), () -> 42);
+
+        // Assert
+        assertEquals(42, result);
+        verifyNoInteractions(session);
+    }
+
+    @Test
+    void asOf_whenTimestampInFuture_throwsException() {
+        HistoricalReadTemplate template = templateFor(new CockroachDialect());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> template.asOf(Instant.now().plusSeconds(60), () -> "reports"));
+    }
+
+    @Test
+    void followerRead_whenTransactionActive_throwsException() {
+        // Arrange
+        HistoricalReadTemplate template = templateFor(new CockroachDialect());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> template.followerRead(() -> "reports"));
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void clauses_formatTimestampAndStalenessAsLiterals() {
+        assertEquals("'2024-08-06 21:30:00.123456+00:00'",
+                HistoricalReadTemplate.timestampClause(Instant.parse("2024-08-06T21:30:00.123456Z")));
+        assertEquals("'-1500ms'", HistoricalReadTemplate.stalenessClause(Duration.ofMillis(1500)));
+    }
+
+    private String executedStatement() throws Exception {
+        ArgumentCaptor<Work> work = ArgumentCaptor.forClass(Work.class);
+        verify(session).doWork(work.capture());
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        work.getValue().execute(connection);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(statement).execute(sql.capture());
+        verify(statement).close();
+        return sql.getValue();
+    }
+
+    private HistoricalReadTemplate templateFor(Dialect dialect) {
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class, withSettings().withoutAnnotations());
+        JdbcServices jdbcServices = mock(JdbcServices.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getJdbcServices()).thenReturn(jdbcServices);
+        when(jdbcServices.getDialect()).thenReturn(dialect);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        return new HistoricalReadTemplate(transactionManager, entityManager);
+    }
+}
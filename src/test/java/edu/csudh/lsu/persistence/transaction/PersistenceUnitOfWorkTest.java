@@ -0,0 +1,161 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PersistenceUnitOfWorkTest {
+
+    private PlatformTransactionManager transactionManager;
+    private Session session;
+    private TransactionRetryMetrics retryMetrics;
+    private PersistenceUnitOfWork unitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        EntityManager entityManager = mock(EntityManager.class);
+        session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getHibernateFlushMode()).thenReturn(FlushMode.AUTO);
+        retryMetrics = new TransactionRetryMetrics();
+        unitOfWork = new PersistenceUnitOfWork(transactionManager, entityManager, new TransactionRetryExecutor(retryMetrics));
+    }
+
+    @Test
+    void commit_whenOperationsEnlisted_runsThemInOrderInOneTransaction() {
+        // Arrange
+        List<String> executed = new ArrayList<>();
+        var work = unitOfWork.begin("closeShift")
+                .enlist(() -> executed.add("saveOrUpdateShiftReport"))
+                .enlist(() -> executed.add("updateRevenueInCash"))
+                .enlist(() -> executed.add("updateRole"));
+
+        // Assert deferred
+        assertTrue(executed.isEmpty(), "Operations must not run before commit");
+        assertEquals(3, work.size());
+
+        // Act
+        work.commit();
+
+        // Assert
+        assertEquals(List.of("saveOrUpdateShiftReport", "updateRevenueInCash", "updateRole"), executed);
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        var flushModes = inOrder(session);
+        flushModes.verify(session).setHibernateFlushMode(FlushMode.COMMIT);
+        flushModes.verify(session).setHibernateFlushMode(FlushMode.AUTO);
+    }
+
+    @Test
+    void commit_whenJoiningCallerTransaction_flushesAndRestoresCallerFlushMode() {
+        // Arrange
+        when(transactionManager.getTransaction(any()))
+                .thenAnswer(invocation -> new SimpleTransactionStatus(false));
+        List<String> executed = new ArrayList<>();
+        var work = unitOfWork.begin("closeShift").enlist(() -> executed.add("updateRole"));
+
+        // Act
+        work.commit();
+
+        // Assert
+        assertEquals(List.of("updateRole"), executed);
+        var calls = inOrder(session);
+        calls.verify(session).setHibernateFlushMode(FlushMode.COMMIT);
+        calls.verify(session).flush();
+        calls.verify(session).setHibernateFlushMode(FlushMode.AUTO);
+    }
+
+    @Test
+    void commit_whenOperationFails_restoresFlushMode() {
+        // Arrange
+        var work = unitOfWork.begin("closeShift").enlist(() -> {
+            throw new IllegalStateException("failed");
+        });
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, work::commit);
+        verify(session).setHibernateFlushMode(FlushMode.AUTO);
+    }
+
+    @Test
+    void commit_returnsStatementCountReportedBySession() {
+        // Arrange
+        ArgumentCaptor<SessionEventListener> listenerCaptor = ArgumentCaptor.forClass(SessionEventListener.class);
+        doNothing().when(session).addEventListeners(listenerCaptor.capture());
+        var work = unitOfWork.begin("closeShift")
+                .enlist(() -> listenerCaptor.getValue().jdbcExecuteStatementEnd())
+                .enlist(() -> listenerCaptor.getValue().jdbcExecuteBatchEnd());
+
+        // Act
+        int statements = work.commit();
+
+        // Assert
+        assertEquals(2, statements);
+    }
+
+    @Test
+    void commit_whenRetryErrorOccurs_replaysWholeUnit() {
+        // Arrange
+        AtomicInteger firstOperationRuns = new AtomicInteger();
+        AtomicInteger secondOperationRuns = new AtomicInteger();
+        var work = unitOfWork.begin("closeShift")
+                .enlist(firstOperationRuns::incrementAndGet)
+                .enlist(() -> {
+                    if (secondOperationRuns.incrementAndGet() == 1) {
+                        throw new RuntimeException(new SQLException("restart transaction", "40001"));
+                    }
+                });
+
+        // Act
+        work.commit();
+
+        // Assert
+        assertEquals(2, firstOperationRuns.get());
+        assertEquals(2, secondOperationRuns.get());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+        assertEquals(1, retryMetrics.forOperation("PersistenceUnitOfWork.closeShift").getRetries());
+    }
+
+    @Test
+    void commit_whenEmpty_doesNotOpenTransaction() {
+        // Act
+        int statements = unitOfWork.begin("empty").commit();
+
+        // Assert
+        assertEquals(0, statements);
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void commit_whenCalledTwice_throwsException() {
+        // Arrange
+        var work = unitOfWork.begin("closeShift").enlist(() -> { });
+        work.commit();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, work::commit);
+        assertThrows(IllegalStateException.class, () -> work.enlist(() -> { }));
+    }
+
+    @Test
+    void begin_whenNameIsEmpty_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> unitOfWork.begin(""));
+    }
+}
@@ -0,0 +1,88 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import edu.csudh.lsu.persistence.exception.PersistenceException;
+import org.hibernate.exception.LockAcquisitionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.jpa.JpaSystemException;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    @Test
+    void constructor_whenMaxAttemptsIsNotPositive_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(0, 10, 100));
+    }
+
+    @Test
+    void constructor_whenInitialBackoffExceedsMax_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryPolicy(3, 200, 100));
+    }
+
+    @Test
+    void from_whenAnnotationIsNull_returnsDefault() {
+        assertSame(RetryPolicy.DEFAULT, RetryPolicy.from(null));
+    }
+
+    @Test
+    void from_whenAnnotationPresent_copiesAttributes() throws NoSuchMethodException {
+        // Arrange
+        RetryableTransaction annotation = Annotated.class.getDeclaredMethod("custom").getAnnotation(RetryableTransaction.class);
+
+        // Act
+        RetryPolicy policy = RetryPolicy.from(annotation);
+
+        // Assert
+        assertEquals(7, policy.getMaxAttempts());
+        assertEquals(5, policy.getInitialBackoffMillis());
+        assertEquals(50, policy.getMaxBackoffMillis());
+    }
+
+    @Test
+    void backoffMillis_staysWithinExponentialCeiling() {
+        // Arrange
+        RetryPolicy policy = new RetryPolicy(10, 10, 100);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(policy.backoffMillis(1) <= 10, "First retry must not exceed the initial backoff");
+            assertTrue(policy.backoffMillis(2) <= 20, "Second retry must not exceed twice the initial backoff");
+            assertTrue(policy.backoffMillis(9) <= 100, "Backoff must be capped at the maximum");
+            assertTrue(policy.backoffMillis(64) >= 0, "Large retry numbers must not overflow");
+        }
+    }
+
+    @Test
+    void backoffMillis_whenInitialBackoffIsZero_returnsZero() {
+        assertEquals(0, new RetryPolicy(3, 0, 0).backoffMillis(2));
+    }
+
+    @Test
+    void isRetryable_whenSqlStateIs40001_returnsTrue() {
+        // Arrange
+        SQLException sqlException = new SQLException("restart transaction", "40001");
+
+        // Act & Assert
+        assertTrue(RetryPolicy.isRetryable(sqlException));
+        assertTrue(RetryPolicy.isRetryable(new JpaSystemException(new RuntimeException(sqlException))));
+        assertTrue(RetryPolicy.isRetryable(new LockAcquisitionException("restart transaction", sqlException)));
+        assertTrue(RetryPolicy.isRetryable(new PersistenceException("error", "code", sqlException)));
+    }
+
+    @Test
+    void isRetryable_whenSqlStateIsOther_returnsFalse() {
+        assertFalse(RetryPolicy.isRetryable(new SQLException("duplicate key", "23505")));
+        assertFalse(RetryPolicy.isRetryable(new RuntimeException("no sql state")));
+        assertFalse(RetryPolicy.isRetryable(null));
+    }
+
+    private static class Annotated {
+
+        @RetryableTransaction(maxAttempts = 7, initialBackoffMillis = 5, maxBackoffMillis = 50)
+        void custom() {
+            // Annotation holder
+        }
+    }
+}
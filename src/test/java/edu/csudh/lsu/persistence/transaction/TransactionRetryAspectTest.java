@@ -0,0 +1,77 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TransactionRetryAspectTest {
+
+    private TransactionRetryMetrics retryMetrics;
+    private TransactionRetryAspect retryAspect;
+
+    @BeforeEach
+    void setUp() {
+        retryMetrics = new TransactionRetryMetrics();
+        retryAspect = new TransactionRetryAspect(new TransactionRetryExecutor(retryMetrics));
+    }
+
+    @Test
+    void retry_whenMethodAnnotated_usesMethodPolicy() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = joinPointFor(MethodLevel.class, "update");
+        SQLException retryError = new SQLException("restart transaction", "40001");
+        when(joinPoint.proceed()).thenThrow(retryError);
+
+        // Act & Assert
+        assertThrows(SQLException.class, () -> retryAspect.retry(joinPoint));
+        verify(joinPoint, times(2)).proceed();
+        assertEquals(1, retryMetrics.forOperation("MethodLevel.update").getAborts());
+    }
+
+    @Test
+    void retry_whenOnlyClassAnnotated_usesClassPolicy() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = joinPointFor(ClassLevel.class, "update");
+        SQLException retryError = new SQLException("restart transaction", "40001");
+        when(joinPoint.proceed()).thenThrow(retryError).thenReturn("saved");
+
+        // Act
+        Object result = retryAspect.retry(joinPoint);
+
+        // Assert
+        assertEquals("saved", result);
+        verify(joinPoint, times(2)).proceed();
+        assertEquals(1, retryMetrics.forOperation("ClassLevel.update").getRetries());
+    }
+
+    private static ProceedingJoinPoint joinPointFor(Class<?> type, String methodName) throws NoSuchMethodException {
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        MethodSignature signature = mock(MethodSignature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(type.getDeclaredMethod(methodName));
+        doReturn(type).when(signature).getDeclaringType();
+        return joinPoint;
+    }
+
+    static class MethodLevel {
+
+        @RetryableTransaction(maxAttempts = 2, initialBackoffMillis = 0, maxBackoffMillis = 0)
+        public void update() {
+            // Annotation holder
+        }
+    }
+
+    @RetryableTransaction(maxAttempts = 3, initialBackoffMillis = 0, maxBackoffMillis = 1)
+    static class ClassLevel {
+
+        public void update() {
+            // Annotation holder
+        }
+    }
+}
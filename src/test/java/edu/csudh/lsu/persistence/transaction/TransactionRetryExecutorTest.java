@@ -0,0 +1,149 @@
+package edu.csudh.lsu.persistence.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionRetryExecutorTest {
+
+    private static final String OPERATION = "ShiftTotalService.updateCost";
+    private static final RetryPolicy FAST_POLICY = new RetryPolicy(3, 1, 2);
+
+    private TransactionRetryMetrics retryMetrics;
+    private TransactionRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        retryMetrics = new TransactionRetryMetrics();
+        retryExecutor = new TransactionRetryExecutor(retryMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionRetryExecutor.takeLastAttempts();
+    }
+
+    @Test
+    void execute_whenWorkSucceeds_runsOnce() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = retryExecutor.execute(OPERATION, FAST_POLICY, () -> {
+            attempts.incrementAndGet();
+            return "done";
+        });
+
+        // Assert
+        assertEquals("done", result);
+        assertEquals(1, attempts.get());
+        assertEquals(1, retryMetrics.forOperation(OPERATION).getExecutions());
+        assertEquals(0, retryMetrics.forOperation(OPERATION).getRetries());
+        assertEquals(1, TransactionRetryExecutor.takeLastAttempts());
+    }
+
+    @Test
+    void execute_whenRetryErrorThenSuccess_retriesAndRecordsMetrics() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        Integer result = retryExecutor.execute(OPERATION, FAST_POLICY, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new RuntimeException(new SQLException("restart transaction", "40001"));
+            }
+            return attempts.get();
+        });
+
+        // Assert
+        assertEquals(3, result);
+        var metrics = retryMetrics.forOperation(OPERATION);
+        assertEquals(2, metrics.getRetries());
+        assertEquals(0, metrics.getAborts());
+        assertTrue(metrics.getContentionNanos() > 0);
+        assertEquals(3, TransactionRetryExecutor.takeLastAttempts());
+        assertEquals(1, TransactionRetryExecutor.takeLastAttempts());
+    }
+
+    @Test
+    void execute_whenRetryBudgetExhausted_throwsLastFailureAndRecordsAbort() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        RuntimeException failure = new RuntimeException(new SQLException("restart transaction", "40001"));
+
+        // Act
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> retryExecutor.execute(OPERATION, FAST_POLICY, () -> {
+            attempts.incrementAndGet();
+            throw failure;
+        }));
+
+        // Assert
+        assertSame(failure, thrown);
+        assertEquals(3, attempts.get());
+        assertEquals(2, retryMetrics.forOperation(OPERATION).getRetries());
+        assertEquals(1, retryMetrics.forOperation(OPERATION).getAborts());
+        assertEquals(3, TransactionRetryExecutor.takeLastAttempts());
+    }
+
+    @Test
+    void execute_whenFailureIsNotRetryable_throwsWithoutRetry() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> retryExecutor.execute(OPERATION, FAST_POLICY, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("not retryable");
+        }));
+        assertEquals(1, attempts.get());
+        assertEquals(0, retryMetrics.forOperation(OPERATION).getRetries());
+    }
+
+    @Test
+    void execute_whenCheckedFailure_rethrowsItUnchanged() {
+        // Act & Assert
+        SQLException thrown = assertThrows(SQLException.class, () -> retryExecutor.execute(OPERATION, FAST_POLICY, () -> {
+            throw new SQLException("duplicate key", "23505");
+        }));
+        assertEquals("23505", thrown.getSQLState());
+    }
+
+    @Test
+    void execute_whenTransactionAlreadyActive_doesNotRetry() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> retryExecutor.execute(OPERATION, FAST_POLICY, () -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException(new SQLException("restart transaction", "40001"));
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_whenInterruptedDuringBackoff_stopsRetrying() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy slowPolicy = new RetryPolicy(3, 1_000, 1_000);
+
+        // Act
+        Thread.currentThread().interrupt();
+        assertThrows(RuntimeException.class, () -> retryExecutor.execute(OPERATION, slowPolicy, () -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException(new SQLException("restart transaction", "40001"));
+        }));
+
+        // Assert
+        assertTrue(Thread.interrupted(), "Interrupt flag should be restored");
+        assertTrue(attempts.get() <= slowPolicy.getMaxAttempts());
+    }
+}
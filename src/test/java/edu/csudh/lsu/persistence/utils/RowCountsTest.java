@@ -0,0 +1,31 @@
+package edu.csudh.lsu.persistence.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowCountsTest {
+
+    @Test
+    void of_readsCountsCollectionsAndPages() {
+        assertEquals(4, RowCounts.of(4));
+        assertEquals(5, RowCounts.of(5L));
+        assertEquals(2, RowCounts.of(List.of(1, 2)));
+        assertEquals(3, RowCounts.of(new PageImpl<>(List.of(1, 2, 3))));
+        assertEquals(-1, RowCounts.of("saved"));
+        assertEquals(-1, RowCounts.of(null));
+    }
+
+    @Test
+    void carriedBy_whenReturnTypeIsCountCollectionOrPage_isTrue() {
+        assertTrue(RowCounts.carriedBy(int.class));
+        assertTrue(RowCounts.carriedBy(List.class));
+        assertTrue(RowCounts.carriedBy(Page.class));
+        assertFalse(RowCounts.carriedBy(void.class));
+        assertFalse(RowCounts.carriedBy(String.class));
+    }
+}
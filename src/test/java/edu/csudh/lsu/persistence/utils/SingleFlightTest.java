@@ -0,0 +1,248 @@
+package edu.csudh.lsu.persistence.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    void execute_whenIdenticalCallsOverlap_runsQueryOnce() throws Exception {
+        // Arrange
+        int callers = 16;
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        List<String> categories = List.of("Pool", "Console");
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act - the first caller holds the query open until every other caller has joined it
+            Future<List<String>> leader = executor.submit(() -> singleFlight.execute("ActivityService.fetchAllCategories", () -> {
+                queries.incrementAndGet();
+                queryStarted.countDown();
+                await(releaseQuery);
+                return categories;
+            }));
+            assertTrue(queryStarted.await(1, TimeUnit.SECONDS));
+            List<Future<List<String>>> followers = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("ActivityService.fetchAllCategories", () -> {
+                    queries.incrementAndGet();
+                    return List.<String>of();
+                })));
+            }
+            long deadline = System.currentTimeMillis() + 1_000;
+            while (singleFlight.getCoalescedCount() < callers - 1 && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+            releaseQuery.countDown();
+
+            // Assert
+            assertSame(categories, leader.get());
+            for (Future<List<String>> follower : followers) {
+                assertSame(categories, follower.get());
+            }
+        }
+        assertEquals(1, queries.get());
+        assertEquals(1, singleFlight.getExecutedCount());
+        assertEquals(callers - 1, singleFlight.getCoalescedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void execute_whenQueryFails_sharesFailureWithWaitingCallers() throws Exception {
+        // Arrange
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("Database down");
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("ProfileService.findAllProfiles", () -> {
+                queryStarted.countDown();
+                await(releaseQuery);
+                throw failure;
+            }));
+            assertTrue(queryStarted.await(1, TimeUnit.SECONDS));
+            Future<Object> follower = executor.submit(() -> singleFlight.execute("ProfileService.findAllProfiles", () -> "never"));
+            long deadline = System.currentTimeMillis() + 1_000;
+            while (singleFlight.getCoalescedCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+            releaseQuery.countDown();
+
+            // Assert
+            assertSame(failure, assertThrows(ExecutionException.class, leader::get).getCause());
+            assertSame(failure, assertThrows(ExecutionException.class, follower::get).getCause());
+        }
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void execute_whenArgumentsDiffer_runsEachQuery() {
+        // Arrange
+        Date date = new Date(System.currentTimeMillis());
+
+        // Act
+        Object jane = singleFlight.execute("ShiftTotalService.calculateTotalCostsByAttendantNameAndDate", () -> "jane", "Jane", date);
+        Object john = singleFlight.execute("ShiftTotalService.calculateTotalCostsByAttendantNameAndDate", () -> "john", "John", date);
+
+        // Assert
+        assertEquals("jane", jane);
+        assertEquals("john", john);
+        assertEquals(2, singleFlight.getExecutedCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void execute_whenPreviousCallFinished_queriesAgain() {
+        // Arrange
+        AtomicInteger queries = new AtomicInteger();
+
+        // Act
+        singleFlight.execute("ActivityService.fetchAllCategories", queries::incrementAndGet);
+        int second = singleFlight.execute("ActivityService.fetchAllCategories", queries::incrementAndGet);
+
+        // Assert - nothing is cached once a query has completed
+        assertEquals(2, second);
+        assertEquals(2, singleFlight.getExecutedCount());
+    }
+
+    @Test
+    void execute_whenReadWriteTransactionActive_bypassesCoalescing() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        Object result = singleFlight.execute("ActivityService.fetchAllCategories", () -> "own", (Object) null);
+
+        // Assert
+        assertEquals("own", result);
+        assertEquals(1, singleFlight.getExecutedCount());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void execute_whenIdenticalCallsOverlapInReadOnlyTransactions_runsQueryOnce() throws Exception {
+        // Arrange
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        List<String> categories = List.of("Pool", "Console");
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act
+            Future<List<String>> leader = executor.submit(() -> inReadOnlyTransaction(null,
+                    () -> singleFlight.execute("ActivityService.fetchAllCategories", () -> {
+                        queries.incrementAndGet();
+                        queryStarted.countDown();
+                        await(releaseQuery);
+                        return categories;
+                    })));
+            assertTrue(queryStarted.await(1, TimeUnit.SECONDS));
+            Future<List<String>> follower = executor.submit(() -> inReadOnlyTransaction(null,
+                    () -> singleFlight.execute("ActivityService.fetchAllCategories", () -> {
+                        queries.incrementAndGet();
+                        return List.<String>of();
+                    })));
+            long deadline = System.currentTimeMillis() + 1_000;
+            while (singleFlight.getCoalescedCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+            releaseQuery.countDown();
+
+            // Assert
+            assertSame(categories, leader.get());
+            assertSame(categories, follower.get());
+        }
+        assertEquals(1, queries.get());
+        assertEquals(1, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void execute_whenReadOnlyTransactionsReadDifferentSnapshots_runsEachQuery() throws Exception {
+        // Arrange
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act - the first snapshot read is still running when the second one starts
+            Future<String> earlier = executor.submit(() -> inReadOnlyTransaction("AS OF SYSTEM TIME '-10s'",
+                    () -> singleFlight.execute("ProfileService.findAllProfiles", () -> {
+                        queryStarted.countDown();
+                        await(releaseQuery);
+                        return "earlier";
+                    })));
+            assertTrue(queryStarted.await(1, TimeUnit.SECONDS));
+            String later = inReadOnlyTransaction("AS OF SYSTEM TIME '-5s'",
+                    () -> singleFlight.execute("ProfileService.findAllProfiles", () -> "later"));
+            releaseQuery.countDown();
+
+            // Assert
+            assertEquals("later", later);
+            assertEquals("earlier", earlier.get());
+        }
+        assertEquals(2, singleFlight.getExecutedCount());
+        assertEquals(0, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void execute_whenArgumentsAreNull_runsQuery() {
+        // Act
+        Object result = singleFlight.execute("ShiftTotalService.calculateTotalCostsByAttendantNameAndDate", () -> 1, null, null);
+
+        // Assert
+        assertEquals(1, result);
+    }
+
+    private static <T> T inReadOnlyTransaction(String name, Supplier<T> call) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        TransactionSynchronizationManager.setCurrentTransactionName(name);
+        try {
+            return call.get();
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.setCurrentTransactionName(null);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}